@@ -0,0 +1,153 @@
+package com.example.vidaplena.benchmark;
+
+import com.example.vidaplena.VidaPlenaApplication;
+import com.example.vidaplena.domain.dto.response.AppointmentResponse;
+import com.example.vidaplena.domain.entity.Appointment;
+import com.example.vidaplena.domain.entity.AppointmentStatus;
+import com.example.vidaplena.domain.entity.MedicalSpecialty;
+import com.example.vidaplena.domain.entity.User;
+import com.example.vidaplena.mapper.AppointmentMapper;
+import com.example.vidaplena.repository.AppointmentRepository;
+import com.example.vidaplena.repository.AppointmentStatusRepository;
+import com.example.vidaplena.repository.MedicalSpecialtyRepository;
+import com.example.vidaplena.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a leitura de uma página de atendimentos carregando entidades
+ * gerenciadas (entity graph + mapeamento) com a leitura projetada em
+ * {@code AppointmentRow}.
+ *
+ * <p>
+ * Usa o perfil {@code test} (H2 em memória), portanto mede principalmente o
+ * custo do lado da JVM: hidratação, snapshots de dirty checking e flush na
+ * saída da transação. Para alocação por operação execute com
+ * {@code -Djmh.args="-prof gc"} e observe {@code gc.alloc.rate.norm}.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AppointmentReadBenchmark {
+
+    private static final String ENTITY_PAGE_QUERY = "SELECT a FROM Appointment a ORDER BY a.scheduledDate ASC, a.id ASC";
+
+    @Param({ "20", "100" })
+    private int pageSize;
+
+    @Param({ "2000" })
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private AppointmentRepository appointmentRepository;
+    private AppointmentMapper appointmentMapper;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnlyTransaction;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(VidaPlenaApplication.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.generate_statistics=false",
+                        "logging.level.root=WARN",
+                        "logging.level.com.example.vidaplena=WARN")
+                .run();
+
+        appointmentRepository = context.getBean(AppointmentRepository.class);
+        appointmentMapper = context.getBean(AppointmentMapper.class);
+        entityManager = context.getBean(EntityManager.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    /**
+     * Caminho anterior: entidades com entity graph, convertidas em seguida.
+     */
+    @Benchmark
+    public List<AppointmentResponse> entityThenMap() {
+        return readOnlyTransaction.execute(status -> entityManager
+                .createQuery(ENTITY_PAGE_QUERY, Appointment.class)
+                .setHint("jakarta.persistence.fetchgraph", entityManager.getEntityGraph(Appointment.GRAPH_DETAILS))
+                .setMaxResults(pageSize)
+                .getResultList()
+                .stream()
+                .map(appointmentMapper::toResponse)
+                .toList());
+    }
+
+    /**
+     * Caminho atual: projeção por expressão construtora.
+     */
+    @Benchmark
+    public List<AppointmentResponse> projection() {
+        return readOnlyTransaction.execute(status -> appointmentRepository
+                .findFirstPage(Limit.of(pageSize))
+                .stream()
+                .map(appointmentMapper::toResponse)
+                .toList());
+    }
+
+    private void seed() {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        User doctor = userRepository.findByEmail("joao.silva@vidaplena.com").orElseThrow();
+        MedicalSpecialty specialty = context.getBean(MedicalSpecialtyRepository.class)
+                .findByCode("GENERAL_PRACTICE").orElseThrow();
+        AppointmentStatus scheduled = context.getBean(AppointmentStatusRepository.class)
+                .findByCode("SCHEDULED").orElseThrow();
+
+        LocalDateTime base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        List<Appointment> appointments = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            appointments.add(Appointment.builder()
+                    .patient("Paciente " + i)
+                    .doctor(doctor)
+                    .specialty(specialty)
+                    .status(scheduled)
+                    .scheduledDate(base.plusMinutes(30L * i))
+                    .notes("Observações do atendimento " + i)
+                    .build());
+        }
+        appointmentRepository.saveAll(appointments);
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.vidaplena.benchmark;
+
+import com.example.vidaplena.VidaPlenaApplication;
+import com.example.vidaplena.domain.dto.request.MedicalSpecialtyRequest;
+import com.example.vidaplena.domain.dto.response.MedicalSpecialtyResponse;
+import com.example.vidaplena.domain.entity.MedicalSpecialty;
+import com.example.vidaplena.service.MedicalSpecialtyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da trilha de auditoria CRUD no caminho de escrita de
+ * {@code BaseService}.
+ *
+ * <p>
+ * Sobe a aplicação com H2 (perfil {@code test}) e um broker Kafka embarcado e
+ * atualiza a mesma especialidade alternando o nome, de modo que toda
+ * atualização gere um evento. {@code audit=false} é a linha de base;
+ * {@code audit=true} inclui os snapshots antes/depois, o registro na
+ * transação e a entrega do lote à fila de publicação (montagem, serialização
+ * e envio ao broker acontecem fora da thread medida). A diferença de vazão
+ * entre os dois deve ficar abaixo de 5%.
+ * </p>
+ *
+ * <p>
+ * Com uma única CPU, a publicação (serialização, produtor e o broker
+ * embarcado) disputa o processador com a thread medida e entra na vazão; o
+ * aquecimento longo cobre a compilação do JIT, que divide a CPU com o broker.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 20, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class EntityAuditBenchmark {
+
+    private static final String H2_URL = "jdbc:h2:mem:audit-bench;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;"
+            + "MODE=PostgreSQL;IGNORE_UNKNOWN_SETTINGS=TRUE";
+
+    @Param({ "false", "true" })
+    private boolean audit;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private ConfigurableApplicationContext context;
+    private MedicalSpecialtyService specialtyService;
+    private Long specialtyId;
+    private MedicalSpecialtyRequest[] requests;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, 1);
+        broker.afterPropertiesSet();
+
+        context = new SpringApplicationBuilder(VidaPlenaApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .run("--spring.datasource.url=" + H2_URL,
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--spring.kafka.bootstrap-servers=" + broker.getBrokersAsString(),
+                        "--kafka.enabled=true",
+                        "--audit.entity-events.enabled=" + audit,
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.com.example.vidaplena=WARN");
+
+        specialtyService = context.getBean(MedicalSpecialtyService.class);
+        MedicalSpecialty specialty = specialtyService.findByCode("GENERAL_PRACTICE");
+        specialtyId = specialty.getId();
+        requests = new MedicalSpecialtyRequest[2];
+        for (int i = 0; i < requests.length; i++) {
+            requests[i] = MedicalSpecialtyRequest.builder()
+                    .code(specialty.getCode())
+                    .name(specialty.getName() + " " + i)
+                    .description(specialty.getDescription())
+                    .slotDurationMinutes(specialty.getSlotDurationMinutes())
+                    .active(true)
+                    .build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+        broker.destroy();
+    }
+
+    /**
+     * Atualização transacional completa (busca, alteração, flush e commit).
+     */
+    @Benchmark
+    public MedicalSpecialtyResponse update() {
+        next ^= 1;
+        return specialtyService.update(specialtyId, requests[next]);
+    }
+}
@@ -0,0 +1,150 @@
+package com.example.vidaplena.benchmark;
+
+import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import com.example.vidaplena.domain.dto.event.EntityEvent;
+import com.example.vidaplena.domain.dto.response.UserResponse;
+import com.example.vidaplena.domain.enums.UserRole;
+import com.example.vidaplena.kafka.serialization.EventDeserializer;
+import com.example.vidaplena.kafka.serialization.EventSerializer;
+import com.example.vidaplena.kafka.serialization.LocalSchemaRegistry;
+import com.example.vidaplena.kafka.serialization.SerializationFormat;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tamanho e custo de serialização dos eventos Kafka em JSON e em Avro.
+ *
+ * <p>
+ * Usa o {@link EventSerializer} e o {@link EventDeserializer} da aplicação
+ * com um evento de atendimento ({@code appointment}) e um evento de auditoria
+ * de usuário com diferenças em {@code metadata.changes} ({@code entity}). Em
+ * JSON, os cabeçalhos de tipo adicionados pelo serializador entram na conta
+ * de bytes, como no broker. O tamanho de cada combinação é impresso na
+ * preparação; o throughput de escrita e de leitura sai do JMH.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class EventSerializationBenchmark {
+
+    private static final String TOPIC = "appointment-created";
+
+    @Param({ "JSON", "AVRO" })
+    private SerializationFormat format;
+
+    @Param({ "appointment", "entity" })
+    private String event;
+
+    private EventSerializer serializer;
+    private EventDeserializer<?> deserializer;
+    private Object payload;
+    private byte[] bytes;
+    private Headers headers;
+
+    @Setup
+    public void setUp() {
+        LocalSchemaRegistry registry = LocalSchemaRegistry.load("classpath:avro/*.avsc");
+        serializer = new EventSerializer(format, registry);
+        serializer.configure(Map.of(), false);
+
+        payload = "appointment".equals(event) ? appointmentEvent() : userEvent();
+        deserializer = new EventDeserializer<>(payload.getClass(), registry);
+        deserializer.configure(Map.of(JsonDeserializer.TRUSTED_PACKAGES, "com.example.vidaplena.domain.dto.event"),
+                false);
+
+        headers = new RecordHeaders();
+        bytes = serializer.serialize(TOPIC, headers, payload);
+        int headerBytes = 0;
+        for (Header header : headers) {
+            headerBytes += header.key().length() + header.value().length;
+        }
+        System.out.printf("%n%s %s: %d bytes de valor + %d bytes de cabeçalhos por evento%n", format, event,
+                bytes.length, headerBytes);
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(TOPIC, new RecordHeaders(), payload);
+    }
+
+    /**
+     * Cópia dos cabeçalhos a cada leitura, como em cada registro consumido: o
+     * {@code JsonDeserializer} remove os cabeçalhos de tipo depois de ler.
+     */
+    @Benchmark
+    public Object deserialize() {
+        return deserializer.deserialize(TOPIC, new RecordHeaders(headers.toArray()), bytes);
+    }
+
+    private static AppointmentEvent appointmentEvent() {
+        LocalDateTime now = LocalDateTime.now();
+        return AppointmentEvent.builder()
+                .eventType(AppointmentEvent.EventType.CREATED)
+                .appointmentId(UUID.randomUUID())
+                .patient("Maria de Souza")
+                .doctorName("Dr. João Silva")
+                .specialtyName("Cardiologia")
+                .status("SCHEDULED")
+                .scheduledDate(now.plusDays(1))
+                .timestamp(now)
+                .performedBy("ana.costa@vidaplena.com")
+                .build();
+    }
+
+    private static EntityEvent<UserResponse> userEvent() {
+        UUID id = UUID.randomUUID();
+        Map<String, Map<String, Object>> changes = new LinkedHashMap<>();
+        changes.put("role", change("RECEPTIONIST", "DOCTOR"));
+        changes.put("active", change(false, true));
+        return EntityEvent.<UserResponse>builder()
+                .eventType(EntityEvent.EventType.UPDATED)
+                .entityType("User")
+                .entityId(id.toString())
+                .entityData(UserResponse.builder()
+                        .id(id)
+                        .name("Dr. João Silva")
+                        .email("joao.silva@vidaplena.com")
+                        .role(UserRole.DOCTOR)
+                        .active(true)
+                        .createdAt(LocalDateTime.now().minusYears(1))
+                        .build())
+                .userId("admin@vidaplena.com")
+                .userName("Administrador")
+                .build()
+                .addMetadata("changes", changes);
+    }
+
+    private static Map<String, Object> change(Object before, Object after) {
+        Map<String, Object> change = new HashMap<>();
+        change.put("before", before);
+        change.put("after", after);
+        return change;
+    }
+}
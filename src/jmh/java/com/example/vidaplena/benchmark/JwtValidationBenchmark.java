@@ -0,0 +1,115 @@
+package com.example.vidaplena.benchmark;
+
+import com.example.vidaplena.domain.enums.UserRole;
+import com.example.vidaplena.security.AuthenticatedUser;
+import com.example.vidaplena.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de validação do JWT por requisição autenticada.
+ *
+ * <p>
+ * {@code legacyPipeline} reproduz a sequência anterior do
+ * {@code JwtAuthenticationFilter}: {@code validateToken(jwt)},
+ * {@code getUsernameFromToken(jwt)} e {@code validateToken(jwt, userDetails)},
+ * totalizando cinco parses com verificação HMAC e uma nova {@code SecretKey} a
+ * cada parse. {@code parseOnce} usa
+ * {@link JwtTokenProvider#validateAndGetClaims(String)}. A carga do usuário
+ * ({@code loadUserByUsername}) é igual nos dois caminhos e fica fora da
+ * medição.
+ * </p>
+ *
+ * <p>
+ * {@code generateToken} mede a emissão no login, com as claims do principal
+ * (ID, perfil, nome e versão de token).
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "sua-chave-secreta-super-segura-minimo-256-bits-para-hs256-algoritmo";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UserDetails userDetails;
+    private AuthenticatedUser principal;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(jwtTokenProvider, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "expiration", 3_600_000L);
+        ReflectionTestUtils.invokeMethod(jwtTokenProvider, "init");
+
+        userDetails = User.withUsername("admin@vidaplena.com").password("x").authorities(List.of()).build();
+        token = jwtTokenProvider.generateToken(userDetails);
+        principal = new AuthenticatedUser(UUID.randomUUID(), "admin@vidaplena.com", "Administrador",
+                UserRole.ADMIN, 0L, true);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenProvider.generateToken(principal);
+    }
+
+    @Benchmark
+    public boolean legacyPipeline() {
+        // validateToken(jwt): parse completo + isTokenExpired (novo parse)
+        legacyParse(token);
+        boolean valid = !legacyParse(token).getExpiration().before(new Date());
+        if (!valid) {
+            return false;
+        }
+
+        // getUsernameFromToken(jwt)
+        String username = legacyParse(token).getSubject();
+
+        // validateToken(jwt, userDetails): subject + isTokenExpired
+        return legacyParse(token).getSubject().equals(userDetails.getUsername())
+                && !legacyParse(token).getExpiration().before(new Date())
+                && username.equals(userDetails.getUsername());
+    }
+
+    @Benchmark
+    public boolean parseOnce() {
+        Claims claims = jwtTokenProvider.validateAndGetClaims(token);
+        return claims.getSubject().equals(userDetails.getUsername());
+    }
+
+    private static Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
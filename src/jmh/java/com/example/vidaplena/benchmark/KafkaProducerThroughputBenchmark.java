@@ -0,0 +1,141 @@
+package com.example.vidaplena.benchmark;
+
+import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão do produtor Kafka contra um broker embarcado (KRaft), comparando a
+ * configuração anterior (apenas serializadores, padrões do cliente) com o
+ * perfil de vazão de {@code application.yml}.
+ *
+ * <p>
+ * Cada invocação publica {@value #MESSAGES} eventos de atendimento com chaves
+ * distribuídas e aguarda todas as confirmações; o resultado é expresso em
+ * mensagens por segundo. Broker e cliente compartilham a máquina, então os
+ * números medem principalmente o custo de requisições e de bytes por
+ * mensagem, não a latência de rede; ao final de cada perfil são impressas as
+ * métricas do cliente (mensagens por requisição, tamanho médio do lote, taxa de
+ * compressão e bytes enviados), que mostram o ganho esperado em rede real.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 3)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class KafkaProducerThroughputBenchmark {
+
+    private static final int MESSAGES = 10_000;
+    private static final String TOPIC = "appointment-created";
+    private static final Set<String> REPORTED_METRICS = Set.of(
+            "records-per-request-avg", "batch-size-avg", "compression-rate-avg", "outgoing-byte-total");
+
+    /**
+     * {@code defaults}: factory anterior; {@code throughput}: perfil atual.
+     */
+    @Param({ "defaults", "throughput" })
+    private String profile;
+
+    private EmbeddedKafkaKraftBroker broker;
+    private DefaultKafkaProducerFactory<String, Object> producerFactory;
+    private KafkaTemplate<String, Object> kafkaTemplate;
+    private String[] keys;
+    private AppointmentEvent[] events;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, 6, TOPIC);
+        broker.afterPropertiesSet();
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        if ("throughput".equals(profile)) {
+            config.put(ProducerConfig.ACKS_CONFIG, "all");
+            config.put(ProducerConfig.BATCH_SIZE_CONFIG, 65536);
+            config.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+            config.put(ProducerConfig.LINGER_MS_CONFIG, 10);
+            config.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+            config.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        }
+        producerFactory = new DefaultKafkaProducerFactory<>(config);
+        kafkaTemplate = new KafkaTemplate<>(producerFactory);
+
+        keys = new String[MESSAGES];
+        events = new AppointmentEvent[MESSAGES];
+        UUID[] appointmentIds = new UUID[100];
+        for (int i = 0; i < appointmentIds.length; i++) {
+            appointmentIds[i] = UUID.randomUUID();
+        }
+        for (int i = 0; i < MESSAGES; i++) {
+            UUID appointmentId = appointmentIds[i % appointmentIds.length];
+            keys[i] = appointmentId.toString();
+            events[i] = AppointmentEvent.builder()
+                    .eventType(AppointmentEvent.EventType.CREATED)
+                    .appointmentId(appointmentId)
+                    .patient("Paciente " + i)
+                    .doctorName("Dr. João Silva")
+                    .specialtyName("Clínica Geral")
+                    .status("SCHEDULED")
+                    .scheduledDate(LocalDateTime.now().plusDays(1))
+                    .timestamp(LocalDateTime.now())
+                    .performedBy("Ana Costa")
+                    .build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        // Métricas do cliente que explicam a diferença de vazão
+        kafkaTemplate.metrics().forEach((name, metric) -> {
+            if (REPORTED_METRICS.contains(name.name()) && "producer-metrics".equals(name.group())) {
+                System.out.printf("%n[%s] %s = %s", profile, name.name(), metric.metricValue());
+            }
+        });
+        System.out.println();
+        producerFactory.destroy();
+        broker.destroy();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void sendAndAwait() {
+        CompletableFuture<?>[] acks = new CompletableFuture<?>[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            acks[i] = kafkaTemplate.send(TOPIC, keys[i], events[i]);
+        }
+        CompletableFuture.allOf(acks).join();
+    }
+}
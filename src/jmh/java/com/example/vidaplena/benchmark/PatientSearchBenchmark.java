@@ -0,0 +1,148 @@
+package com.example.vidaplena.benchmark;
+
+import com.example.vidaplena.VidaPlenaApplication;
+import com.example.vidaplena.domain.dto.response.AppointmentResponse;
+import com.example.vidaplena.domain.dto.response.CursorPageResponse;
+import com.example.vidaplena.service.AppointmentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência da busca por paciente em função do tamanho da tabela.
+ *
+ * <p>
+ * Requer PostgreSQL (pg_trgm não existe no H2). Usa o banco de
+ * {@code SPRING_DATASOURCE_URL}, por padrão
+ * {@code jdbc:postgresql://localhost:5432/vida_plena_bench}; o Flyway aplica as
+ * migrations na subida. Cada tamanho insere {@code rows} atendimentos com
+ * nomes comuns e exatamente {@value #RARE_MATCHES} com um sobrenome raro, e os
+ * remove ao final.
+ * </p>
+ *
+ * <p>
+ * {@code trigramSearch} usa o endpoint de busca (índice GIN sobre
+ * {@code patient_search}) e deve ficar praticamente constante entre os
+ * tamanhos, pois depende do número de ocorrências. {@code legacyLike}
+ * reproduz a consulta anterior ({@code LOWER(patient) LIKE '%termo%'}), que
+ * varre a tabela e cresce linearmente.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PatientSearchBenchmark {
+
+    private static final int RARE_MATCHES = 20;
+    private static final String RARE_SURNAME = "Quintanilha";
+    private static final String SEED_MARKER = "jmh-patient-search";
+    private static final String DEFAULT_URL = "jdbc:postgresql://localhost:5432/vida_plena_bench";
+
+    private static final String SEED_SQL = """
+            INSERT INTO appointments (patient, patient_search, doctor_id, specialty_id, status_id,
+                                      scheduled_date, end_date, notes)
+            SELECT name, lower(unaccent(name)), ?, ?, ?,
+                   now() + make_interval(mins => g * 30), now() + make_interval(mins => g * 30 + 30), ?
+            FROM (
+                SELECT g, (ARRAY['Ana', 'João', 'Maria', 'José', 'Antônia', 'Francisco', 'Luíza', 'Carlos'])[1 + g % 8]
+                          || ' ' ||
+                          (ARRAY['Silva', 'Santos', 'Oliveira', 'Souza', 'Pereira', 'Lima', 'Gonçalves', 'Araújo',
+                                 'Ribeiro', 'Carvalho', 'Almeida', 'Conceição'])[1 + (g / 8) % 12]
+                          || ' ' || g AS name
+                FROM generate_series(1, ?) AS g
+            ) seed
+            """;
+
+    @Param({ "10000", "100000", "1000000" })
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private AppointmentService appointmentService;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = System.getenv().getOrDefault("SPRING_DATASOURCE_URL", DEFAULT_URL);
+        context = new SpringApplicationBuilder(VidaPlenaApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=" + url,
+                        "--kafka.enabled=false",
+                        "--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.example.vidaplena=WARN");
+
+        appointmentService = context.getBean(AppointmentService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        deleteSeed();
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        deleteSeed();
+        context.close();
+    }
+
+    /**
+     * Busca atual: trigramas sobre a coluna normalizada.
+     */
+    @Benchmark
+    public CursorPageResponse<AppointmentResponse> trigramSearch() {
+        return appointmentService.searchByPatient(RARE_SURNAME, null, RARE_MATCHES);
+    }
+
+    /**
+     * Busca anterior: {@code findByPatientContainingIgnoreCase}.
+     */
+    @Benchmark
+    public List<UUID> legacyLike() {
+        return jdbcTemplate.queryForList(
+                "SELECT id FROM appointments WHERE deleted = false AND LOWER(patient) LIKE ? LIMIT ?",
+                UUID.class, "%" + RARE_SURNAME.toLowerCase() + "%", RARE_MATCHES + 1);
+    }
+
+    private void seed() {
+        UUID doctorId = jdbcTemplate.queryForObject(
+                "SELECT id FROM users WHERE email = 'joao.silva@vidaplena.com'", UUID.class);
+        // Clínica geral: GENERAL nas migrations, GENERAL_PRACTICE nos dados de teste
+        Long specialtyId = jdbcTemplate.queryForObject(
+                "SELECT id FROM medical_specialties WHERE code IN ('GENERAL', 'GENERAL_PRACTICE') ORDER BY id LIMIT 1",
+                Long.class);
+        Long statusId = jdbcTemplate.queryForObject(
+                "SELECT id FROM appointment_status WHERE code = 'SCHEDULED'", Long.class);
+
+        jdbcTemplate.update(SEED_SQL, doctorId, specialtyId, statusId, SEED_MARKER, rows);
+        jdbcTemplate.update(SEED_SQL.replace("|| ' ' || g AS name", "|| ' " + RARE_SURNAME + " ' || g AS name"),
+                doctorId, specialtyId, statusId, SEED_MARKER, RARE_MATCHES);
+        jdbcTemplate.execute("ANALYZE appointments");
+    }
+
+    private void deleteSeed() {
+        jdbcTemplate.update("DELETE FROM appointments WHERE notes = ?", SEED_MARKER);
+    }
+}
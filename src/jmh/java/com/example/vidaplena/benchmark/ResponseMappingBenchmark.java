@@ -0,0 +1,153 @@
+package com.example.vidaplena.benchmark;
+
+import com.example.vidaplena.config.SecurityBeansConfig;
+import com.example.vidaplena.domain.dto.event.EntityEvent;
+import com.example.vidaplena.domain.dto.projection.AppointmentRow;
+import com.example.vidaplena.domain.dto.response.AppointmentResponse;
+import com.example.vidaplena.domain.dto.response.UserResponse;
+import com.example.vidaplena.domain.entity.Appointment;
+import com.example.vidaplena.domain.entity.AppointmentStatus;
+import com.example.vidaplena.domain.entity.MedicalSpecialty;
+import com.example.vidaplena.domain.entity.User;
+import com.example.vidaplena.domain.enums.UserRole;
+import com.example.vidaplena.mapper.AppointmentMapper;
+import com.example.vidaplena.mapper.UserMapper;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de montar e serializar as respostas mais frequentes da API e dos
+ * eventos.
+ *
+ * <p>
+ * Mede {@link AppointmentMapper#toResponse} (a partir da entidade e da
+ * projeção {@link AppointmentRow}), {@link UserMapper#toResponse} e a
+ * serialização JSON de {@link AppointmentResponse} e de um
+ * {@link EntityEvent} de usuário. O {@link ObjectMapper} é montado como o do
+ * Spring Boot (módulos de {@code java.time}, datas em ISO-8601). Não há banco
+ * nem contexto Spring: apenas CPU e alocação (use {@code -prof gc}).
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResponseMappingBenchmark {
+
+    private AppointmentMapper appointmentMapper;
+    private UserMapper userMapper;
+    private ObjectMapper objectMapper;
+
+    private Appointment appointment;
+    private AppointmentRow row;
+    private User doctor;
+    private AppointmentResponse appointmentResponse;
+    private EntityEvent<UserResponse> userEvent;
+
+    @Setup
+    public void setUp() {
+        appointmentMapper = new AppointmentMapper();
+        userMapper = new UserMapper(new SecurityBeansConfig().passwordEncoder());
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        LocalDateTime now = LocalDateTime.now();
+        doctor = User.builder()
+                .id(UUID.randomUUID())
+                .name("Dr. João Silva")
+                .email("joao.silva@vidaplena.com")
+                .password("hash")
+                .role(UserRole.DOCTOR)
+                .active(true)
+                .build();
+        doctor.setCreatedAt(now);
+
+        AppointmentStatus status = AppointmentStatus.builder()
+                .id(1L)
+                .code("SCHEDULED")
+                .description("Agendado")
+                .build();
+        MedicalSpecialty specialty = MedicalSpecialty.builder()
+                .id(1L)
+                .code("CARDIOLOGY")
+                .name("Cardiologia")
+                .description("Doenças do coração e do sistema circulatório")
+                .build();
+
+        appointment = Appointment.builder()
+                .id(UUID.randomUUID())
+                .patient("Maria de Souza")
+                .doctor(doctor)
+                .status(status)
+                .specialty(specialty)
+                .scheduledDate(now.plusDays(1))
+                .endDate(now.plusDays(1).plusMinutes(30))
+                .notes("Retorno para avaliação de exames")
+                .build();
+        appointment.setCreatedBy("ana.costa@vidaplena.com");
+        appointment.setCreatedAt(now);
+        appointment.setUpdatedAt(now);
+
+        row = new AppointmentRow(appointment.getId(), appointment.getPatient(), appointment.getScheduledDate(),
+                appointment.getEndDate(), appointment.getNotes(), appointment.getCreatedBy(), now, now,
+                doctor.getId(), doctor.getName(), doctor.getEmail(), doctor.getRole(), doctor.getActive(), now,
+                status.getId(), status.getCode(), status.getDescription(),
+                specialty.getId(), specialty.getCode(), specialty.getName(), specialty.getDescription());
+
+        appointmentResponse = appointmentMapper.toResponse(row);
+        userEvent = EntityEvent.<UserResponse>builder()
+                .eventType(EntityEvent.EventType.UPDATED)
+                .entityType("User")
+                .entityId(doctor.getId().toString())
+                .entityData(userMapper.toResponse(doctor))
+                .userId("admin@vidaplena.com")
+                .userName("Administrador")
+                .metadata(Map.of("ip", "10.0.0.1"))
+                .build();
+    }
+
+    @Benchmark
+    public AppointmentResponse appointmentFromEntity() {
+        return appointmentMapper.toResponse(appointment);
+    }
+
+    @Benchmark
+    public AppointmentResponse appointmentFromRow() {
+        return appointmentMapper.toResponse(row);
+    }
+
+    @Benchmark
+    public UserResponse userToResponse() {
+        return userMapper.toResponse(doctor);
+    }
+
+    @Benchmark
+    public byte[] serializeAppointmentResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(appointmentResponse);
+    }
+
+    @Benchmark
+    public byte[] serializeEntityEvent() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(userEvent);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.vidaplena.benchmark;
+
+import com.example.vidaplena.domain.entity.id.UuidV7Generator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Vazão de inserção com chave primária UUID versão 4 (aleatória) e versão 7
+ * (ordenada por tempo).
+ *
+ * <p>
+ * Requer PostgreSQL. Usa {@code SPRING_DATASOURCE_URL} (padrão
+ * {@code jdbc:postgresql://localhost:5432/vida_plena_bench}),
+ * {@code SPRING_DATASOURCE_USERNAME} e {@code SPRING_DATASOURCE_PASSWORD}.
+ * Cada invocação recria uma tabela de trabalho com o mesmo formato de
+ * {@code appointments} e insere {@code rows} linhas em lotes JDBC de
+ * {@value #BATCH_SIZE}; ao final imprime o tamanho do índice da chave
+ * primária. Com v4 a vazão cai à medida que o índice deixa de caber em
+ * {@code shared_buffers}; com v7 as inserções ficam no fim da árvore.
+ * </p>
+ *
+ * <p>
+ * Execução: {@code mvn -Pbenchmark test-compile exec:exec
+ * -Djmh.include=UuidInsertBenchmark}
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+    private static final String TABLE = "jmh_uuid_insert";
+    private static final String DEFAULT_URL = "jdbc:postgresql://localhost:5432/vida_plena_bench";
+
+    @Param({ "v4", "v7" })
+    private String version;
+
+    @Param({ "1000000" })
+    private int rows;
+
+    private Connection connection;
+    private Supplier<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void connect() throws SQLException {
+        connection = DriverManager.getConnection(
+                System.getenv().getOrDefault("SPRING_DATASOURCE_URL", DEFAULT_URL),
+                System.getenv().getOrDefault("SPRING_DATASOURCE_USERNAME", "postgres"),
+                System.getenv().getOrDefault("SPRING_DATASOURCE_PASSWORD", "postgres"));
+        connection.setAutoCommit(false);
+        ids = "v7".equals(version) ? UuidV7Generator::next : UUID::randomUUID;
+    }
+
+    @Setup(Level.Iteration)
+    public void createTable() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+            statement.execute("CREATE TABLE " + TABLE + " (id UUID PRIMARY KEY, patient VARCHAR(100) NOT NULL, "
+                    + "scheduled_date TIMESTAMP NOT NULL, notes TEXT)");
+        }
+        connection.commit();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportIndexSize() throws SQLException {
+        try (Statement statement = connection.createStatement();
+                ResultSet result = statement.executeQuery(
+                        "SELECT pg_size_pretty(pg_relation_size('" + TABLE + "_pkey'))")) {
+            result.next();
+            System.out.printf("%n[%s] índice da chave primária: %s%n", version, result.getString(1));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + TABLE);
+        }
+        connection.commit();
+        connection.close();
+    }
+
+    /**
+     * Insere {@code rows} linhas em lotes, com um commit por lote.
+     */
+    @Benchmark
+    public void insert() throws SQLException {
+        Timestamp scheduled = Timestamp.valueOf(LocalDateTime.now().plusDays(1));
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO " + TABLE + " (id, patient, scheduled_date, notes) VALUES (?, ?, ?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                statement.setObject(1, ids.get());
+                statement.setString(2, "Paciente " + i);
+                statement.setTimestamp(3, scheduled);
+                statement.setString(4, "Observações do atendimento " + i);
+                statement.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    statement.executeBatch();
+                    connection.commit();
+                }
+            }
+            statement.executeBatch();
+            connection.commit();
+        }
+    }
+}
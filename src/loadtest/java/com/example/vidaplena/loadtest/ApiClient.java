@@ -0,0 +1,114 @@
+package com.example.vidaplena.loadtest;
+
+import com.example.vidaplena.domain.dto.request.LoginRequest;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+/**
+ * Cliente HTTP mínimo da API, usado na preparação e na reprodução do corpus.
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+final class ApiClient {
+
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(2);
+
+    private final HttpClient http;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+
+    ApiClient(String baseUrl, ObjectMapper objectMapper) {
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(CONNECT_TIMEOUT)
+                .build();
+        this.baseUri = URI.create(baseUrl.endsWith("/") ? baseUrl : baseUrl + "/");
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Autentica por {@code /api/auth/login}.
+     *
+     * @return Token JWT
+     */
+    String login(String email, String password) throws IOException, InterruptedException {
+        String body = objectMapper.writeValueAsString(new LoginRequest(email, password));
+        return readJson(send("POST", "/api/auth/login", null, MediaType.APPLICATION_JSON_VALUE, body), 200)
+                .path("token").asText();
+    }
+
+    /**
+     * Monta uma requisição.
+     *
+     * @param method      Método HTTP
+     * @param path        Caminho e query string, a partir da raiz da API
+     * @param token       Token JWT (null para anônima)
+     * @param contentType Tipo do corpo (ignorado sem corpo)
+     * @param body        Corpo (null se não houver)
+     * @return Requisição pronta para {@link #send(HttpRequest)}
+     */
+    HttpRequest request(String method, String path, String token, String contentType, String body) {
+        String relative = path.startsWith("/") ? path.substring(1) : path;
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(relative))
+                .timeout(REQUEST_TIMEOUT)
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(body));
+        if (body != null) {
+            builder.header(HttpHeaders.CONTENT_TYPE, contentType);
+        }
+        if (token != null) {
+            builder.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        }
+        return builder.build();
+    }
+
+    HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    HttpResponse<String> send(String method, String path, String token, String contentType, String body)
+            throws IOException, InterruptedException {
+        return send(request(method, path, token, contentType, body));
+    }
+
+    /**
+     * Envia um corpo JSON e lê a resposta, exigindo o status esperado.
+     */
+    JsonNode exchange(String method, String path, String token, Object body, int expectedStatus)
+            throws IOException, InterruptedException {
+        String json = body == null ? null : objectMapper.writeValueAsString(body);
+        return readJson(send(method, path, token, MediaType.APPLICATION_JSON_VALUE, json), expectedStatus);
+    }
+
+    /**
+     * Lê o corpo JSON da resposta.
+     *
+     * @throws IllegalStateException se o status for diferente do esperado
+     */
+    JsonNode readJson(HttpResponse<String> response, int expectedStatus) throws IOException {
+        expectStatus(response, expectedStatus);
+        return objectMapper.readTree(response.body());
+    }
+
+    static void expectStatus(HttpResponse<?> response, int expectedStatus) {
+        if (response.statusCode() != expectedStatus) {
+            throw new IllegalStateException(response.request().method() + " " + response.request().uri()
+                    + " retornou " + response.statusCode() + ": " + response.body());
+        }
+    }
+
+    ObjectMapper objectMapper() {
+        return objectMapper;
+    }
+}
@@ -0,0 +1,267 @@
+package com.example.vidaplena.loadtest;
+
+import com.example.vidaplena.domain.dto.request.CreateAppointmentRequest;
+import com.example.vidaplena.domain.dto.request.CreateUserRequest;
+import com.example.vidaplena.domain.dto.request.WorkingHoursRequest;
+import com.example.vidaplena.domain.enums.UserRole;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.http.HttpResponse;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Conjunto de dados sintético da clínica, criado pela própria API.
+ *
+ * <p>
+ * Cada execução cria médicos novos (emails com o identificador da execução),
+ * com expediente de {@value #DAY_START_HOUR}h às {@value #DAY_END_HOUR}h todos
+ * os dias, e pré-carrega os atendimentos pelo endpoint de importação em lote.
+ * O atendimento k pertence ao médico {@code k % médicos} e ocupa o horário
+ * {@code k / médicos} da grade, a partir de amanhã; por isso o teste pode ser
+ * repetido no mesmo banco sem conflitos de agenda.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+final class ClinicDataset {
+
+    static final int DAY_START_HOUR = 7;
+    static final int DAY_END_HOUR = 19;
+
+    private static final LocalTime DAY_START = LocalTime.of(DAY_START_HOUR, 0);
+    private static final LocalTime DAY_END = LocalTime.of(DAY_END_HOUR, 0);
+    // Clínica geral: GENERAL_PRACTICE nos dados de teste (H2), GENERAL nas migrations
+    private static final Set<String> SPECIALTY_CODES = Set.of("GENERAL_PRACTICE", "GENERAL");
+    private static final String DOCTOR_PASSWORD = "loadtest123";
+    private static final int IMPORT_CHUNK = 5000;
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{(\\w+)(?::(\\d+))?}}");
+
+    private final List<UUID> doctorIds;
+    private final UUID[] appointmentIds;
+    private final long specialtyId;
+    private final int slotMinutes;
+    private final int slotsPerDay;
+    private final LocalDate origin;
+    private final Map<String, String> tokens;
+
+    private ClinicDataset(List<UUID> doctorIds, UUID[] appointmentIds, long specialtyId, int slotMinutes,
+            LocalDate origin, Map<String, String> tokens) {
+        this.doctorIds = doctorIds;
+        this.appointmentIds = appointmentIds;
+        this.specialtyId = specialtyId;
+        this.slotMinutes = slotMinutes;
+        this.slotsPerDay = (int) (Duration.between(DAY_START, DAY_END).toMinutes() / slotMinutes);
+        this.origin = origin;
+        this.tokens = tokens;
+    }
+
+    /**
+     * Horários pré-carregados por médico (o último pode ficar incompleto).
+     */
+    static int slotsPerDoctor(int doctors, int appointments) {
+        return Math.ceilDiv(appointments, doctors);
+    }
+
+    /**
+     * Cria médicos e atendimentos e autentica os usuários do teste.
+     *
+     * @param api    Cliente da API
+     * @param config Configuração do teste
+     * @param out    Saída de progresso
+     * @return Conjunto de dados pronto para resolver o corpus
+     */
+    static ClinicDataset seed(ApiClient api, LoadTestConfig config, PrintStream out)
+            throws IOException, InterruptedException {
+        Map<String, String> tokens = new HashMap<>();
+        String adminToken = api.login(config.admin().email(), config.admin().password());
+        tokens.put("admin", adminToken);
+        tokens.put("receptionist", api.login(config.receptionist().email(), config.receptionist().password()));
+
+        JsonNode specialty = null;
+        for (JsonNode node : api.exchange("GET", "/api/specialties/active", adminToken, null, 200)) {
+            if (SPECIALTY_CODES.contains(node.path("code").asText())) {
+                specialty = node;
+            }
+        }
+        if (specialty == null) {
+            throw new IllegalStateException("Especialidade " + SPECIALTY_CODES + " não encontrada");
+        }
+
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        List<UUID> doctorIds = new ArrayList<>(config.doctors());
+        WorkingHoursRequest workingHours = new WorkingHoursRequest(Arrays.stream(DayOfWeek.values())
+                .map(day -> new WorkingHoursRequest.Period(day, DAY_START, DAY_END))
+                .toList());
+        for (int d = 0; d < config.doctors(); d++) {
+            String email = "loadtest." + run + "." + d + "@vidaplena.com";
+            CreateUserRequest doctor = CreateUserRequest.builder()
+                    .name("Dr. Carga " + run + " " + d)
+                    .email(email)
+                    .password(DOCTOR_PASSWORD)
+                    .role(UserRole.DOCTOR)
+                    .build();
+            UUID id = UUID.fromString(api.exchange("POST", "/api/users", adminToken, doctor, 201)
+                    .path("id").asText());
+            api.exchange("PUT", "/api/doctors/" + id + "/working-hours", adminToken, workingHours, 200);
+            doctorIds.add(id);
+            tokens.put("doctor:" + d, api.login(email, DOCTOR_PASSWORD));
+        }
+        out.printf("Médicos criados: %d (execução %s)%n", doctorIds.size(), run);
+
+        ClinicDataset dataset = new ClinicDataset(doctorIds, new UUID[config.appointments()],
+                specialty.path("id").asLong(), specialty.path("slotDurationMinutes").asInt(),
+                LocalDate.now().plusDays(1), tokens);
+        dataset.importAppointments(api, config.seed(), adminToken, out);
+        dataset.loadAppointmentIds(api, adminToken);
+        return dataset;
+    }
+
+    /**
+     * Substitui os marcadores de um caminho ou corpo do corpus.
+     *
+     * @throws IllegalArgumentException se o marcador não existir neste
+     *                                  conjunto de dados
+     */
+    String resolve(String template) {
+        if (template == null || template.indexOf('{') < 0) {
+            return template;
+        }
+        Matcher matcher = PLACEHOLDER.matcher(template);
+        StringBuilder resolved = new StringBuilder(template.length() + 32);
+        while (matcher.find()) {
+            matcher.appendReplacement(resolved, Matcher.quoteReplacement(value(matcher.group(1), matcher.group(2))));
+        }
+        matcher.appendTail(resolved);
+        return resolved.toString();
+    }
+
+    /**
+     * Token JWT de quem envia a requisição.
+     */
+    String token(String actor) {
+        String token = tokens.get(actor);
+        if (token == null) {
+            throw new IllegalArgumentException("Usuário do corpus não existe neste conjunto de dados: " + actor);
+        }
+        return token;
+    }
+
+    private String value(String name, String argument) {
+        return switch (name) {
+            case "specialty" -> Long.toString(specialtyId);
+            case "doctor" -> doctorIds.get(index(argument, doctorIds.size(), name)).toString();
+            case "appointment" -> appointmentIds[index(argument, appointmentIds.length, name)].toString();
+            case "dayStart" -> dayOf(index(argument, appointmentIds.length, name)).toString();
+            case "dayEnd" -> dayOf(index(argument, appointmentIds.length, name)).plusDays(1).toString();
+            case "slot" -> slotStart(index(argument, Integer.MAX_VALUE, name)).toString();
+            default -> throw new IllegalArgumentException("Marcador desconhecido no corpus: " + name);
+        };
+    }
+
+    private static int index(String argument, int size, String name) {
+        int index = argument == null ? -1 : Integer.parseInt(argument);
+        if (index < 0 || index >= size) {
+            throw new IllegalArgumentException("Marcador fora do conjunto de dados: " + name + ":" + argument
+                    + " (aumente doctors/appointments ou gere um novo corpus)");
+        }
+        return index;
+    }
+
+    private LocalDateTime dayOf(int appointment) {
+        return slotStart(appointment / doctorIds.size()).toLocalDate().atStartOfDay();
+    }
+
+    private LocalDateTime slotStart(int slot) {
+        return origin.plusDays(slot / slotsPerDay)
+                .atTime(DAY_START)
+                .plusMinutes((long) (slot % slotsPerDay) * slotMinutes);
+    }
+
+    private int slotOf(LocalDateTime start) {
+        long days = ChronoUnit.DAYS.between(origin, start.toLocalDate());
+        long minutes = Duration.between(DAY_START, start.toLocalTime()).toMinutes();
+        return (int) (days * slotsPerDay + minutes / slotMinutes);
+    }
+
+    private void importAppointments(ApiClient api, long seed, String adminToken, PrintStream out)
+            throws IOException, InterruptedException {
+        ObjectMapper objectMapper = api.objectMapper();
+        Random random = new Random(seed);
+        int doctors = doctorIds.size();
+        long importNanos = 0;
+
+        for (int from = 0; from < appointmentIds.length; from += IMPORT_CHUNK) {
+            int to = Math.min(from + IMPORT_CHUNK, appointmentIds.length);
+            StringBuilder ndjson = new StringBuilder((to - from) * 200);
+            for (int k = from; k < to; k++) {
+                CreateAppointmentRequest request = CreateAppointmentRequest.builder()
+                        .patient(CorpusGenerator.patientName(random, k))
+                        .doctorId(doctorIds.get(k % doctors))
+                        .specialtyId(specialtyId)
+                        .scheduledDate(slotStart(k / doctors))
+                        .notes("Carga inicial do teste")
+                        .build();
+                ndjson.append(objectMapper.writeValueAsString(request)).append('\n');
+            }
+
+            long start = System.nanoTime();
+            JsonNode report = api.readJson(api.send("POST", "/api/appointments/batch", adminToken,
+                    MediaType.APPLICATION_NDJSON_VALUE, ndjson.toString()), 200);
+            importNanos += System.nanoTime() - start;
+            if (report.path("failed").asInt() > 0) {
+                throw new IllegalStateException("Importação rejeitou linhas: " + report.path("errors"));
+            }
+            out.printf("Atendimentos importados: %d/%d%n", to, appointmentIds.length);
+        }
+        // Apenas o tempo das requisições de importação, sem montar o NDJSON
+        out.printf("Importação: %.0f atendimentos/s%n", appointmentIds.length / (importNanos / 1e9));
+    }
+
+    /**
+     * Lê os IDs gerados pelo servidor pela exportação de cada médico.
+     */
+    private void loadAppointmentIds(ApiClient api, String adminToken) throws IOException, InterruptedException {
+        ObjectMapper objectMapper = api.objectMapper();
+        int doctors = doctorIds.size();
+        for (int d = 0; d < doctors; d++) {
+            HttpResponse<String> export = api.send("GET",
+                    "/api/appointments/export?format=NDJSON&doctorId=" + doctorIds.get(d), adminToken, null, null);
+            ApiClient.expectStatus(export, 200);
+            for (String line : export.body().split("\n")) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                JsonNode appointment = objectMapper.readTree(line);
+                int k = slotOf(LocalDateTime.parse(appointment.path("scheduledDate").asText())) * doctors + d;
+                if (k < appointmentIds.length) {
+                    appointmentIds[k] = UUID.fromString(appointment.path("id").asText());
+                }
+            }
+        }
+        for (int k = 0; k < appointmentIds.length; k++) {
+            if (appointmentIds[k] == null) {
+                throw new IllegalStateException("Atendimento pré-carregado não encontrado na exportação: " + k);
+            }
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.vidaplena.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Gera, grava e lê o corpus de requisições do teste de carga.
+ *
+ * <p>
+ * O corpus é determinístico para a mesma semente, quantidades e mix. Cada
+ * atendimento pré-carregado recebe no máximo uma alteração de status ou uma
+ * remoção, para que as requisições não dependam da ordem em que os clientes
+ * simultâneos as executam; esgotados os atendimentos, as operações de escrita
+ * viram leituras de agenda.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+final class CorpusGenerator {
+
+    private static final String[] FIRST_NAMES = { "Ana", "João", "Maria", "José", "Antônia", "Francisco", "Luíza",
+            "Carlos", "Beatriz", "Paulo", "Juliana", "Pedro" };
+    private static final String[] LAST_NAMES = { "Silva", "Santos", "Oliveira", "Souza", "Pereira", "Lima",
+            "Gonçalves", "Araújo", "Ribeiro", "Carvalho", "Almeida", "Conceição" };
+
+    /**
+     * Status aplicados pelos médicos e seus pesos.
+     */
+    private static final Map<String, Integer> STATUS_MIX = new LinkedHashMap<>();
+
+    static {
+        // Ordem fixa: a escolha pelo peso depende da ordem de iteração
+        STATUS_MIX.put("IN_PROGRESS", 40);
+        STATUS_MIX.put("COMPLETED", 50);
+        STATUS_MIX.put("CANCELED", 10);
+    }
+
+    /**
+     * Operações do corpus.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    enum Operation {
+        AGENDA("GET /api/appointments/agenda"),
+        CREATE("POST /api/appointments"),
+        STATUS("PUT /api/appointments/{id}"),
+        DELETE("DELETE /api/appointments/{id}");
+
+        private final String endpoint;
+    }
+
+    private CorpusGenerator() {
+    }
+
+    /**
+     * Gera o corpus.
+     *
+     * @param doctors      Médicos do teste
+     * @param appointments Atendimentos pré-carregados
+     * @param requests     Quantidade de requisições
+     * @param mix          Peso de cada operação
+     * @param seed         Semente
+     * @param objectMapper Serializador dos corpos
+     * @return Requisições na ordem de envio
+     */
+    static List<LoadRequest> generate(int doctors, int appointments, int requests,
+            Map<Operation, Integer> mix, long seed, ObjectMapper objectMapper) {
+        Random random = new Random(seed);
+
+        // Atendimentos alterados saem do início da permutação e removidos do
+        // fim, sem repetição
+        int[] order = new int[appointments];
+        for (int i = 0; i < appointments; i++) {
+            order[i] = i;
+        }
+        for (int i = appointments - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = order[i];
+            order[i] = order[j];
+            order[j] = swap;
+        }
+        int nextUpdate = 0;
+        int nextDelete = appointments - 1;
+
+        // Novos atendimentos ocupam horários após os pré-carregados
+        int[] nextSlot = new int[doctors];
+        Arrays.fill(nextSlot, ClinicDataset.slotsPerDoctor(doctors, appointments));
+
+        List<LoadRequest> corpus = new ArrayList<>(requests);
+        for (int i = 0; i < requests; i++) {
+            Operation operation = pick(mix, random);
+            if ((operation == Operation.STATUS || operation == Operation.DELETE) && nextUpdate > nextDelete) {
+                operation = Operation.AGENDA;
+            }
+
+            corpus.add(switch (operation) {
+                case AGENDA -> {
+                    int appointment = random.nextInt(appointments);
+                    int doctor = appointment % doctors;
+                    yield new LoadRequest(operation.getEndpoint(), "doctor:" + doctor, "GET",
+                            "/api/appointments/agenda?from={{dayStart:" + appointment + "}}&to={{dayEnd:"
+                                    + appointment + "}}&doctorId={{doctor:" + doctor + "}}",
+                            null);
+                }
+                case CREATE -> {
+                    int doctor = random.nextInt(doctors);
+                    Map<String, Object> body = new LinkedHashMap<>();
+                    body.put("patient", patientName(random, i));
+                    body.put("doctorId", "{{doctor:" + doctor + "}}");
+                    body.put("specialtyId", "{{specialty}}");
+                    body.put("scheduledDate", "{{slot:" + nextSlot[doctor]++ + "}}");
+                    body.put("notes", "Teste de carga");
+                    yield new LoadRequest(operation.getEndpoint(), "receptionist", "POST", "/api/appointments",
+                            json(objectMapper, body));
+                }
+                case STATUS -> {
+                    int appointment = order[nextUpdate++];
+                    Map<String, Object> body = Map.of("statusCode", pick(STATUS_MIX, random));
+                    yield new LoadRequest(operation.getEndpoint(), "doctor:" + appointment % doctors, "PUT",
+                            "/api/appointments/{{appointment:" + appointment + "}}", json(objectMapper, body));
+                }
+                case DELETE -> {
+                    int appointment = order[nextDelete--];
+                    yield new LoadRequest(operation.getEndpoint(), "admin", "DELETE",
+                            "/api/appointments/{{appointment:" + appointment + "}}", null);
+                }
+            });
+        }
+        return corpus;
+    }
+
+    /**
+     * Nome de paciente pseudoaleatório.
+     *
+     * @param random Gerador
+     * @param suffix Sufixo numérico (torna o nome único)
+     * @return Nome
+     */
+    static String patientName(Random random, int suffix) {
+        return FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " " + suffix;
+    }
+
+    /**
+     * Grava o corpus em JSON Lines.
+     */
+    static void write(Path file, List<LoadRequest> corpus, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (LoadRequest request : corpus) {
+                writer.write(objectMapper.writeValueAsString(request));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Lê um corpus gravado por {@link #write}.
+     */
+    static List<LoadRequest> read(Path file, ObjectMapper objectMapper) throws IOException {
+        List<LoadRequest> corpus = new ArrayList<>();
+        for (String line : Files.readAllLines(file)) {
+            if (!line.isBlank()) {
+                corpus.add(objectMapper.readValue(line, LoadRequest.class));
+            }
+        }
+        return corpus;
+    }
+
+    private static <T> T pick(Map<T, Integer> weights, Random random) {
+        int total = weights.values().stream().mapToInt(Integer::intValue).sum();
+        int target = random.nextInt(total);
+        T last = null;
+        for (Map.Entry<T, Integer> entry : weights.entrySet()) {
+            last = entry.getKey();
+            target -= entry.getValue();
+            if (target < 0) {
+                break;
+            }
+        }
+        return last;
+    }
+
+    private static String json(ObjectMapper objectMapper, Object body) {
+        try {
+            return objectMapper.writeValueAsString(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar corpo do corpus", e);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.vidaplena.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Vazão e percentis de latência por endpoint de uma reprodução do corpus.
+ *
+ * <p>
+ * Requisições com status 4xx/5xx ou sem resposta contam como erro; os
+ * percentis consideram todas as requisições (nearest-rank).
+ * </p>
+ *
+ * @param durationSeconds Duração da fase medida
+ * @param total           Totais da fase
+ * @param endpoints       Totais por endpoint, na ordem de primeira ocorrência
+ * @param errorSamples    Primeira resposta de erro de cada endpoint
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+record LoadReport(double durationSeconds, EndpointStats total, Map<String, EndpointStats> endpoints,
+        Map<String, String> errorSamples) {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    /**
+     * Totais de um endpoint.
+     */
+    record EndpointStats(int requests, int errors, double throughput, double p50Ms, double p95Ms, double p99Ms,
+            double maxMs) {
+
+        static EndpointStats of(long[] latencies, int errors, double seconds) {
+            Arrays.sort(latencies);
+            return new EndpointStats(latencies.length, errors, latencies.length / seconds,
+                    percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99),
+                    latencies.length == 0 ? 0 : latencies[latencies.length - 1] / NANOS_PER_MILLI);
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(quantile * sorted.length);
+            return sorted[Math.max(rank, 1) - 1] / NANOS_PER_MILLI;
+        }
+    }
+
+    /**
+     * Consolida as medições do intervalo {@code [from, to)} do corpus.
+     *
+     * @param endpoints    Endpoint de cada requisição
+     * @param latencies    Latência de cada requisição, em nanossegundos
+     * @param statuses     Status HTTP de cada requisição (0 sem resposta)
+     * @param errorSamples Primeira resposta de erro por endpoint
+     * @param from         Primeira requisição medida
+     * @param to           Fim do intervalo (exclusivo)
+     * @param wallNanos    Duração da fase medida
+     * @return Relatório
+     */
+    static LoadReport of(String[] endpoints, long[] latencies, int[] statuses, Map<String, String> errorSamples,
+            int from, int to, long wallNanos) {
+        double seconds = wallNanos / 1_000_000_000.0;
+        Map<String, List<Integer>> byEndpoint = new LinkedHashMap<>();
+        for (int i = from; i < to; i++) {
+            byEndpoint.computeIfAbsent(endpoints[i], key -> new ArrayList<>()).add(i);
+        }
+
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        int totalErrors = 0;
+        for (Map.Entry<String, List<Integer>> entry : byEndpoint.entrySet()) {
+            List<Integer> indexes = entry.getValue();
+            long[] values = new long[indexes.size()];
+            int errors = 0;
+            for (int j = 0; j < values.length; j++) {
+                int i = indexes.get(j);
+                values[j] = latencies[i];
+                if (isError(statuses[i])) {
+                    errors++;
+                }
+            }
+            totalErrors += errors;
+            stats.put(entry.getKey(), EndpointStats.of(values, errors, seconds));
+        }
+
+        EndpointStats total = EndpointStats.of(Arrays.copyOfRange(latencies, from, to), totalErrors, seconds);
+        return new LoadReport(seconds, total, stats, Map.copyOf(errorSamples));
+    }
+
+    static boolean isError(int status) {
+        return status == 0 || status >= 400;
+    }
+
+    /**
+     * Imprime a tabela de resultados.
+     */
+    void print(PrintStream out) {
+        String format = "%-34s %11s %7s %10s %9s %9s %9s %9s%n";
+        out.printf(format, "Endpoint", "Requisições", "Erros", "Req/s", "p50 ms", "p95 ms", "p99 ms", "máx ms");
+        endpoints.forEach((endpoint, stats) -> print(out, endpoint, stats));
+        print(out, "TOTAL", total);
+        out.printf("Duração: %.1f s%n", durationSeconds);
+        errorSamples.forEach((endpoint, sample) -> out.printf("Exemplo de erro em %s: %s%n", endpoint, sample));
+    }
+
+    private static void print(PrintStream out, String endpoint, EndpointStats stats) {
+        out.printf("%-34s %11d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", endpoint, stats.requests(), stats.errors(),
+                stats.throughput(), stats.p50Ms(), stats.p95Ms(), stats.p99Ms(), stats.maxMs());
+    }
+
+    /**
+     * Grava o relatório em JSON.
+     */
+    void write(Path file, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(file.toFile(), this);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.vidaplena.loadtest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * Requisição do corpus, uma por linha em {@code requests.jsonl}.
+ *
+ * <p>
+ * Caminho e corpo referenciam o conjunto de dados por marcadores, resolvidos
+ * por {@link ClinicDataset#resolve} na reprodução; assim o mesmo corpus vale
+ * para qualquer execução com a mesma quantidade de médicos e atendimentos:
+ * </p>
+ * <ul>
+ * <li>{@code {{doctor:d}}}: ID do d-ésimo médico do teste;</li>
+ * <li>{@code {{appointment:k}}}: ID do k-ésimo atendimento pré-carregado;</li>
+ * <li>{@code {{dayStart:k}}} e {@code {{dayEnd:k}}}: início do dia do
+ * atendimento k e do dia seguinte;</li>
+ * <li>{@code {{slot:s}}}: início do s-ésimo horário da grade do teste;</li>
+ * <li>{@code {{specialty}}}: ID da especialidade usada.</li>
+ * </ul>
+ *
+ * @param endpoint Rótulo usado no relatório
+ * @param actor    Quem envia: {@code admin}, {@code receptionist} ou
+ *                 {@code doctor:d}
+ * @param method   Método HTTP
+ * @param path     Caminho e query string
+ * @param body     Corpo JSON (null se não houver)
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+record LoadRequest(String endpoint, String actor, String method, String path, String body) {
+}
@@ -0,0 +1,187 @@
+package com.example.vidaplena.loadtest;
+
+import com.example.vidaplena.VidaPlenaApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Teste de carga HTTP reproduzível da API.
+ *
+ * <p>
+ * Sobe a aplicação (H2 em modo PostgreSQL ou um PostgreSQL local) ou usa uma
+ * instância em {@code base-url}, cria o conjunto de dados sintético
+ * ({@link ClinicDataset}), autentica os usuários por {@code /api/auth/login} e
+ * reproduz o corpus com {@code concurrency} clientes em laço fechado. As
+ * primeiras {@code warmup} requisições aquecem a aplicação e não entram no
+ * relatório.
+ * </p>
+ *
+ * <p>
+ * Execução:
+ * {@code mvn -Ploadtest test-compile exec:exec -Dloadtest.args="doctors=50 appointments=100000 concurrency=64"}.
+ * O corpus gerado ({@code requests.jsonl}) e o resultado
+ * ({@code loadtest-result.json}) ficam em {@code output}; para repetir a mesma
+ * sequência de requisições, informe {@code corpus=target/loadtest/requests.jsonl}.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public final class LoadTest {
+
+    private static final String CORPUS_FILE = "requests.jsonl";
+    private static final String RESULT_FILE = "loadtest-result.json";
+    private static final String H2_URL = "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE;"
+            + "MODE=PostgreSQL;IGNORE_UNKNOWN_SETTINGS=TRUE";
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<LoadRequest> corpus;
+        if (config.corpus() != null) {
+            corpus = CorpusGenerator.read(config.corpus(), objectMapper);
+            System.out.printf("Corpus lido de %s: %d requisições%n", config.corpus(), corpus.size());
+        } else {
+            corpus = CorpusGenerator.generate(config.doctors(), config.appointments(),
+                    config.warmup() + config.requests(), config.mix(), config.seed(), objectMapper);
+            Path file = config.output().resolve(CORPUS_FILE);
+            CorpusGenerator.write(file, corpus, objectMapper);
+            System.out.printf("Corpus gerado em %s: %d requisições%n", file, corpus.size());
+        }
+        int warmup = Math.min(config.warmup(), corpus.size());
+
+        ConfigurableApplicationContext context = config.baseUrl() == null ? startApplication(config) : null;
+        try {
+            String baseUrl = context == null ? config.baseUrl()
+                    : "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            ApiClient api = new ApiClient(baseUrl, objectMapper);
+            ClinicDataset dataset = ClinicDataset.seed(api, config, System.out);
+            List<HttpRequest> requests = prepare(api, dataset, corpus);
+
+            long[] latencies = new long[requests.size()];
+            int[] statuses = new int[requests.size()];
+            Map<String, String> errorSamples = new ConcurrentHashMap<>();
+
+            System.out.printf("Aquecimento: %d requisições%n", warmup);
+            replay(api, corpus, requests, 0, warmup, config.concurrency(), latencies, statuses, errorSamples);
+            errorSamples.clear();
+
+            System.out.printf("Medição: %d requisições, %d clientes%n", requests.size() - warmup,
+                    config.concurrency());
+            long start = System.nanoTime();
+            replay(api, corpus, requests, warmup, requests.size(), config.concurrency(), latencies, statuses,
+                    errorSamples);
+            long wallNanos = System.nanoTime() - start;
+
+            String[] endpoints = corpus.stream().map(LoadRequest::endpoint).toArray(String[]::new);
+            LoadReport report = LoadReport.of(endpoints, latencies, statuses, errorSamples, warmup, requests.size(),
+                    wallNanos);
+            report.print(System.out);
+            Path result = config.output().resolve(RESULT_FILE);
+            report.write(result, objectMapper);
+            System.out.printf("Resultado gravado em %s%n", result);
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+
+    /**
+     * Sobe a aplicação embarcada em uma porta livre, sem Kafka.
+     */
+    private static ConfigurableApplicationContext startApplication(LoadTestConfig config) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--kafka.enabled=false",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN",
+                "--logging.level.org.hibernate.SQL=WARN",
+                "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                "--logging.level.com.example.vidaplena=WARN"));
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(VidaPlenaApplication.class);
+        if ("h2".equals(config.database())) {
+            // Perfil de testes: H2 sem Flyway, esquema criado pelo Hibernate
+            builder.profiles("test");
+            args.add("--spring.datasource.url=" + H2_URL);
+            args.add("--spring.jpa.properties.hibernate.generate_statistics=false");
+        } else {
+            args.add("--spring.datasource.url=" + config.datasourceUrl());
+        }
+        args.addAll(config.appArgs());
+        return builder.run(args.toArray(String[]::new));
+    }
+
+    /**
+     * Resolve os marcadores antes da medição, para que ela inclua apenas o
+     * envio e a resposta.
+     */
+    private static List<HttpRequest> prepare(ApiClient api, ClinicDataset dataset, List<LoadRequest> corpus) {
+        List<HttpRequest> requests = new ArrayList<>(corpus.size());
+        for (LoadRequest request : corpus) {
+            requests.add(api.request(request.method(), dataset.resolve(request.path()),
+                    dataset.token(request.actor()), MediaType.APPLICATION_JSON_VALUE,
+                    dataset.resolve(request.body())));
+        }
+        return requests;
+    }
+
+    /**
+     * Envia as requisições {@code [from, to)} com {@code concurrency} clientes,
+     * cada um enviando a próxima assim que recebe a resposta anterior.
+     */
+    private static void replay(ApiClient api, List<LoadRequest> corpus, List<HttpRequest> requests, int from,
+            int to, int concurrency, long[] latencies, int[] statuses, Map<String, String> errorSamples)
+            throws InterruptedException {
+        AtomicInteger next = new AtomicInteger(from);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int c = 0; c < concurrency; c++) {
+                clients.submit(() -> {
+                    for (int i = next.getAndIncrement(); i < to; i = next.getAndIncrement()) {
+                        long start = System.nanoTime();
+                        int status;
+                        String body;
+                        try {
+                            HttpResponse<String> response = api.send(requests.get(i));
+                            status = response.statusCode();
+                            body = response.body();
+                        } catch (IOException e) {
+                            status = 0;
+                            body = e.toString();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        latencies[i] = System.nanoTime() - start;
+                        statuses[i] = status;
+                        if (LoadReport.isError(status)) {
+                            errorSamples.putIfAbsent(corpus.get(i).endpoint(), status + " " + body);
+                        }
+                    }
+                });
+            }
+        }
+        if (Thread.interrupted()) {
+            throw new InterruptedException("Reprodução interrompida");
+        }
+    }
+}
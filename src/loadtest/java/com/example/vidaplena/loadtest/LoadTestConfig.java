@@ -0,0 +1,175 @@
+package com.example.vidaplena.loadtest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parâmetros do teste de carga, lidos de argumentos {@code chave=valor}.
+ *
+ * <p>
+ * Argumentos iniciados por {@code --} são repassados à aplicação embarcada
+ * (por exemplo, {@code --spring.threads.virtual.enabled=true}).
+ * </p>
+ *
+ * @param baseUrl       URL de uma instância já em execução (null sobe a
+ *                      aplicação embarcada)
+ * @param database      Banco da aplicação embarcada: {@code h2} ou
+ *                      {@code postgres}
+ * @param datasourceUrl URL JDBC usada com {@code database=postgres}
+ * @param doctors       Médicos criados para o teste
+ * @param appointments  Atendimentos pré-carregados
+ * @param requests      Requisições medidas
+ * @param warmup        Requisições de aquecimento (não medidas)
+ * @param concurrency   Clientes simultâneos
+ * @param seed          Semente do gerador do corpus
+ * @param mix           Peso de cada operação do corpus
+ * @param corpus        Corpus a reproduzir (null gera um novo)
+ * @param output        Diretório do corpus gerado e do resultado
+ * @param admin         Credenciais do administrador ({@code email:senha})
+ * @param receptionist  Credenciais da recepção ({@code email:senha})
+ * @param appArgs       Argumentos repassados à aplicação embarcada
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+record LoadTestConfig(
+        String baseUrl,
+        String database,
+        String datasourceUrl,
+        int doctors,
+        int appointments,
+        int requests,
+        int warmup,
+        int concurrency,
+        long seed,
+        Map<CorpusGenerator.Operation, Integer> mix,
+        Path corpus,
+        Path output,
+        Credentials admin,
+        Credentials receptionist,
+        List<String> appArgs) {
+
+    private static final Map<String, String> DEFAULTS = defaults();
+
+    /**
+     * Email e senha de um usuário do teste.
+     */
+    record Credentials(String email, String password) {
+
+        static Credentials parse(String value) {
+            int separator = value.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Credenciais devem estar no formato email:senha");
+            }
+            return new Credentials(value.substring(0, separator), value.substring(separator + 1));
+        }
+    }
+
+    /**
+     * Lê os argumentos, completando com os valores padrão.
+     *
+     * @param args Argumentos da linha de comando
+     * @return Configuração
+     * @throws IllegalArgumentException se houver chave desconhecida ou valor
+     *                                  inválido
+     */
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        List<String> appArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.isBlank()) {
+                continue;
+            }
+            if (arg.startsWith("--")) {
+                appArgs.add(arg);
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            String key = separator < 0 ? arg : arg.substring(0, separator);
+            if (separator < 0 || !DEFAULTS.containsKey(key)) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg + " (chaves: " + DEFAULTS.keySet() + ")");
+            }
+            values.put(key, arg.substring(separator + 1));
+        }
+
+        String database = values.get("database");
+        if (!Set.of("h2", "postgres").contains(database)) {
+            throw new IllegalArgumentException("database deve ser h2 ou postgres");
+        }
+        LoadTestConfig config = new LoadTestConfig(
+                blankToNull(values.get("base-url")),
+                database,
+                values.get("datasource-url"),
+                positive(values, "doctors"),
+                positive(values, "appointments"),
+                positive(values, "requests"),
+                Integer.parseInt(values.get("warmup")),
+                positive(values, "concurrency"),
+                Long.parseLong(values.get("seed")),
+                parseMix(values.get("mix")),
+                values.get("corpus").isBlank() ? null : Path.of(values.get("corpus")),
+                Path.of(values.get("output")),
+                Credentials.parse(values.get("admin")),
+                Credentials.parse(values.get("receptionist")),
+                List.copyOf(appArgs));
+        if (config.warmup < 0) {
+            throw new IllegalArgumentException("warmup não pode ser negativo");
+        }
+        return config;
+    }
+
+    private static Map<String, String> defaults() {
+        Map<String, String> defaults = new LinkedHashMap<>();
+        defaults.put("base-url", "");
+        defaults.put("database", "h2");
+        defaults.put("datasource-url", System.getenv().getOrDefault("SPRING_DATASOURCE_URL",
+                "jdbc:postgresql://localhost:5432/vida_plena_bench"));
+        defaults.put("doctors", "20");
+        defaults.put("appointments", "20000");
+        defaults.put("requests", "20000");
+        defaults.put("warmup", "2000");
+        defaults.put("concurrency", "32");
+        defaults.put("seed", "42");
+        defaults.put("mix", "agenda=60,create=15,status=20,delete=5");
+        defaults.put("corpus", "");
+        defaults.put("output", "target/loadtest");
+        defaults.put("admin", "admin@vidaplena.com:admin123");
+        defaults.put("receptionist", "ana.costa@vidaplena.com:recepcao123");
+        return defaults;
+    }
+
+    private static Map<CorpusGenerator.Operation, Integer> parseMix(String value) {
+        Map<CorpusGenerator.Operation, Integer> mix = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            String[] parts = entry.trim().split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("mix deve estar no formato operacao=peso,...: " + value);
+            }
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Peso negativo no mix: " + entry);
+            }
+            mix.put(CorpusGenerator.Operation.valueOf(parts[0].trim().toUpperCase()), weight);
+        }
+        if (mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("mix precisa de ao menos uma operação com peso positivo");
+        }
+        return mix;
+    }
+
+    private static int positive(Map<String, String> values, String key) {
+        int value = Integer.parseInt(values.get(key));
+        if (value <= 0) {
+            throw new IllegalArgumentException(key + " deve ser positivo");
+        }
+        return value;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.vidaplena.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuração do cache de usuários (Spring Cache + Caffeine).
+ * 
+ * <p>
+ * Tamanho máximo e TTL são definidos em {@code spring.cache.caffeine.spec}.
+ * As entradas são removidas por chave a cada alteração de usuário (ver
+ * {@link com.example.vidaplena.security.UserCacheInvalidator}). Nenhum dos
+ * caches guarda entidades JPA ou o hash da senha.
+ * </p>
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Cache de {@code UserService.findAccountByEmail}, por email (projeção sem
+     * a senha).
+     */
+    public static final String USERS = "users";
+
+    /**
+     * Cache de {@code UserDetailsServiceImpl.loadUserByUsername}, por email
+     * (principal sem a senha).
+     */
+    public static final String USER_DETAILS = "userDetails";
+}
@@ -1,29 +1,54 @@
 package com.example.vidaplena.config;
 
 import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import com.example.vidaplena.domain.dto.event.UserChangedEvent;
+import com.example.vidaplena.kafka.AppointmentEventProducer;
+import com.example.vidaplena.kafka.retry.RetryTopology;
+import com.example.vidaplena.kafka.serialization.EventDeserializer;
+import com.example.vidaplena.kafka.serialization.EventSerializer;
+import com.example.vidaplena.kafka.serialization.LocalSchemaRegistry;
+import com.example.vidaplena.kafka.serialization.SerializationFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
 import org.springframework.lang.NonNull;
+import org.springframework.util.backoff.FixedBackOff;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
  * Configuração do Apache Kafka.
  * 
  * <p>
- * Define beans para produtores e consumidores Kafka com serialização JSON.
+ * Define beans para produtores e consumidores Kafka. Os eventos de
+ * atendimento e de auditoria são publicados em JSON ou Avro
+ * ({@code kafka.serialization.format}) e lidos nos dois formatos. Falhas dos
+ * listeners de atendimento seguem para tópicos de retentativa e DLT
+ * ({@link RetryTopology}), sem retentativas no lugar.
  * </p>
  * 
  * @author VIDA PLENA Team
@@ -37,71 +62,229 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers:localhost:9093}")
     private String bootstrapServers;
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${kafka.serialization.format:json}")
+    private SerializationFormat serializationFormat = SerializationFormat.JSON;
+
     /**
-     * Configuração do produtor Kafka.
+     * Schemas Avro dos eventos ({@code <id>-<subject>.avsc}).
      */
     @Bean
-    @NonNull
-    public ProducerFactory<String, AppointmentEvent> producerFactory() {
-        Map<String, Object> config = new HashMap<>();
-        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        return new DefaultKafkaProducerFactory<>(config);
+    public LocalSchemaRegistry localSchemaRegistry(
+            @Value("${kafka.serialization.schemas:classpath:avro/*.avsc}") String schemas) {
+        return LocalSchemaRegistry.load(schemas);
     }
 
     /**
-     * ProducerFactory genérico para objetos.
+     * ProducerFactory único da aplicação.
+     * 
+     * <p>
+     * Construído a partir de {@code spring.kafka.producer.*}, de modo que o
+     * perfil de vazão (acks, batch-size, compression-type, linger.ms,
+     * idempotência e requisições em voo) vem da configuração. Todos os
+     * produtores compartilham o mesmo {@code KafkaProducer}: uma única conexão
+     * por broker e um único buffer, em que mensagens de tópicos diferentes se
+     * agrupam nos mesmos lotes.
+     * </p>
      */
     @Bean
     @NonNull
-    public ProducerFactory<String, Object> genericProducerFactory() {
-        Map<String, Object> config = new HashMap<>();
+    public ProducerFactory<String, Object> producerFactory(KafkaProperties kafkaProperties,
+            LocalSchemaRegistry schemaRegistry) {
+        Map<String, Object> config = new HashMap<>(kafkaProperties.buildProducerProperties(null));
         config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        return new DefaultKafkaProducerFactory<>(config);
+        return new DefaultKafkaProducerFactory<>(config, new StringSerializer(),
+                new EventSerializer(serializationFormat, schemaRegistry));
     }
 
     /**
      * Template Kafka genérico para envio de qualquer tipo de mensagem.
      */
     @Bean
-    public KafkaTemplate<String, Object> kafkaTemplate() {
-        return new KafkaTemplate<>(genericProducerFactory());
+    public KafkaTemplate<String, Object> kafkaTemplate(ProducerFactory<String, Object> producerFactory) {
+        return new KafkaTemplate<>(producerFactory);
     }
 
     /**
-     * Template Kafka específico para AppointmentEvent.
+     * Níveis de retentativa e DLTs dos tópicos de atendimento.
      */
     @Bean
-    public KafkaTemplate<String, AppointmentEvent> appointmentEventKafkaTemplate() {
-        return new KafkaTemplate<>(producerFactory());
+    public RetryTopology retryTopology(@Value("${kafka.retry.attempts:3}") int attempts,
+            @Value("${kafka.retry.initial-delay:PT1S}") Duration initialDelay,
+            @Value("${kafka.retry.multiplier:5}") double multiplier,
+            @Value("${kafka.retry.max-delay:PT2M}") Duration maxDelay) {
+        return new RetryTopology(List.of(AppointmentEventProducer.TOPIC_CREATED,
+                AppointmentEventProducer.TOPIC_UPDATED, AppointmentEventProducer.TOPIC_DELETED),
+                attempts, initialDelay, multiplier, maxDelay);
+    }
+
+    /**
+     * Tópicos de atendimento, de retentativa e DLTs, criados na inicialização
+     * se não existirem.
+     * 
+     * <p>
+     * O número de partições limita a concorrência útil dos listeners: cada
+     * partição é consumida por uma única thread do grupo.
+     * </p>
+     */
+    @Bean
+    public KafkaAdmin.NewTopics appointmentTopics(@Value("${kafka.topics.partitions:6}") int partitions,
+            RetryTopology retryTopology) {
+        List<String> names = new ArrayList<>(retryTopology.baseTopics());
+        names.addAll(retryTopology.derivedTopics());
+        return new KafkaAdmin.NewTopics(names.stream()
+                .map(name -> TopicBuilder.name(name).partitions(partitions).build())
+                .toArray(NewTopic[]::new));
     }
 
     /**
      * Configuração do consumidor Kafka.
+     * 
+     * <p>
+     * Parte de {@code spring.kafka.consumer.*}, de modo que
+     * {@code enable-auto-commit} e {@code max-poll-records} (tamanho máximo do
+     * lote entregue ao listener) vêm da configuração. Lê eventos em JSON e em
+     * Avro, independentemente do formato dos produtores. Um evento ilegível
+     * chega ao listener sem valor (com a exceção nos cabeçalhos), em vez de
+     * travar o container no mesmo offset.
+     * </p>
      */
     @Bean
     @NonNull
-    public ConsumerFactory<String, AppointmentEvent> consumerFactory() {
-        Map<String, Object> config = new HashMap<>();
+    public ConsumerFactory<String, AppointmentEvent> consumerFactory(KafkaProperties kafkaProperties,
+            LocalSchemaRegistry schemaRegistry) {
+        Map<String, Object> config = new HashMap<>(kafkaProperties.buildConsumerProperties(null));
         config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        config.put(ConsumerConfig.GROUP_ID_CONFIG, "vidaplena-group");
-        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        config.putIfAbsent(ConsumerConfig.GROUP_ID_CONFIG, "vidaplena-group");
         config.put(JsonDeserializer.TRUSTED_PACKAGES, "com.example.vidaplena.domain.dto.event");
         config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, AppointmentEvent.class.getName());
-        return new DefaultKafkaConsumerFactory<>(config);
+        return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new EventDeserializer<>(AppointmentEvent.class, schemaRegistry)));
+    }
+
+    /**
+     * Consumidor dos DLTs para inspeção e reenvio, com valores em bytes.
+     */
+    @Bean
+    @NonNull
+    public ConsumerFactory<String, byte[]> deadLetterConsumerFactory(KafkaProperties kafkaProperties) {
+        Map<String, Object> config = new HashMap<>(kafkaProperties.buildConsumerProperties(null));
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return new DefaultKafkaConsumerFactory<>(config, new StringDeserializer(), new ByteArrayDeserializer());
+    }
+
+    /**
+     * Tratamento de erro dos listeners de atendimento.
+     * 
+     * <p>
+     * Sem retentativas no lugar: o evento que falhou é publicado no próximo
+     * tópico da {@link RetryTopology} (ou no DLT), com a exceção e a origem
+     * nos cabeçalhos {@code kafka_dlt-*}, e o lote continua a partir do
+     * seguinte. A origem registrada é sempre a do tópico principal.
+     * </p>
+     */
+    @Bean
+    public DefaultErrorHandler appointmentErrorHandler(KafkaTemplate<String, Object> kafkaTemplate,
+            RetryTopology retryTopology, MeterRegistry meterRegistry) {
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, exception) -> {
+                    String destination = retryTopology.nextTopic(record);
+                    meterRegistry.counter(RetryTopology.FORWARDED_COUNTER,
+                            "topic", RetryTopology.baseTopic(record.topic()),
+                            "destination", RetryTopology.isDeadLetterTopic(destination) ? "dlt" : "retry")
+                            .increment();
+                    return new TopicPartition(destination, -1);
+                });
+        recoverer.setAppendOriginalHeaders(false);
+        return new DefaultErrorHandler(recoverer, new FixedBackOff(0L, 0L));
     }
 
     /**
      * Factory para listeners Kafka.
      */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, AppointmentEvent> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, AppointmentEvent> kafkaListenerContainerFactory(
+            ConsumerFactory<String, AppointmentEvent> consumerFactory) {
         ConcurrentKafkaListenerContainerFactory<String, AppointmentEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory());
+        factory.setConsumerFactory(consumerFactory);
+        applyThreadMode(factory);
         return factory;
     }
+
+    /**
+     * Factory para listeners de atendimento em lote.
+     * 
+     * <p>
+     * Cada poll é entregue ao listener como uma lista (até
+     * {@code max-poll-records} eventos) e o offset só é confirmado quando o
+     * listener chama {@code Acknowledgment.acknowledge()} ao fim do lote. A
+     * concorrência padrão pode ser sobrescrita por tópico no próprio listener.
+     * Também atende os containers de retentativa.
+     * </p>
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, AppointmentEvent> appointmentBatchListenerContainerFactory(
+            ConsumerFactory<String, AppointmentEvent> consumerFactory,
+            DefaultErrorHandler appointmentErrorHandler,
+            @Value("${kafka.consumer.concurrency.default:1}") int concurrency) {
+        ConcurrentKafkaListenerContainerFactory<String, AppointmentEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(appointmentErrorHandler);
+        applyThreadMode(factory);
+        return factory;
+    }
+
+    /**
+     * Consumidor dos avisos de alteração de usuário.
+     * 
+     * <p>
+     * Cada instância usa um grupo próprio (definido no listener) para receber
+     * todos os avisos. Começa do fim do tópico: avisos anteriores à
+     * inicialização não interessam, pois os caches começam vazios.
+     * </p>
+     */
+    @Bean
+    @NonNull
+    public ConsumerFactory<String, UserChangedEvent> userChangedConsumerFactory(KafkaProperties kafkaProperties) {
+        Map<String, Object> config = new HashMap<>(kafkaProperties.buildConsumerProperties(null));
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
+        config.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        config.put(JsonDeserializer.VALUE_DEFAULT_TYPE, UserChangedEvent.class.getName());
+        return new DefaultKafkaConsumerFactory<>(config);
+    }
+
+    /**
+     * Factory para o listener de avisos de alteração de usuário.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, UserChangedEvent> userChangedListenerContainerFactory(
+            ConsumerFactory<String, UserChangedEvent> userChangedConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, UserChangedEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(userChangedConsumerFactory);
+        applyThreadMode(factory);
+        return factory;
+    }
+
+    /**
+     * Com {@code spring.threads.virtual.enabled}, cada consumidor dos
+     * containers roda em uma virtual thread. As factories acima são próprias,
+     * então não recebem essa configuração do Spring Boot automaticamente.
+     */
+    private void applyThreadMode(ConcurrentKafkaListenerContainerFactory<?, ?> factory) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kafka-listener-");
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
+    }
 }
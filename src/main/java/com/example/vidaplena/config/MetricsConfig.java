@@ -0,0 +1,80 @@
+package com.example.vidaplena.config;
+
+import com.example.vidaplena.security.TokenVersionCache;
+import com.example.vidaplena.service.cache.ReferenceDataCache;
+import com.example.vidaplena.service.scheduling.DoctorScheduleIndex;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Métricas dos caches em memória da aplicação.
+ *
+ * <p>
+ * Os caches do Spring Cache (usuários) já são instrumentados pelo Actuator
+ * ({@code cache.gets}). Os demais são publicados em
+ * {@code vidaplena.cache.gets} (com {@code result} = hit ou miss) e
+ * {@code vidaplena.cache.size}; a taxa de acerto é hit / (hit + miss) nos
+ * dois casos.
+ * </p>
+ *
+ * <p>
+ * Demais métricas: {@code vidaplena.appointment.service} (AppointmentService),
+ * {@code vidaplena.jwt.validation} (JwtAuthenticationFilter),
+ * {@code vidaplena.kafka.publish} (produtores e outbox),
+ * {@code vidaplena.kafka.dispatch.saturated} e {@code executor.*}
+ * (AppointmentEventDispatcher) e {@code hikaricp.connections.*} (pool de
+ * conexões, pelo Actuator).
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder cacheMetrics(List<ReferenceDataCache<?, ?>> referenceDataCaches,
+            DoctorScheduleIndex scheduleIndex, TokenVersionCache tokenVersionCache) {
+        return registry -> {
+            for (ReferenceDataCache<?, ?> cache : referenceDataCaches) {
+                bind(registry, cache.getName(), cache,
+                        c -> c.stats().hits(),
+                        c -> c.stats().misses(),
+                        c -> c.stats().size());
+            }
+            bind(registry, "scheduling-days", scheduleIndex,
+                    index -> index.dayStats().hitCount(),
+                    index -> index.dayStats().missCount(),
+                    DoctorScheduleIndex::cachedDays);
+            bind(registry, "token-versions", tokenVersionCache,
+                    cache -> cache.stats().hitCount(),
+                    cache -> cache.stats().missCount(),
+                    TokenVersionCache::size);
+        };
+    }
+
+    private static <C> void bind(MeterRegistry registry, String name, C cache, ToDoubleFunction<C> hits,
+            ToDoubleFunction<C> misses, ToDoubleFunction<C> size) {
+        FunctionCounter.builder("vidaplena.cache.gets", cache, hits)
+                .tag("cache", name)
+                .tag("result", "hit")
+                .description("Leituras atendidas pelo cache")
+                .register(registry);
+        FunctionCounter.builder("vidaplena.cache.gets", cache, misses)
+                .tag("cache", name)
+                .tag("result", "miss")
+                .description("Leituras que exigiram carga")
+                .register(registry);
+        Gauge.builder("vidaplena.cache.size", cache, size)
+                .tag("cache", name)
+                .description("Entradas em cache")
+                .register(registry);
+    }
+}
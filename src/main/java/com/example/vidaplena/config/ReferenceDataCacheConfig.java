@@ -0,0 +1,47 @@
+package com.example.vidaplena.config;
+
+import com.example.vidaplena.domain.entity.AppointmentStatus;
+import com.example.vidaplena.domain.entity.MedicalSpecialty;
+import com.example.vidaplena.repository.AppointmentStatusRepository;
+import com.example.vidaplena.repository.MedicalSpecialtyRepository;
+import com.example.vidaplena.service.cache.ReferenceDataCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * Configuração dos caches de dados de referência.
+ * 
+ * <p>
+ * Status de atendimento e especialidades médicas são consultados em toda
+ * criação e atualização de atendimento, mas raramente mudam. Os caches são
+ * invalidados pelos respectivos services a cada escrita e expiram após
+ * {@code reference-cache.ttl}.
+ * </p>
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Configuration
+public class ReferenceDataCacheConfig {
+
+    @Value("${reference-cache.ttl:PT5M}")
+    private Duration ttl;
+
+    @Bean
+    public ReferenceDataCache<AppointmentStatus, Long> appointmentStatusCache(
+            AppointmentStatusRepository statusRepository, PlatformTransactionManager transactionManager) {
+        return new ReferenceDataCache<>("appointment-status", statusRepository::findAll,
+                AppointmentStatus::getId, AppointmentStatus::getCode, ttl, transactionManager);
+    }
+
+    @Bean
+    public ReferenceDataCache<MedicalSpecialty, Long> medicalSpecialtyCache(
+            MedicalSpecialtyRepository specialtyRepository, PlatformTransactionManager transactionManager) {
+        return new ReferenceDataCache<>("medical-specialty", specialtyRepository::findAll,
+                MedicalSpecialty::getId, MedicalSpecialty::getCode, ttl, transactionManager);
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.vidaplena.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita tarefas agendadas ({@code @Scheduled}).
+ *
+ * <p>
+ * Usado pelo relay do outbox
+ * ({@link com.example.vidaplena.kafka.outbox.OutboxRelay}) e pela rotação
+ * das gerações do filtro de deduplicação
+ * ({@link com.example.vidaplena.kafka.dedup.EventDeduplicator#rotate}), ambos
+ * criados só com o Kafka habilitado.
+ * </p>
+ *
+ * <p>
+ * O agendador tem duas threads ({@code spring.task.scheduling.pool.size}):
+ * com o broker fora, o relay fica até {@code send-timeout} em cada lote, e
+ * a rotação não pode atrasar por isso. Com virtual threads, cada execução
+ * roda em uma thread própria e o tamanho do pool não se aplica.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,6 +1,7 @@
 package com.example.vidaplena.config;
 
 import com.example.vidaplena.security.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -45,16 +46,26 @@ public class SecurityConfig {
                                 .sessionManagement(session -> session
                                                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                                 .authorizeHttpRequests(auth -> auth
+                                                // Conclusão de respostas em fluxo (já autorizadas na
+                                                // requisição original)
+                                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                                                 // Endpoints públicos
                                                 .requestMatchers("/api/auth/**").permitAll()
                                                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**",
                                                                 "/swagger-ui.html")
                                                 .permitAll()
-                                                .requestMatchers("/actuator/**").permitAll()
+                                                .requestMatchers("/actuator/health/**", "/actuator/info").permitAll()
+
+                                                // Métricas e demais endpoints do Actuator (apenas ADMIN)
+                                                .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                                                 // Endpoints de usuários (apenas ADMIN)
                                                 .requestMatchers("/api/users/**").hasRole("ADMIN")
 
+                                                // Endpoints administrativos (apenas ADMIN)
+                                                .requestMatchers("/api/admin/**").hasRole("ADMIN")
+
                                                 // Endpoints de especialidades
                                                 .requestMatchers(HttpMethod.GET, "/api/specialties/**").authenticated()
                                                 .requestMatchers(HttpMethod.POST, "/api/specialties").hasRole("ADMIN")
@@ -69,14 +80,21 @@ public class SecurityConfig {
                                                 .requestMatchers(HttpMethod.DELETE, "/api/status/**").hasRole("ADMIN")
 
                                                 // Endpoints de atendimentos
+                                                .requestMatchers(HttpMethod.GET, "/api/appointments/export")
+                                                .hasRole("ADMIN")
                                                 .requestMatchers(HttpMethod.GET, "/api/appointments/**").authenticated()
-                                                .requestMatchers(HttpMethod.POST, "/api/appointments")
+                                                .requestMatchers(HttpMethod.POST, "/api/appointments",
+                                                                "/api/appointments/batch")
                                                 .hasAnyRole("ADMIN", "RECEPTIONIST")
                                                 .requestMatchers(HttpMethod.PUT, "/api/appointments/**")
                                                 .hasAnyRole("ADMIN", "DOCTOR")
                                                 .requestMatchers(HttpMethod.DELETE, "/api/appointments/**")
                                                 .hasRole("ADMIN")
 
+                                                // Endpoints de agenda dos médicos
+                                                .requestMatchers(HttpMethod.GET, "/api/doctors/**").authenticated()
+                                                .requestMatchers(HttpMethod.PUT, "/api/doctors/**").hasRole("ADMIN")
+
                                                 // Qualquer outra requisição precisa autenticação
                                                 .anyRequest().authenticated())
                                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
@@ -2,16 +2,29 @@ package com.example.vidaplena.controller;
 
 import com.example.vidaplena.domain.dto.request.CreateAppointmentRequest;
 import com.example.vidaplena.domain.dto.request.UpdateAppointmentRequest;
+import com.example.vidaplena.domain.dto.response.AgendaEntryResponse;
 import com.example.vidaplena.domain.dto.response.AppointmentResponse;
+import com.example.vidaplena.domain.dto.response.BulkImportResponse;
+import com.example.vidaplena.domain.dto.response.CursorPageResponse;
 import com.example.vidaplena.security.SecurityHelper;
+import com.example.vidaplena.service.AppointmentExportService;
+import com.example.vidaplena.service.AppointmentImportService;
 import com.example.vidaplena.service.AppointmentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,20 +41,99 @@ import java.util.UUID;
 public class AppointmentController {
 
     private final AppointmentService appointmentService;
+    private final AppointmentImportService importService;
+    private final AppointmentExportService exportService;
     private final SecurityHelper securityHelper;
 
     /**
-     * Lista todos os atendimentos.
+     * Lista os atendimentos com paginação por cursor.
      * 
-     * @return Lista de atendimentos
+     * @param cursor Cursor opaco retornado pela página anterior (opcional)
+     * @param size   Tamanho da página (opcional, máximo 100)
+     * @return Página de atendimentos
      */
     @GetMapping
-    @Operation(summary = "Listar atendimentos", description = "Retorna todos os atendimentos do sistema")
-    public ResponseEntity<List<AppointmentResponse>> getAllAppointments() {
-        List<AppointmentResponse> appointments = appointmentService.findAll();
+    @Operation(summary = "Listar atendimentos", description = "Retorna os atendimentos paginados por cursor, ordenados por data agendada")
+    public ResponseEntity<CursorPageResponse<AppointmentResponse>> getAllAppointments(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<AppointmentResponse> appointments = appointmentService.findPage(cursor, size);
         return ResponseEntity.ok(appointments);
     }
 
+    /**
+     * Retorna a agenda de um período.
+     * 
+     * @param from      Início do período (ISO-8601)
+     * @param to        Fim do período, exclusivo (ISO-8601; máximo 31 dias)
+     * @param doctorId  ID do médico (opcional)
+     * @param specialty Código da especialidade (opcional)
+     * @return Atendimentos do período ordenados por data agendada
+     */
+    @GetMapping("/agenda")
+    @Operation(summary = "Agenda do período", description = "Retorna os atendimentos de um período, filtrando opcionalmente por médico e especialidade")
+    public ResponseEntity<List<AgendaEntryResponse>> getAgenda(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) UUID doctorId,
+            @RequestParam(required = false) String specialty) {
+        List<AgendaEntryResponse> agenda = appointmentService.findAgenda(from, to, doctorId, specialty);
+        return ResponseEntity.ok(agenda);
+    }
+
+    /**
+     * Busca atendimentos por nome de paciente, ordenados por similaridade.
+     * 
+     * @param q      Termo pesquisado (mínimo 3 caracteres; ignora acentos e
+     *               maiúsculas)
+     * @param cursor Cursor opaco retornado pela página anterior (opcional)
+     * @param size   Tamanho da página (opcional, máximo 100)
+     * @return Página de atendimentos encontrados
+     */
+    @GetMapping("/search")
+    @Operation(summary = "Buscar por paciente", description = "Busca parcial por nome de paciente, sem distinção de acentos, ordenada por similaridade e paginada por cursor")
+    public ResponseEntity<CursorPageResponse<AppointmentResponse>> searchByPatient(
+            @RequestParam String q,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<AppointmentResponse> appointments = appointmentService.searchByPatient(q, cursor, size);
+        return ResponseEntity.ok(appointments);
+    }
+
+    /**
+     * Exporta o histórico de atendimentos em fluxo (apenas ADMIN).
+     * 
+     * <p>
+     * A resposta é escrita conforme as linhas são lidas do banco, com memória
+     * constante independente da quantidade exportada.
+     * </p>
+     * 
+     * @param format   Formato de saída (NDJSON ou CSV; padrão NDJSON)
+     * @param from     Início do período (ISO-8601, opcional)
+     * @param to       Fim do período, exclusivo (ISO-8601, opcional)
+     * @param doctorId ID do médico (opcional)
+     * @param status   Código do status (opcional)
+     * @return Arquivo de exportação
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Exportar atendimentos", description = "Exporta os atendimentos em NDJSON ou CSV, filtrando opcionalmente por período, médico e status (ADMIN)")
+    public ResponseEntity<StreamingResponseBody> exportAppointments(
+            @RequestParam(defaultValue = "NDJSON") AppointmentExportService.Format format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) UUID doctorId,
+            @RequestParam(required = false) String status) {
+        exportService.validateFilters(from, to);
+        StreamingResponseBody body = output -> exportService.export(format, from, to, doctorId, status, output);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("appointments." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     /**
      * Busca um atendimento por ID.
      * 
@@ -56,28 +148,40 @@ public class AppointmentController {
     }
 
     /**
-     * Busca atendimentos por médico.
+     * Busca atendimentos por médico com paginação por cursor.
      * 
      * @param doctorId ID do médico
-     * @return Lista de atendimentos do médico
+     * @param cursor   Cursor opaco retornado pela página anterior (opcional)
+     * @param size     Tamanho da página (opcional, máximo 100)
+     * @return Página de atendimentos do médico
      */
     @GetMapping("/doctor/{doctorId}")
-    @Operation(summary = "Buscar por médico", description = "Retorna todos os atendimentos de um médico específico")
-    public ResponseEntity<List<AppointmentResponse>> getAppointmentsByDoctor(@PathVariable UUID doctorId) {
-        List<AppointmentResponse> appointments = appointmentService.findByDoctor(doctorId);
+    @Operation(summary = "Buscar por médico", description = "Retorna os atendimentos de um médico específico, paginados por cursor")
+    public ResponseEntity<CursorPageResponse<AppointmentResponse>> getAppointmentsByDoctor(
+            @PathVariable UUID doctorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<AppointmentResponse> appointments = appointmentService.findPageByDoctor(doctorId, cursor,
+                size);
         return ResponseEntity.ok(appointments);
     }
 
     /**
-     * Busca atendimentos por status.
+     * Busca atendimentos por status com paginação por cursor.
      * 
      * @param statusCode Código do status
-     * @return Lista de atendimentos com o status
+     * @param cursor     Cursor opaco retornado pela página anterior (opcional)
+     * @param size       Tamanho da página (opcional, máximo 100)
+     * @return Página de atendimentos com o status
      */
     @GetMapping("/status/{statusCode}")
-    @Operation(summary = "Buscar por status", description = "Retorna todos os atendimentos com um status específico")
-    public ResponseEntity<List<AppointmentResponse>> getAppointmentsByStatus(@PathVariable String statusCode) {
-        List<AppointmentResponse> appointments = appointmentService.findByStatus(statusCode);
+    @Operation(summary = "Buscar por status", description = "Retorna os atendimentos com um status específico, paginados por cursor")
+    public ResponseEntity<CursorPageResponse<AppointmentResponse>> getAppointmentsByStatus(
+            @PathVariable String statusCode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        CursorPageResponse<AppointmentResponse> appointments = appointmentService.findPageByStatus(statusCode,
+                cursor, size);
         return ResponseEntity.ok(appointments);
     }
 
@@ -95,6 +199,27 @@ public class AppointmentController {
         return ResponseEntity.status(201).body(appointment);
     }
 
+    /**
+     * Importa atendimentos em lote.
+     * 
+     * <p>
+     * Aceita um array JSON ({@code application/json}) ou um objeto por linha
+     * ({@code application/x-ndjson}), lidos em fluxo. Linhas inválidas são
+     * relatadas sem impedir as demais.
+     * </p>
+     * 
+     * @param body Corpo da requisição
+     * @return Totais e erros por linha
+     * @throws IOException se a leitura do corpo falhar
+     */
+    @PostMapping(value = "/batch", consumes = { MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_NDJSON_VALUE })
+    @Operation(summary = "Importar atendimentos", description = "Cria atendimentos em lote a partir de um array JSON ou NDJSON, com erros por linha (ADMIN, RECEPTIONIST)")
+    public ResponseEntity<BulkImportResponse> importAppointments(InputStream body) throws IOException {
+        BulkImportResponse report = importService.importAppointments(body, securityHelper.getCurrentUser());
+        return ResponseEntity.ok(report);
+    }
+
     /**
      * Atualiza um atendimento existente.
      * 
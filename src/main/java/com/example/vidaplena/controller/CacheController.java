@@ -0,0 +1,40 @@
+package com.example.vidaplena.controller;
+
+import com.example.vidaplena.service.cache.ReferenceDataCache;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller administrativo para inspeção dos caches em memória.
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@RestController
+@RequestMapping("/api/admin/caches")
+@RequiredArgsConstructor
+@Tag(name = "Administração", description = "Operações administrativas")
+public class CacheController {
+
+    private final List<ReferenceDataCache<?, ?>> referenceDataCaches;
+
+    /**
+     * Retorna os contadores de hit/miss dos caches de referência.
+     */
+    @GetMapping("/reference-data")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Estatísticas dos caches de referência", description = "Retorna tamanho, hits, misses, cargas e invalidações dos caches de status e especialidades")
+    public ResponseEntity<List<ReferenceDataCache.Stats>> getReferenceDataStats() {
+        return ResponseEntity.ok(referenceDataCaches.stream()
+                .map(ReferenceDataCache::stats)
+                .toList());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.vidaplena.controller;
+
+import com.example.vidaplena.domain.dto.response.DeadLetterRecordResponse;
+import com.example.vidaplena.domain.dto.response.DeadLetterReplayResponse;
+import com.example.vidaplena.exception.BadRequestException;
+import com.example.vidaplena.kafka.retry.DeadLetterService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * Controller administrativo para os tópicos de dead letter (DLT) dos eventos
+ * de atendimento.
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@RestController
+@RequestMapping("/api/admin/kafka/dlt")
+@RequiredArgsConstructor
+@Tag(name = "Administração", description = "Operações administrativas")
+@ConditionalOnProperty(name = "kafka.enabled", havingValue = "true", matchIfMissing = false)
+public class DeadLetterController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final DeadLetterService deadLetterService;
+
+    /**
+     * Lista os DLTs de atendimento.
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Listar DLTs", description = "Retorna os tópicos de dead letter dos eventos de atendimento")
+    public ResponseEntity<List<String>> getTopics() {
+        return ResponseEntity.ok(deadLetterService.topics());
+    }
+
+    /**
+     * Retorna os eventos mais recentes de um DLT.
+     */
+    @GetMapping("/{topic}")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Inspecionar DLT", description = "Retorna os eventos mais recentes do DLT, com origem e exceção da última tentativa")
+    public ResponseEntity<List<DeadLetterRecordResponse>> getRecords(
+            @PathVariable String topic,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(deadLetterService.list(topic, checkLimit(limit)));
+    }
+
+    /**
+     * Reenvia um evento do DLT para o tópico principal.
+     */
+    @PostMapping("/{topic}/replay")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reenviar evento do DLT", description = "Publica novamente o evento (partição e offset no DLT) no tópico principal")
+    public ResponseEntity<DeadLetterRecordResponse> replay(
+            @PathVariable String topic,
+            @RequestParam int partition,
+            @RequestParam long offset) {
+        return ResponseEntity.ok(deadLetterService.replay(topic, partition, offset));
+    }
+
+    /**
+     * Reenvia os eventos do DLT ainda não reenviados em massa.
+     */
+    @PostMapping("/{topic}/replay-all")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Reenviar DLT", description = "Publica novamente no tópico principal os eventos do DLT que ainda não foram reenviados em massa")
+    public ResponseEntity<DeadLetterReplayResponse> replayAll(
+            @PathVariable String topic,
+            @RequestParam(defaultValue = "500") int max) {
+        return ResponseEntity.ok(deadLetterService.replayAll(topic, checkLimit(max)));
+    }
+
+    private static int checkLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new BadRequestException("O limite deve estar entre 1 e " + MAX_LIMIT);
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.vidaplena.controller;
+
+import com.example.vidaplena.domain.dto.request.WorkingHoursRequest;
+import com.example.vidaplena.domain.dto.response.AvailableSlotResponse;
+import com.example.vidaplena.domain.dto.response.WorkingHoursResponse;
+import com.example.vidaplena.service.scheduling.SchedulingService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Controller para a agenda dos médicos: expediente e horários livres.
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@RestController
+@RequestMapping("/api/doctors")
+@RequiredArgsConstructor
+@Tag(name = "Agenda", description = "Expediente e horários disponíveis dos médicos")
+public class DoctorScheduleController {
+
+    private final SchedulingService schedulingService;
+
+    /**
+     * Retorna o expediente de um médico.
+     *
+     * @param doctorId ID do médico
+     * @return Períodos de expediente
+     */
+    @GetMapping("/{doctorId}/working-hours")
+    @Operation(summary = "Consultar expediente", description = "Retorna o expediente semanal do médico (próprio ou padrão)")
+    public ResponseEntity<WorkingHoursResponse> getWorkingHours(@PathVariable UUID doctorId) {
+        return ResponseEntity.ok(schedulingService.getWorkingHours(doctorId));
+    }
+
+    /**
+     * Substitui o expediente de um médico.
+     *
+     * @param doctorId ID do médico
+     * @param request  Novos períodos (lista vazia volta ao expediente padrão)
+     * @return Expediente atualizado
+     */
+    @PutMapping("/{doctorId}/working-hours")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Definir expediente", description = "Substitui o expediente semanal do médico (ADMIN apenas)")
+    public ResponseEntity<WorkingHoursResponse> replaceWorkingHours(
+            @PathVariable UUID doctorId,
+            @Valid @RequestBody WorkingHoursRequest request) {
+        return ResponseEntity.ok(schedulingService.replaceWorkingHours(doctorId, request));
+    }
+
+    /**
+     * Lista os próximos horários livres de um médico.
+     *
+     * @param doctorId    ID do médico
+     * @param specialtyId ID da especialidade (define a duração)
+     * @param from        Instante inicial (opcional, padrão agora)
+     * @param count       Quantidade de horários (opcional, máximo 50)
+     * @return Horários livres em ordem cronológica
+     */
+    @GetMapping("/{doctorId}/slots")
+    @Operation(summary = "Próximos horários livres", description = "Retorna os próximos horários livres do médico para a especialidade")
+    public ResponseEntity<List<AvailableSlotResponse>> getNextFreeSlots(
+            @PathVariable UUID doctorId,
+            @RequestParam Long specialtyId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) Integer count) {
+        return ResponseEntity.ok(schedulingService.findNextFreeSlots(doctorId, specialtyId, from, count));
+    }
+}
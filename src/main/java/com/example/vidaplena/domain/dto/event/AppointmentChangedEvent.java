@@ -0,0 +1,43 @@
+package com.example.vidaplena.domain.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Evento interno publicado quando atendimentos são criados, alterados ou
+ * removidos.
+ *
+ * <p>
+ * Carrega as mensagens Kafka já montadas (sem referências a entidades), para
+ * que a publicação possa acontecer depois do commit, fora da transação. Uma
+ * importação em lote publica um único evento por bloco.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AppointmentChangedEvent {
+
+    /**
+     * Mensagens a publicar, na ordem em que as alterações ocorreram.
+     */
+    private List<AppointmentEvent> events;
+
+    /**
+     * Cria o evento interno de uma única alteração.
+     *
+     * @param event Mensagem a publicar
+     * @return Evento interno
+     */
+    public static AppointmentChangedEvent of(AppointmentEvent event) {
+        return new AppointmentChangedEvent(List.of(event));
+    }
+}
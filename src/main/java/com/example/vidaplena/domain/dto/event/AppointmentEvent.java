@@ -1,5 +1,6 @@
 package com.example.vidaplena.domain.dto.event;
 
+import com.example.vidaplena.domain.entity.id.UuidV7Generator;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -20,6 +21,14 @@ import java.util.UUID;
 @AllArgsConstructor
 public class AppointmentEvent {
 
+    /**
+     * Identificador único do evento (UUID versão 7), mantido em reenvios do
+     * outbox, retentativas e DLT; usado pelos consumidores para descartar
+     * entregas repetidas. Gerado automaticamente se não fornecido.
+     */
+    @Builder.Default
+    private UUID eventId = UuidV7Generator.next();
+
     /**
      * Tipo do evento.
      */
@@ -0,0 +1,37 @@
+package com.example.vidaplena.domain.dto.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Evento interno publicado quando um usuário é criado, alterado, desativado ou
+ * troca a senha.
+ * 
+ * <p>
+ * Consumido após o commit da transação para descartar dados de autenticação
+ * em cache (versão de token).
+ * </p>
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserChangedEvent {
+
+    /**
+     * ID do usuário alterado.
+     */
+    private UUID userId;
+
+    /**
+     * Email do usuário alterado.
+     */
+    private String email;
+}
@@ -0,0 +1,41 @@
+package com.example.vidaplena.domain.dto.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção enxuta de um atendimento para a visão de agenda.
+ *
+ * <p>
+ * Contém apenas colunas de {@code appointments} incluídas nos índices
+ * {@code (doctor_id, scheduled_date, id)} e {@code (scheduled_date, id)},
+ * permitindo varredura somente de índice na tabela de atendimentos; médico,
+ * status e especialidade vêm de junções por chave primária.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public record AgendaRow(
+        UUID id,
+        String patient,
+        LocalDateTime scheduledDate,
+        LocalDateTime endDate,
+        UUID doctorId,
+        String doctorName,
+        String statusCode,
+        String specialtyCode,
+        String specialtyName) {
+
+    /**
+     * Lista de seleção JPQL correspondente ao construtor desta projeção.
+     *
+     * <p>
+     * Espera os aliases {@code a} (Appointment), {@code d} (médico), {@code s}
+     * (status) e {@code sp} (especialidade).
+     * </p>
+     */
+    public static final String SELECT = "SELECT new com.example.vidaplena.domain.dto.projection.AgendaRow("
+            + "a.id, a.patient, a.scheduledDate, a.endDate, d.id, d.name, s.code, sp.code, sp.name) "
+            + "FROM Appointment a JOIN a.doctor d JOIN a.status s JOIN a.specialty sp ";
+}
@@ -0,0 +1,59 @@
+package com.example.vidaplena.domain.dto.projection;
+
+import com.example.vidaplena.domain.enums.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projeção somente-leitura de um atendimento com médico, status e
+ * especialidade.
+ *
+ * <p>
+ * Preenchida diretamente por expressão construtora JPQL
+ * ({@code SELECT new ...}). Diferente de uma entidade, não é gerenciada pelo
+ * contexto de persistência: não gera snapshot para dirty checking e não
+ * carrega colunas desnecessárias, como o hash de senha do médico.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public record AppointmentRow(
+        UUID id,
+        String patient,
+        LocalDateTime scheduledDate,
+        LocalDateTime endDate,
+        String notes,
+        String createdBy,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        UUID doctorId,
+        String doctorName,
+        String doctorEmail,
+        UserRole doctorRole,
+        Boolean doctorActive,
+        LocalDateTime doctorCreatedAt,
+        Long statusId,
+        String statusCode,
+        String statusDescription,
+        Long specialtyId,
+        String specialtyCode,
+        String specialtyName,
+        String specialtyDescription) {
+
+    /**
+     * Lista de seleção JPQL correspondente ao construtor desta projeção.
+     *
+     * <p>
+     * Espera os aliases {@code a} (Appointment), {@code d} (médico), {@code s}
+     * (status) e {@code sp} (especialidade).
+     * </p>
+     */
+    public static final String SELECT = "SELECT new com.example.vidaplena.domain.dto.projection.AppointmentRow("
+            + "a.id, a.patient, a.scheduledDate, a.endDate, a.notes, a.createdBy, a.createdAt, a.updatedAt, "
+            + "d.id, d.name, d.email, d.role, d.active, d.createdAt, "
+            + "s.id, s.code, s.description, "
+            + "sp.id, sp.code, sp.name, sp.description) "
+            + "FROM Appointment a JOIN a.doctor d JOIN a.status s JOIN a.specialty sp ";
+}
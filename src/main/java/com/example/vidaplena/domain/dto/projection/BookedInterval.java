@@ -0,0 +1,21 @@
+package com.example.vidaplena.domain.dto.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Intervalo ocupado na agenda de um médico.
+ *
+ * <p>
+ * Preenchida por expressão construtora JPQL; contém apenas o necessário para
+ * a detecção de conflitos.
+ * </p>
+ *
+ * @param id    ID do atendimento
+ * @param start Início do atendimento
+ * @param end   Término do atendimento (exclusivo)
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public record BookedInterval(UUID id, LocalDateTime start, LocalDateTime end) {
+}
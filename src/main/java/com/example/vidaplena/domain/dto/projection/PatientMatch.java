@@ -0,0 +1,19 @@
+package com.example.vidaplena.domain.dto.projection;
+
+import java.util.UUID;
+
+/**
+ * Atendimento encontrado na busca por paciente, com a similaridade do nome.
+ *
+ * <p>
+ * Preenchida por expressão construtora JPQL; carrega apenas o necessário para
+ * ordenar e paginar o resultado.
+ * </p>
+ *
+ * @param id    ID do atendimento
+ * @param score Similaridade de trigramas entre o nome e o termo (0 a 1)
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public record PatientMatch(UUID id, Double score) {
+}
@@ -0,0 +1,62 @@
+package com.example.vidaplena.domain.dto.projection;
+
+import com.example.vidaplena.domain.entity.User;
+import com.example.vidaplena.domain.enums.UserRole;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Dados de um usuário mantidos no cache {@code users}.
+ *
+ * <p>
+ * Imutável e sem a senha: o cache guarda apenas o que as consultas por email
+ * precisam, nunca a entidade gerenciada nem o hash da senha.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public record UserAccount(
+        UUID id,
+        String name,
+        String email,
+        UserRole role,
+        boolean active,
+        long tokenVersion,
+        LocalDateTime createdAt) {
+
+    /**
+     * Copia os dados da entidade, exceto a senha.
+     *
+     * @param user Usuário carregado do banco
+     * @return Projeção do usuário
+     */
+    public static UserAccount from(User user) {
+        return new UserAccount(user.getId(), user.getName(), user.getEmail(), user.getRole(),
+                Boolean.TRUE.equals(user.getActive()), user.getTokenVersion(), user.getCreatedAt());
+    }
+
+    /**
+     * Converte a projeção em um {@link User} transiente, sem senha.
+     *
+     * <p>
+     * A instância não está associada ao contexto de persistência e não deve
+     * ser salva.
+     * </p>
+     *
+     * @return Usuário transiente
+     */
+    public User toUser() {
+        User user = User.builder()
+                .id(id)
+                .name(name)
+                .email(email)
+                .role(role)
+                .active(active)
+                .tokenVersion(tokenVersion)
+                .build();
+        user.setCreatedAt(createdAt);
+        return user;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.vidaplena.domain.dto.request;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -39,6 +41,13 @@ public class MedicalSpecialtyRequest {
     @Size(max = 500, message = "Descrição deve ter no máximo 500 caracteres")
     private String description;
 
+    /**
+     * Duração de cada consulta, em minutos (padrão 30).
+     */
+    @Min(value = 5, message = "Duração da consulta deve ser de no mínimo 5 minutos")
+    @Max(value = 480, message = "Duração da consulta deve ser de no máximo 480 minutos")
+    private Integer slotDurationMinutes;
+
     /**
      * Indica se a especialidade está ativa.
      */
@@ -0,0 +1,56 @@
+package com.example.vidaplena.domain.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+
+/**
+ * DTO para definição do expediente de um médico.
+ * 
+ * <p>
+ * Substitui todos os períodos do médico. Uma lista vazia volta a usar o
+ * expediente padrão da aplicação.
+ * </p>
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingHoursRequest {
+
+    /**
+     * Períodos de expediente.
+     */
+    @NotNull(message = "Lista de períodos é obrigatória")
+    @Valid
+    private List<Period> periods;
+
+    /**
+     * Período de expediente em um dia da semana.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Period {
+
+        @NotNull(message = "Dia da semana é obrigatório")
+        private DayOfWeek dayOfWeek;
+
+        @NotNull(message = "Horário de início é obrigatório")
+        private LocalTime startTime;
+
+        @NotNull(message = "Horário de término é obrigatório")
+        private LocalTime endTime;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.vidaplena.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * DTO de resposta para um atendimento na visão de agenda.
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AgendaEntryResponse {
+
+    /**
+     * ID do atendimento.
+     */
+    private UUID id;
+
+    /**
+     * Nome do paciente.
+     */
+    private String patient;
+
+    /**
+     * Início do atendimento.
+     */
+    private LocalDateTime scheduledDate;
+
+    /**
+     * Término previsto (exclusivo).
+     */
+    private LocalDateTime endDate;
+
+    /**
+     * ID do médico responsável.
+     */
+    private UUID doctorId;
+
+    /**
+     * Nome do médico responsável.
+     */
+    private String doctorName;
+
+    /**
+     * Código do status atual.
+     */
+    private String statusCode;
+
+    /**
+     * Código da especialidade.
+     */
+    private String specialtyCode;
+
+    /**
+     * Nome da especialidade.
+     */
+    private String specialtyName;
+}
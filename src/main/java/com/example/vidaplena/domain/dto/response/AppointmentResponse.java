@@ -50,6 +50,11 @@ public class AppointmentResponse {
      */
     private LocalDateTime scheduledDate;
 
+    /**
+     * Término previsto do atendimento.
+     */
+    private LocalDateTime endDate;
+
     /**
      * Observações sobre o atendimento.
      */
@@ -0,0 +1,31 @@
+package com.example.vidaplena.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO de resposta para um horário livre na agenda de um médico.
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableSlotResponse {
+
+    /**
+     * Início do horário.
+     */
+    private LocalDateTime start;
+
+    /**
+     * Término do horário (exclusivo).
+     */
+    private LocalDateTime end;
+}
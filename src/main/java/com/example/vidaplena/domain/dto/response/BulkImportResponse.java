@@ -0,0 +1,63 @@
+package com.example.vidaplena.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DTO de resposta para uma importação de atendimentos em lote.
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResponse {
+
+    /**
+     * Quantidade de linhas recebidas.
+     */
+    private int received;
+
+    /**
+     * Quantidade de atendimentos criados.
+     */
+    private int created;
+
+    /**
+     * Quantidade de linhas rejeitadas.
+     */
+    private int failed;
+
+    /**
+     * Erros por linha, na ordem de recebimento.
+     */
+    @Builder.Default
+    private List<RowError> errors = new ArrayList<>();
+
+    /**
+     * Erro de uma linha da importação.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        /**
+         * Posição da linha na entrada (a partir de 1).
+         */
+        private int row;
+
+        /**
+         * Motivo da rejeição.
+         */
+        private String message;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.vidaplena.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * DTO para resposta paginada por cursor (keyset pagination).
+ *
+ * <p>
+ * O cliente deve repassar {@code nextCursor} no parâmetro {@code cursor} da
+ * próxima requisição para obter a página seguinte. O token é opaco e não deve
+ * ser interpretado pelo cliente.
+ * </p>
+ *
+ * @param <T> Tipo dos itens da página
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponse<T> {
+
+    /**
+     * Itens da página atual.
+     */
+    private List<T> items;
+
+    /**
+     * Tamanho de página efetivamente aplicado.
+     */
+    private Integer size;
+
+    /**
+     * Cursor para a próxima página (null se não houver mais registros).
+     */
+    private String nextCursor;
+
+    /**
+     * Indica se existem mais registros após esta página.
+     */
+    private Boolean hasNext;
+}
@@ -0,0 +1,82 @@
+package com.example.vidaplena.domain.dto.response;
+
+import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO de resposta para um evento em um tópico de dead letter (DLT).
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterRecordResponse {
+
+    /**
+     * DLT do evento.
+     */
+    private String topic;
+
+    /**
+     * Partição no DLT.
+     */
+    private int partition;
+
+    /**
+     * Offset no DLT (identifica o evento no reenvio).
+     */
+    private long offset;
+
+    /**
+     * Momento em que o evento chegou ao DLT.
+     */
+    private Instant timestamp;
+
+    /**
+     * Chave da mensagem (ID do atendimento).
+     */
+    private String key;
+
+    /**
+     * Tópico de origem da falha.
+     */
+    private String originalTopic;
+
+    /**
+     * Partição de origem.
+     */
+    private Integer originalPartition;
+
+    /**
+     * Offset de origem.
+     */
+    private Long originalOffset;
+
+    /**
+     * Classe da exceção da última tentativa.
+     */
+    private String exceptionClass;
+
+    /**
+     * Mensagem da exceção da última tentativa.
+     */
+    private String exceptionMessage;
+
+    /**
+     * Evento, quando legível.
+     */
+    private AppointmentEvent event;
+
+    /**
+     * Conteúdo bruto (texto ou Base64), quando o evento não é legível.
+     */
+    private String rawValue;
+}
@@ -0,0 +1,34 @@
+package com.example.vidaplena.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO de resposta para o reenvio dos eventos de um DLT.
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeadLetterReplayResponse {
+
+    /**
+     * DLT lido.
+     */
+    private String topic;
+
+    /**
+     * Tópico para onde os eventos foram reenviados.
+     */
+    private String targetTopic;
+
+    /**
+     * Quantidade de eventos reenviados.
+     */
+    private int replayed;
+}
@@ -37,6 +37,11 @@ public class MedicalSpecialtyResponse {
      */
     private String description;
 
+    /**
+     * Duração de cada consulta, em minutos.
+     */
+    private Integer slotDurationMinutes;
+
     /**
      * Indica se a especialidade está ativa.
      */
@@ -0,0 +1,52 @@
+package com.example.vidaplena.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO de resposta com o expediente de um médico.
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkingHoursResponse {
+
+    /**
+     * ID do médico.
+     */
+    private UUID doctorId;
+
+    /**
+     * Indica se o médico usa o expediente padrão da aplicação.
+     */
+    private Boolean defaultHours;
+
+    /**
+     * Períodos de expediente, ordenados por dia e horário.
+     */
+    private List<PeriodResponse> periods;
+
+    /**
+     * DTO interno para período de expediente.
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PeriodResponse {
+        private DayOfWeek dayOfWeek;
+        private LocalTime startTime;
+        private LocalTime endTime;
+    }
+}
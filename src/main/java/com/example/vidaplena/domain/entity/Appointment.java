@@ -1,6 +1,7 @@
 package com.example.vidaplena.domain.entity;
 
 import com.example.vidaplena.domain.entity.base.BaseAuditableEntity;
+import com.example.vidaplena.domain.entity.id.UuidV7;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotBlank;
@@ -11,8 +12,11 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 
+import java.text.Normalizer;
 import java.time.LocalDateTime;
+import java.util.Locale;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 /**
  * Entidade que representa um atendimento médico.
@@ -24,7 +28,7 @@ import java.util.UUID;
  * <li>Paciente (nome)</li>
  * <li>Médico responsável (relacionamento com User)</li>
  * <li>Status atual (relacionamento com AppointmentStatus)</li>
- * <li>Data e hora agendada</li>
+ * <li>Data e hora agendada e término previsto</li>
  * <li>Observações/notas</li>
  * </ul>
  * 
@@ -44,14 +48,28 @@ import java.util.UUID;
  * auditoria.
  * </p>
  * 
+ * <p>
+ * <b>Carregamento:</b> Os relacionamentos são LAZY. Consultas de listagem
+ * devem usar o grafo {@value #GRAPH_DETAILS}, que busca médico, status e
+ * especialidade no mesmo SELECT e evita o problema N+1.
+ * </p>
+ * 
  * @author VIDA PLENA Team
  * @since 1.0
  */
 @Entity
+@NamedEntityGraph(name = Appointment.GRAPH_DETAILS, attributeNodes = {
+        @NamedAttributeNode("doctor"),
+        @NamedAttributeNode("status"),
+        @NamedAttributeNode("specialty")
+})
 @Table(name = "appointments", indexes = {
         @Index(name = "idx_appointment_doctor", columnList = "doctor_id"),
         @Index(name = "idx_appointment_status", columnList = "status_id"),
-        @Index(name = "idx_appointment_scheduled_date", columnList = "scheduled_date")
+        @Index(name = "idx_appointment_scheduled_date", columnList = "scheduled_date"),
+        @Index(name = "idx_appointments_scheduled_id", columnList = "scheduled_date, id"),
+        @Index(name = "idx_appointments_doctor_scheduled_id", columnList = "doctor_id, scheduled_date, id"),
+        @Index(name = "idx_appointments_status_scheduled_id", columnList = "status_id, scheduled_date, id")
 })
 @Data
 @EqualsAndHashCode(callSuper = true)
@@ -61,10 +79,18 @@ import java.util.UUID;
 public class Appointment extends BaseAuditableEntity {
 
     /**
-     * Identificador único do atendimento (UUID).
+     * Nome do grafo de entidade que carrega médico, status e especialidade.
+     */
+    public static final String GRAPH_DETAILS = "Appointment.details";
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    /**
+     * Identificador único do atendimento (UUID versão 7, ordenado pela criação).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -75,6 +101,13 @@ public class Appointment extends BaseAuditableEntity {
     @Column(name = "patient", nullable = false, length = 100)
     private String patient;
 
+    /**
+     * Nome do paciente normalizado para busca (minúsculas, sem acentos),
+     * mantido a cada gravação. Indexado por trigramas no PostgreSQL.
+     */
+    @Column(name = "patient_search", nullable = false, length = 100)
+    private String patientSearch;
+
     /**
      * Médico responsável pelo atendimento.
      */
@@ -100,6 +133,13 @@ public class Appointment extends BaseAuditableEntity {
     @Column(name = "scheduled_date", nullable = false)
     private LocalDateTime scheduledDate;
 
+    /**
+     * Término previsto do atendimento (exclusivo): data agendada mais a
+     * duração da especialidade no momento do agendamento.
+     */
+    @Column(name = "end_date", nullable = false)
+    private LocalDateTime endDate;
+
     /**
      * Especialidade médica do atendimento.
      */
@@ -113,4 +153,41 @@ public class Appointment extends BaseAuditableEntity {
      */
     @Column(name = "notes", columnDefinition = "TEXT")
     private String notes;
+
+    /**
+     * Preenche o término a partir da duração da especialidade, quando não
+     * informado explicitamente, e o nome normalizado para busca.
+     */
+    @PrePersist
+    void beforePersist() {
+        if (endDate == null && scheduledDate != null && specialty != null) {
+            endDate = scheduledDate.plusMinutes(specialty.getSlotDurationMinutes());
+        }
+        patientSearch = normalizeSearchText(patient);
+    }
+
+    /**
+     * Mantém o nome normalizado em sincronia com o nome do paciente.
+     */
+    @PreUpdate
+    void beforeUpdate() {
+        patientSearch = normalizeSearchText(patient);
+    }
+
+    /**
+     * Normaliza um texto para busca: remove acentos, converte para minúsculas
+     * e colapsa espaços. Aplicado tanto ao nome gravado quanto ao termo
+     * pesquisado.
+     *
+     * @param text Texto original (pode ser null)
+     * @return Texto normalizado, ou null se a entrada for null
+     */
+    public static String normalizeSearchText(String text) {
+        if (text == null) {
+            return null;
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String plain = DIACRITICS.matcher(decomposed).replaceAll("");
+        return SPACES.matcher(plain.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
 }
@@ -0,0 +1,72 @@
+package com.example.vidaplena.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Período de expediente de um médico em um dia da semana.
+ *
+ * <p>
+ * Um médico pode ter vários períodos no mesmo dia (ex: 08:00-12:00 e
+ * 13:00-18:00). Atendimentos só podem ser agendados dentro de um período.
+ * Médicos sem períodos cadastrados usam o expediente padrão da aplicação.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Entity
+@Table(name = "doctor_working_hours", indexes = {
+        @Index(name = "idx_working_hours_doctor", columnList = "doctor_id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DoctorWorkingHours {
+
+    /**
+     * Identificador único do período.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    /**
+     * ID do médico.
+     */
+    @NotNull
+    @Column(name = "doctor_id", nullable = false)
+    private UUID doctorId;
+
+    /**
+     * Dia da semana.
+     */
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "day_of_week", nullable = false, length = 10)
+    private DayOfWeek dayOfWeek;
+
+    /**
+     * Início do período.
+     */
+    @NotNull
+    @Column(name = "start_time", nullable = false)
+    private LocalTime startTime;
+
+    /**
+     * Fim do período (exclusivo).
+     */
+    @NotNull
+    @Column(name = "end_time", nullable = false)
+    private LocalTime endTime;
+}
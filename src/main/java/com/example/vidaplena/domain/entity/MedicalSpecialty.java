@@ -79,6 +79,14 @@ public class MedicalSpecialty extends BaseEntity {
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
+    /**
+     * Duração de cada consulta da especialidade, em minutos. Define o
+     * intervalo entre horários livres e o término dos atendimentos.
+     */
+    @Builder.Default
+    @Column(name = "slot_duration_minutes", nullable = false)
+    private Integer slotDurationMinutes = 30;
+
     /**
      * Indica se a especialidade está ativa.
      * 
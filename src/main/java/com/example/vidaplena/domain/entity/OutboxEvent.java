@@ -0,0 +1,99 @@
+package com.example.vidaplena.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Mensagem pendente de publicação no Kafka (transactional outbox).
+ *
+ * <p>
+ * Gravada na mesma transação da alteração que a originou: se a transação
+ * sofrer rollback, a mensagem desaparece junto; se for confirmada, a mensagem
+ * será entregue pelo relay mesmo que o broker esteja indisponível no momento.
+ * </p>
+ *
+ * <p>
+ * A linha é removida após a confirmação do broker. Não estende
+ * {@code BaseEntity}: o outbox é uma fila, não um registro de negócio.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Entity
+@Table(name = "outbox_events", indexes = {
+        @Index(name = "idx_outbox_events_next_attempt", columnList = "next_attempt_at, id"),
+        @Index(name = "idx_outbox_events_key", columnList = "message_key, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    /**
+     * Identificador sequencial; define a ordem de entrega por chave.
+     * Alocado um a um: com blocos, instâncias diferentes entregariam IDs fora
+     * da ordem de gravação.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_events_seq")
+    @SequenceGenerator(name = "outbox_events_seq", sequenceName = "outbox_events_seq", allocationSize = 1)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    /**
+     * Tópico Kafka de destino.
+     */
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    /**
+     * Chave da mensagem (ex: ID do atendimento). Mensagens com a mesma chave
+     * são entregues na ordem em que foram gravadas.
+     */
+    @Column(name = "message_key", nullable = false, length = 100)
+    private String messageKey;
+
+    /**
+     * Classe do payload, usada para reconstruí-lo antes do envio.
+     */
+    @Column(name = "payload_type", nullable = false, length = 255)
+    private String payloadType;
+
+    /**
+     * Payload serializado em JSON.
+     */
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    /**
+     * Data e hora de gravação.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Tentativas de envio que falharam.
+     */
+    @Builder.Default
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts = 0;
+
+    /**
+     * Instante a partir do qual a mensagem pode ser enviada (backoff).
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * Último erro de envio, para diagnóstico.
+     */
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+}
@@ -0,0 +1,71 @@
+package com.example.vidaplena.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Evento Kafka já processado por um consumidor.
+ *
+ * <p>
+ * Registro de apoio da deduplicação: o ID vem do próprio evento, então a
+ * entidade é sempre nova ({@link #isNew()}) e {@code saveAll} grava em lote,
+ * sem o SELECT que o {@code merge} faria para cada ID atribuído. Não estende
+ * {@code BaseEntity}: é um registro técnico, não de negócio.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Entity
+@Table(name = "processed_events", indexes = {
+        @Index(name = "idx_processed_events_partition", columnList = "topic, partition_no, processed_at"),
+        @Index(name = "idx_processed_events_processed_at", columnList = "processed_at")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProcessedEvent implements Persistable<UUID> {
+
+    /**
+     * ID do evento.
+     */
+    @Id
+    @Column(name = "event_id", updatable = false, nullable = false)
+    private UUID eventId;
+
+    /**
+     * Tópico principal do evento (também para eventos lidos de retentativas).
+     */
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    /**
+     * Partição em que o evento foi lido.
+     */
+    @Column(name = "partition_no", nullable = false)
+    private Integer partitionNo;
+
+    /**
+     * Data e hora do processamento.
+     */
+    @Column(name = "processed_at", nullable = false, updatable = false)
+    private LocalDateTime processedAt;
+
+    @Override
+    public UUID getId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
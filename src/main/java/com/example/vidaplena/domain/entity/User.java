@@ -1,6 +1,7 @@
 package com.example.vidaplena.domain.entity;
 
 import com.example.vidaplena.domain.entity.base.BaseAuditableEntity;
+import com.example.vidaplena.domain.entity.id.UuidV7;
 import com.example.vidaplena.domain.enums.UserRole;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Email;
@@ -50,11 +51,14 @@ import java.util.UUID;
 public class User extends BaseAuditableEntity {
 
     /**
-     * Identificador único do usuário (UUID).
-     * Utiliza UUID para segurança e geração distribuída.
+     * Identificador único do usuário (UUID versão 7, ordenado pela criação).
+     * Gerado na aplicação, sem coordenação com o banco. Os primeiros 48 bits
+     * são o instante de criação em milissegundos: quem vê o ID descobre
+     * quando o usuário foi cadastrado, e IDs comparados revelam a ordem dos
+     * cadastros. Não é segredo nem controle de acesso ({@link UuidV7}).
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @UuidV7
     @Column(name = "id", updatable = false, nullable = false)
     private UUID id;
 
@@ -101,4 +105,17 @@ public class User extends BaseAuditableEntity {
     @Builder.Default
     @Column(name = "active", nullable = false)
     private Boolean active = true;
+
+    /**
+     * Versão dos tokens JWT do usuário.
+     * 
+     * <p>
+     * Embutida nas claims de cada token emitido. Incrementada sempre que o
+     * usuário é alterado, desativado ou troca a senha, o que revoga os tokens
+     * emitidos anteriormente.
+     * </p>
+     */
+    @Builder.Default
+    @Column(name = "token_version", nullable = false)
+    private Long tokenVersion = 0L;
 }
@@ -0,0 +1,43 @@
+package com.example.vidaplena.domain.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Gera o identificador como UUID versão 7 (RFC 9562), ordenado pelo instante
+ * de criação.
+ *
+ * <p>
+ * Substitui {@code @GeneratedValue(strategy = GenerationType.UUID)}, que gera
+ * UUIDs versão 4 (aleatórios). Com chaves crescentes, as inserções ocupam
+ * sempre as últimas páginas do índice da chave primária, em vez de espalhar
+ * escritas e divisões de página por toda a árvore.
+ * </p>
+ *
+ * <p>
+ * O ID expõe o instante de criação (milissegundos nos 48 bits iniciais) e,
+ * pelo contador, a ordem entre IDs do mesmo milissegundo a quem o recebe, por
+ * exemplo em URLs e respostas da API. Os 62 bits aleatórios ainda tornam
+ * inviável adivinhar um ID, mas a autorização nunca deve depender de o ID ser
+ * desconhecido.
+ * </p>
+ *
+ * <p>
+ * IDs versão 4 já gravados continuam válidos: a coluna segue do tipo UUID e
+ * nenhuma regra depende da versão.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface UuidV7 {
+}
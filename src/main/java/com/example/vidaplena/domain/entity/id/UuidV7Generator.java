@@ -0,0 +1,80 @@
+package com.example.vidaplena.domain.entity.id;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * Gerador de UUIDs versão 7 usado por {@link UuidV7}.
+ *
+ * <p>
+ * <b>Layout (RFC 9562):</b>
+ * </p>
+ * <ul>
+ * <li>48 bits: instante Unix em milissegundos</li>
+ * <li>4 bits: versão (7)</li>
+ * <li>12 bits: contador dentro do milissegundo (método 1 da RFC)</li>
+ * <li>2 bits: variante (10)</li>
+ * <li>62 bits: aleatórios</li>
+ * </ul>
+ *
+ * <p>
+ * Os 60 bits de instante e contador avançam atomicamente: IDs gerados na mesma
+ * JVM são estritamente crescentes, mesmo com vários por milissegundo ou se o
+ * relógio retroceder. Se o contador estourar, o instante avança 1 ms.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public class UuidV7Generator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_TICK = new AtomicLong();
+
+    private static final int COUNTER_BITS = 12;
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000_0000_0000_0000L;
+    private static final long RANDOM_MASK = 0x3FFF_FFFF_FFFF_FFFFL;
+
+    /**
+     * Gera um novo UUID versão 7.
+     *
+     * @return UUID ordenado pelo instante de criação
+     */
+    public static UUID next() {
+        long tick = nextTick(System.currentTimeMillis());
+        long timestamp = tick >>> COUNTER_BITS;
+        long counter = tick & ((1L << COUNTER_BITS) - 1);
+
+        long mostSignificant = (timestamp << 16) | VERSION | counter;
+        long leastSignificant = VARIANT | (RANDOM.nextLong() & RANDOM_MASK);
+        return new UUID(mostSignificant, leastSignificant);
+    }
+
+    /**
+     * Próximo valor de (instante, contador), maior que o último emitido.
+     */
+    private static long nextTick(long nowMillis) {
+        long candidate = nowMillis << COUNTER_BITS;
+        return LAST_TICK.updateAndGet(last -> Math.max(candidate, last + 1));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+}
@@ -51,15 +51,15 @@ public class GlobalExceptionHandler {
         }
 
         /**
-         * Trata exceções de regras de negócio.
+         * Trata exceções de regras de negócio e de requisições inválidas.
          * 
          * @param ex      Exception lançada
          * @param request Requisição HTTP
          * @return ResponseEntity com erro 400
          */
-        @ExceptionHandler(BusinessException.class)
+        @ExceptionHandler({ BusinessException.class, BadRequestException.class })
         public ResponseEntity<ErrorResponse> handleBusinessException(
-                        BusinessException ex,
+                        RuntimeException ex,
                         HttpServletRequest request) {
 
                 ErrorResponse error = ErrorResponse.builder()
@@ -1,11 +1,28 @@
 package com.example.vidaplena.kafka;
 
 import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import com.example.vidaplena.domain.entity.ProcessedEvent;
+import com.example.vidaplena.kafka.dedup.EventDeduplicator;
+import com.example.vidaplena.kafka.retry.RetryTopology;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
 /**
  * Consumidor Kafka para eventos de atendimento.
  * 
@@ -19,28 +36,205 @@ import org.springframework.stereotype.Component;
  * <li>Integração com sistemas externos</li>
  * </ul>
  * 
+ * <p>
+ * Os eventos chegam em lotes (até {@code spring.kafka.consumer.max-poll-records})
+ * e o offset é confirmado manualmente ao fim de cada lote. A concorrência é
+ * configurável por tópico em {@code kafka.consumer.concurrency.<tópico>}. Se
+ * um evento falhar, os anteriores do lote são confirmados, o evento é
+ * encaminhado para o tópico de retentativa (ou DLT) de {@link RetryTopology}
+ * e o consumo continua a partir do seguinte, sem retentativas no lugar.
+ * </p>
+ * 
+ * <p>
+ * Os tópicos de retentativa são consumidos por
+ * {@link #consumeRetries(List, Acknowledgment, Duration)}, com os mesmos
+ * handlers, depois do atraso do nível. Os containers deles também repassam a
+ * atribuição de partições a {@link #onPartitionsAssigned}.
+ * </p>
+ * 
+ * <p>
+ * Com o {@link EventDeduplicator} ativo, eventos com {@code eventId} já
+ * processado (reentregas após rebalanceamento, reenvios do outbox) são
+ * confirmados sem repetir os efeitos dos handlers.
+ * </p>
+ * 
  * @author VIDA PLENA Team
  * @since 1.0
  */
 @Component
 @Slf4j
 @ConditionalOnProperty(name = "kafka.enabled", havingValue = "true", matchIfMissing = false)
-public class AppointmentEventConsumer {
+public class AppointmentEventConsumer implements ConsumerSeekAware {
+
+    /**
+     * Handler de cada tópico principal.
+     */
+    private final Map<String, Consumer<AppointmentEvent>> handlers = Map.of(
+            AppointmentEventProducer.TOPIC_CREATED, this::handleCreatedEvent,
+            AppointmentEventProducer.TOPIC_UPDATED, this::handleUpdatedEvent,
+            AppointmentEventProducer.TOPIC_DELETED, this::handleDeletedEvent);
+
+    @Autowired(required = false)
+    private EventDeduplicator deduplicator;
+
+    /**
+     * Carrega na deduplicação os eventos já processados nas partições
+     * recebidas, inclusive por outra instância antes do rebalanceamento.
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        if (deduplicator == null || assignments.isEmpty()) {
+            return;
+        }
+        try {
+            deduplicator.warmUp(assignments.keySet());
+        } catch (DataAccessException e) {
+            log.warn("Falha ao carregar eventos processados de {}: {}", assignments.keySet(), e.getMessage());
+        }
+    }
+
+    /**
+     * Consome lotes de eventos de criação de atendimento.
+     * 
+     * @param records        Eventos recebidos no poll
+     * @param acknowledgment Confirmação do lote
+     */
+    @KafkaListener(topics = AppointmentEventProducer.TOPIC_CREATED, groupId = "vidaplena-group",
+            containerFactory = "appointmentBatchListenerContainerFactory",
+            concurrency = "${kafka.consumer.concurrency.appointment-created:${kafka.consumer.concurrency.default:1}}")
+    public void consumeCreatedEvents(List<ConsumerRecord<String, AppointmentEvent>> records,
+            Acknowledgment acknowledgment) {
+        processBatch(records, handlers.get(AppointmentEventProducer.TOPIC_CREATED));
+        acknowledgment.acknowledge();
+        log.info("Lote de eventos de criação processado: {} eventos", records.size());
+    }
+
+    /**
+     * Consome lotes de eventos de atualização de atendimento.
+     * 
+     * @param records        Eventos recebidos no poll
+     * @param acknowledgment Confirmação do lote
+     */
+    @KafkaListener(topics = AppointmentEventProducer.TOPIC_UPDATED, groupId = "vidaplena-group",
+            containerFactory = "appointmentBatchListenerContainerFactory",
+            concurrency = "${kafka.consumer.concurrency.appointment-updated:${kafka.consumer.concurrency.default:1}}")
+    public void consumeUpdatedEvents(List<ConsumerRecord<String, AppointmentEvent>> records,
+            Acknowledgment acknowledgment) {
+        processBatch(records, handlers.get(AppointmentEventProducer.TOPIC_UPDATED));
+        acknowledgment.acknowledge();
+        log.info("Lote de eventos de atualização processado: {} eventos", records.size());
+    }
+
+    /**
+     * Consome lotes de eventos de remoção de atendimento.
+     * 
+     * @param records        Eventos recebidos no poll
+     * @param acknowledgment Confirmação do lote
+     */
+    @KafkaListener(topics = AppointmentEventProducer.TOPIC_DELETED, groupId = "vidaplena-group",
+            containerFactory = "appointmentBatchListenerContainerFactory",
+            concurrency = "${kafka.consumer.concurrency.appointment-deleted:${kafka.consumer.concurrency.default:1}}")
+    public void consumeDeletedEvents(List<ConsumerRecord<String, AppointmentEvent>> records,
+            Acknowledgment acknowledgment) {
+        processBatch(records, handlers.get(AppointmentEventProducer.TOPIC_DELETED));
+        acknowledgment.acknowledge();
+        log.info("Lote de eventos de remoção processado: {} eventos", records.size());
+    }
 
     /**
-     * Consome eventos de criação de atendimento.
+     * Consome um lote de um nível de retentativa.
      * 
-     * @param event Evento recebido
+     * <p>
+     * Os eventos de um nível chegam na ordem em que falharam e têm o mesmo
+     * atraso; ao encontrar o primeiro que ainda não venceu, confirma os
+     * anteriores e pede ao container que o entregue de novo quando vencer
+     * (o consumidor fica pausado enquanto isso, sem sair do grupo).
+     * </p>
+     * 
+     * @param records        Eventos dos tópicos de retentativa do nível
+     * @param acknowledgment Confirmação do lote
+     * @param delay          Atraso do nível, contado do encaminhamento
+     */
+    public void consumeRetries(List<ConsumerRecord<String, AppointmentEvent>> records,
+            Acknowledgment acknowledgment, Duration delay) {
+        List<ProcessedEvent> processed = new ArrayList<>();
+        try {
+            for (int i = 0; i < records.size(); i++) {
+                ConsumerRecord<String, AppointmentEvent> record = records.get(i);
+                long wait = record.timestamp() + delay.toMillis() - System.currentTimeMillis();
+                if (wait > 0) {
+                    acknowledgment.nack(i, Duration.ofMillis(wait));
+                    return;
+                }
+                process(record, i, handlers.get(RetryTopology.baseTopic(record.topic())), processed);
+            }
+        } finally {
+            persist(processed);
+        }
+        acknowledgment.acknowledge();
+        log.info("Lote de retentativas processado: {} eventos", records.size());
+    }
+
+    /**
+     * Processa os eventos em ordem e registra os processados na deduplicação,
+     * inclusive quando um deles falha (os anteriores serão confirmados).
+     */
+    private void processBatch(List<ConsumerRecord<String, AppointmentEvent>> records,
+            Consumer<AppointmentEvent> handler) {
+        List<ProcessedEvent> processed = new ArrayList<>(records.size());
+        try {
+            for (int i = 0; i < records.size(); i++) {
+                process(records.get(i), i, handler, processed);
+            }
+        } finally {
+            persist(processed);
+        }
+    }
+
+    /**
+     * Processa um evento do lote, ignorando-o se já tiver sido processado.
+     * Uma falha informa ao container o índice do evento, para que os
+     * anteriores sejam confirmados e ele seja encaminhado ao próximo tópico da
+     * {@link RetryTopology}. Eventos ilegíveis chegam sem valor e seguem
+     * direto para o DLT.
      */
-    @KafkaListener(topics = "appointment-created", groupId = "vidaplena-group")
-    public void consumeCreatedEvent(AppointmentEvent event) {
-        log.info("=== EVENTO RECEBIDO: ATENDIMENTO CRIADO ===");
-        log.info("ID: {}", event.getAppointmentId());
-        log.info("Paciente: {}", event.getPatient());
-        log.info("Médico: {}", event.getDoctorName());
-        log.info("Especialidade: {}", event.getSpecialtyName());
-        log.info("Data Agendada: {}", event.getScheduledDate());
-        log.info("Realizado por: {}", event.getPerformedBy());
+    private void process(ConsumerRecord<String, AppointmentEvent> record, int index,
+            Consumer<AppointmentEvent> handler, List<ProcessedEvent> processed) {
+        try {
+            if (record.value() == null || handler == null) {
+                throw new IllegalArgumentException("Evento ilegível ou sem handler em " + record.topic());
+            }
+            UUID eventId = record.value().getEventId();
+            if (deduplicator != null && deduplicator.isDuplicate(eventId)) {
+                log.debug("Evento {} já processado, ignorado em {}", eventId, record.topic());
+                return;
+            }
+            handler.accept(record.value());
+            if (deduplicator != null) {
+                ProcessedEvent event = deduplicator.processed(record.topic(), record.partition(), eventId);
+                if (event != null) {
+                    processed.add(event);
+                }
+            }
+        } catch (Exception e) {
+            throw new BatchListenerFailedException("Erro ao processar evento de atendimento", e, index);
+        }
+    }
+
+    private void persist(List<ProcessedEvent> processed) {
+        if (deduplicator != null && !processed.isEmpty()) {
+            deduplicator.persist(processed);
+        }
+    }
+
+    private void handleCreatedEvent(AppointmentEvent event) {
+        log.debug("=== EVENTO RECEBIDO: ATENDIMENTO CRIADO ===");
+        log.debug("ID: {}", event.getAppointmentId());
+        log.debug("Paciente: {}", event.getPatient());
+        log.debug("Médico: {}", event.getDoctorName());
+        log.debug("Especialidade: {}", event.getSpecialtyName());
+        log.debug("Data Agendada: {}", event.getScheduledDate());
+        log.debug("Realizado por: {}", event.getPerformedBy());
 
         // Aqui você pode adicionar lógica para:
         // - Enviar email/SMS de confirmação para o paciente
@@ -49,18 +243,12 @@ public class AppointmentEventConsumer {
         // - Atualizar dashboard de métricas
     }
 
-    /**
-     * Consome eventos de atualização de atendimento.
-     * 
-     * @param event Evento recebido
-     */
-    @KafkaListener(topics = "appointment-updated", groupId = "vidaplena-group")
-    public void consumeUpdatedEvent(AppointmentEvent event) {
-        log.info("=== EVENTO RECEBIDO: ATENDIMENTO ATUALIZADO ===");
-        log.info("ID: {}", event.getAppointmentId());
-        log.info("Paciente: {}", event.getPatient());
-        log.info("Novo Status: {}", event.getStatus());
-        log.info("Realizado por: {}", event.getPerformedBy());
+    private void handleUpdatedEvent(AppointmentEvent event) {
+        log.debug("=== EVENTO RECEBIDO: ATENDIMENTO ATUALIZADO ===");
+        log.debug("ID: {}", event.getAppointmentId());
+        log.debug("Paciente: {}", event.getPatient());
+        log.debug("Novo Status: {}", event.getStatus());
+        log.debug("Realizado por: {}", event.getPerformedBy());
 
         // Aqui você pode adicionar lógica para:
         // - Notificar paciente sobre mudança de status
@@ -68,17 +256,11 @@ public class AppointmentEventConsumer {
         // - Registrar histórico de mudanças
     }
 
-    /**
-     * Consome eventos de remoção de atendimento.
-     * 
-     * @param event Evento recebido
-     */
-    @KafkaListener(topics = "appointment-deleted", groupId = "vidaplena-group")
-    public void consumeDeletedEvent(AppointmentEvent event) {
-        log.info("=== EVENTO RECEBIDO: ATENDIMENTO REMOVIDO ===");
-        log.info("ID: {}", event.getAppointmentId());
-        log.info("Paciente: {}", event.getPatient());
-        log.info("Realizado por: {}", event.getPerformedBy());
+    private void handleDeletedEvent(AppointmentEvent event) {
+        log.debug("=== EVENTO RECEBIDO: ATENDIMENTO REMOVIDO ===");
+        log.debug("ID: {}", event.getAppointmentId());
+        log.debug("Paciente: {}", event.getPatient());
+        log.debug("Realizado por: {}", event.getPerformedBy());
 
         // Aqui você pode adicionar lógica para:
         // - Notificar paciente sobre cancelamento
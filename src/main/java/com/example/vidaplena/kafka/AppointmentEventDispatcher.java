@@ -0,0 +1,95 @@
+package com.example.vidaplena.kafka;
+
+import com.example.vidaplena.domain.dto.event.AppointmentChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Encaminha os eventos internos de atendimento ao Kafka conforme a fase da
+ * transação.
+ *
+ * <p>
+ * Com o outbox, as mensagens são gravadas imediatamente antes do commit, ainda
+ * na transação de quem alterou o atendimento. Sem o outbox, são entregues
+ * depois do commit a um executor próprio, e a requisição responde sem esperar
+ * pelo produtor Kafka (metadados do tópico, buffer cheio); um rollback
+ * descarta o evento nos dois modos.
+ * </p>
+ *
+ * <p>
+ * O executor tem fila limitada ({@code kafka.publisher.queue-capacity}).
+ * Quando ela enche, a thread que fez o commit publica o evento ela mesma: a
+ * sobrecarga vira latência nas requisições em vez de memória sem limite. A
+ * fila aparece em {@code executor.queued} e {@code executor.queue.remaining}
+ * ({@code name=appointment-events}) e cada publicação feita pela própria
+ * requisição em {@value PublishExecutor#SATURATED_COUNTER}.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+@ConditionalOnProperty(name = "kafka.enabled", havingValue = "true", matchIfMissing = false)
+public class AppointmentEventDispatcher {
+
+    private static final String EXECUTOR_NAME = "appointment-events";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final AppointmentEventProducer producer;
+    private final boolean outboxEnabled;
+    private final PublishExecutor executor;
+
+    public AppointmentEventDispatcher(AppointmentEventProducer producer, MeterRegistry meterRegistry,
+            @Value("${kafka.outbox.enabled:true}") boolean outboxEnabled,
+            @Value("${kafka.publisher.threads:2}") int threads,
+            @Value("${kafka.publisher.queue-capacity:10000}") int queueCapacity) {
+        this.producer = producer;
+        this.outboxEnabled = outboxEnabled;
+        this.executor = outboxEnabled ? null
+                : new PublishExecutor(EXECUTOR_NAME, threads, queueCapacity, meterRegistry);
+    }
+
+    /**
+     * Grava as mensagens no outbox, antes do commit.
+     *
+     * <p>
+     * Sem transação ativa, a gravação falha ({@code Propagation.MANDATORY}) em
+     * vez de descartar o evento em silêncio.
+     * </p>
+     *
+     * @param event Atendimentos alterados
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void writeToOutbox(AppointmentChangedEvent event) {
+        if (outboxEnabled) {
+            producer.enqueue(event.getEvents());
+        }
+    }
+
+    /**
+     * Entrega as mensagens ao executor de publicação, depois do commit.
+     *
+     * @param event Atendimentos alterados
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void publishAfterCommit(AppointmentChangedEvent event) {
+        if (!outboxEnabled) {
+            executor.execute(() -> producer.send(event.getEvents()));
+        }
+    }
+
+    /**
+     * Aguarda a publicação dos eventos já enfileirados antes de encerrar.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (executor != null) {
+            executor.shutdown(SHUTDOWN_TIMEOUT_SECONDS);
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.vidaplena.kafka;
 
 import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import com.example.vidaplena.kafka.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -8,14 +9,26 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Produtor Kafka para eventos de atendimento.
  * 
  * <p>
  * Publica eventos em tópicos Kafka quando atendimentos são criados, atualizados
- * ou removidos.
+ * ou removidos. Os services não chamam este produtor: publicam um
+ * {@link com.example.vidaplena.domain.dto.event.AppointmentChangedEvent}
+ * interno, encaminhado pelo {@link AppointmentEventDispatcher}.
+ * </p>
+ * 
+ * <p>
+ * Com {@code kafka.outbox.enabled} (padrão), o evento é gravado no outbox
+ * ({@link #enqueue}) na transação de quem alterou o atendimento e publicado
+ * depois do commit pelo {@link com.example.vidaplena.kafka.outbox.OutboxRelay};
+ * um rollback descarta o evento. Sem o outbox, o envio ({@link #send}) é
+ * direto, depois do commit e sem garantia de entrega.
  * </p>
  * 
  * @author VIDA PLENA Team
@@ -27,61 +40,115 @@ import java.util.concurrent.CompletableFuture;
 @ConditionalOnProperty(name = "kafka.enabled", havingValue = "true", matchIfMissing = false)
 public class AppointmentEventProducer {
 
-    private final KafkaTemplate<String, AppointmentEvent> kafkaTemplate;
+    /**
+     * Tópico de atendimentos criados.
+     */
+    public static final String TOPIC_CREATED = "appointment-created";
 
-    private static final String TOPIC_CREATED = "appointment-created";
-    private static final String TOPIC_UPDATED = "appointment-updated";
-    private static final String TOPIC_DELETED = "appointment-deleted";
+    /**
+     * Tópico de atendimentos atualizados.
+     */
+    public static final String TOPIC_UPDATED = "appointment-updated";
 
     /**
-     * Publica evento de criação de atendimento.
-     * 
-     * @param event Dados do evento
+     * Tópico de atendimentos removidos.
      */
-    public void publishCreatedEvent(AppointmentEvent event) {
-        publishEvent(TOPIC_CREATED, event);
-    }
+    public static final String TOPIC_DELETED = "appointment-deleted";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final OutboxWriter outboxWriter;
+    private final KafkaPublishMetrics publishMetrics;
 
     /**
-     * Publica evento de atualização de atendimento.
+     * Tópico de destino de um tipo de evento.
      * 
-     * @param event Dados do evento
+     * @param eventType Tipo do evento
+     * @return Nome do tópico
      */
-    public void publishUpdatedEvent(AppointmentEvent event) {
-        publishEvent(TOPIC_UPDATED, event);
+    public static String topicFor(AppointmentEvent.EventType eventType) {
+        return switch (eventType) {
+            case CREATED -> TOPIC_CREATED;
+            case UPDATED, STATUS_CHANGED -> TOPIC_UPDATED;
+            case DELETED -> TOPIC_DELETED;
+        };
     }
 
     /**
-     * Publica evento de remoção de atendimento.
+     * Grava os eventos no outbox, na transação de quem chama.
      * 
-     * @param event Dados do evento
+     * <p>
+     * Falhas de gravação propagam e desfazem a transação.
+     * </p>
+     * 
+     * @param events Dados dos eventos
      */
-    public void publishDeletedEvent(AppointmentEvent event) {
-        publishEvent(TOPIC_DELETED, event);
+    public void enqueue(List<AppointmentEvent> events) {
+        for (AppointmentEvent event : events) {
+            outboxWriter.enqueue(topicFor(event.getEventType()), event.getAppointmentId().toString(), event);
+        }
     }
 
     /**
-     * Publica um evento em um tópico Kafka.
+     * Envia os eventos diretamente ao broker, sem esperar confirmação.
+     * 
+     * <p>
+     * Vários eventos são agrupados pelo produtor em lotes (ver
+     * {@code linger.ms}) e suas falhas resumidas em uma única linha de log.
+     * Falhas são apenas registradas.
+     * </p>
      * 
-     * @param topic Tópico de destino
-     * @param event Dados do evento
+     * @param events Dados dos eventos
      */
-    private void publishEvent(String topic, AppointmentEvent event) {
-        try {
-            CompletableFuture<SendResult<String, AppointmentEvent>> future = kafkaTemplate.send(topic,
-                    event.getAppointmentId().toString(), event);
+    public void send(List<AppointmentEvent> events) {
+        if (events.size() == 1) {
+            send(events.get(0));
+            return;
+        }
 
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    log.info("Evento publicado com sucesso: topic={}, appointmentId={}, eventType={}",
-                            topic, event.getAppointmentId(), event.getEventType());
+        AtomicInteger pending = new AtomicInteger(events.size());
+        AtomicInteger failed = new AtomicInteger();
+        for (AppointmentEvent event : events) {
+            sendAsync(event).whenComplete((result, ex) -> {
+                if (ex != null) {
+                    failed.incrementAndGet();
+                    log.debug("Erro ao publicar evento: appointmentId={}", event.getAppointmentId(), ex);
+                }
+                if (pending.decrementAndGet() > 0) {
+                    return;
+                }
+                if (failed.get() > 0) {
+                    log.error("Erro ao publicar lote: eventos={}, falhas={}", events.size(), failed.get());
                 } else {
-                    log.error("Erro ao publicar evento: topic={}, appointmentId={}, error={}",
-                            topic, event.getAppointmentId(), ex.getMessage(), ex);
+                    log.info("Lote publicado: eventos={}", events.size());
                 }
             });
+        }
+    }
+
+    private void send(AppointmentEvent event) {
+        String topic = topicFor(event.getEventType());
+        sendAsync(event).whenComplete((result, ex) -> {
+            if (ex == null) {
+                log.info("Evento publicado com sucesso: topic={}, appointmentId={}, eventType={}",
+                        topic, event.getAppointmentId(), event.getEventType());
+            } else {
+                log.error("Erro ao publicar evento: topic={}, appointmentId={}, error={}",
+                        topic, event.getAppointmentId(), ex.getMessage(), ex);
+            }
+        });
+    }
+
+    /**
+     * Envia um evento, convertendo erros síncronos do produtor (por exemplo,
+     * serialização ou buffer cheio) em um future com falha.
+     */
+    private CompletableFuture<SendResult<String, Object>> sendAsync(AppointmentEvent event) {
+        String topic = topicFor(event.getEventType());
+        try {
+            return publishMetrics.record("appointment", topic,
+                    () -> kafkaTemplate.send(topic, event.getAppointmentId().toString(), event));
         } catch (Exception e) {
-            log.error("Erro inesperado ao publicar evento: topic={}, error={}", topic, e.getMessage(), e);
+            return CompletableFuture.failedFuture(e);
         }
     }
 }
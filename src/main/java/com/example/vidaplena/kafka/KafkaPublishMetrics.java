@@ -0,0 +1,91 @@
+package com.example.vidaplena.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * Métricas de publicação no Kafka, compartilhadas pelos produtores.
+ *
+ * <p>
+ * Registra, por produtor e tópico:
+ * </p>
+ * <ul>
+ * <li>{@value #PUBLISH_TIMER}: tempo entre o envio e a confirmação do broker,
+ * com {@code outcome} = success ou failure;</li>
+ * <li>{@value #FAILURE_COUNTER}: falhas de envio, por tipo de exceção.</li>
+ * </ul>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+@RequiredArgsConstructor
+public class KafkaPublishMetrics {
+
+    /**
+     * Timer de latência de publicação.
+     */
+    public static final String PUBLISH_TIMER = "vidaplena.kafka.publish";
+
+    /**
+     * Contador de falhas de publicação.
+     */
+    public static final String FAILURE_COUNTER = "vidaplena.kafka.publish.failures";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Mede um envio, da chamada até a conclusão do future.
+     *
+     * <p>
+     * Exceções lançadas pelo próprio envio (por exemplo, de serialização) são
+     * contadas como falha e propagadas sem alteração.
+     * </p>
+     *
+     * @param producer Nome do produtor (tag {@code producer})
+     * @param topic    Tópico de destino
+     * @param send     Envio a executar
+     * @param <T>      Tipo do resultado
+     * @return Future do envio, concluído após o registro da métrica
+     */
+    public <T> CompletableFuture<T> record(String producer, String topic, Supplier<CompletableFuture<T>> send) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> future;
+        try {
+            future = send.get();
+        } catch (RuntimeException e) {
+            stop(sample, producer, topic, e);
+            throw e;
+        }
+        return future.whenComplete((result, ex) -> stop(sample, producer, topic, ex));
+    }
+
+    private void stop(Timer.Sample sample, String producer, String topic, Throwable failure) {
+        sample.stop(Timer.builder(PUBLISH_TIMER)
+                .description("Latência de publicação no Kafka até a confirmação do broker")
+                .tag("producer", producer)
+                .tag("topic", topic)
+                .tag("outcome", failure == null ? "success" : "failure")
+                .register(meterRegistry));
+
+        if (failure != null) {
+            Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                    ? failure.getCause()
+                    : failure;
+            Counter.builder(FAILURE_COUNTER)
+                    .description("Falhas de publicação no Kafka")
+                    .tag("producer", producer)
+                    .tag("topic", topic)
+                    .tag("exception", cause.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.vidaplena.kafka;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executor de publicação pós-commit com fila limitada, compartilhado pelos
+ * despachantes de eventos.
+ *
+ * <p>
+ * Threads de plataforma nomeadas {@code <name>-N}. Com a fila cheia, a thread
+ * que submeteu a tarefa a executa ela mesma e incrementa
+ * {@value #SATURATED_COUNTER} ({@code name=<name>}); a fila aparece em
+ * {@code executor.queued} e {@code executor.queue.remaining}.
+ * </p>
+ *
+ * <p>
+ * Não é registrado como bean: um {@code Executor} no contexto desativaria o
+ * {@code applicationTaskExecutor} do Spring Boot.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Slf4j
+public final class PublishExecutor {
+
+    /**
+     * Contador de tarefas executadas por quem as submeteu (fila cheia).
+     */
+    public static final String SATURATED_COUNTER = "vidaplena.kafka.dispatch.saturated";
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * @param name          Nome das threads e da tag {@code name} das métricas
+     * @param threads       Threads de publicação
+     * @param queueCapacity Tarefas aguardando antes de a fila encher
+     * @param meterRegistry Registro das métricas
+     */
+    public PublishExecutor(String name, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+        this.name = name;
+        Counter saturated = Counter.builder(SATURATED_COUNTER)
+                .description("Tarefas de publicação executadas por quem as submeteu por falta de espaço na fila")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name(name + "-", 0).factory(),
+                (task, pool) -> {
+                    if (!pool.isShutdown()) {
+                        saturated.increment();
+                        task.run();
+                    }
+                });
+        new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(meterRegistry);
+    }
+
+    /**
+     * Enfileira a tarefa; com a fila cheia, executa na thread atual.
+     *
+     * @param task Publicação a executar
+     */
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    /**
+     * Recusa novas tarefas e aguarda as já enfileiradas.
+     *
+     * @param timeoutSeconds Espera máxima
+     */
+    public void shutdown(long timeoutSeconds) throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+            log.warn("Publicações descartadas no encerramento ({}): {}", name, executor.shutdownNow().size());
+        }
+    }
+}
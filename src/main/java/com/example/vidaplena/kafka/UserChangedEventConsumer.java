@@ -0,0 +1,43 @@
+package com.example.vidaplena.kafka;
+
+import com.example.vidaplena.domain.dto.event.UserChangedEvent;
+import com.example.vidaplena.security.UserCacheInvalidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Consumidor Kafka dos avisos de alteração de usuário.
+ * 
+ * <p>
+ * O grupo de consumo é único por instância (sufixo aleatório), de modo que
+ * todas as instâncias recebem todos os avisos (broadcast). Avisos originados
+ * na própria instância apenas repetem uma invalidação já feita.
+ * </p>
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "kafka.enabled", havingValue = "true", matchIfMissing = false)
+public class UserChangedEventConsumer {
+
+    private final UserCacheInvalidator userCacheInvalidator;
+
+    /**
+     * Invalida os caches locais do usuário alterado.
+     * 
+     * @param event Usuário alterado
+     */
+    @KafkaListener(topics = UserChangedEventProducer.TOPIC_USER_CHANGED,
+            groupId = "vidaplena-user-cache-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = "userChangedListenerContainerFactory")
+    public void consumeUserChangedEvent(UserChangedEvent event) {
+        log.debug("Alteração de usuário recebida: userId={}", event.getUserId());
+        userCacheInvalidator.invalidate(event);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.vidaplena.kafka;
+
+import com.example.vidaplena.domain.dto.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Produtor Kafka dos avisos de alteração de usuário.
+ * 
+ * <p>
+ * Repassa cada {@link UserChangedEvent} local, após o commit, para as demais
+ * instâncias da aplicação invalidarem seus caches de autenticação.
+ * </p>
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "kafka.enabled", havingValue = "true", matchIfMissing = false)
+public class UserChangedEventProducer {
+
+    /**
+     * Tópico de avisos de alteração de usuário.
+     */
+    public static final String TOPIC_USER_CHANGED = "user-changed";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    /**
+     * Publica o aviso de alteração após o commit.
+     * 
+     * @param event Usuário alterado
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        try {
+            kafkaTemplate.send(TOPIC_USER_CHANGED, String.valueOf(event.getUserId()), event)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.error("Erro ao publicar alteração de usuário: userId={}, error={}",
+                                    event.getUserId(), ex.getMessage(), ex);
+                        }
+                    });
+        } catch (Exception e) {
+            // Outras instâncias ainda expiram as entradas pelo TTL
+            log.error("Erro inesperado ao publicar alteração de usuário: userId={}, error={}",
+                    event.getUserId(), e.getMessage(), e);
+        }
+    }
+}
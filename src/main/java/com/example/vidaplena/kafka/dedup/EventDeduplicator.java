@@ -0,0 +1,210 @@
+package com.example.vidaplena.kafka.dedup;
+
+import com.example.vidaplena.domain.entity.ProcessedEvent;
+import com.example.vidaplena.kafka.retry.RetryTopology;
+import com.example.vidaplena.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Deduplicação de eventos consumidos pelo {@code eventId}.
+ *
+ * <p>
+ * Um {@link RotatingBloomFilter} em memória responde a quase todas as
+ * consultas: se o ID certamente não foi visto, o evento é novo, sem acesso
+ * ao banco. Só quando o filtro indica possível repetição (duplicata real ou
+ * falso positivo) a tabela {@code processed_events} é consultada. Os IDs
+ * processados são gravados nela em lote, uma vez por lote do listener.
+ * </p>
+ *
+ * <p>
+ * Depois de um rebalanceamento, a instância que recebe uma partição carrega
+ * no filtro os IDs processados nela durante a janela, inclusive por outra
+ * instância; assim as reentregas do rebalanceamento também são descartadas.
+ * A garantia vale para a janela ({@code (gerações - 1) * rotação}); a tabela
+ * guarda o mesmo período.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+@Slf4j
+@ConditionalOnExpression("${kafka.enabled:false} and ${kafka.dedup.enabled:true}")
+public class EventDeduplicator {
+
+    /**
+     * Contador das verificações ({@code result} = {@code new},
+     * {@code duplicate} ou {@code false_positive}).
+     */
+    public static final String CHECKS_COUNTER = "vidaplena.kafka.consumer.dedup";
+
+    private final ProcessedEventRepository processedEventRepository;
+    private final RotatingBloomFilter filter;
+    private final Duration window;
+    private final Set<UUID> pending = ConcurrentHashMap.newKeySet();
+    private final Counter fresh;
+    private final Counter duplicates;
+    private final Counter falsePositives;
+
+    public EventDeduplicator(ProcessedEventRepository processedEventRepository,
+            MeterRegistry meterRegistry,
+            @Value("${kafka.dedup.generations:4}") int generations,
+            @Value("${kafka.dedup.rotation-interval:PT20M}") Duration rotationInterval,
+            @Value("${kafka.dedup.expected-events:1000000}") long expectedEvents,
+            @Value("${kafka.dedup.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.processedEventRepository = processedEventRepository;
+        this.filter = new RotatingBloomFilter(generations, expectedEvents, falsePositiveRate);
+        this.window = rotationInterval.multipliedBy(generations - 1L);
+        this.fresh = counter(meterRegistry, "new");
+        this.duplicates = counter(meterRegistry, "duplicate");
+        this.falsePositives = counter(meterRegistry, "false_positive");
+        Gauge.builder("vidaplena.kafka.consumer.dedup.filter.bytes", filter, RotatingBloomFilter::sizeInBytes)
+                .description("Memória do filtro de Bloom de deduplicação")
+                .register(meterRegistry);
+        log.info("Deduplicação de eventos: janela de {}, filtro de {} KiB", window, filter.sizeInBytes() / 1024);
+    }
+
+    /**
+     * @param eventId ID do evento ({@code null} = evento sem ID, nunca
+     *                duplicado)
+     * @return Se o evento já foi processado
+     */
+    public boolean isDuplicate(UUID eventId) {
+        if (eventId == null) {
+            return false;
+        }
+        if (!filter.mightContain(eventId)) {
+            fresh.increment();
+            return false;
+        }
+        if (pending.contains(eventId) || processedEventRepository.existsById(eventId)) {
+            duplicates.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    /**
+     * Registra um evento processado no filtro; a gravação na tabela fica para
+     * {@link #persist(Collection)}, ao fim do lote.
+     *
+     * @param topic     Tópico em que o evento foi lido
+     * @param partition Partição em que o evento foi lido
+     * @param eventId   ID do evento
+     * @return Registro a gravar, ou {@code null} para evento sem ID
+     */
+    public ProcessedEvent processed(String topic, int partition, UUID eventId) {
+        if (eventId == null) {
+            return null;
+        }
+        filter.put(eventId);
+        pending.add(eventId);
+        return ProcessedEvent.builder()
+                .eventId(eventId)
+                .topic(RetryTopology.baseTopic(topic))
+                .partitionNo(partition)
+                .processedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Grava em lote os eventos processados. Uma falha não interrompe o
+     * consumo: os IDs continuam no filtro desta instância.
+     *
+     * @param events Registros devolvidos por
+     *               {@link #processed(String, int, UUID)}
+     */
+    public void persist(Collection<ProcessedEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            processedEventRepository.saveAll(events);
+        } catch (DataAccessException e) {
+            saveMissing(events);
+        } finally {
+            events.forEach(event -> pending.remove(event.getEventId()));
+        }
+    }
+
+    /**
+     * Carrega no filtro os IDs processados na janela nas partições recebidas.
+     *
+     * @param partitions Partições atribuídas (tópicos principais ou de
+     *                   retentativa)
+     */
+    public void warmUp(Collection<TopicPartition> partitions) {
+        Map<String, Set<Integer>> byTopic = partitions.stream().collect(Collectors.groupingBy(
+                partition -> RetryTopology.baseTopic(partition.topic()),
+                Collectors.mapping(TopicPartition::partition, Collectors.toSet())));
+        LocalDateTime since = LocalDateTime.now().minus(window);
+        byTopic.forEach((topic, numbers) -> {
+            List<UUID> ids = processedEventRepository.findRecentIds(topic, numbers, since);
+            ids.forEach(filter::put);
+            log.debug("Deduplicação: {} IDs carregados de {} {}", ids.size(), topic, numbers);
+        });
+    }
+
+    /**
+     * Abre uma nova geração do filtro e remove da tabela o que saiu da
+     * janela.
+     */
+    @Scheduled(fixedRateString = "${kafka.dedup.rotation-interval:PT20M}",
+            initialDelayString = "${kafka.dedup.rotation-interval:PT20M}")
+    public void rotate() {
+        filter.rotate();
+        try {
+            int removed = processedEventRepository.deleteProcessedBefore(LocalDateTime.now().minus(window));
+            log.debug("Deduplicação: geração rotacionada, {} registros expirados removidos", removed);
+        } catch (DataAccessException e) {
+            log.warn("Falha ao remover eventos processados expirados: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Repete a gravação sem os IDs já registrados (ex: processados em paralelo
+     * por outra instância).
+     */
+    private void saveMissing(Collection<ProcessedEvent> events) {
+        try {
+            Set<UUID> existing = new HashSet<>(processedEventRepository.findExistingIds(
+                    events.stream().map(ProcessedEvent::getEventId).toList()));
+            List<ProcessedEvent> missing = events.stream()
+                    .filter(event -> !existing.contains(event.getEventId()))
+                    .toList();
+            if (!missing.isEmpty()) {
+                processedEventRepository.saveAll(missing);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Falha ao registrar {} eventos processados: {}", events.size(), e.getMessage());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(CHECKS_COUNTER)
+                .description("Verificações de deduplicação de eventos consumidos")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
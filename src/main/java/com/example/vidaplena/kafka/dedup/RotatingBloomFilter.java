@@ -0,0 +1,129 @@
+package com.example.vidaplena.kafka.dedup;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Filtro de Bloom de IDs de evento com janela de tempo, em gerações.
+ *
+ * <p>
+ * Os IDs entram na geração atual; a consulta olha todas. A cada
+ * {@link #rotate()}, a geração mais antiga é descartada e uma nova, vazia,
+ * passa a receber os IDs. Com {@code G} gerações e rotação a cada {@code R},
+ * um ID é lembrado por pelo menos {@code (G - 1) * R} e a memória fica fixa
+ * em {@code G} vetores de bits, dimensionados para a quantidade esperada de
+ * IDs por rotação e a taxa de falsos positivos desejada.
+ * </p>
+ *
+ * <p>
+ * Não há falsos negativos dentro da janela: "não contém" é definitivo.
+ * "Talvez contenha" precisa ser confirmado em outra fonte. Consulta e
+ * inclusão custam {@code k} acessos a bits, sem bloqueio; com mais IDs que o
+ * esperado, só a taxa de falsos positivos aumenta.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public final class RotatingBloomFilter {
+
+    private final long bitsPerGeneration;
+    private final int hashes;
+    private volatile AtomicLongArray[] generations;
+
+    /**
+     * @param generations       Gerações mantidas (mínimo 2)
+     * @param expectedPerRotate IDs esperados por geração
+     * @param falsePositiveRate Taxa de falsos positivos de uma geração cheia
+     */
+    public RotatingBloomFilter(int generations, long expectedPerRotate, double falsePositiveRate) {
+        if (generations < 2 || expectedPerRotate < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Use ao menos 2 gerações, 1 ID esperado e taxa entre 0 e 1");
+        }
+        double ln2 = Math.log(2);
+        long bits = (long) Math.ceil(-expectedPerRotate * Math.log(falsePositiveRate) / (ln2 * ln2));
+        this.bitsPerGeneration = Math.max(Long.SIZE, (bits + Long.SIZE - 1) / Long.SIZE * Long.SIZE);
+        this.hashes = Math.max(1, (int) Math.round((double) bitsPerGeneration / expectedPerRotate * ln2));
+        AtomicLongArray[] initial = new AtomicLongArray[generations];
+        for (int i = 0; i < generations; i++) {
+            initial[i] = newGeneration();
+        }
+        this.generations = initial;
+    }
+
+    /**
+     * @param id ID do evento
+     * @return {@code false} se o ID certamente não foi incluído na janela
+     */
+    public boolean mightContain(UUID id) {
+        long h1 = mix(id.getMostSignificantBits() ^ id.getLeastSignificantBits());
+        long h2 = mix(id.getLeastSignificantBits() + h1) | 1;
+        for (AtomicLongArray generation : generations) {
+            if (contains(generation, h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Inclui o ID na geração atual.
+     *
+     * @param id ID do evento
+     */
+    public void put(UUID id) {
+        long h1 = mix(id.getMostSignificantBits() ^ id.getLeastSignificantBits());
+        long h2 = mix(id.getLeastSignificantBits() + h1) | 1;
+        AtomicLongArray current = generations[0];
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitsPerGeneration);
+            int word = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            if ((current.get(word) & mask) == 0) {
+                current.getAndAccumulate(word, mask, (value, m) -> value | m);
+            }
+        }
+    }
+
+    /**
+     * Descarta a geração mais antiga e abre uma nova.
+     */
+    public synchronized void rotate() {
+        AtomicLongArray[] previous = generations;
+        AtomicLongArray[] next = new AtomicLongArray[previous.length];
+        next[0] = newGeneration();
+        System.arraycopy(previous, 0, next, 1, previous.length - 1);
+        generations = next;
+    }
+
+    /**
+     * @return Memória ocupada pelos vetores de bits, em bytes
+     */
+    public long sizeInBytes() {
+        return bitsPerGeneration / Byte.SIZE * generations.length;
+    }
+
+    private boolean contains(AtomicLongArray generation, long h1, long h2) {
+        for (int i = 0; i < hashes; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitsPerGeneration);
+            if ((generation.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private AtomicLongArray newGeneration() {
+        return new AtomicLongArray((int) (bitsPerGeneration / Long.SIZE));
+    }
+
+    /**
+     * Finalizador do SplitMix64: espalha os bits do UUID (inclusive o
+     * prefixo de tempo da versão 7) por todo o valor.
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.vidaplena.kafka.outbox;
+
+import com.example.vidaplena.domain.entity.OutboxEvent;
+import com.example.vidaplena.kafka.KafkaPublishMetrics;
+import com.example.vidaplena.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.ClassUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Drena o outbox para o Kafka em lotes.
+ *
+ * <p>
+ * Cada ciclo reserva um lote em uma transação curta (a primeira mensagem de
+ * cada chave, bloqueada com {@code SKIP LOCKED}, mais as seguintes da mesma
+ * chave), envia as mensagens sem transação aberta e, em outra transação,
+ * remove as confirmadas e reagenda as que falharam. Relays de instâncias
+ * diferentes pegam chaves diferentes, sem esperar uns pelos outros nem
+ * segurar locks durante o envio. As garantias são:
+ * </p>
+ * <ul>
+ * <li><b>Entrega ao menos uma vez:</b> uma mensagem só sai do outbox depois
+ * da confirmação do broker.</li>
+ * <li><b>Ordem por chave:</b> mensagens da mesma chave são enviadas em
+ * sequência, cada uma após a confirmação da anterior; chaves diferentes seguem
+ * em paralelo. Na primeira falha a sequência da chave é interrompida e a
+ * mensagem que falhou bloqueia as seguintes até ser entregue. A ordem de
+ * gravação é a do ID (ver {@link OutboxWriter}).</li>
+ * <li><b>Reserva:</b> a primeira mensagem de cada chave fica reservada por
+ * duas vezes {@code kafka.outbox.send-timeout}; se a instância cair no meio do
+ * envio, outro relay a retoma depois disso.</li>
+ * <li><b>Backoff exponencial:</b> a espera entre tentativas dobra a cada falha,
+ * de {@code kafka.outbox.backoff-initial} até
+ * {@code kafka.outbox.backoff-max}. Não há limite de tentativas: descartar a
+ * mensagem violaria a ordem da chave.</li>
+ * </ul>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+@Slf4j
+@ConditionalOnExpression("${kafka.enabled:false} and ${kafka.outbox.enabled:true}")
+public class OutboxRelay {
+
+    /**
+     * Limite de lotes por ciclo, para não monopolizar a thread do agendador.
+     */
+    private static final int MAX_BATCHES_PER_RUN = 10;
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final KafkaPublishMetrics publishMetrics;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration backoffInitial;
+    private final Duration backoffMax;
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+            KafkaTemplate<String, Object> kafkaTemplate,
+            KafkaPublishMetrics publishMetrics,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${kafka.outbox.batch-size:100}") int batchSize,
+            @Value("${kafka.outbox.send-timeout:PT10S}") Duration sendTimeout,
+            @Value("${kafka.outbox.backoff-initial:PT1S}") Duration backoffInitial,
+            @Value("${kafka.outbox.backoff-max:PT5M}") Duration backoffMax) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.publishMetrics = publishMetrics;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.backoffInitial = backoffInitial;
+        this.backoffMax = backoffMax;
+    }
+
+    /**
+     * Ciclo do relay: envia lotes enquanto houver lotes completos.
+     */
+    @Scheduled(fixedDelayString = "${kafka.outbox.poll-interval-ms:500}")
+    public void drain() {
+        for (int i = 0; i < MAX_BATCHES_PER_RUN; i++) {
+            if (relayBatch() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Envia um lote de mensagens.
+     *
+     * @return Quantidade de mensagens lidas do outbox
+     */
+    int relayBatch() {
+        List<OutboxEvent> batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) {
+            return 0;
+        }
+
+        Map<String, List<OutboxEvent>> byKey = new LinkedHashMap<>();
+        for (OutboxEvent event : batch) {
+            byKey.computeIfAbsent(event.getMessageKey(), key -> new ArrayList<>()).add(event);
+        }
+
+        Set<Long> delivered = ConcurrentHashMap.newKeySet();
+        Map<Long, Throwable> failures = new ConcurrentHashMap<>();
+        AtomicBoolean abandoned = new AtomicBoolean();
+
+        CompletableFuture<?>[] chains = byKey.values().stream()
+                .map(events -> sendInOrder(events, delivered, failures, abandoned))
+                .toArray(CompletableFuture[]::new);
+        awaitAll(chains, abandoned);
+
+        List<Long> deliveredIds = new ArrayList<>(delivered);
+        // A primeira mensagem não entregue de cada chave é reagendada; as
+        // seguintes ficam bloqueadas por ela na próxima leitura do lote.
+        List<OutboxEvent> retries = new ArrayList<>();
+        for (List<OutboxEvent> events : byKey.values()) {
+            events.stream()
+                    .filter(event -> !delivered.contains(event.getId()))
+                    .findFirst()
+                    .ifPresent(event -> retries.add(scheduleRetry(event, failures.get(event.getId()))));
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!deliveredIds.isEmpty()) {
+                outboxEventRepository.deleteAllByIdInBatch(deliveredIds);
+            }
+            if (!retries.isEmpty()) {
+                outboxEventRepository.saveAll(retries);
+            }
+        });
+
+        log.debug("Outbox: {} mensagens lidas, {} entregues", batch.size(), deliveredIds.size());
+        return batch.size();
+    }
+
+    /**
+     * Bloqueia a primeira mensagem de cada chave, reserva-a e junta as
+     * seguintes das mesmas chaves, até {@code batchSize} mensagens.
+     */
+    private List<OutboxEvent> claimBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> heads = outboxEventRepository.lockNextHeads(now, Limit.of(batchSize));
+        if (heads.isEmpty()) {
+            return heads;
+        }
+        List<Long> headIds = heads.stream().map(OutboxEvent::getId).toList();
+        outboxEventRepository.lease(headIds, now.plus(sendTimeout.multipliedBy(2)));
+
+        List<OutboxEvent> batch = new ArrayList<>(heads);
+        if (heads.size() < batchSize) {
+            Set<String> keys = heads.stream().map(OutboxEvent::getMessageKey).collect(Collectors.toSet());
+            batch.addAll(outboxEventRepository.findFollowers(keys, headIds, Limit.of(batchSize - heads.size())));
+            batch.sort(Comparator.comparing(OutboxEvent::getId));
+        }
+        return batch;
+    }
+
+    private CompletableFuture<Void> sendInOrder(List<OutboxEvent> events, Set<Long> delivered,
+            Map<Long, Throwable> failures, AtomicBoolean abandoned) {
+        CompletableFuture<Void> chain = CompletableFuture.completedFuture(null);
+        for (OutboxEvent event : events) {
+            chain = chain.thenCompose(ignored -> send(event, abandoned)
+                    .handle((result, ex) -> {
+                        if (ex != null) {
+                            failures.put(event.getId(), ex);
+                            throw new CompletionException(ex);
+                        }
+                        delivered.add(event.getId());
+                        return null;
+                    }));
+        }
+        return chain;
+    }
+
+    private CompletableFuture<?> send(OutboxEvent event, AtomicBoolean abandoned) {
+        if (abandoned.get()) {
+            return CompletableFuture.failedFuture(new CancellationException("Lote expirou antes do envio"));
+        }
+        try {
+            Object payload = objectMapper.readValue(event.getPayload(),
+                    ClassUtils.forName(event.getPayloadType(), getClass().getClassLoader()));
+            return publishMetrics.record("outbox", event.getTopic(),
+                    () -> kafkaTemplate.send(event.getTopic(), event.getMessageKey(), payload));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void awaitAll(CompletableFuture<?>[] chains, AtomicBoolean abandoned) {
+        try {
+            CompletableFuture.allOf(chains).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // Falhas já registradas por mensagem
+        } catch (TimeoutException e) {
+            abandoned.set(true);
+            log.warn("Outbox: envio do lote excedeu {}; pendentes serão reenviados", sendTimeout);
+        } catch (InterruptedException e) {
+            abandoned.set(true);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private OutboxEvent scheduleRetry(OutboxEvent event, Throwable failure) {
+        int attempts = event.getAttempts() + 1;
+        Duration delay = backoff(attempts);
+        String error = failure == null ? "Sem confirmação do broker em " + sendTimeout : rootMessage(failure);
+
+        event.setAttempts(attempts);
+        event.setNextAttemptAt(LocalDateTime.now().plus(delay));
+        event.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+
+        log.warn("Outbox: falha ao enviar mensagem id={}, topic={}, key={}, tentativa={}, nova tentativa em {}: {}",
+                event.getId(), event.getTopic(), event.getMessageKey(), attempts, delay, error);
+        return event;
+    }
+
+    /**
+     * Calcula a espera antes da próxima tentativa.
+     *
+     * @param attempts Tentativas que já falharam (a partir de 1)
+     * @return Espera exponencial limitada a {@code backoffMax}
+     */
+    Duration backoff(int attempts) {
+        int exponent = Math.min(attempts - 1, 30);
+        Duration delay = backoffInitial.multipliedBy(1L << exponent);
+        return delay.compareTo(backoffMax) > 0 ? backoffMax : delay;
+    }
+
+    private static String rootMessage(Throwable failure) {
+        Throwable root = failure;
+        while ((root instanceof CompletionException || root instanceof ExecutionException) && root.getCause() != null) {
+            root = root.getCause();
+        }
+        return root.getClass().getSimpleName() + ": " + root.getMessage();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.vidaplena.kafka.outbox;
+
+import com.example.vidaplena.domain.entity.OutboxEvent;
+import com.example.vidaplena.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Grava mensagens Kafka no outbox, dentro da transação de quem chama.
+ *
+ * <p>
+ * Exige uma transação ativa ({@link Propagation#MANDATORY}): gravar fora dela
+ * quebraria a garantia de que a mensagem existe se, e somente se, a alteração
+ * de negócio foi confirmada. O envio ao broker fica a cargo do
+ * {@link OutboxRelay}.
+ * </p>
+ *
+ * <p>
+ * As alterações pendentes são enviadas ao banco antes de gerar o ID da
+ * mensagem. Duas transações que alteram o mesmo registro esperam uma pela
+ * outra nesse ponto, então a que confirma depois recebe o ID maior e a ordem
+ * dos IDs de uma chave segue a ordem de commit.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "kafka.enabled", havingValue = "true", matchIfMissing = false)
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Enfileira uma mensagem para publicação após o commit.
+     *
+     * @param topic   Tópico de destino
+     * @param key     Chave da mensagem (define a ordem de entrega)
+     * @param payload Objeto a publicar, serializado em JSON
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void enqueue(String topic, String key, Object payload) {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent event = OutboxEvent.builder()
+                .topic(topic)
+                .messageKey(key)
+                .payloadType(payload.getClass().getName())
+                .payload(toJson(payload))
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+
+        outboxEventRepository.flush();
+        outboxEventRepository.save(event);
+        log.debug("Mensagem enfileirada no outbox: topic={}, key={}", topic, key);
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Não foi possível serializar a mensagem do outbox", e);
+        }
+    }
+}
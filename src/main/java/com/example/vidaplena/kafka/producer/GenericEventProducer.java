@@ -1,6 +1,7 @@
 package com.example.vidaplena.kafka.producer;
 
 import com.example.vidaplena.domain.dto.event.EntityEvent;
+import com.example.vidaplena.kafka.KafkaPublishMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -8,6 +9,7 @@ import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.Locale;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -38,7 +40,9 @@ import java.util.concurrent.CompletableFuture;
  * </ul>
  * 
  * <p>
- * <b>Logs Estruturados:</b> Utiliza emojis para facilitar visualização:
+ * <b>Logs Estruturados:</b> Utiliza emojis para facilitar visualização. Envio
+ * e sucesso são registrados em DEBUG, pois ocorrem a cada evento auditado;
+ * erros, em ERROR:
  * </p>
  * <ul>
  * <li>📤 Publicando evento</li>
@@ -60,6 +64,7 @@ import java.util.concurrent.CompletableFuture;
 public class GenericEventProducer {
 
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final KafkaPublishMetrics publishMetrics;
 
     /**
      * Publica um evento genérico no Kafka.
@@ -81,14 +86,14 @@ public class GenericEventProducer {
     public <T> CompletableFuture<SendResult<String, Object>> publishEvent(EntityEvent<T> event) {
         String topic = buildTopicName(event);
 
-        log.info("📤 Publicando evento: eventId={}, type={}, entity={}, entityId={}, user={}",
+        log.debug("📤 Publicando evento: eventId={}, type={}, entity={}, entityId={}, user={}",
                 event.getEventId(),
                 event.getEventType(),
                 event.getEntityType(),
                 event.getEntityId(),
                 event.getUserId());
 
-        return kafkaTemplate.send(topic, event.getEntityId(), event)
+        return publishMetrics.record("entity", topic, () -> kafkaTemplate.send(topic, event.getEntityId(), event))
                 .whenComplete((result, ex) -> {
                     if (ex == null) {
                         logSuccess(event, result);
@@ -116,9 +121,8 @@ public class GenericEventProducer {
      * @return Nome do tópico
      */
     private String buildTopicName(EntityEvent<?> event) {
-        return String.format("entity-%s-%s",
-                event.getEntityType().toLowerCase(),
-                event.getEventType().name().toLowerCase());
+        return "entity-" + event.getEntityType().toLowerCase(Locale.ROOT)
+                + "-" + event.getEventType().name().toLowerCase(Locale.ROOT);
     }
 
     /**
@@ -128,7 +132,7 @@ public class GenericEventProducer {
      * @param result Resultado do envio
      */
     private void logSuccess(EntityEvent<?> event, SendResult<String, Object> result) {
-        log.info("✅ Evento publicado com sucesso: eventId={}, topic={}, partition={}, offset={}",
+        log.debug("✅ Evento publicado com sucesso: eventId={}, topic={}, partition={}, offset={}",
                 event.getEventId(),
                 result.getRecordMetadata().topic(),
                 result.getRecordMetadata().partition(),
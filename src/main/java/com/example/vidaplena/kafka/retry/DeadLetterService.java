@@ -0,0 +1,293 @@
+package com.example.vidaplena.kafka.retry;
+
+import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import com.example.vidaplena.domain.dto.response.DeadLetterRecordResponse;
+import com.example.vidaplena.domain.dto.response.DeadLetterReplayResponse;
+import com.example.vidaplena.exception.BadRequestException;
+import com.example.vidaplena.exception.ResourceNotFoundException;
+import com.example.vidaplena.kafka.serialization.EventDeserializer;
+import com.example.vidaplena.kafka.serialization.LocalSchemaRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Inspeção e reenvio dos eventos nos tópicos de dead letter (DLT).
+ *
+ * <p>
+ * A leitura usa um consumidor próprio, sem afetar os offsets dos listeners.
+ * O reenvio publica a mensagem original (mesmos bytes, chave e cabeçalhos,
+ * sem os {@code kafka_dlt-*}) no tópico principal, onde ela recomeça o ciclo
+ * de retentativas. O reenvio em massa guarda a posição no grupo
+ * {@value #REPLAY_GROUP}: cada evento é reenviado uma vez, e o que chegar
+ * depois ao DLT entra no próximo reenvio. O reenvio individual não move essa
+ * posição.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Service
+@Slf4j
+@ConditionalOnProperty(name = "kafka.enabled", havingValue = "true", matchIfMissing = false)
+public class DeadLetterService {
+
+    static final String REPLAY_GROUP = "vidaplena-dlt-replay";
+
+    private static final String DLT_HEADER_PREFIX = KafkaHeaders.PREFIX + "dlt-";
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(200);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(10);
+    private static final Duration SEND_TIMEOUT = Duration.ofSeconds(30);
+
+    private final RetryTopology topology;
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventDeserializer<AppointmentEvent> deserializer;
+
+    public DeadLetterService(RetryTopology topology,
+            @Qualifier("deadLetterConsumerFactory") ConsumerFactory<String, byte[]> consumerFactory,
+            KafkaTemplate<String, Object> kafkaTemplate, LocalSchemaRegistry schemaRegistry) {
+        this.topology = topology;
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.deserializer = new EventDeserializer<>(AppointmentEvent.class, schemaRegistry);
+        this.deserializer.configure(Map.of(
+                JsonDeserializer.TRUSTED_PACKAGES, "com.example.vidaplena.domain.dto.event",
+                JsonDeserializer.VALUE_DEFAULT_TYPE, AppointmentEvent.class.getName()), false);
+    }
+
+    /**
+     * @return DLTs dos tópicos de atendimento
+     */
+    public List<String> topics() {
+        return topology.deadLetterTopics();
+    }
+
+    /**
+     * Eventos mais recentes de um DLT.
+     *
+     * @param topic DLT
+     * @param limit Máximo de eventos (os últimos de cada partição, do mais
+     *              recente ao mais antigo)
+     * @return Eventos com origem e exceção da última tentativa
+     */
+    public List<DeadLetterRecordResponse> list(String topic, int limit) {
+        requireDeadLetterTopic(topic);
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(null, "dlt-inspect", null)) {
+            List<TopicPartition> partitions = assign(consumer, topic);
+            Map<TopicPartition, Long> begin = consumer.beginningOffsets(partitions);
+            Map<TopicPartition, Long> end = consumer.endOffsets(partitions);
+            partitions.forEach(partition -> consumer.seek(partition,
+                    Math.max(begin.get(partition), end.get(partition) - limit)));
+            return read(consumer, end, Integer.MAX_VALUE).stream()
+                    .sorted(Comparator.comparingLong(ConsumerRecord<String, byte[]>::timestamp).reversed())
+                    .limit(limit)
+                    .map(this::toResponse)
+                    .toList();
+        }
+    }
+
+    /**
+     * Reenvia um evento do DLT para o tópico principal.
+     *
+     * @param topic     DLT
+     * @param partition Partição no DLT
+     * @param offset    Offset no DLT
+     * @return Evento reenviado
+     */
+    public DeadLetterRecordResponse replay(String topic, int partition, long offset) {
+        requireDeadLetterTopic(topic);
+        TopicPartition topicPartition = new TopicPartition(topic, partition);
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(null, "dlt-replay", null)) {
+            if (consumer.partitionsFor(topic).stream().noneMatch(info -> info.partition() == partition)) {
+                throw new BadRequestException("Partição inexistente em " + topic + ": " + partition);
+            }
+            consumer.assign(List.of(topicPartition));
+            long begin = consumer.beginningOffsets(List.of(topicPartition)).get(topicPartition);
+            long end = consumer.endOffsets(List.of(topicPartition)).get(topicPartition);
+            if (offset < begin || offset >= end) {
+                throw new ResourceNotFoundException("Evento", "offset", topicPartition + "@" + offset);
+            }
+            consumer.seek(topicPartition, offset);
+            ConsumerRecord<String, byte[]> record = read(consumer, Map.of(topicPartition, offset + 1), 1).stream()
+                    .findFirst()
+                    .orElseThrow(() -> new ResourceNotFoundException("Evento", "offset",
+                            topicPartition + "@" + offset));
+            await(List.of(send(record)));
+            log.info("Evento reenviado de {}@{} para {}", topicPartition, offset, RetryTopology.baseTopic(topic));
+            return toResponse(record);
+        }
+    }
+
+    /**
+     * Reenvia para o tópico principal os eventos do DLT ainda não reenviados
+     * em massa.
+     *
+     * @param topic DLT
+     * @param max   Máximo de eventos nesta chamada
+     * @return Quantidade reenviada
+     */
+    public DeadLetterReplayResponse replayAll(String topic, int max) {
+        requireDeadLetterTopic(topic);
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(REPLAY_GROUP, "dlt-replay", null)) {
+            List<TopicPartition> partitions = assign(consumer, topic);
+            List<ConsumerRecord<String, byte[]>> records = read(consumer, consumer.endOffsets(partitions), max);
+            List<CompletableFuture<?>> sends = new ArrayList<>(records.size());
+            Map<TopicPartition, OffsetAndMetadata> replayed = new HashMap<>();
+            for (ConsumerRecord<String, byte[]> record : records) {
+                sends.add(send(record));
+                replayed.put(new TopicPartition(record.topic(), record.partition()),
+                        new OffsetAndMetadata(record.offset() + 1));
+            }
+            await(sends);
+            if (!replayed.isEmpty()) {
+                consumer.commitSync(replayed);
+            }
+            log.info("{} eventos reenviados de {} para {}", records.size(), topic, RetryTopology.baseTopic(topic));
+            return DeadLetterReplayResponse.builder()
+                    .topic(topic)
+                    .targetTopic(RetryTopology.baseTopic(topic))
+                    .replayed(records.size())
+                    .build();
+        }
+    }
+
+    private void requireDeadLetterTopic(String topic) {
+        if (!topology.deadLetterTopics().contains(topic)) {
+            throw new BadRequestException("Tópico não é um DLT de atendimento: " + topic);
+        }
+    }
+
+    private static List<TopicPartition> assign(Consumer<String, byte[]> consumer, String topic) {
+        List<TopicPartition> partitions = consumer.partitionsFor(topic).stream()
+                .map(info -> new TopicPartition(topic, info.partition()))
+                .toList();
+        consumer.assign(partitions);
+        return partitions;
+    }
+
+    /**
+     * Lê da posição atual até {@code end} (exclusivo) em cada partição, até
+     * {@code max} eventos; os incluídos de cada partição são sempre um
+     * prefixo, em ordem de offset.
+     */
+    private static List<ConsumerRecord<String, byte[]>> read(Consumer<String, byte[]> consumer,
+            Map<TopicPartition, Long> end, int max) {
+        List<ConsumerRecord<String, byte[]>> records = new ArrayList<>();
+        long deadline = System.nanoTime() + READ_TIMEOUT.toNanos();
+        while (records.size() < max && !reached(consumer, end) && System.nanoTime() < deadline) {
+            for (ConsumerRecord<String, byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                Long last = end.get(new TopicPartition(record.topic(), record.partition()));
+                if (records.size() < max && last != null && record.offset() < last) {
+                    records.add(record);
+                }
+            }
+        }
+        return records;
+    }
+
+    private static boolean reached(Consumer<String, byte[]> consumer, Map<TopicPartition, Long> end) {
+        return end.entrySet().stream().allMatch(entry -> consumer.position(entry.getKey()) >= entry.getValue());
+    }
+
+    private CompletableFuture<?> send(ConsumerRecord<String, byte[]> record) {
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith(DLT_HEADER_PREFIX)
+                    && !header.key().equals(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER)
+                    && !header.key().equals(SerializationUtils.KEY_DESERIALIZER_EXCEPTION_HEADER)) {
+                headers.add(header);
+            }
+        }
+        return kafkaTemplate.send(new ProducerRecord<>(RetryTopology.baseTopic(record.topic()), null, record.key(),
+                record.value(), headers));
+    }
+
+    private static void await(List<CompletableFuture<?>> sends) {
+        try {
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+                    .get(SEND_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Reenvio interrompido", e);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new IllegalStateException("Falha ao reenviar eventos do DLT", e);
+        }
+    }
+
+    private DeadLetterRecordResponse toResponse(ConsumerRecord<String, byte[]> record) {
+        Headers headers = record.headers();
+        DeadLetterRecordResponse.DeadLetterRecordResponseBuilder response = DeadLetterRecordResponse.builder()
+                .topic(record.topic())
+                .partition(record.partition())
+                .offset(record.offset())
+                .timestamp(Instant.ofEpochMilli(record.timestamp()))
+                .key(record.key())
+                .originalTopic(text(headers, KafkaHeaders.DLT_ORIGINAL_TOPIC))
+                .exceptionClass(text(headers, KafkaHeaders.DLT_EXCEPTION_FQCN))
+                .exceptionMessage(text(headers, KafkaHeaders.DLT_EXCEPTION_MESSAGE));
+        Header partition = headers.lastHeader(KafkaHeaders.DLT_ORIGINAL_PARTITION);
+        if (partition != null) {
+            response.originalPartition(ByteBuffer.wrap(partition.value()).getInt());
+        }
+        Header offset = headers.lastHeader(KafkaHeaders.DLT_ORIGINAL_OFFSET);
+        if (offset != null) {
+            response.originalOffset(ByteBuffer.wrap(offset.value()).getLong());
+        }
+        try {
+            // Cópia: o JsonDeserializer remove os cabeçalhos de tipo que lê
+            response.event(deserializer.deserialize(record.topic(), new RecordHeaders(headers.toArray()),
+                    record.value()));
+        } catch (RuntimeException e) {
+            response.rawValue(raw(record.value()));
+        }
+        return response.build();
+    }
+
+    private static String text(Headers headers, String key) {
+        Header header = headers.lastHeader(key);
+        return header == null ? null : new String(header.value(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Texto, se parecer JSON; Base64, caso contrário.
+     */
+    private static String raw(byte[] value) {
+        if (value == null) {
+            return null;
+        }
+        if (value.length > 0 && (value[0] == '{' || value[0] == '[' || value[0] == '"')) {
+            return new String(value, StandardCharsets.UTF_8);
+        }
+        return Base64.getEncoder().encodeToString(value);
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.vidaplena.kafka.retry;
+
+import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import com.example.vidaplena.kafka.AppointmentEventConsumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.listener.AbstractMessageListenerContainer;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Containers dos tópicos de retentativa, um por nível da
+ * {@link RetryTopology}.
+ *
+ * <p>
+ * Um container por nível mantém juntos apenas eventos com o mesmo atraso: a
+ * espera por um evento de 1 minuto nunca segura outro de 1 segundo. Os
+ * containers usam a mesma factory em lote dos listeners principais (mesmo
+ * tratamento de erro) e são iniciados e parados junto com eles. Como nos
+ * listeners principais, a atribuição de partições chega ao
+ * {@link AppointmentEventConsumer} (carga da deduplicação).
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "kafka.enabled", havingValue = "true", matchIfMissing = false)
+public class RetryListenerContainers implements SmartLifecycle {
+
+    private static final String GROUP_ID = "vidaplena-group";
+
+    private final List<ConcurrentMessageListenerContainer<String, AppointmentEvent>> containers = new ArrayList<>();
+    private volatile boolean running;
+
+    /**
+     * @param factory     Factory em lote dos listeners de atendimento
+     * @param topology    Níveis e atrasos
+     * @param consumer    Consumidor com os handlers dos eventos
+     * @param concurrency Threads de consumo por nível
+     */
+    public RetryListenerContainers(
+            @Qualifier("appointmentBatchListenerContainerFactory")
+            ConcurrentKafkaListenerContainerFactory<String, AppointmentEvent> factory,
+            RetryTopology topology, AppointmentEventConsumer consumer,
+            @Value("${kafka.consumer.concurrency.retry:1}") int concurrency) {
+        for (int attempt = 1; attempt <= topology.attempts(); attempt++) {
+            Duration delay = topology.delay(attempt);
+            ConcurrentMessageListenerContainer<String, AppointmentEvent> container = factory
+                    .createContainer(topology.retryTopics(attempt).toArray(String[]::new));
+            container.getContainerProperties().setGroupId(GROUP_ID);
+            container.getContainerProperties().setClientId("appointment-retry-" + attempt);
+            container.setBeanName("appointmentRetry" + attempt);
+            container.setConcurrency(concurrency);
+            container.setupMessageListener(new RetryListener(consumer, delay));
+            containers.add(container);
+        }
+    }
+
+    @Override
+    public void start() {
+        containers.forEach(ConcurrentMessageListenerContainer::start);
+        running = true;
+        log.info("Containers de retentativa iniciados: {} níveis", containers.size());
+    }
+
+    @Override
+    public void stop() {
+        containers.forEach(ConcurrentMessageListenerContainer::stop);
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Mesma fase dos containers dos {@code @KafkaListener}.
+     */
+    @Override
+    public int getPhase() {
+        return AbstractMessageListenerContainer.DEFAULT_PHASE;
+    }
+
+    /**
+     * @return Containers criados, um por nível
+     */
+    List<ConcurrentMessageListenerContainer<String, AppointmentEvent>> containers() {
+        return containers;
+    }
+
+    /**
+     * Listener de um nível: entrega os lotes a
+     * {@link AppointmentEventConsumer#consumeRetries} com o atraso do nível e
+     * repassa a atribuição de partições, que o container só informa a
+     * listeners {@link ConsumerSeekAware}.
+     */
+    record RetryListener(AppointmentEventConsumer consumer, Duration delay)
+            implements BatchAcknowledgingMessageListener<String, AppointmentEvent>, ConsumerSeekAware {
+
+        @Override
+        public void onMessage(List<ConsumerRecord<String, AppointmentEvent>> records, Acknowledgment acknowledgment) {
+            consumer.consumeRetries(records, acknowledgment, delay);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+            consumer.onPartitionsAssigned(assignments, callback);
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.vidaplena.kafka.retry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tópicos de retentativa e de dead letter (DLT) dos consumidores de
+ * atendimento.
+ *
+ * <p>
+ * Um evento que falha em {@code <tópico>} é encaminhado para
+ * {@code <tópico>-retry-1}, depois {@code -retry-2} e assim por diante até
+ * {@code attempts}; esgotadas as tentativas, vai para {@code <tópico>-dlt}.
+ * Cada nível de retentativa tem o seu atraso, que cresce exponencialmente
+ * ({@code initialDelay * multiplier^(n-1)}, limitado a {@code maxDelay}).
+ * Eventos ilegíveis (sem valor) vão direto para o DLT.
+ * </p>
+ *
+ * <p>
+ * A falha só ocupa o tópico de retentativa: o tópico principal segue
+ * consumindo os eventos seguintes da partição.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public final class RetryTopology {
+
+    /**
+     * Contador de eventos encaminhados ({@code topic} = tópico principal,
+     * {@code destination} = {@code retry} ou {@code dlt}).
+     */
+    public static final String FORWARDED_COUNTER = "vidaplena.kafka.consumer.forwarded";
+
+    private static final String RETRY_SUFFIX = "-retry-";
+    private static final String DLT_SUFFIX = "-dlt";
+
+    private final List<String> baseTopics;
+    private final int attempts;
+    private final Duration initialDelay;
+    private final double multiplier;
+    private final Duration maxDelay;
+
+    /**
+     * @param baseTopics   Tópicos principais
+     * @param attempts     Níveis de retentativa antes do DLT (0 = direto para o
+     *                     DLT)
+     * @param initialDelay Atraso do primeiro nível
+     * @param multiplier   Fator de crescimento do atraso a cada nível
+     * @param maxDelay     Atraso máximo de um nível
+     */
+    public RetryTopology(List<String> baseTopics, int attempts, Duration initialDelay, double multiplier,
+            Duration maxDelay) {
+        if (attempts < 0 || multiplier < 1) {
+            throw new IllegalArgumentException("Retentativas devem ser >= 0 e o multiplicador >= 1");
+        }
+        this.baseTopics = List.copyOf(baseTopics);
+        this.attempts = attempts;
+        this.initialDelay = initialDelay;
+        this.multiplier = multiplier;
+        this.maxDelay = maxDelay;
+    }
+
+    /**
+     * @return Tópicos principais
+     */
+    public List<String> baseTopics() {
+        return baseTopics;
+    }
+
+    /**
+     * @return Níveis de retentativa antes do DLT
+     */
+    public int attempts() {
+        return attempts;
+    }
+
+    /**
+     * Atraso entre a falha e o reprocessamento no nível {@code attempt}.
+     *
+     * @param attempt Nível, a partir de 1
+     * @return Atraso do nível
+     */
+    public Duration delay(int attempt) {
+        double millis = initialDelay.toMillis() * Math.pow(multiplier, attempt - 1);
+        return millis >= maxDelay.toMillis() ? maxDelay : Duration.ofMillis((long) millis);
+    }
+
+    /**
+     * @param attempt Nível, a partir de 1
+     * @return Tópicos de retentativa do nível, um por tópico principal
+     */
+    public List<String> retryTopics(int attempt) {
+        return baseTopics.stream().map(base -> retryTopic(base, attempt)).toList();
+    }
+
+    /**
+     * @return DLTs, um por tópico principal
+     */
+    public List<String> deadLetterTopics() {
+        return baseTopics.stream().map(RetryTopology::deadLetterTopic).toList();
+    }
+
+    /**
+     * @return Tópicos de retentativa de todos os níveis e DLTs
+     */
+    public List<String> derivedTopics() {
+        List<String> topics = new ArrayList<>();
+        for (int attempt = 1; attempt <= attempts; attempt++) {
+            topics.addAll(retryTopics(attempt));
+        }
+        topics.addAll(deadLetterTopics());
+        return topics;
+    }
+
+    /**
+     * Próximo destino de um evento que falhou.
+     *
+     * @param record Evento que falhou, lido de um tópico principal ou de
+     *               retentativa
+     * @return Próximo tópico de retentativa, ou o DLT
+     */
+    public String nextTopic(ConsumerRecord<?, ?> record) {
+        String base = baseTopic(record.topic());
+        int attempt = attempt(record.topic());
+        if (record.value() == null || attempt >= attempts) {
+            return deadLetterTopic(base);
+        }
+        return retryTopic(base, attempt + 1);
+    }
+
+    /**
+     * @param base    Tópico principal
+     * @param attempt Nível, a partir de 1
+     * @return {@code <base>-retry-<attempt>}
+     */
+    public static String retryTopic(String base, int attempt) {
+        return base + RETRY_SUFFIX + attempt;
+    }
+
+    /**
+     * @param base Tópico principal
+     * @return {@code <base>-dlt}
+     */
+    public static String deadLetterTopic(String base) {
+        return base + DLT_SUFFIX;
+    }
+
+    /**
+     * @param topic Tópico qualquer
+     * @return Se é um DLT
+     */
+    public static boolean isDeadLetterTopic(String topic) {
+        return topic.endsWith(DLT_SUFFIX);
+    }
+
+    /**
+     * @param topic Tópico principal, de retentativa ou DLT
+     * @return Tópico principal correspondente
+     */
+    public static String baseTopic(String topic) {
+        if (isDeadLetterTopic(topic)) {
+            return topic.substring(0, topic.length() - DLT_SUFFIX.length());
+        }
+        int suffix = retrySuffix(topic);
+        return suffix < 0 ? topic : topic.substring(0, suffix);
+    }
+
+    /**
+     * @param topic Tópico principal ou de retentativa
+     * @return Nível de retentativa do tópico (0 no tópico principal)
+     */
+    public static int attempt(String topic) {
+        int suffix = retrySuffix(topic);
+        return suffix < 0 ? 0 : Integer.parseInt(topic.substring(suffix + RETRY_SUFFIX.length()));
+    }
+
+    /**
+     * Posição de {@code -retry-N} no fim do nome, ou -1.
+     */
+    private static int retrySuffix(String topic) {
+        int suffix = topic.lastIndexOf(RETRY_SUFFIX);
+        if (suffix < 0 || suffix + RETRY_SUFFIX.length() == topic.length()) {
+            return -1;
+        }
+        for (int i = suffix + RETRY_SUFFIX.length(); i < topic.length(); i++) {
+            if (!Character.isDigit(topic.charAt(i))) {
+                return -1;
+            }
+        }
+        return suffix;
+    }
+}
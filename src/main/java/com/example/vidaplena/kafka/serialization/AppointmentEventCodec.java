@@ -0,0 +1,71 @@
+package com.example.vidaplena.kafka.serialization;
+
+import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+
+import static com.example.vidaplena.kafka.serialization.AvroValues.enumValue;
+import static com.example.vidaplena.kafka.serialization.AvroValues.localDateTime;
+import static com.example.vidaplena.kafka.serialization.AvroValues.micros;
+import static com.example.vidaplena.kafka.serialization.AvroValues.string;
+import static com.example.vidaplena.kafka.serialization.AvroValues.symbol;
+import static com.example.vidaplena.kafka.serialization.AvroValues.uuid;
+
+/**
+ * Codec Avro de {@link AppointmentEvent} (assunto {@value #SUBJECT}).
+ *
+ * <p>
+ * Eventos gravados antes da versão 3 do schema são lidos sem
+ * {@code eventId} e não passam pela deduplicação dos consumidores.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+final class AppointmentEventCodec implements AvroCodec<AppointmentEvent> {
+
+    static final String SUBJECT = "appointment-event";
+
+    @Override
+    public String subject() {
+        return SUBJECT;
+    }
+
+    @Override
+    public Class<AppointmentEvent> type() {
+        return AppointmentEvent.class;
+    }
+
+    @Override
+    public GenericRecord encode(AppointmentEvent event, Schema schema) {
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("eventType", symbol(schema, "eventType", event.getEventType()));
+        record.put("appointmentId", uuid(schema, "appointmentId", event.getAppointmentId()));
+        record.put("patient", event.getPatient());
+        record.put("doctorName", event.getDoctorName());
+        record.put("specialtyName", event.getSpecialtyName());
+        record.put("status", event.getStatus());
+        record.put("scheduledDate", micros(event.getScheduledDate()));
+        record.put("timestamp", micros(event.getTimestamp()));
+        record.put("performedBy", event.getPerformedBy());
+        record.put("eventId", uuid(schema, "eventId", event.getEventId()));
+        return record;
+    }
+
+    @Override
+    public AppointmentEvent decode(GenericRecord record) {
+        return AppointmentEvent.builder()
+                .eventId(uuid(record.get("eventId")))
+                .eventType(enumValue(AppointmentEvent.EventType.class, record.get("eventType")))
+                .appointmentId(uuid(record.get("appointmentId")))
+                .patient(string(record.get("patient")))
+                .doctorName(string(record.get("doctorName")))
+                .specialtyName(string(record.get("specialtyName")))
+                .status(string(record.get("status")))
+                .scheduledDate(localDateTime(record.get("scheduledDate")))
+                .timestamp(localDateTime(record.get("timestamp")))
+                .performedBy(string(record.get("performedBy")))
+                .build();
+    }
+}
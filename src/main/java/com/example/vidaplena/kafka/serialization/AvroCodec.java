@@ -0,0 +1,38 @@
+package com.example.vidaplena.kafka.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericRecord;
+
+/**
+ * Conversão explícita, campo a campo, entre um evento e o registro Avro do
+ * seu assunto (sem reflexão).
+ *
+ * @param <T> Tipo do evento
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+interface AvroCodec<T> {
+
+    /**
+     * @return Assunto no {@link LocalSchemaRegistry}
+     */
+    String subject();
+
+    /**
+     * @return Classe do evento
+     */
+    Class<T> type();
+
+    /**
+     * @param value  Evento
+     * @param schema Versão do schema usada na escrita
+     * @return Registro Avro
+     */
+    GenericRecord encode(T value, Schema schema);
+
+    /**
+     * @param record Registro já resolvido para a versão mais recente do schema
+     * @return Evento
+     */
+    T decode(GenericRecord record);
+}
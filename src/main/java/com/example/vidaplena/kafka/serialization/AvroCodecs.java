@@ -0,0 +1,31 @@
+package com.example.vidaplena.kafka.serialization;
+
+import java.util.List;
+
+/**
+ * Eventos com schema Avro.
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+final class AvroCodecs {
+
+    static final List<AvroCodec<?>> ALL = List.of(new AppointmentEventCodec(), new EntityEventCodec());
+
+    private AvroCodecs() {
+    }
+
+    /**
+     * @param type Classe do evento
+     * @return Codec do tipo, ou {@code null} se ele não tiver schema
+     */
+    @SuppressWarnings("unchecked")
+    static <T> AvroCodec<T> forType(Class<T> type) {
+        for (AvroCodec<?> codec : ALL) {
+            if (codec.type() == type) {
+                return (AvroCodec<T>) codec;
+            }
+        }
+        return null;
+    }
+}
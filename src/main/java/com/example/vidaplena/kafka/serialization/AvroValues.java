@@ -0,0 +1,103 @@
+package com.example.vidaplena.kafka.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Conversões de valores entre Java e Avro usadas pelos codecs.
+ *
+ * <p>
+ * UUIDs vão como {@code fixed} de 16 bytes e datas como microssegundos desde
+ * a época ({@code local-timestamp-micros}, sem fuso): a precisão abaixo do
+ * microssegundo é descartada. Textos lidos chegam como {@code Utf8} e são
+ * convertidos com {@link #string}.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+final class AvroValues {
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+
+    private AvroValues() {
+    }
+
+    /**
+     * Schema de um campo, sem o ramo {@code null} das uniões opcionais.
+     */
+    static Schema fieldSchema(Schema record, String field) {
+        Schema schema = record.getField(field).schema();
+        if (schema.getType() != Schema.Type.UNION) {
+            return schema;
+        }
+        for (Schema branch : schema.getTypes()) {
+            if (branch.getType() != Schema.Type.NULL) {
+                return branch;
+            }
+        }
+        throw new IllegalArgumentException("Campo sem tipo não nulo: " + field);
+    }
+
+    /**
+     * Ramo de uma união pelo nome do tipo.
+     */
+    static Schema branch(Schema union, String name) {
+        for (Schema branch : union.getTypes()) {
+            if (name.equals(branch.getName())) {
+                return branch;
+            }
+        }
+        throw new IllegalArgumentException("União sem o tipo " + name);
+    }
+
+    static GenericData.EnumSymbol symbol(Schema record, String field, Enum<?> value) {
+        return value == null ? null : new GenericData.EnumSymbol(fieldSchema(record, field), value.name());
+    }
+
+    static GenericData.Fixed uuid(Schema record, String field, UUID value) {
+        if (value == null) {
+            return null;
+        }
+        byte[] bytes = ByteBuffer.allocate(16)
+                .putLong(value.getMostSignificantBits())
+                .putLong(value.getLeastSignificantBits())
+                .array();
+        return new GenericData.Fixed(fieldSchema(record, field), bytes);
+    }
+
+    static UUID uuid(Object value) {
+        if (value == null) {
+            return null;
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(((GenericData.Fixed) value).bytes());
+        return new UUID(bytes.getLong(), bytes.getLong());
+    }
+
+    static Long micros(LocalDateTime value) {
+        return value == null ? null
+                : value.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + value.getNano() / 1_000;
+    }
+
+    static LocalDateTime localDateTime(Object micros) {
+        if (micros == null) {
+            return null;
+        }
+        long value = (Long) micros;
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(value, MICROS_PER_SECOND),
+                (int) Math.floorMod(value, MICROS_PER_SECOND) * 1_000, ZoneOffset.UTC);
+    }
+
+    static String string(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    static <E extends Enum<E>> E enumValue(Class<E> type, Object symbol) {
+        return symbol == null ? null : Enum.valueOf(type, symbol.toString());
+    }
+}
@@ -0,0 +1,254 @@
+package com.example.vidaplena.kafka.serialization;
+
+import com.example.vidaplena.domain.dto.event.EntityEvent;
+import com.example.vidaplena.domain.dto.response.AppointmentStatusResponse;
+import com.example.vidaplena.domain.dto.response.MedicalSpecialtyResponse;
+import com.example.vidaplena.domain.dto.response.UserResponse;
+import com.example.vidaplena.domain.enums.UserRole;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.springframework.kafka.support.JacksonUtils;
+
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static com.example.vidaplena.kafka.serialization.AvroValues.branch;
+import static com.example.vidaplena.kafka.serialization.AvroValues.enumValue;
+import static com.example.vidaplena.kafka.serialization.AvroValues.localDateTime;
+import static com.example.vidaplena.kafka.serialization.AvroValues.micros;
+import static com.example.vidaplena.kafka.serialization.AvroValues.string;
+import static com.example.vidaplena.kafka.serialization.AvroValues.symbol;
+import static com.example.vidaplena.kafka.serialization.AvroValues.uuid;
+
+/**
+ * Codec Avro de {@link EntityEvent} (assunto {@value #SUBJECT}).
+ *
+ * <p>
+ * Os DTOs da trilha de auditoria (usuário, especialidade e status) têm
+ * registro próprio em {@code entityData}; outros tipos vão como JSON e são
+ * lidos como mapa, como acontece com o {@code JsonDeserializer}. O metadado
+ * {@code changes} tem registro próprio: valores texto, booleanos e numéricos
+ * mantêm o tipo, os demais (enums, datas) chegam como texto. Os outros
+ * metadados vão como JSON.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+final class EntityEventCodec implements AvroCodec<EntityEvent<?>> {
+
+    static final String SUBJECT = "entity-event";
+
+    private static final String CHANGES = "changes";
+    private static final String USER = "UserData";
+    private static final String SPECIALTY = "MedicalSpecialtyData";
+    private static final String STATUS = "AppointmentStatusData";
+    private static final String JSON = "JsonData";
+
+    private final ObjectMapper objectMapper = JacksonUtils.enhancedObjectMapper();
+
+    @Override
+    public String subject() {
+        return SUBJECT;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Class<EntityEvent<?>> type() {
+        return (Class<EntityEvent<?>>) (Class<?>) EntityEvent.class;
+    }
+
+    @Override
+    public GenericRecord encode(EntityEvent<?> event, Schema schema) {
+        GenericRecord record = new GenericData.Record(schema);
+        record.put("eventId", event.getEventId());
+        record.put("eventType", symbol(schema, "eventType", event.getEventType()));
+        record.put("entityType", event.getEntityType());
+        record.put("entityId", event.getEntityId());
+        record.put("entityData", encodeData(event.getEntityData(), schema.getField("entityData").schema()));
+        record.put("timestamp", micros(event.getTimestamp()));
+        record.put("userId", event.getUserId());
+        record.put("userName", event.getUserName());
+
+        Schema changeSchema = schema.getField(CHANGES).schema().getValueType();
+        Map<String, Object> changes = new HashMap<>();
+        Map<String, String> metadata = new HashMap<>();
+        if (event.getMetadata() != null) {
+            for (Map.Entry<String, Object> entry : event.getMetadata().entrySet()) {
+                if (!(CHANGES.equals(entry.getKey()) && encodeChanges(entry.getValue(), changeSchema, changes))) {
+                    metadata.put(entry.getKey(), toJson(entry.getValue()));
+                }
+            }
+        }
+        record.put(CHANGES, changes);
+        record.put("metadata", metadata);
+        return record;
+    }
+
+    @Override
+    public EntityEvent<?> decode(GenericRecord record) {
+        Map<String, Object> metadata = new HashMap<>();
+        Map<?, ?> changes = (Map<?, ?>) record.get(CHANGES);
+        if (!changes.isEmpty()) {
+            Map<String, Map<String, Object>> fields = new LinkedHashMap<>();
+            changes.forEach((field, value) -> {
+                GenericRecord change = (GenericRecord) value;
+                Map<String, Object> beforeAfter = new HashMap<>(4);
+                beforeAfter.put("before", primitive(change.get("before")));
+                beforeAfter.put("after", primitive(change.get("after")));
+                fields.put(field.toString(), beforeAfter);
+            });
+            metadata.put(CHANGES, fields);
+        }
+        ((Map<?, ?>) record.get("metadata"))
+                .forEach((key, json) -> metadata.put(key.toString(), fromJson(json.toString())));
+
+        return EntityEvent.builder()
+                .eventId(string(record.get("eventId")))
+                .eventType(enumValue(EntityEvent.EventType.class, record.get("eventType")))
+                .entityType(string(record.get("entityType")))
+                .entityId(string(record.get("entityId")))
+                .entityData(decodeData((GenericRecord) record.get("entityData")))
+                .timestamp(localDateTime(record.get("timestamp")))
+                .userId(string(record.get("userId")))
+                .userName(string(record.get("userName")))
+                .metadata(metadata)
+                .build();
+    }
+
+    private GenericRecord encodeData(Object data, Schema union) {
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof UserResponse user) {
+            Schema schema = branch(union, USER);
+            GenericRecord record = new GenericData.Record(schema);
+            record.put("id", uuid(schema, "id", user.getId()));
+            record.put("name", user.getName());
+            record.put("email", user.getEmail());
+            record.put("role", user.getRole() == null ? null : user.getRole().name());
+            record.put("active", user.getActive());
+            record.put("createdAt", micros(user.getCreatedAt()));
+            return record;
+        }
+        if (data instanceof MedicalSpecialtyResponse specialty) {
+            GenericRecord record = new GenericData.Record(branch(union, SPECIALTY));
+            record.put("id", specialty.getId());
+            record.put("code", specialty.getCode());
+            record.put("name", specialty.getName());
+            record.put("description", specialty.getDescription());
+            record.put("slotDurationMinutes", specialty.getSlotDurationMinutes());
+            record.put("active", specialty.getActive());
+            return record;
+        }
+        if (data instanceof AppointmentStatusResponse status) {
+            GenericRecord record = new GenericData.Record(branch(union, STATUS));
+            record.put("id", status.getId());
+            record.put("code", status.getCode());
+            record.put("name", status.getName());
+            record.put("description", status.getDescription());
+            record.put("active", status.getActive());
+            return record;
+        }
+        GenericRecord record = new GenericData.Record(branch(union, JSON));
+        record.put("json", toJson(data));
+        return record;
+    }
+
+    private Object decodeData(GenericRecord record) {
+        if (record == null) {
+            return null;
+        }
+        return switch (record.getSchema().getName()) {
+            case USER -> UserResponse.builder()
+                    .id(uuid(record.get("id")))
+                    .name(string(record.get("name")))
+                    .email(string(record.get("email")))
+                    .role(enumValue(UserRole.class, record.get("role")))
+                    .active((Boolean) record.get("active"))
+                    .createdAt(localDateTime(record.get("createdAt")))
+                    .build();
+            case SPECIALTY -> MedicalSpecialtyResponse.builder()
+                    .id((Long) record.get("id"))
+                    .code(string(record.get("code")))
+                    .name(string(record.get("name")))
+                    .description(string(record.get("description")))
+                    .slotDurationMinutes((Integer) record.get("slotDurationMinutes"))
+                    .active((Boolean) record.get("active"))
+                    .build();
+            case STATUS -> AppointmentStatusResponse.builder()
+                    .id((Long) record.get("id"))
+                    .code(string(record.get("code")))
+                    .name(string(record.get("name")))
+                    .description(string(record.get("description")))
+                    .active((Boolean) record.get("active"))
+                    .build();
+            default -> fromJson(string(record.get("json")));
+        };
+    }
+
+    /**
+     * Preenche {@code changes} a partir de {@code {campo: {before, after}}}.
+     *
+     * @return {@code false} se o valor não tiver esse formato (vai como JSON)
+     */
+    private static boolean encodeChanges(Object value, Schema changeSchema, Map<String, Object> changes) {
+        if (!(value instanceof Map<?, ?> fields)) {
+            return false;
+        }
+        for (Object change : fields.values()) {
+            if (!(change instanceof Map<?, ?>)) {
+                return false;
+            }
+        }
+        fields.forEach((field, change) -> {
+            Map<?, ?> beforeAfter = (Map<?, ?>) change;
+            GenericRecord record = new GenericData.Record(changeSchema);
+            record.put("before", primitive(beforeAfter.get("before")));
+            record.put("after", primitive(beforeAfter.get("after")));
+            changes.put(String.valueOf(field), record);
+        });
+        return true;
+    }
+
+    /**
+     * Valor de {@code FieldChange}: texto, booleano, int, long ou double.
+     */
+    private static Object primitive(Object value) {
+        if (value == null || value instanceof Boolean || value instanceof Integer || value instanceof Long
+                || value instanceof Double || value instanceof String) {
+            return value;
+        }
+        if (value instanceof Float number) {
+            return number.doubleValue();
+        }
+        if (value instanceof Short || value instanceof Byte) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value.toString();
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Object fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, Object.class);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.vidaplena.kafka.serialization;
+
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Desserializador de eventos que aceita Avro e JSON no mesmo tópico.
+ *
+ * <p>
+ * Mensagens que começam com o marcador Avro são lidas com o schema do ID
+ * gravado e resolvidas para a versão mais recente do assunto (campos novos
+ * recebem o valor padrão; campos removidos são ignorados). As demais seguem
+ * para um {@link JsonDeserializer}, configurado pelas mesmas propriedades de
+ * antes ({@code spring.json.*}).
+ * </p>
+ *
+ * @param <T> Tipo do evento
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public class EventDeserializer<T> implements Deserializer<T> {
+
+    private final Class<T> type;
+    private final AvroCodec<T> codec;
+    private final LocalSchemaRegistry registry;
+    private final Map<Integer, DatumReader<GenericRecord>> readers = new ConcurrentHashMap<>();
+    private final JsonDeserializer<T> json = new JsonDeserializer<>();
+
+    /**
+     * @param type     Tipo do evento
+     * @param registry Schemas conhecidos
+     */
+    public EventDeserializer(Class<T> type, LocalSchemaRegistry registry) {
+        this.type = type;
+        this.codec = AvroCodecs.forType(type);
+        this.registry = registry;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (isAvro(data)) {
+            return readAvro(topic, data);
+        }
+        return json.deserialize(topic, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        if (isAvro(data)) {
+            return readAvro(topic, data);
+        }
+        return json.deserialize(topic, headers, data);
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+
+    private static boolean isAvro(byte[] data) {
+        return data != null && data.length >= EventSerializer.HEADER_SIZE && data[0] == EventSerializer.MAGIC_BYTE;
+    }
+
+    private T readAvro(String topic, byte[] data) {
+        int id = ByteBuffer.wrap(data, 1, Integer.BYTES).getInt();
+        try {
+            DatumReader<GenericRecord> reader = readers.computeIfAbsent(id, this::readerFor);
+            GenericRecord record = reader.read(null, DecoderFactory.get()
+                    .binaryDecoder(data, EventSerializer.HEADER_SIZE, data.length - EventSerializer.HEADER_SIZE, null));
+            return codec.decode(record);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Falha ao ler " + type.getSimpleName() + " em Avro (schema " + id
+                    + ") de " + topic, e);
+        }
+    }
+
+    /**
+     * Reader da versão gravada ({@code id}) para a versão mais recente.
+     */
+    private DatumReader<GenericRecord> readerFor(int id) {
+        LocalSchemaRegistry.RegisteredSchema writer = registry.byId(id);
+        if (codec == null || !codec.subject().equals(writer.subject())) {
+            throw new IllegalArgumentException("Schema " + id + " (" + writer.subject() + ") não corresponde a "
+                    + type.getSimpleName());
+        }
+        return new GenericDatumReader<>(writer.schema(), registry.latest(writer.subject()).schema());
+    }
+}
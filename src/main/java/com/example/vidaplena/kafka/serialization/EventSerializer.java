@@ -0,0 +1,136 @@
+package com.example.vidaplena.kafka.serialization;
+
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Serializador dos valores publicados pelo {@code KafkaTemplate}.
+ *
+ * <p>
+ * Em {@link SerializationFormat#AVRO}, eventos com schema no
+ * {@link LocalSchemaRegistry} são gravados como
+ * {@code [0x00][ID do schema, 4 bytes][Avro binário]}, sem nomes de campos nem
+ * cabeçalhos de tipo; os demais seguem para o {@link JsonSerializer}. Em
+ * {@link SerializationFormat#JSON}, tudo vai em JSON, como antes. Valores
+ * {@code byte[]} já estão serializados (DLT e reenvio de mensagens) e são
+ * gravados sem alteração.
+ * </p>
+ *
+ * <p>
+ * O {@link EventDeserializer} lê os dois formatos. Na migração, atualize
+ * primeiro os consumidores e só depois troque {@code kafka.serialization.format}
+ * dos produtores; mensagens JSON já publicadas continuam legíveis.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public class EventSerializer implements Serializer<Object> {
+
+    /**
+     * Primeiro byte das mensagens Avro (JSON nunca começa com ele).
+     */
+    static final byte MAGIC_BYTE = 0;
+
+    /**
+     * Bytes antes do registro Avro: marcador e ID do schema.
+     */
+    static final int HEADER_SIZE = 5;
+
+    private final SerializationFormat format;
+    private final Map<Class<?>, Binding<?>> bindings = new HashMap<>();
+    private final JsonSerializer<Object> json = new JsonSerializer<>();
+
+    /**
+     * @param format   Formato das mensagens com schema
+     * @param registry Schemas; os produtores escrevem com a versão mais recente
+     */
+    public EventSerializer(SerializationFormat format, LocalSchemaRegistry registry) {
+        this.format = format;
+        if (format == SerializationFormat.AVRO) {
+            for (AvroCodec<?> codec : AvroCodecs.ALL) {
+                bindings.put(codec.type(), Binding.of(codec, registry.latest(codec.subject())));
+            }
+        }
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        json.configure(configs, isKey);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        return serialize(topic, null, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, Object data) {
+        if (data == null) {
+            return null;
+        }
+        if (data instanceof byte[] bytes) {
+            return bytes;
+        }
+        Binding<?> binding = bindings.get(data.getClass());
+        if (binding == null) {
+            return json.serialize(topic, headers, data);
+        }
+        try {
+            return binding.write(data);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Falha ao serializar " + data.getClass().getSimpleName()
+                    + " em Avro para " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+
+    /**
+     * @return Formato configurado
+     */
+    public SerializationFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * Codec, versão de escrita e writer de um tipo de evento.
+     */
+    private record Binding<T>(AvroCodec<T> codec, LocalSchemaRegistry.RegisteredSchema schema,
+            DatumWriter<GenericRecord> writer) {
+
+        static <T> Binding<T> of(AvroCodec<T> codec, LocalSchemaRegistry.RegisteredSchema schema) {
+            return new Binding<>(codec, schema, new GenericDatumWriter<>(schema.schema()));
+        }
+
+        byte[] write(Object value) throws IOException {
+            GenericRecord record = codec.encode(codec.type().cast(value), schema.schema());
+            ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+            int id = schema.id();
+            out.write(MAGIC_BYTE);
+            out.write(id >>> 24);
+            out.write(id >>> 16);
+            out.write(id >>> 8);
+            out.write(id);
+            BinaryEncoder encoder = EncoderFactory.get().directBinaryEncoder(out, null);
+            writer.write(record, encoder);
+            encoder.flush();
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.vidaplena.kafka.serialization;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Registro de schemas Avro em arquivos, no lugar de um schema registry
+ * externo.
+ *
+ * <p>
+ * Cada arquivo {@code <id>-<subject>.avsc} registra uma versão do schema de
+ * um assunto (ex: {@code 1-appointment-event.avsc}). O ID vai no início de
+ * cada mensagem e nunca muda: para evoluir um schema, adicione um novo arquivo
+ * com o próximo ID em vez de editar o existente. Produtores escrevem com a
+ * versão de maior ID do assunto; consumidores leem qualquer versão conhecida
+ * e a resolvem para a mais recente. Na carga, cada versão nova precisa
+ * conseguir ler as anteriores (compatibilidade retroativa), senão a aplicação
+ * não sobe.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public class LocalSchemaRegistry {
+
+    private static final Pattern FILE_NAME = Pattern.compile("(\\d+)-(.+)\\.avsc");
+
+    private final Map<Integer, RegisteredSchema> byId = new HashMap<>();
+    private final Map<String, RegisteredSchema> latestBySubject = new HashMap<>();
+
+    /**
+     * Versão registrada de um schema.
+     *
+     * @param id      ID gravado nas mensagens
+     * @param subject Assunto (tipo de evento)
+     * @param schema  Schema Avro
+     */
+    public record RegisteredSchema(int id, String subject, Schema schema) {
+    }
+
+    /**
+     * @param schemas Versões registradas, em qualquer ordem
+     * @throws IllegalStateException se houver IDs repetidos ou versões
+     *                               incompatíveis
+     */
+    public LocalSchemaRegistry(List<RegisteredSchema> schemas) {
+        List<RegisteredSchema> ordered = new ArrayList<>(schemas);
+        ordered.sort(Comparator.comparingInt(RegisteredSchema::id));
+        for (RegisteredSchema schema : ordered) {
+            if (byId.putIfAbsent(schema.id(), schema) != null) {
+                throw new IllegalStateException("ID de schema repetido: " + schema.id());
+            }
+            RegisteredSchema previous = latestBySubject.put(schema.subject(), schema);
+            if (previous != null) {
+                checkBackwardCompatible(previous, schema);
+            }
+        }
+    }
+
+    /**
+     * Carrega os schemas de um padrão de recursos do Spring (ex:
+     * {@code classpath:avro/*.avsc} ou {@code file:/etc/vidaplena/avro/*.avsc}).
+     *
+     * @param locationPattern Padrão dos arquivos
+     * @return Registro carregado
+     */
+    public static LocalSchemaRegistry load(String locationPattern) {
+        try {
+            Resource[] resources = new PathMatchingResourcePatternResolver().getResources(locationPattern);
+            List<RegisteredSchema> schemas = new ArrayList<>(resources.length);
+            for (Resource resource : resources) {
+                schemas.add(parse(resource));
+            }
+            return new LocalSchemaRegistry(schemas);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao carregar schemas de " + locationPattern, e);
+        }
+    }
+
+    /**
+     * Busca a versão gravada em uma mensagem.
+     *
+     * @param id ID do schema
+     * @return Versão registrada
+     * @throws IllegalArgumentException se o ID não estiver registrado
+     */
+    public RegisteredSchema byId(int id) {
+        RegisteredSchema schema = byId.get(id);
+        if (schema == null) {
+            throw new IllegalArgumentException("Schema não registrado: " + id);
+        }
+        return schema;
+    }
+
+    /**
+     * Versão mais recente de um assunto.
+     *
+     * @param subject Assunto
+     * @return Versão de maior ID
+     * @throws IllegalArgumentException se o assunto não tiver schema
+     */
+    public RegisteredSchema latest(String subject) {
+        RegisteredSchema schema = latestBySubject.get(subject);
+        if (schema == null) {
+            throw new IllegalArgumentException("Nenhum schema registrado para " + subject);
+        }
+        return schema;
+    }
+
+    private static RegisteredSchema parse(Resource resource) throws IOException {
+        String fileName = resource.getFilename();
+        Matcher matcher = FILE_NAME.matcher(fileName == null ? "" : fileName);
+        if (!matcher.matches()) {
+            throw new IllegalStateException("Nome de schema fora do padrão <id>-<subject>.avsc: " + fileName);
+        }
+        try (InputStream in = resource.getInputStream()) {
+            // Um parser por arquivo: cada versão define seus próprios tipos nomeados
+            Schema schema = new Schema.Parser().parse(in);
+            return new RegisteredSchema(Integer.parseInt(matcher.group(1)), matcher.group(2), schema);
+        }
+    }
+
+    private static void checkBackwardCompatible(RegisteredSchema previous, RegisteredSchema current) {
+        SchemaCompatibility.SchemaPairCompatibility compatibility = SchemaCompatibility
+                .checkReaderWriterCompatibility(current.schema(), previous.schema());
+        if (compatibility.getType() != SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE) {
+            throw new IllegalStateException(String.format("Schema %d (%s) não lê a versão %d: %s",
+                    current.id(), current.subject(), previous.id(), compatibility.getDescription()));
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.vidaplena.kafka.serialization;
+
+/**
+ * Formato das mensagens publicadas ({@code kafka.serialization.format}).
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public enum SerializationFormat {
+
+    /**
+     * JSON com cabeçalhos de tipo ({@code JsonSerializer} do Spring Kafka).
+     */
+    JSON,
+
+    /**
+     * Avro binário com o ID do schema no início da mensagem, para os eventos
+     * com schema registrado; os demais continuam em JSON.
+     */
+    AVRO
+}
@@ -0,0 +1,137 @@
+package com.example.vidaplena.mapper;
+
+import com.example.vidaplena.domain.dto.projection.AgendaRow;
+import com.example.vidaplena.domain.dto.projection.AppointmentRow;
+import com.example.vidaplena.domain.dto.response.AgendaEntryResponse;
+import com.example.vidaplena.domain.dto.response.AppointmentResponse;
+import com.example.vidaplena.domain.dto.response.UserResponse;
+import com.example.vidaplena.domain.entity.Appointment;
+import com.example.vidaplena.domain.entity.AppointmentStatus;
+import com.example.vidaplena.domain.entity.MedicalSpecialty;
+import com.example.vidaplena.domain.entity.User;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper para conversão de Appointment e AppointmentRow em
+ * AppointmentResponse.
+ *
+ * <p>
+ * Não implementa {@link EntityMapper}: a criação e a atualização de
+ * atendimentos dependem de regras de negócio e permanecem no
+ * {@code AppointmentService}.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+public class AppointmentMapper {
+
+    /**
+     * Converte uma entidade gerenciada para DTO de response.
+     *
+     * @param appointment Entidade com médico, status e especialidade
+     * @return DTO de saída
+     */
+    public AppointmentResponse toResponse(Appointment appointment) {
+        return AppointmentResponse.builder()
+                .id(appointment.getId())
+                .patient(appointment.getPatient())
+                .doctor(toDoctorResponse(appointment.getDoctor()))
+                .specialty(toSpecialtyResponse(appointment.getSpecialty()))
+                .status(toStatusResponse(appointment.getStatus()))
+                .scheduledDate(appointment.getScheduledDate())
+                .endDate(appointment.getEndDate())
+                .notes(appointment.getNotes())
+                .createdBy(appointment.getCreatedBy())
+                .createdAt(appointment.getCreatedAt())
+                .updatedAt(appointment.getUpdatedAt())
+                .build();
+    }
+
+    /**
+     * Converte uma projeção somente-leitura para DTO de response.
+     *
+     * @param row Projeção do atendimento
+     * @return DTO de saída
+     */
+    public AppointmentResponse toResponse(AppointmentRow row) {
+        return AppointmentResponse.builder()
+                .id(row.id())
+                .patient(row.patient())
+                .doctor(UserResponse.builder()
+                        .id(row.doctorId())
+                        .name(row.doctorName())
+                        .email(row.doctorEmail())
+                        .role(row.doctorRole())
+                        .active(row.doctorActive())
+                        .createdAt(row.doctorCreatedAt())
+                        .build())
+                .specialty(AppointmentResponse.SpecialtyResponse.builder()
+                        .id(row.specialtyId())
+                        .code(row.specialtyCode())
+                        .name(row.specialtyName())
+                        .description(row.specialtyDescription())
+                        .build())
+                .status(AppointmentResponse.AppointmentStatusResponse.builder()
+                        .id(row.statusId())
+                        .code(row.statusCode())
+                        .description(row.statusDescription())
+                        .build())
+                .scheduledDate(row.scheduledDate())
+                .endDate(row.endDate())
+                .notes(row.notes())
+                .createdBy(row.createdBy())
+                .createdAt(row.createdAt())
+                .updatedAt(row.updatedAt())
+                .build();
+    }
+
+    /**
+     * Converte uma linha da agenda para DTO de response.
+     *
+     * @param row Projeção da agenda
+     * @return DTO de saída
+     */
+    public AgendaEntryResponse toAgendaEntry(AgendaRow row) {
+        return AgendaEntryResponse.builder()
+                .id(row.id())
+                .patient(row.patient())
+                .scheduledDate(row.scheduledDate())
+                .endDate(row.endDate())
+                .doctorId(row.doctorId())
+                .doctorName(row.doctorName())
+                .statusCode(row.statusCode())
+                .specialtyCode(row.specialtyCode())
+                .specialtyName(row.specialtyName())
+                .build();
+    }
+
+    private AppointmentResponse.AppointmentStatusResponse toStatusResponse(AppointmentStatus status) {
+        return AppointmentResponse.AppointmentStatusResponse.builder()
+                .id(status.getId())
+                .code(status.getCode())
+                .description(status.getDescription())
+                .build();
+    }
+
+    private AppointmentResponse.SpecialtyResponse toSpecialtyResponse(MedicalSpecialty specialty) {
+        return AppointmentResponse.SpecialtyResponse.builder()
+                .id(specialty.getId())
+                .code(specialty.getCode())
+                .name(specialty.getName())
+                .description(specialty.getDescription())
+                .build();
+    }
+
+    private UserResponse toDoctorResponse(User user) {
+        return UserResponse.builder()
+                .id(user.getId())
+                .name(user.getName())
+                .email(user.getEmail())
+                .role(user.getRole())
+                .active(user.getActive())
+                .createdAt(user.getCreatedAt())
+                .build();
+    }
+}
@@ -21,6 +21,7 @@ public class MedicalSpecialtyMapper
                 .code(request.getCode())
                 .name(request.getName())
                 .description(request.getDescription())
+                .slotDurationMinutes(request.getSlotDurationMinutes() != null ? request.getSlotDurationMinutes() : 30)
                 .active(request.getActive() != null ? request.getActive() : true)
                 .build();
     }
@@ -32,6 +33,7 @@ public class MedicalSpecialtyMapper
                 .code(entity.getCode())
                 .name(entity.getName())
                 .description(entity.getDescription())
+                .slotDurationMinutes(entity.getSlotDurationMinutes())
                 .active(entity.getActive())
                 .build();
     }
@@ -47,6 +49,9 @@ public class MedicalSpecialtyMapper
         if (request.getDescription() != null) {
             entity.setDescription(request.getDescription());
         }
+        if (request.getSlotDurationMinutes() != null) {
+            entity.setSlotDurationMinutes(request.getSlotDurationMinutes());
+        }
         if (request.getActive() != null) {
             entity.setActive(request.getActive());
         }
@@ -1,18 +1,42 @@
 package com.example.vidaplena.repository;
 
+import com.example.vidaplena.domain.dto.projection.AgendaRow;
+import com.example.vidaplena.domain.dto.projection.AppointmentRow;
+import com.example.vidaplena.domain.dto.projection.BookedInterval;
+import com.example.vidaplena.domain.dto.projection.PatientMatch;
 import com.example.vidaplena.domain.entity.Appointment;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository para operações de persistência da entidade Appointment.
  * 
+ * <p>
+ * Métodos cujo resultado é convertido em {@code AppointmentResponse} usam o
+ * grafo {@link Appointment#GRAPH_DETAILS} para buscar médico, status e
+ * especialidade no mesmo SELECT (1 consulta por listagem em vez de 1 + 3N).
+ * </p>
+ * 
+ * <p>
+ * Leituras que apenas alimentam a API (detalhe e listagens paginadas) retornam
+ * {@link AppointmentRow}, projetada por expressão construtora: nenhuma
+ * entidade entra no contexto de persistência.
+ * </p>
+ * 
  * @author VIDA PLENA Team
  * @since 1.0
  */
@@ -37,27 +61,305 @@ public interface AppointmentRepository extends JpaRepository<Appointment, UUID>
     List<Appointment> findByStatusCode(@Param("statusCode") String statusCode);
 
     /**
-     * Busca atendimentos em um intervalo de datas.
+     * Busca atendimentos criados por um usuário específico.
+     * 
+     * @param createdBy Email do usuário que criou
+     * @return Lista de atendimentos criados pelo usuário
+     */
+    List<Appointment> findByCreatedBy(String createdBy);
+
+    // ========================================================================
+    // Variantes com fetch de médico, status e especialidade (sem N+1)
+    // ========================================================================
+
+    /**
+     * Busca um atendimento pelo ID com médico, status e especialidade.
+     * 
+     * @param id ID do atendimento
+     * @return Optional contendo o atendimento se encontrado
+     */
+    @EntityGraph(Appointment.GRAPH_DETAILS)
+    Optional<Appointment> findWithDetailsById(UUID id);
+
+    /**
+     * Retorna todos os atendimentos com médico, status e especialidade.
+     * 
+     * @return Lista de atendimentos
+     */
+    @EntityGraph(Appointment.GRAPH_DETAILS)
+    @Query("SELECT a FROM Appointment a")
+    List<Appointment> findAllWithDetails();
+
+    /**
+     * Busca atendimentos por médico com médico, status e especialidade.
+     * 
+     * @param doctorId ID do médico
+     * @return Lista de atendimentos do médico
+     */
+    @EntityGraph(Appointment.GRAPH_DETAILS)
+    List<Appointment> findWithDetailsByDoctorId(UUID doctorId);
+
+    /**
+     * Busca atendimentos por código de status com médico, status e especialidade.
+     * 
+     * @param statusCode Código do status
+     * @return Lista de atendimentos com o status
+     */
+    @EntityGraph(Appointment.GRAPH_DETAILS)
+    @Query("SELECT a FROM Appointment a WHERE a.status.code = :statusCode")
+    List<Appointment> findWithDetailsByStatusCode(@Param("statusCode") String statusCode);
+
+    /**
+     * Busca atendimentos em um intervalo de datas com médico, status e
+     * especialidade.
      * 
      * @param start Data inicial
      * @param end   Data final
      * @return Lista de atendimentos no intervalo
      */
-    List<Appointment> findByScheduledDateBetween(LocalDateTime start, LocalDateTime end);
+    @EntityGraph(Appointment.GRAPH_DETAILS)
+    List<Appointment> findWithDetailsByScheduledDateBetween(LocalDateTime start, LocalDateTime end);
+
+    // ========================================================================
+    // Leituras somente-leitura projetadas em AppointmentRow
+    // ========================================================================
 
     /**
-     * Busca atendimentos criados por um usuário específico.
+     * Busca a projeção de um atendimento pelo ID.
      * 
-     * @param createdBy Email do usuário que criou
-     * @return Lista de atendimentos criados pelo usuário
+     * @param id ID do atendimento
+     * @return Optional contendo a projeção se encontrada
      */
-    List<Appointment> findByCreatedBy(String createdBy);
+    @Query(AppointmentRow.SELECT + "WHERE a.id = :id")
+    Optional<AppointmentRow> findRowById(@Param("id") UUID id);
+
+    /**
+     * Busca a projeção de vários atendimentos pelo ID.
+     * 
+     * @param ids IDs dos atendimentos
+     * @return Projeções encontradas, sem ordem definida
+     */
+    @Query(AppointmentRow.SELECT + "WHERE a.id IN :ids")
+    List<AppointmentRow> findRowsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Agenda de todos os médicos em um período.
+     * 
+     * <p>
+     * Varredura por faixa em {@code idx_appointments_scheduled_id}.
+     * </p>
+     * 
+     * @param from          Início do período
+     * @param to            Fim do período (exclusivo)
+     * @param specialtyCode Código da especialidade (null para todas)
+     * @return Atendimentos ordenados por data agendada
+     */
+    @Query(AgendaRow.SELECT + "WHERE a.scheduledDate >= :from AND a.scheduledDate < :to "
+            + "AND (:specialtyCode IS NULL OR sp.code = :specialtyCode) "
+            + "ORDER BY a.scheduledDate ASC, a.id ASC")
+    List<AgendaRow> findAgenda(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("specialtyCode") String specialtyCode);
+
+    /**
+     * Agenda de um médico em um período.
+     * 
+     * <p>
+     * Varredura por faixa em {@code idx_appointments_doctor_scheduled_id}.
+     * </p>
+     * 
+     * @param doctorId      ID do médico
+     * @param from          Início do período
+     * @param to            Fim do período (exclusivo)
+     * @param specialtyCode Código da especialidade (null para todas)
+     * @return Atendimentos ordenados por data agendada
+     */
+    @Query(AgendaRow.SELECT + "WHERE d.id = :doctorId "
+            + "AND a.scheduledDate >= :from AND a.scheduledDate < :to "
+            + "AND (:specialtyCode IS NULL OR sp.code = :specialtyCode) "
+            + "ORDER BY a.scheduledDate ASC, a.id ASC")
+    List<AgendaRow> findAgendaByDoctorId(@Param("doctorId") UUID doctorId, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to, @Param("specialtyCode") String specialtyCode);
+
+    /**
+     * Busca os intervalos ocupados de um médico que se sobrepõem a um período.
+     * 
+     * <p>
+     * Atendimentos cancelados não ocupam a agenda. Usa o índice
+     * {@code (doctor_id, scheduled_date, id)}.
+     * </p>
+     * 
+     * @param doctorId ID do médico
+     * @param from     Início do período
+     * @param to       Fim do período (exclusivo)
+     * @return Intervalos ordenados pelo início
+     */
+    @Query("SELECT new com.example.vidaplena.domain.dto.projection.BookedInterval(a.id, a.scheduledDate, a.endDate) "
+            + "FROM Appointment a WHERE a.doctor.id = :doctorId "
+            + "AND a.scheduledDate < :to AND a.endDate > :from AND a.status.code <> 'CANCELED' "
+            + "ORDER BY a.scheduledDate ASC")
+    List<BookedInterval> findBookedIntervals(@Param("doctorId") UUID doctorId,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // ========================================================================
+    // Exportação em fluxo
+    // ========================================================================
+
+    /**
+     * Quantidade de linhas buscadas por ida ao banco durante a exportação.
+     */
+    int EXPORT_FETCH_SIZE = 500;
+
+    /**
+     * Percorre os atendimentos para exportação, somente para frente.
+     * 
+     * <p>
+     * As linhas chegam do banco em blocos de {@value #EXPORT_FETCH_SIZE} (no
+     * PostgreSQL, apenas dentro de uma transação) e, por serem projeções, não
+     * se acumulam no contexto de persistência. O {@link Stream} deve ser
+     * fechado por quem chama. Os filtros opcionais são convertidos com
+     * {@code CAST} no teste de nulo: o PostgreSQL não infere o tipo de um
+     * parâmetro nulo sozinho.
+     * </p>
+     * 
+     * @param from       Início do período (null para sem limite)
+     * @param to         Fim do período, exclusivo (null para sem limite)
+     * @param doctorId   ID do médico (null para todos)
+     * @param statusCode Código do status (null para todos)
+     * @return Atendimentos ordenados por data agendada
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(AppointmentRow.SELECT + "WHERE (CAST(:from AS LocalDateTime) IS NULL OR a.scheduledDate >= :from) "
+            + "AND (CAST(:to AS LocalDateTime) IS NULL OR a.scheduledDate < :to) "
+            + "AND (CAST(:doctorId AS java.util.UUID) IS NULL OR d.id = :doctorId) "
+            + "AND (:statusCode IS NULL OR s.code = :statusCode) "
+            + "ORDER BY a.scheduledDate ASC, a.id ASC")
+    Stream<AppointmentRow> streamForExport(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to,
+            @Param("doctorId") UUID doctorId, @Param("statusCode") String statusCode);
+
+    // ========================================================================
+    // Paginação keyset sobre (scheduled_date, id)
+    // ========================================================================
+
+    /**
+     * Primeira página de atendimentos ordenada por (scheduled_date, id).
+     * 
+     * @param limit Quantidade máxima de registros
+     * @return Atendimentos da primeira página
+     */
+    @Query(AppointmentRow.SELECT + "ORDER BY a.scheduledDate ASC, a.id ASC")
+    List<AppointmentRow> findFirstPage(Limit limit);
+
+    /**
+     * Página de atendimentos posterior ao cursor informado.
+     * 
+     * @param scheduledDate Data agendada do último item da página anterior
+     * @param id            ID do último item da página anterior
+     * @param limit         Quantidade máxima de registros
+     * @return Atendimentos da página
+     */
+    @Query(AppointmentRow.SELECT + "WHERE (a.scheduledDate, a.id) > (:scheduledDate, :id) "
+            + "ORDER BY a.scheduledDate ASC, a.id ASC")
+    List<AppointmentRow> findPageAfter(@Param("scheduledDate") LocalDateTime scheduledDate,
+            @Param("id") UUID id, Limit limit);
+
+    /**
+     * Primeira página de atendimentos de um médico.
+     * 
+     * @param doctorId ID do médico
+     * @param limit    Quantidade máxima de registros
+     * @return Atendimentos da primeira página
+     */
+    @Query(AppointmentRow.SELECT + "WHERE d.id = :doctorId "
+            + "ORDER BY a.scheduledDate ASC, a.id ASC")
+    List<AppointmentRow> findFirstPageByDoctorId(@Param("doctorId") UUID doctorId, Limit limit);
+
+    /**
+     * Página de atendimentos de um médico posterior ao cursor informado.
+     * 
+     * @param doctorId      ID do médico
+     * @param scheduledDate Data agendada do último item da página anterior
+     * @param id            ID do último item da página anterior
+     * @param limit         Quantidade máxima de registros
+     * @return Atendimentos da página
+     */
+    @Query(AppointmentRow.SELECT + "WHERE d.id = :doctorId "
+            + "AND (a.scheduledDate, a.id) > (:scheduledDate, :id) "
+            + "ORDER BY a.scheduledDate ASC, a.id ASC")
+    List<AppointmentRow> findPageByDoctorIdAfter(@Param("doctorId") UUID doctorId,
+            @Param("scheduledDate") LocalDateTime scheduledDate, @Param("id") UUID id, Limit limit);
+
+    /**
+     * Primeira página de atendimentos com um status.
+     * 
+     * @param statusCode Código do status
+     * @param limit      Quantidade máxima de registros
+     * @return Atendimentos da primeira página
+     */
+    @Query(AppointmentRow.SELECT + "WHERE s.code = :statusCode "
+            + "ORDER BY a.scheduledDate ASC, a.id ASC")
+    List<AppointmentRow> findFirstPageByStatusCode(@Param("statusCode") String statusCode, Limit limit);
+
+    /**
+     * Página de atendimentos com um status posterior ao cursor informado.
+     * 
+     * @param statusCode    Código do status
+     * @param scheduledDate Data agendada do último item da página anterior
+     * @param id            ID do último item da página anterior
+     * @param limit         Quantidade máxima de registros
+     * @return Atendimentos da página
+     */
+    @Query(AppointmentRow.SELECT + "WHERE s.code = :statusCode "
+            + "AND (a.scheduledDate, a.id) > (:scheduledDate, :id) "
+            + "ORDER BY a.scheduledDate ASC, a.id ASC")
+    List<AppointmentRow> findPageByStatusCodeAfter(@Param("statusCode") String statusCode,
+            @Param("scheduledDate") LocalDateTime scheduledDate, @Param("id") UUID id, Limit limit);
+
+    // ========================================================================
+    // Busca por paciente (trigramas sobre patient_search)
+    // ========================================================================
+
+    /**
+     * Expressão de similaridade (pg_trgm) entre o nome normalizado e o termo.
+     */
+    String PATIENT_SCORE = "cast(function('similarity', a.patientSearch, :term) as Double)";
+
+    /**
+     * Primeira página da busca por paciente, da maior para a menor
+     * similaridade.
+     * 
+     * <p>
+     * O filtro {@code LIKE '%termo%'} sobre {@code patient_search} é atendido
+     * pelo índice GIN de trigramas; a similaridade é calculada apenas para as
+     * linhas encontradas.
+     * </p>
+     * 
+     * @param term    Termo normalizado
+     * @param pattern Padrão LIKE do termo, com curingas escapados por '!'
+     * @param limit   Quantidade máxima de registros
+     * @return IDs e similaridade dos atendimentos encontrados
+     */
+    @Query("SELECT new com.example.vidaplena.domain.dto.projection.PatientMatch(a.id, " + PATIENT_SCORE + ") "
+            + "FROM Appointment a WHERE a.patientSearch LIKE :pattern ESCAPE '!' "
+            + "ORDER BY " + PATIENT_SCORE + " DESC, a.id ASC")
+    List<PatientMatch> searchByPatient(@Param("term") String term, @Param("pattern") String pattern, Limit limit);
 
     /**
-     * Busca atendimentos por paciente (busca parcial, case-insensitive).
+     * Página da busca por paciente posterior ao cursor informado.
      * 
-     * @param patient Nome do paciente
-     * @return Lista de atendimentos do paciente
+     * @param term    Termo normalizado
+     * @param pattern Padrão LIKE do termo, com curingas escapados por '!'
+     * @param score   Similaridade do último item da página anterior
+     * @param id      ID do último item da página anterior
+     * @param limit   Quantidade máxima de registros
+     * @return IDs e similaridade dos atendimentos encontrados
      */
-    List<Appointment> findByPatientContainingIgnoreCase(String patient);
+    @Query("SELECT new com.example.vidaplena.domain.dto.projection.PatientMatch(a.id, " + PATIENT_SCORE + ") "
+            + "FROM Appointment a WHERE a.patientSearch LIKE :pattern ESCAPE '!' "
+            + "AND (" + PATIENT_SCORE + " < :score OR (" + PATIENT_SCORE + " = :score AND a.id > :id)) "
+            + "ORDER BY " + PATIENT_SCORE + " DESC, a.id ASC")
+    List<PatientMatch> searchByPatientAfter(@Param("term") String term, @Param("pattern") String pattern,
+            @Param("score") Double score, @Param("id") UUID id, Limit limit);
 }
@@ -0,0 +1,38 @@
+package com.example.vidaplena.repository;
+
+import com.example.vidaplena.domain.entity.DoctorWorkingHours;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository para operações de persistência da entidade DoctorWorkingHours.
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Repository
+public interface DoctorWorkingHoursRepository extends JpaRepository<DoctorWorkingHours, Long> {
+
+    /**
+     * Busca os períodos de expediente de um médico.
+     *
+     * @param doctorId ID do médico
+     * @return Períodos do médico (vazio se usar o expediente padrão)
+     */
+    List<DoctorWorkingHours> findByDoctorId(UUID doctorId);
+
+    /**
+     * Remove todos os períodos de expediente de um médico.
+     *
+     * @param doctorId ID do médico
+     */
+    @Modifying
+    @Query("DELETE FROM DoctorWorkingHours w WHERE w.doctorId = :doctorId")
+    void deleteByDoctorId(@Param("doctorId") UUID doctorId);
+}
@@ -0,0 +1,79 @@
+package com.example.vidaplena.repository;
+
+import com.example.vidaplena.domain.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository para operações de persistência da entidade OutboxEvent.
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Bloqueia as próximas mensagens prontas para envio que são as mais
+     * antigas da sua chave, em ordem de gravação.
+     *
+     * <p>
+     * Só a primeira mensagem de cada chave é elegível: enquanto ela existir
+     * (aguardando backoff ou em envio por outro relay), as seguintes da mesma
+     * chave não passam à frente. Linhas já bloqueadas por outro relay são
+     * puladas ({@code SKIP LOCKED}), sem espera entre instâncias.
+     * </p>
+     *
+     * @param now   Instante de referência para o backoff
+     * @param limit Quantidade máxima de chaves
+     * @return Mensagens bloqueadas até o fim da transação
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2")) // -2 = SKIP LOCKED
+    @Query("SELECT e FROM OutboxEvent e WHERE e.nextAttemptAt <= :now "
+            + "AND NOT EXISTS (SELECT 1 FROM OutboxEvent p WHERE p.messageKey = e.messageKey AND p.id < e.id) "
+            + "ORDER BY e.id ASC")
+    List<OutboxEvent> lockNextHeads(@Param("now") LocalDateTime now, Limit limit);
+
+    /**
+     * Mensagens seguintes das chaves já bloqueadas, em ordem de gravação.
+     *
+     * <p>
+     * Não precisam de lock: enquanto a primeira mensagem da chave existir,
+     * nenhum outro relay as seleciona.
+     * </p>
+     *
+     * @param keys    Chaves das mensagens bloqueadas
+     * @param headIds IDs das mensagens bloqueadas
+     * @param limit   Quantidade máxima de mensagens
+     * @return Mensagens seguintes de cada chave
+     */
+    @Query("SELECT e FROM OutboxEvent e WHERE e.messageKey IN :keys AND e.id NOT IN :headIds ORDER BY e.id ASC")
+    List<OutboxEvent> findFollowers(@Param("keys") Collection<String> keys,
+            @Param("headIds") Collection<Long> headIds, Limit limit);
+
+    /**
+     * Reserva mensagens para um relay até o instante informado; depois dele,
+     * se não tiverem sido entregues nem reagendadas, voltam a ser elegíveis.
+     *
+     * @param ids   IDs das mensagens
+     * @param until Fim da reserva
+     * @return Quantidade de mensagens reservadas
+     */
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.nextAttemptAt = :until WHERE e.id IN :ids")
+    int lease(@Param("ids") Collection<Long> ids, @Param("until") LocalDateTime until);
+}
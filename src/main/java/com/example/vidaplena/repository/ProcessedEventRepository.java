@@ -0,0 +1,57 @@
+package com.example.vidaplena.repository;
+
+import com.example.vidaplena.domain.entity.ProcessedEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository para operações de persistência da entidade ProcessedEvent.
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Repository
+public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, UUID> {
+
+    /**
+     * IDs processados recentemente em partições de um tópico.
+     *
+     * @param topic      Tópico principal
+     * @param partitions Partições
+     * @param since      Início da janela
+     * @return IDs dos eventos
+     */
+    @Query("SELECT e.eventId FROM ProcessedEvent e WHERE e.topic = :topic "
+            + "AND e.partitionNo IN :partitions AND e.processedAt >= :since")
+    List<UUID> findRecentIds(@Param("topic") String topic, @Param("partitions") Collection<Integer> partitions,
+            @Param("since") LocalDateTime since);
+
+    /**
+     * IDs já registrados entre os informados.
+     *
+     * @param ids IDs dos eventos
+     * @return IDs existentes
+     */
+    @Query("SELECT e.eventId FROM ProcessedEvent e WHERE e.eventId IN :ids")
+    List<UUID> findExistingIds(@Param("ids") Collection<UUID> ids);
+
+    /**
+     * Remove os registros anteriores à janela de deduplicação.
+     *
+     * @param before Início da janela
+     * @return Quantidade removida
+     */
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProcessedEvent e WHERE e.processedAt < :before")
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
@@ -1,7 +1,11 @@
 package com.example.vidaplena.repository;
 
 import com.example.vidaplena.domain.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -47,4 +51,28 @@ public interface UserRepository extends JpaRepository<User, UUID> {
      * @return Optional contendo o usuário se encontrado e ativo
      */
     Optional<User> findByEmailAndActiveTrue(String email);
+
+    /**
+     * Busca a versão de token de um usuário ativo.
+     * 
+     * @param id ID do usuário
+     * @return Optional com a versão, vazio se o usuário não existir ou estiver
+     *         inativo
+     */
+    @Query("SELECT u.tokenVersion FROM User u WHERE u.id = :id AND u.active = true")
+    Optional<Long> findActiveTokenVersionById(@Param("id") UUID id);
+
+    /**
+     * Busca um usuário com lock pessimista de escrita até o fim da transação.
+     * 
+     * <p>
+     * Usado para serializar agendamentos do mesmo médico entre instâncias.
+     * </p>
+     * 
+     * @param id ID do usuário
+     * @return Optional contendo o usuário bloqueado
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :id")
+    Optional<User> lockById(@Param("id") UUID id);
 }
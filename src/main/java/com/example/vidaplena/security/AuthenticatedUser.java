@@ -0,0 +1,109 @@
+package com.example.vidaplena.security;
+
+import com.example.vidaplena.domain.entity.User;
+import com.example.vidaplena.domain.enums.UserRole;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Principal do Spring Security para usuários autenticados.
+ * 
+ * <p>
+ * Carrega o necessário para autorizar requisições (ID, email, nome, perfil e
+ * versão do token). Pode ser montado a partir do banco ou diretamente das
+ * claims do JWT, sem consulta ao banco.
+ * </p>
+ * 
+ * <p>
+ * Não guarda a senha ({@link #getPassword()} retorna null): a instância fica
+ * no cache {@code userDetails} e no contexto de segurança, e a verificação de
+ * senha do login usa a entidade lida do banco.
+ * </p>
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Getter
+public class AuthenticatedUser implements UserDetails {
+
+    private final UUID id;
+    private final String email;
+    private final String name;
+    private final UserRole role;
+    private final long tokenVersion;
+    private final boolean enabled;
+    private final List<GrantedAuthority> authorities;
+
+    public AuthenticatedUser(UUID id, String email, String name, UserRole role, long tokenVersion,
+            boolean enabled) {
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.role = role;
+        this.tokenVersion = tokenVersion;
+        this.enabled = enabled;
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role.name()));
+    }
+
+    /**
+     * Cria o principal a partir da entidade.
+     * 
+     * @param user Usuário carregado do banco
+     * @return Principal sem a senha
+     */
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getName(), user.getRole(),
+                user.getTokenVersion(), Boolean.TRUE.equals(user.getActive()));
+    }
+
+    /**
+     * Converte o principal em um {@link User} transiente.
+     * 
+     * <p>
+     * Destinado às regras de negócio que recebem o usuário atual (perfil, ID,
+     * nome). A instância não está associada ao contexto de persistência e não
+     * deve ser salva.
+     * </p>
+     * 
+     * @return Usuário transiente
+     */
+    public User toUser() {
+        return User.builder()
+                .id(id)
+                .email(email)
+                .name(name)
+                .role(role)
+                .active(enabled)
+                .tokenVersion(tokenVersion)
+                .build();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    /**
+     * @return Sempre null: o principal não carrega a senha
+     */
+    @Override
+    public String getPassword() {
+        return null;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -1,5 +1,9 @@
 package com.example.vidaplena.security;
 
+import com.example.vidaplena.exception.InvalidTokenException;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,7 +13,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -24,6 +27,12 @@ import java.io.IOException;
  * Authorization.
  * </p>
  * 
+ * <p>
+ * O tempo de validação e resolução do principal é registrado em
+ * {@value #VALIDATION_TIMER}, com {@code outcome} = authenticated, rejected ou
+ * error.
+ * </p>
+ * 
  * @author VIDA PLENA Team
  * @since 1.0
  */
@@ -32,8 +41,14 @@ import java.io.IOException;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    /**
+     * Timer de validação de JWT.
+     */
+    public static final String VALIDATION_TIMER = "vidaplena.jwt.validation";
+
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final JwtPrincipalResolver principalResolver;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -41,29 +56,41 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
+        Timer.Sample sample = null;
+        String outcome = "error";
         try {
             String jwt = extractJwtFromRequest(request);
 
-            if (jwt != null && jwtTokenProvider.validateToken(jwt)) {
-                String username = jwtTokenProvider.getUsernameFromToken(jwt);
+            if (jwt != null) {
+                sample = Timer.start(meterRegistry);
+                // Assinatura e expiração verificadas uma única vez
+                Claims claims = jwtTokenProvider.validateAndGetClaims(jwt);
+                UserDetails userDetails = principalResolver.resolve(claims);
 
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities());
 
-                if (jwtTokenProvider.validateToken(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                    log.debug("Usuário autenticado: {}", username);
-                }
+                outcome = "authenticated";
+                log.debug("Usuário autenticado: {}", userDetails.getUsername());
             }
+        } catch (InvalidTokenException e) {
+            outcome = "rejected";
+            log.warn("Token JWT rejeitado: {}", e.getMessage());
         } catch (Exception e) {
             log.error("Erro ao processar autenticação JWT: {}", e.getMessage());
             // Não lança exceção aqui para permitir que endpoints públicos funcionem
+        } finally {
+            if (sample != null) {
+                sample.stop(Timer.builder(VALIDATION_TIMER)
+                        .description("Validação do JWT e resolução do principal")
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
         }
 
         filterChain.doFilter(request, response);
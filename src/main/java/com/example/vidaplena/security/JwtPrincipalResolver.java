@@ -0,0 +1,81 @@
+package com.example.vidaplena.security;
+
+import com.example.vidaplena.domain.enums.UserRole;
+import com.example.vidaplena.exception.InvalidTokenException;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Monta o principal de uma requisição a partir das claims de um JWT já
+ * validado.
+ * 
+ * <p>
+ * No modo {@link PrincipalMode#CLAIMS} (padrão) o principal é montado das
+ * claims {@code uid}, {@code role}, {@code name} e {@code ver}, e o banco só é
+ * consultado quando o {@link TokenVersionCache} não conhece o usuário. Tokens
+ * sem alguma dessas claims (ex: emitidos antes da inclusão delas), e o modo
+ * {@link PrincipalMode#DATABASE}, usam o {@link UserDetailsService}.
+ * </p>
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+@Slf4j
+public class JwtPrincipalResolver {
+
+    private final UserDetailsService userDetailsService;
+    private final TokenVersionCache tokenVersionCache;
+    private final PrincipalMode mode;
+
+    public JwtPrincipalResolver(UserDetailsService userDetailsService, TokenVersionCache tokenVersionCache,
+            @Value("${jwt.principal-mode:CLAIMS}") PrincipalMode mode) {
+        this.userDetailsService = userDetailsService;
+        this.tokenVersionCache = tokenVersionCache;
+        this.mode = mode;
+        log.info("Principal JWT montado no modo {}", mode);
+    }
+
+    /**
+     * Resolve o principal do token.
+     * 
+     * @param claims Claims de um token com assinatura e expiração válidas
+     * @return Principal autenticado
+     * @throws InvalidTokenException se o token foi revogado
+     */
+    public UserDetails resolve(Claims claims) {
+        String userId = claims.get(JwtTokenProvider.CLAIM_USER_ID, String.class);
+        String role = claims.get(JwtTokenProvider.CLAIM_ROLE, String.class);
+        Long tokenVersion = claims.get(JwtTokenProvider.CLAIM_TOKEN_VERSION, Long.class);
+        if (mode == PrincipalMode.DATABASE || userId == null || role == null || tokenVersion == null) {
+            return loadFromDatabase(claims.getSubject());
+        }
+
+        AuthenticatedUser principal = new AuthenticatedUser(
+                UUID.fromString(userId),
+                claims.getSubject(),
+                claims.get(JwtTokenProvider.CLAIM_NAME, String.class),
+                UserRole.valueOf(role),
+                tokenVersion,
+                true);
+
+        if (!tokenVersionCache.isCurrent(principal.getId(), principal.getTokenVersion())) {
+            throw new InvalidTokenException("Token revogado");
+        }
+        return principal;
+    }
+
+    private UserDetails loadFromDatabase(String username) {
+        UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+        if (!userDetails.getUsername().equals(username)) {
+            throw new InvalidTokenException("Token não corresponde ao usuário");
+        }
+        return userDetails;
+    }
+}
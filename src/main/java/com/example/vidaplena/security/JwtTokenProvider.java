@@ -1,8 +1,13 @@
 package com.example.vidaplena.security;
 
+import com.example.vidaplena.exception.InvalidTokenException;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,6 +27,13 @@ import java.util.function.Function;
  * Responsável por gerar, validar e extrair informações de tokens JWT.
  * </p>
  * 
+ * <p>
+ * A chave de assinatura e o {@link JwtParser} são construídos uma única vez na
+ * inicialização e reutilizados (ambos são imutáveis e thread-safe). Para
+ * autenticar uma requisição use {@link #validateAndGetClaims(String)}, que
+ * verifica a assinatura e a expiração em um único parse.
+ * </p>
+ * 
  * @author VIDA PLENA Team
  * @since 1.0
  */
@@ -29,28 +41,89 @@ import java.util.function.Function;
 @Slf4j
 public class JwtTokenProvider {
 
+    /**
+     * Claim com o ID do usuário.
+     */
+    public static final String CLAIM_USER_ID = "uid";
+
+    /**
+     * Claim com o perfil do usuário.
+     */
+    public static final String CLAIM_ROLE = "role";
+
+    /**
+     * Claim com o nome do usuário.
+     */
+    public static final String CLAIM_NAME = "name";
+
+    /**
+     * Claim com a versão de token do usuário no momento da emissão.
+     */
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+
     @Value("${jwt.secret}")
     private String secret;
 
     @Value("${jwt.expiration}")
     private Long expiration;
 
+    private SecretKey signingKey;
+    private JwtParser jwtParser;
+
     /**
-     * Gera a chave secreta para assinar os tokens.
+     * Constrói a chave de assinatura e o parser a partir da configuração.
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        jwtParser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    /**
+     * Verifica assinatura e expiração do token e retorna suas claims.
+     * 
+     * <p>
+     * O token é interpretado exatamente uma vez; as informações necessárias
+     * (subject, expiração, claims customizadas) devem ser lidas do retorno.
+     * </p>
+     * 
+     * @param token Token JWT
+     * @return Claims do token válido
+     * @throws InvalidTokenException se o token for malformado, tiver assinatura
+     *                               inválida ou estiver expirado
+     */
+    public Claims validateAndGetClaims(String token) {
+        try {
+            return jwtParser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            throw new InvalidTokenException("Token expirado", e);
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new InvalidTokenException("Token inválido: " + e.getMessage(), e);
+        }
     }
 
     /**
      * Gera um token JWT para o usuário.
      * 
+     * <p>
+     * Para um {@link AuthenticatedUser} inclui as claims de ID, perfil, nome e
+     * versão de token, que permitem autenticar requisições sem consultar o
+     * banco.
+     * </p>
+     * 
      * @param userDetails Detalhes do usuário
      * @return Token JWT gerado
      */
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof AuthenticatedUser user) {
+            claims.put(CLAIM_USER_ID, user.getId().toString());
+            claims.put(CLAIM_ROLE, user.getRole().name());
+            claims.put(CLAIM_NAME, user.getName());
+            claims.put(CLAIM_TOKEN_VERSION, user.getTokenVersion());
+        }
         return createToken(claims, userDetails.getUsername());
     }
 
@@ -66,7 +139,7 @@ public class JwtTokenProvider {
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -99,19 +172,7 @@ public class JwtTokenProvider {
      * Extrai todas as claims do token.
      */
     private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
-
-    /**
-     * Verifica se o token está expirado.
-     */
-    private Boolean isTokenExpired(String token) {
-        final Date expiration = getExpirationDateFromToken(token);
-        return expiration.before(new Date());
+        return jwtParser.parseSignedClaims(token).getPayload();
     }
 
     /**
@@ -123,9 +184,8 @@ public class JwtTokenProvider {
      */
     public Boolean validateToken(String token, UserDetails userDetails) {
         try {
-            final String username = getUsernameFromToken(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
-        } catch (Exception e) {
+            return validateAndGetClaims(token).getSubject().equals(userDetails.getUsername());
+        } catch (InvalidTokenException e) {
             log.error("Erro ao validar token: {}", e.getMessage());
             return false;
         }
@@ -139,9 +199,9 @@ public class JwtTokenProvider {
      */
     public Boolean validateToken(String token) {
         try {
-            getAllClaimsFromToken(token);
-            return !isTokenExpired(token);
-        } catch (Exception e) {
+            validateAndGetClaims(token);
+            return true;
+        } catch (InvalidTokenException e) {
             log.error("Token inválido: {}", e.getMessage());
             return false;
         }
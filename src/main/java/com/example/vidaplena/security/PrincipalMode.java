@@ -0,0 +1,24 @@
+package com.example.vidaplena.security;
+
+/**
+ * Estratégia para montar o principal a partir de um JWT válido
+ * ({@code jwt.principal-mode}).
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public enum PrincipalMode {
+
+    /**
+     * Principal montado a partir das claims do token. O banco é consultado
+     * apenas quando o cache de versões de token não tem o usuário.
+     */
+    CLAIMS,
+
+    /**
+     * Principal carregado pelo {@code UserDetailsService} a cada requisição.
+     * Com o cache de usuários habilitado ({@code spring.cache.type=caffeine})
+     * o banco é consultado apenas na ausência da entrada ou após o TTL.
+     */
+    DATABASE
+}
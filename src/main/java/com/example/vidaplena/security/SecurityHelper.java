@@ -24,6 +24,12 @@ public class SecurityHelper {
     /**
      * Retorna o usuário atualmente autenticado.
      * 
+     * <p>
+     * Quando o principal é um {@link AuthenticatedUser}, o usuário é montado a
+     * partir dele sem consulta ao banco. A instância retornada é transiente e
+     * não deve ser persistida nem traz a senha.
+     * </p>
+     * 
      * @return Usuário autenticado
      * @throws UnauthorizedException se não houver usuário autenticado
      */
@@ -36,9 +42,13 @@ public class SecurityHelper {
 
         Object principal = authentication.getPrincipal();
 
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser.toUser();
+        }
+
         if (principal instanceof UserDetails) {
             String email = ((UserDetails) principal).getUsername();
-            return userService.findByEmail(email);
+            return userService.findAccountByEmail(email).toUser();
         }
 
         throw new UnauthorizedException("Usuário não autenticado");
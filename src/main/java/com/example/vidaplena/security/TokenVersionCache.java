@@ -0,0 +1,101 @@
+package com.example.vidaplena.security;
+
+import com.example.vidaplena.repository.UserRepository;
+import com.example.vidaplena.service.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Cache limitado e de curta duração com a versão de token atual de cada
+ * usuário.
+ * 
+ * <p>
+ * Um token é aceito apenas se a versão embutida nas claims for igual à versão
+ * atual do usuário. Na ausência da entrada (primeiro acesso ou TTL expirado) a
+ * versão é lida do banco pela chave primária; usuários inexistentes ou
+ * inativos são registrados como revogados.
+ * </p>
+ * 
+ * <p>
+ * Alterações de usuário descartam a entrada após o commit, nesta e nas demais
+ * instâncias ({@link UserCacheInvalidator}). O TTL
+ * ({@code jwt.version-cache.ttl}) limita a defasagem caso um aviso de
+ * invalidação se perca.
+ * </p>
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+@Slf4j
+public class TokenVersionCache {
+
+    /**
+     * Marcador para usuários inexistentes ou inativos.
+     */
+    private static final long REVOKED = -1L;
+
+    private final UserRepository userRepository;
+    private final AsyncCache<UUID, Long> versions;
+
+    public TokenVersionCache(UserRepository userRepository,
+            @Value("${jwt.version-cache.ttl:PT30S}") Duration ttl,
+            @Value("${jwt.version-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.versions = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxSize)
+                .recordStats()
+                .buildAsync();
+    }
+
+    /**
+     * Verifica se a versão do token é a versão atual do usuário.
+     * 
+     * @param userId       ID do usuário (claim {@code uid})
+     * @param tokenVersion Versão do token (claim {@code ver})
+     * @return true se o token não foi revogado
+     */
+    public boolean isCurrent(UUID userId, long tokenVersion) {
+        Long current = AsyncCacheLoader.get(versions, userId, this::loadVersion);
+        return current != REVOKED && current == tokenVersion;
+    }
+
+    /**
+     * Descarta a versão em cache de um usuário.
+     * 
+     * @param userId ID do usuário
+     */
+    public void invalidate(UUID userId) {
+        versions.synchronous().invalidate(userId);
+    }
+
+    /**
+     * Estatísticas do cache.
+     * 
+     * @return Acertos, faltas e carregamentos acumulados
+     */
+    public CacheStats stats() {
+        return versions.synchronous().stats();
+    }
+
+    /**
+     * Quantidade de usuários em cache.
+     * 
+     * @return Tamanho estimado do cache
+     */
+    public long size() {
+        return versions.synchronous().estimatedSize();
+    }
+
+    private Long loadVersion(UUID userId) {
+        return userRepository.findActiveTokenVersionById(userId).orElse(REVOKED);
+    }
+}
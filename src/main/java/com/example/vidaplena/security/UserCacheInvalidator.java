@@ -0,0 +1,65 @@
+package com.example.vidaplena.security;
+
+import com.example.vidaplena.config.CacheConfig;
+import com.example.vidaplena.domain.dto.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Remove de todos os caches locais os dados de autenticação de um usuário
+ * alterado.
+ * 
+ * <p>
+ * Reage ao {@link UserChangedEvent} local após o commit da alteração e, em
+ * implantações com várias instâncias, aos eventos recebidos de outras
+ * instâncias via Kafka.
+ * </p>
+ * 
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final TokenVersionCache tokenVersionCache;
+
+    /**
+     * Invalida os caches após o commit de uma alteração local.
+     * 
+     * @param event Usuário alterado
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event);
+    }
+
+    /**
+     * Remove as entradas do usuário de todos os caches.
+     * 
+     * @param event Usuário alterado
+     */
+    public void invalidate(UserChangedEvent event) {
+        if (event.getEmail() != null) {
+            evict(CacheConfig.USERS, event.getEmail());
+            evict(CacheConfig.USER_DETAILS, event.getEmail());
+        }
+        if (event.getUserId() != null) {
+            tokenVersionCache.invalidate(event.getUserId());
+        }
+        log.debug("Caches de usuário invalidados: userId={}, email={}", event.getUserId(), event.getEmail());
+    }
+
+    private void evict(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
@@ -1,18 +1,15 @@
 package com.example.vidaplena.security;
 
+import com.example.vidaplena.config.CacheConfig;
 import com.example.vidaplena.domain.entity.User;
 import com.example.vidaplena.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collection;
-import java.util.Collections;
-
 /**
  * Implementação do UserDetailsService do Spring Security.
  * 
@@ -20,6 +17,12 @@ import java.util.Collections;
  * Carrega os detalhes do usuário do banco de dados para autenticação.
  * </p>
  * 
+ * <p>
+ * O resultado ({@link AuthenticatedUser}, imutável e sem a senha) é mantido
+ * no cache {@link CacheConfig#USER_DETAILS} até a próxima alteração do
+ * usuário ou o TTL configurado.
+ * </p>
+ * 
  * @author VIDA PLENA Team
  * @since 1.0
  */
@@ -30,25 +33,11 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     private final UserRepository userRepository;
 
     @Override
+    @Cacheable(cacheNames = CacheConfig.USER_DETAILS, key = "#email")
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         User user = userRepository.findByEmailAndActiveTrue(email)
                 .orElseThrow(() -> new UsernameNotFoundException("Usuário não encontrado: " + email));
 
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                user.getActive(),
-                true, // accountNonExpired
-                true, // credentialsNonExpired
-                true, // accountNonLocked
-                getAuthorities(user));
-    }
-
-    /**
-     * Converte o role do usuário em authorities do Spring Security.
-     */
-    private Collection<? extends GrantedAuthority> getAuthorities(User user) {
-        return Collections.singletonList(
-                new SimpleGrantedAuthority("ROLE_" + user.getRole().name()));
+        return AuthenticatedUser.from(user);
     }
 }
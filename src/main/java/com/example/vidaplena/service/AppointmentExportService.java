@@ -0,0 +1,173 @@
+package com.example.vidaplena.service;
+
+import com.example.vidaplena.domain.dto.projection.AppointmentRow;
+import com.example.vidaplena.exception.BusinessException;
+import com.example.vidaplena.mapper.AppointmentMapper;
+import com.example.vidaplena.repository.AppointmentRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Service para exportação do histórico de atendimentos.
+ *
+ * <p>
+ * As linhas são lidas por {@link AppointmentRepository#streamForExport} e
+ * escritas uma a uma na saída, em NDJSON ou CSV: a memória usada não depende
+ * da quantidade de atendimentos exportados.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentExportService {
+
+    private static final String CSV_HEADER = "id,patient,scheduled_date,end_date,doctor_id,doctor_name,"
+            + "specialty_code,status_code,notes,created_by,created_at";
+
+    private final AppointmentRepository appointmentRepository;
+    private final AppointmentMapper appointmentMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Formatos de exportação suportados.
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public enum Format {
+        NDJSON(MediaType.APPLICATION_NDJSON_VALUE, "ndjson"),
+        CSV("text/csv;charset=UTF-8", "csv");
+
+        private final String contentType;
+        private final String extension;
+    }
+
+    /**
+     * Valida os filtros da exportação antes de a resposta começar a ser
+     * escrita.
+     *
+     * @param from Início do período (opcional)
+     * @param to   Fim do período, exclusivo (opcional)
+     * @throws BusinessException se o período for inválido
+     */
+    public void validateFilters(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new BusinessException("Início do período deve ser anterior ao fim");
+        }
+    }
+
+    /**
+     * Escreve os atendimentos filtrados na saída.
+     *
+     * <p>
+     * Executa em uma transação somente-leitura, necessária para que o driver
+     * do PostgreSQL respeite o fetch size. A saída é descarregada a cada bloco
+     * lido, para que o cliente receba os dados conforme são gerados.
+     * </p>
+     *
+     * @param format     Formato de saída
+     * @param from       Início do período (null para sem limite)
+     * @param to         Fim do período, exclusivo (null para sem limite)
+     * @param doctorId   ID do médico (null para todos)
+     * @param statusCode Código do status (null para todos)
+     * @param output     Saída da resposta (não é fechada)
+     * @return Quantidade de atendimentos exportados
+     * @throws IOException se a escrita falhar (por exemplo, cliente
+     *                     desconectado)
+     */
+    @Transactional(readOnly = true)
+    public long export(Format format, LocalDateTime from, LocalDateTime to, UUID doctorId, String statusCode,
+            OutputStream output) throws IOException {
+        validateFilters(from, to);
+        String status = statusCode == null || statusCode.isBlank() ? null : statusCode;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        long count = 0;
+
+        try (Stream<AppointmentRow> rows = appointmentRepository.streamForExport(from, to, doctorId, status)) {
+            RowWriter rowWriter = format == Format.CSV ? csvWriter(writer) : ndjsonWriter(writer);
+            Iterator<AppointmentRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                rowWriter.write(iterator.next());
+                if (++count % AppointmentRepository.EXPORT_FETCH_SIZE == 0) {
+                    writer.flush();
+                }
+            }
+            writer.flush();
+        }
+
+        log.info("Exportação concluída: formato={}, atendimentos={}", format, count);
+        return count;
+    }
+
+    private RowWriter ndjsonWriter(Writer writer) throws IOException {
+        JsonGenerator generator = objectMapper.createGenerator(writer)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        return row -> {
+            generator.writeObject(appointmentMapper.toResponse(row));
+            generator.flush();
+            writer.write('\n');
+        };
+    }
+
+    private RowWriter csvWriter(Writer writer) throws IOException {
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        return row -> {
+            writer.write(String.join(",",
+                    csv(row.id()),
+                    csv(row.patient()),
+                    csv(row.scheduledDate()),
+                    csv(row.endDate()),
+                    csv(row.doctorId()),
+                    csv(row.doctorName()),
+                    csv(row.specialtyCode()),
+                    csv(row.statusCode()),
+                    csv(row.notes()),
+                    csv(row.createdBy()),
+                    csv(row.createdAt())));
+            writer.write("\r\n");
+        };
+    }
+
+    /**
+     * Formata um campo CSV (RFC 4180), com aspas quando necessário.
+     */
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Escreve uma linha no formato de saída.
+     */
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(AppointmentRow row) throws IOException;
+    }
+}
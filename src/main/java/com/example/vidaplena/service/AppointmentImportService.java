@@ -0,0 +1,272 @@
+package com.example.vidaplena.service;
+
+import com.example.vidaplena.domain.dto.event.AppointmentChangedEvent;
+import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import com.example.vidaplena.domain.dto.request.CreateAppointmentRequest;
+import com.example.vidaplena.domain.dto.response.BulkImportResponse;
+import com.example.vidaplena.domain.entity.Appointment;
+import com.example.vidaplena.domain.entity.AppointmentStatus;
+import com.example.vidaplena.domain.entity.MedicalSpecialty;
+import com.example.vidaplena.domain.entity.User;
+import com.example.vidaplena.domain.enums.UserRole;
+import com.example.vidaplena.exception.ResourceNotFoundException;
+import com.example.vidaplena.repository.AppointmentRepository;
+import com.example.vidaplena.repository.UserRepository;
+import com.example.vidaplena.service.scheduling.SchedulingService;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service para importação de atendimentos em lote.
+ *
+ * <p>
+ * A entrada (array JSON ou NDJSON) é lida em fluxo e processada em blocos de
+ * {@code appointments.import.chunk-size} linhas, cada bloco em uma transação:
+ * </p>
+ * <ul>
+ * <li>Validação de cada linha (Bean Validation) antes de abrir a
+ * transação</li>
+ * <li>Médicos do bloco lidos em uma consulta; especialidades e status pelo
+ * cache de referência</li>
+ * <li>Horários reservados de uma vez ({@link SchedulingService#reserveAll})</li>
+ * <li>Inserções agrupadas pelo Hibernate ({@code hibernate.jdbc.batch_size})
+ * no commit, com eventos publicados em lote</li>
+ * </ul>
+ *
+ * <p>
+ * Linhas inválidas são relatadas e não impedem as demais. Se a gravação de um
+ * bloco falhar, todas as linhas válidas daquele bloco são relatadas como
+ * falha.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AppointmentImportService {
+
+    private final AppointmentRepository appointmentRepository;
+    private final UserRepository userRepository;
+    private final MedicalSpecialtyService specialtyService;
+    private final AppointmentStatusService statusService;
+    private final SchedulingService schedulingService;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${appointments.import.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * Importa atendimentos a partir de um array JSON ou de um fluxo NDJSON.
+     *
+     * @param body        Corpo da requisição
+     * @param currentUser Usuário que está importando (ADMIN ou RECEPTIONIST)
+     * @return Totais e erros por linha
+     * @throws IOException se a leitura da entrada falhar
+     */
+    public BulkImportResponse importAppointments(InputStream body, User currentUser) throws IOException {
+        BulkImportResponse report = new BulkImportResponse();
+        List<Row> chunk = new ArrayList<>(chunkSize);
+        int position = 0;
+
+        try (MappingIterator<CreateAppointmentRequest> iterator = objectMapper
+                .readerFor(CreateAppointmentRequest.class)
+                .readValues(body)) {
+            while (true) {
+                int next = position + 1;
+                try {
+                    if (!iterator.hasNextValue()) {
+                        break;
+                    }
+                    position = next;
+                    chunk.add(new Row(position, iterator.nextValue()));
+                } catch (JsonParseException e) {
+                    position = next;
+                    reject(report, position, "JSON malformado; importação interrompida nesta linha");
+                    break;
+                } catch (JsonMappingException e) {
+                    position = next;
+                    reject(report, position, "Linha inválida: " + e.getOriginalMessage());
+                }
+
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, currentUser, report);
+                    chunk.clear();
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, currentUser, report);
+        }
+
+        report.setReceived(position);
+        report.getErrors().sort(Comparator.comparingInt(BulkImportResponse.RowError::getRow));
+        log.info("Importação concluída: recebidas={}, criadas={}, rejeitadas={}",
+                report.getReceived(), report.getCreated(), report.getFailed());
+        return report;
+    }
+
+    /**
+     * Valida e grava um bloco de linhas em uma transação.
+     */
+    private void importChunk(List<Row> chunk, User currentUser, BulkImportResponse report) {
+        List<Row> valid = new ArrayList<>(chunk.size());
+        for (Row row : chunk) {
+            Set<ConstraintViolation<CreateAppointmentRequest>> violations = validator.validate(row.request());
+            if (violations.isEmpty()) {
+                valid.add(row);
+            } else {
+                reject(report, row.position(), violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            }
+        }
+        if (valid.isEmpty()) {
+            return;
+        }
+
+        List<BulkImportResponse.RowError> errors = new ArrayList<>();
+        try {
+            Integer created = transactionTemplate.execute(status -> persistChunk(valid, currentUser, errors));
+            report.setCreated(report.getCreated() + created);
+            errors.forEach(error -> reject(report, error.getRow(), error.getMessage()));
+        } catch (RuntimeException e) {
+            log.error("Falha ao gravar bloco da importação: linhas {}-{}", valid.get(0).position(),
+                    valid.get(valid.size() - 1).position(), e);
+            valid.forEach(row -> reject(report, row.position(), "Falha ao gravar o bloco: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Resolve referências, reserva horários e grava as linhas válidas.
+     *
+     * @return Quantidade de atendimentos gravados
+     */
+    private int persistChunk(List<Row> rows, User currentUser, List<BulkImportResponse.RowError> errors) {
+        Map<UUID, User> doctors = userRepository.findAllById(rows.stream()
+                .map(row -> row.request().getDoctorId())
+                .collect(Collectors.toSet()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        AppointmentStatus scheduled = statusService.findByCode("SCHEDULED");
+
+        List<Row> resolved = new ArrayList<>(rows.size());
+        List<MedicalSpecialty> specialties = new ArrayList<>(rows.size());
+        List<SchedulingService.Reservation> reservations = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            CreateAppointmentRequest request = row.request();
+            User doctor = doctors.get(request.getDoctorId());
+            if (doctor == null) {
+                errors.add(error(row, "Médico não encontrado: " + request.getDoctorId()));
+                continue;
+            }
+            if (doctor.getRole() != UserRole.DOCTOR) {
+                errors.add(error(row, "Usuário informado não é um médico"));
+                continue;
+            }
+            MedicalSpecialty specialty;
+            try {
+                specialty = specialtyService.findCachedById(request.getSpecialtyId());
+            } catch (ResourceNotFoundException e) {
+                errors.add(error(row, e.getMessage()));
+                continue;
+            }
+
+            resolved.add(row);
+            specialties.add(specialty);
+            reservations.add(new SchedulingService.Reservation(doctor.getId(), request.getScheduledDate(),
+                    request.getScheduledDate().plusMinutes(specialty.getSlotDurationMinutes())));
+        }
+
+        List<String> rejections = schedulingService.reserveAll(reservations);
+        List<Appointment> appointments = new ArrayList<>(resolved.size());
+        for (int i = 0; i < resolved.size(); i++) {
+            Row row = resolved.get(i);
+            if (rejections.get(i) != null) {
+                errors.add(error(row, rejections.get(i)));
+                continue;
+            }
+            CreateAppointmentRequest request = row.request();
+            appointments.add(Appointment.builder()
+                    .patient(request.getPatient())
+                    .doctor(doctors.get(request.getDoctorId()))
+                    .specialty(specialties.get(i))
+                    .status(scheduled)
+                    .scheduledDate(request.getScheduledDate())
+                    .endDate(reservations.get(i).end())
+                    .notes(request.getNotes())
+                    .build());
+        }
+
+        appointmentRepository.saveAll(appointments);
+        publishCreatedEvents(appointments, currentUser);
+        return appointments.size();
+    }
+
+    /**
+     * Publica o evento interno de criação do bloco, encaminhado ao Kafka com
+     * o commit da transação do bloco.
+     */
+    private void publishCreatedEvents(List<Appointment> appointments, User performedBy) {
+        if (appointments.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        eventPublisher.publishEvent(new AppointmentChangedEvent(appointments.stream()
+                .map(appointment -> AppointmentEvent.builder()
+                        .eventType(AppointmentEvent.EventType.CREATED)
+                        .appointmentId(appointment.getId())
+                        .patient(appointment.getPatient())
+                        .doctorName(appointment.getDoctor().getName())
+                        .specialtyName(appointment.getSpecialty().getName())
+                        .status(appointment.getStatus().getCode())
+                        .scheduledDate(appointment.getScheduledDate())
+                        .timestamp(now)
+                        .performedBy(performedBy.getName())
+                        .build())
+                .toList()));
+    }
+
+    private static BulkImportResponse.RowError error(Row row, String message) {
+        return BulkImportResponse.RowError.builder().row(row.position()).message(message).build();
+    }
+
+    private static void reject(BulkImportResponse report, int position, String message) {
+        report.setFailed(report.getFailed() + 1);
+        report.getErrors().add(BulkImportResponse.RowError.builder().row(position).message(message).build());
+    }
+
+    /**
+     * Linha lida da entrada, com sua posição (a partir de 1).
+     */
+    private record Row(int position, CreateAppointmentRequest request) {
+    }
+}
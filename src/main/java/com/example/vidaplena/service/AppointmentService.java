@@ -1,8 +1,14 @@
 package com.example.vidaplena.service;
 
+import com.example.vidaplena.domain.dto.projection.AgendaRow;
+import com.example.vidaplena.domain.dto.projection.AppointmentRow;
+import com.example.vidaplena.domain.dto.projection.PatientMatch;
 import com.example.vidaplena.domain.dto.request.CreateAppointmentRequest;
 import com.example.vidaplena.domain.dto.request.UpdateAppointmentRequest;
+import com.example.vidaplena.domain.dto.response.AgendaEntryResponse;
 import com.example.vidaplena.domain.dto.response.AppointmentResponse;
+import com.example.vidaplena.domain.dto.response.CursorPageResponse;
+import com.example.vidaplena.domain.dto.event.AppointmentChangedEvent;
 import com.example.vidaplena.domain.dto.event.AppointmentEvent;
 import com.example.vidaplena.domain.entity.Appointment;
 import com.example.vidaplena.domain.entity.AppointmentStatus;
@@ -11,17 +17,25 @@ import com.example.vidaplena.domain.entity.User;
 import com.example.vidaplena.domain.enums.UserRole;
 import com.example.vidaplena.exception.BusinessException;
 import com.example.vidaplena.exception.ResourceNotFoundException;
-import com.example.vidaplena.kafka.AppointmentEventProducer;
+import com.example.vidaplena.mapper.AppointmentMapper;
 import com.example.vidaplena.repository.AppointmentRepository;
+import com.example.vidaplena.service.pagination.AppointmentCursor;
+import com.example.vidaplena.service.pagination.PatientSearchCursor;
+import com.example.vidaplena.service.scheduling.SchedulingService;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -32,26 +46,55 @@ import java.util.stream.Collectors;
  * </p>
  * <ul>
  * <li>Data agendada não pode ser no passado</li>
+ * <li>Horário deve estar no expediente do médico e livre (ver
+ * {@link SchedulingService})</li>
  * <li>Status COMPLETED é imutável</li>
  * <li>Apenas médicos podem atualizar status para IN_PROGRESS ou COMPLETED</li>
  * <li>Controle de permissões por perfil de usuário</li>
  * </ul>
  * 
+ * <p>
+ * Cada método público é medido em {@code vidaplena.appointment.service}, com
+ * as tags {@code class}, {@code method} e {@code exception}.
+ * </p>
+ * 
  * @author VIDA PLENA Team
  * @since 1.0
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed(value = "vidaplena.appointment.service", description = "Tempo de execução dos métodos de AppointmentService")
 public class AppointmentService {
 
     private final AppointmentRepository appointmentRepository;
     private final AppointmentStatusService statusService;
     private final UserService userService;
     private final MedicalSpecialtyService specialtyService;
+    private final AppointmentMapper appointmentMapper;
+    private final SchedulingService schedulingService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Tamanho de página padrão para listagens.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+
+    /**
+     * Tamanho máximo de página aceito nas listagens.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    /**
+     * Tamanho mínimo do termo de busca: trigramas exigem ao menos 3
+     * caracteres para usar o índice.
+     */
+    public static final int MIN_SEARCH_LENGTH = 3;
 
-    @Autowired(required = false)
-    private AppointmentEventProducer eventProducer;
+    /**
+     * Período máximo, em dias, de uma consulta de agenda.
+     */
+    public static final int MAX_AGENDA_DAYS = 31;
 
     /**
      * Cria um novo atendimento.
@@ -59,7 +102,8 @@ public class AppointmentService {
      * @param request     Dados do atendimento
      * @param currentUser Usuário que está criando (ADMIN ou RECEPTIONIST)
      * @return Dados do atendimento criado
-     * @throws BusinessException se a data for no passado ou médico não existir
+     * @throws BusinessException se a data for no passado, o médico não existir
+     *                           ou o horário estiver indisponível
      */
     @Transactional
     public AppointmentResponse createAppointment(CreateAppointmentRequest request, User currentUser) {
@@ -77,7 +121,11 @@ public class AppointmentService {
         }
 
         // Buscar especialidade
-        MedicalSpecialty specialty = specialtyService.findById(request.getSpecialtyId());
+        MedicalSpecialty specialty = specialtyService.findCachedById(request.getSpecialtyId());
+
+        // Reservar o horário na agenda do médico
+        LocalDateTime endDate = request.getScheduledDate().plusMinutes(specialty.getSlotDurationMinutes());
+        schedulingService.reserve(doctor.getId(), request.getScheduledDate(), endDate, null);
 
         // Buscar status inicial (SCHEDULED)
         AppointmentStatus scheduledStatus = statusService.findByCode("SCHEDULED");
@@ -89,6 +137,7 @@ public class AppointmentService {
                 .specialty(specialty)
                 .status(scheduledStatus)
                 .scheduledDate(request.getScheduledDate())
+                .endDate(endDate)
                 .notes(request.getNotes())
                 .build();
         // createdBy será preenchido automaticamente via @CreatedBy
@@ -99,7 +148,7 @@ public class AppointmentService {
         // Publicar evento Kafka
         publishCreatedEvent(savedAppointment, currentUser);
 
-        return mapToResponse(savedAppointment);
+        return appointmentMapper.toResponse(savedAppointment);
     }
 
     /**
@@ -127,6 +176,11 @@ public class AppointmentService {
             throw new BusinessException("Data agendada não pode ser no passado");
         }
 
+        UUID previousDoctorId = appointment.getDoctor().getId();
+        LocalDateTime previousStart = appointment.getScheduledDate();
+        LocalDateTime previousEnd = appointment.getEndDate();
+        boolean wasCanceled = "CANCELED".equals(appointment.getStatus().getCode());
+
         // Atualizar médico (se fornecido)
         if (request.getDoctorId() != null) {
             User newDoctor = userService.findById(request.getDoctorId());
@@ -138,7 +192,7 @@ public class AppointmentService {
 
         // Atualizar especialidade (se fornecida)
         if (request.getSpecialtyId() != null) {
-            MedicalSpecialty newSpecialty = specialtyService.findById(request.getSpecialtyId());
+            MedicalSpecialty newSpecialty = specialtyService.findCachedById(request.getSpecialtyId());
             appointment.setSpecialty(newSpecialty);
         }
 
@@ -153,6 +207,21 @@ public class AppointmentService {
         // Validar permissões para mudança de status
         validateStatusChange(appointment, newStatus, currentUser);
 
+        // Recalcular o término e reservar o novo horário, se necessário
+        appointment.setEndDate(appointment.getScheduledDate()
+                .plusMinutes(appointment.getSpecialty().getSlotDurationMinutes()));
+        boolean slotChanged = !appointment.getDoctor().getId().equals(previousDoctorId)
+                || !appointment.getScheduledDate().equals(previousStart)
+                || !appointment.getEndDate().equals(previousEnd);
+        boolean canceled = "CANCELED".equals(newStatus.getCode());
+        if (!canceled && (slotChanged || wasCanceled)) {
+            schedulingService.reserve(appointment.getDoctor().getId(), appointment.getScheduledDate(),
+                    appointment.getEndDate(), appointment.getId());
+        }
+        if (slotChanged || canceled != wasCanceled) {
+            schedulingService.release(previousDoctorId, previousStart);
+        }
+
         // Atualizar status e notas
         appointment.setStatus(newStatus);
         if (request.getNotes() != null) {
@@ -165,7 +234,7 @@ public class AppointmentService {
         // Publicar evento Kafka
         publishUpdatedEvent(updatedAppointment, currentUser);
 
-        return mapToResponse(updatedAppointment);
+        return appointmentMapper.toResponse(updatedAppointment);
     }
 
     /**
@@ -187,7 +256,7 @@ public class AppointmentService {
     }
 
     /**
-     * Busca um atendimento pelo ID.
+     * Busca um atendimento pelo ID, já com médico, status e especialidade.
      * 
      * @param id ID do atendimento
      * @return Atendimento encontrado
@@ -195,58 +264,213 @@ public class AppointmentService {
      */
     @Transactional(readOnly = true)
     public Appointment findById(UUID id) {
-        return appointmentRepository.findById(id)
+        return appointmentRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Atendimento", "ID", id));
     }
 
     /**
      * Busca um atendimento pelo ID e retorna como DTO.
      * 
+     * <p>
+     * Lê diretamente a projeção {@link AppointmentRow}, sem carregar entidades.
+     * </p>
+     * 
      * @param id ID do atendimento
      * @return DTO do atendimento
+     * @throws ResourceNotFoundException se não encontrado
      */
     @Transactional(readOnly = true)
     public AppointmentResponse findByIdAsResponse(UUID id) {
-        Appointment appointment = findById(id);
-        return mapToResponse(appointment);
+        return appointmentRepository.findRowById(id)
+                .map(appointmentMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Atendimento", "ID", id));
     }
 
     /**
-     * Retorna todos os atendimentos.
+     * Retorna uma página de atendimentos ordenada por data agendada.
      * 
-     * @return Lista de atendimentos
+     * @param cursor Cursor opaco da página anterior (null para a primeira)
+     * @param size   Tamanho da página (limitado a {@value #MAX_PAGE_SIZE})
+     * @return Página de atendimentos
      */
     @Transactional(readOnly = true)
-    public List<AppointmentResponse> findAll() {
-        return appointmentRepository.findAll().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<AppointmentResponse> findPage(String cursor, Integer size) {
+        AppointmentCursor after = AppointmentCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<AppointmentRow> rows = after == null
+                ? appointmentRepository.findFirstPage(limit)
+                : appointmentRepository.findPageAfter(after.scheduledDate(), after.id(), limit);
+
+        return toPage(rows, pageSize);
     }
 
     /**
-     * Busca atendimentos por médico.
+     * Retorna uma página de atendimentos de um médico.
      * 
      * @param doctorId ID do médico
-     * @return Lista de atendimentos do médico
+     * @param cursor   Cursor opaco da página anterior (null para a primeira)
+     * @param size     Tamanho da página (limitado a {@value #MAX_PAGE_SIZE})
+     * @return Página de atendimentos do médico
      */
     @Transactional(readOnly = true)
-    public List<AppointmentResponse> findByDoctor(UUID doctorId) {
-        return appointmentRepository.findByDoctorId(doctorId).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<AppointmentResponse> findPageByDoctor(UUID doctorId, String cursor, Integer size) {
+        AppointmentCursor after = AppointmentCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<AppointmentRow> rows = after == null
+                ? appointmentRepository.findFirstPageByDoctorId(doctorId, limit)
+                : appointmentRepository.findPageByDoctorIdAfter(doctorId, after.scheduledDate(), after.id(), limit);
+
+        return toPage(rows, pageSize);
     }
 
     /**
-     * Busca atendimentos por status.
+     * Retorna uma página de atendimentos com um status.
      * 
      * @param statusCode Código do status
-     * @return Lista de atendimentos com o status
+     * @param cursor     Cursor opaco da página anterior (null para a primeira)
+     * @param size       Tamanho da página (limitado a {@value #MAX_PAGE_SIZE})
+     * @return Página de atendimentos com o status
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AppointmentResponse> findPageByStatus(String statusCode, String cursor,
+            Integer size) {
+        AppointmentCursor after = AppointmentCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+
+        List<AppointmentRow> rows = after == null
+                ? appointmentRepository.findFirstPageByStatusCode(statusCode, limit)
+                : appointmentRepository.findPageByStatusCodeAfter(statusCode, after.scheduledDate(), after.id(),
+                        limit);
+
+        return toPage(rows, pageSize);
+    }
+
+    /**
+     * Retorna a agenda de um período, opcionalmente filtrada por médico e
+     * especialidade.
+     * 
+     * @param from          Início do período
+     * @param to            Fim do período (exclusivo)
+     * @param doctorId      ID do médico (null para todos)
+     * @param specialtyCode Código da especialidade (null para todas)
+     * @return Atendimentos do período ordenados por data agendada
+     * @throws BusinessException se o período for inválido ou maior que
+     *                           {@value #MAX_AGENDA_DAYS} dias
+     */
+    @Transactional(readOnly = true)
+    public List<AgendaEntryResponse> findAgenda(LocalDateTime from, LocalDateTime to, UUID doctorId,
+            String specialtyCode) {
+        if (!from.isBefore(to)) {
+            throw new BusinessException("Início do período deve ser anterior ao fim");
+        }
+        if (from.plusDays(MAX_AGENDA_DAYS).isBefore(to)) {
+            throw new BusinessException("Período da agenda não pode exceder " + MAX_AGENDA_DAYS + " dias");
+        }
+
+        String specialty = specialtyCode == null || specialtyCode.isBlank() ? null : specialtyCode;
+        List<AgendaRow> rows = doctorId == null
+                ? appointmentRepository.findAgenda(from, to, specialty)
+                : appointmentRepository.findAgendaByDoctorId(doctorId, from, to, specialty);
+
+        return rows.stream().map(appointmentMapper::toAgendaEntry).collect(Collectors.toList());
+    }
+
+    /**
+     * Busca atendimentos por nome de paciente, ignorando acentos e
+     * maiúsculas, do mais ao menos similar.
+     * 
+     * <p>
+     * Executa duas consultas: a busca por trigramas, que retorna apenas IDs e
+     * similaridade, e a leitura projetada das linhas da página pelo ID.
+     * </p>
+     * 
+     * @param query  Termo pesquisado (mínimo {@value #MIN_SEARCH_LENGTH}
+     *               caracteres)
+     * @param cursor Cursor opaco da página anterior (null para a primeira)
+     * @param size   Tamanho da página (limitado a {@value #MAX_PAGE_SIZE})
+     * @return Página de atendimentos encontrados
+     * @throws BusinessException se o termo for curto demais ou o cursor
+     *                           inválido
      */
     @Transactional(readOnly = true)
-    public List<AppointmentResponse> findByStatus(String statusCode) {
-        return appointmentRepository.findByStatusCode(statusCode).stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+    public CursorPageResponse<AppointmentResponse> searchByPatient(String query, String cursor, Integer size) {
+        String term = Appointment.normalizeSearchText(query);
+        if (term == null || term.length() < MIN_SEARCH_LENGTH) {
+            throw new BusinessException(
+                    "Informe ao menos " + MIN_SEARCH_LENGTH + " caracteres para a busca por paciente");
+        }
+
+        PatientSearchCursor after = PatientSearchCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        Limit limit = Limit.of(pageSize + 1);
+        String pattern = "%" + term.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+
+        List<PatientMatch> matches = after == null
+                ? appointmentRepository.searchByPatient(term, pattern, limit)
+                : appointmentRepository.searchByPatientAfter(term, pattern, after.score(), after.id(), limit);
+
+        boolean hasNext = matches.size() > pageSize;
+        List<PatientMatch> pageMatches = hasNext ? matches.subList(0, pageSize) : matches;
+
+        Map<UUID, AppointmentRow> rows = pageMatches.isEmpty()
+                ? Map.of()
+                : appointmentRepository.findRowsByIdIn(pageMatches.stream().map(PatientMatch::id).toList())
+                        .stream()
+                        .collect(Collectors.toMap(AppointmentRow::id, Function.identity()));
+
+        String nextCursor = null;
+        if (hasNext) {
+            PatientMatch last = pageMatches.get(pageMatches.size() - 1);
+            nextCursor = new PatientSearchCursor(last.score(), last.id()).encode();
+        }
+
+        return CursorPageResponse.<AppointmentResponse>builder()
+                .items(pageMatches.stream()
+                        .map(match -> rows.get(match.id()))
+                        .filter(Objects::nonNull)
+                        .map(appointmentMapper::toResponse)
+                        .collect(Collectors.toList()))
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * Aplica o tamanho padrão e o limite máximo de página.
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    /**
+     * Monta a página a partir de uma consulta com um registro extra
+     * (limit = size + 1), usado apenas para detectar se há próxima página.
+     */
+    private CursorPageResponse<AppointmentResponse> toPage(List<AppointmentRow> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<AppointmentRow> pageItems = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            AppointmentRow last = pageItems.get(pageItems.size() - 1);
+            nextCursor = new AppointmentCursor(last.scheduledDate(), last.id()).encode();
+        }
+
+        return CursorPageResponse.<AppointmentResponse>builder()
+                .items(pageItems.stream().map(appointmentMapper::toResponse).collect(Collectors.toList()))
+                .size(pageSize)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
     }
 
     /**
@@ -273,139 +497,58 @@ public class AppointmentService {
         publishDeletedEvent(appointment, currentUser);
 
         appointmentRepository.delete(appointment);
+        schedulingService.release(appointment.getDoctor().getId(), appointment.getScheduledDate());
         log.info("Atendimento removido: ID={}", id);
     }
 
     /**
-     * Converte entidade Appointment para AppointmentResponse.
-     */
-    private AppointmentResponse mapToResponse(Appointment appointment) {
-        return AppointmentResponse.builder()
-                .id(appointment.getId())
-                .patient(appointment.getPatient())
-                .doctor(mapUserToResponse(appointment.getDoctor()))
-                .specialty(mapSpecialtyToResponse(appointment.getSpecialty()))
-                .status(mapStatusToResponse(appointment.getStatus()))
-                .scheduledDate(appointment.getScheduledDate())
-                .notes(appointment.getNotes())
-                .createdBy(appointment.getCreatedBy()) // Agora é String (email)
-                .createdAt(appointment.getCreatedAt())
-                .updatedAt(appointment.getUpdatedAt())
-                .build();
-    }
-
-    private AppointmentResponse.AppointmentStatusResponse mapStatusToResponse(AppointmentStatus status) {
-        return AppointmentResponse.AppointmentStatusResponse.builder()
-                .id(status.getId())
-                .code(status.getCode())
-                .description(status.getDescription())
-                .build();
-    }
-
-    private AppointmentResponse.SpecialtyResponse mapSpecialtyToResponse(MedicalSpecialty specialty) {
-        return AppointmentResponse.SpecialtyResponse.builder()
-                .id(specialty.getId())
-                .code(specialty.getCode())
-                .name(specialty.getName())
-                .description(specialty.getDescription())
-                .build();
-    }
-
-    private com.example.vidaplena.domain.dto.response.UserResponse mapUserToResponse(User user) {
-        return com.example.vidaplena.domain.dto.response.UserResponse.builder()
-                .id(user.getId())
-                .name(user.getName())
-                .email(user.getEmail())
-                .role(user.getRole())
-                .active(user.getActive())
-                .createdAt(user.getCreatedAt())
-                .build();
-    }
-
-    /**
-     * Publica evento de criação de atendimento no Kafka.
+     * Publica o evento interno de criação de atendimento.
      */
     private void publishCreatedEvent(Appointment appointment, User performedBy) {
-        if (eventProducer == null) {
-            log.debug("Kafka desabilitado - evento de criação não será publicado");
-            return;
-        }
-
-        try {
-            AppointmentEvent event = AppointmentEvent.builder()
-                    .eventType(AppointmentEvent.EventType.CREATED)
-                    .appointmentId(appointment.getId())
-                    .patient(appointment.getPatient())
-                    .doctorName(appointment.getDoctor().getName())
-                    .specialtyName(appointment.getSpecialty().getName())
-                    .status(appointment.getStatus().getCode())
-                    .scheduledDate(appointment.getScheduledDate())
-                    .timestamp(LocalDateTime.now())
-                    .performedBy(performedBy.getName())
-                    .build();
-
-            eventProducer.publishCreatedEvent(event);
-        } catch (Exception e) {
-            log.error("Erro ao publicar evento de criação: {}", e.getMessage(), e);
-            // Não propaga exceção para não interromper o fluxo principal
-        }
+        eventPublisher.publishEvent(
+                AppointmentChangedEvent.of(buildEvent(AppointmentEvent.EventType.CREATED, appointment, performedBy)));
     }
 
     /**
-     * Publica evento de atualização de atendimento no Kafka.
+     * Publica o evento interno de atualização de atendimento.
      */
     private void publishUpdatedEvent(Appointment appointment, User performedBy) {
-        if (eventProducer == null) {
-            log.debug("Kafka desabilitado - evento de atualização não será publicado");
-            return;
-        }
-
-        try {
-            AppointmentEvent event = AppointmentEvent.builder()
-                    .eventType(AppointmentEvent.EventType.UPDATED)
-                    .appointmentId(appointment.getId())
-                    .patient(appointment.getPatient())
-                    .doctorName(appointment.getDoctor().getName())
-                    .specialtyName(appointment.getSpecialty().getName())
-                    .status(appointment.getStatus().getCode())
-                    .scheduledDate(appointment.getScheduledDate())
-                    .timestamp(LocalDateTime.now())
-                    .performedBy(performedBy.getName())
-                    .build();
-
-            eventProducer.publishUpdatedEvent(event);
-        } catch (Exception e) {
-            log.error("Erro ao publicar evento de atualização: {}", e.getMessage(), e);
-            // Não propaga exceção para não interromper o fluxo principal
-        }
+        eventPublisher.publishEvent(
+                AppointmentChangedEvent.of(buildEvent(AppointmentEvent.EventType.UPDATED, appointment, performedBy)));
     }
 
     /**
-     * Publica evento de remoção de atendimento no Kafka.
+     * Publica o evento interno de remoção de atendimento.
      */
     private void publishDeletedEvent(Appointment appointment, User performedBy) {
-        if (eventProducer == null) {
-            log.debug("Kafka desabilitado - evento de remoção não será publicado");
-            return;
-        }
+        eventPublisher.publishEvent(
+                AppointmentChangedEvent.of(buildEvent(AppointmentEvent.EventType.DELETED, appointment, performedBy)));
+    }
 
-        try {
-            AppointmentEvent event = AppointmentEvent.builder()
-                    .eventType(AppointmentEvent.EventType.DELETED)
-                    .appointmentId(appointment.getId())
-                    .patient(appointment.getPatient())
-                    .doctorName(appointment.getDoctor().getName())
-                    .specialtyName(appointment.getSpecialty().getName())
-                    .status(appointment.getStatus().getCode())
-                    .scheduledDate(appointment.getScheduledDate())
-                    .timestamp(LocalDateTime.now())
-                    .performedBy(performedBy.getName())
-                    .build();
-
-            eventProducer.publishDeletedEvent(event);
-        } catch (Exception e) {
-            log.error("Erro ao publicar evento de remoção: {}", e.getMessage(), e);
-            // Não propaga exceção para não interromper o fluxo principal
-        }
+    /**
+     * Monta o evento a partir do atendimento.
+     * 
+     * <p>
+     * O evento é montado aqui, com as associações ainda carregadas, e
+     * encaminhado ao Kafka pelo
+     * {@link com.example.vidaplena.kafka.AppointmentEventDispatcher}: com o
+     * outbox, é gravado antes do commit desta transação (uma falha desfaz a
+     * operação inteira); no envio direto, é publicado depois do commit, sem
+     * bloquear a resposta.
+     * </p>
+     */
+    private AppointmentEvent buildEvent(AppointmentEvent.EventType eventType, Appointment appointment,
+            User performedBy) {
+        return AppointmentEvent.builder()
+                .eventType(eventType)
+                .appointmentId(appointment.getId())
+                .patient(appointment.getPatient())
+                .doctorName(appointment.getDoctor().getName())
+                .specialtyName(appointment.getSpecialty().getName())
+                .status(appointment.getStatus().getCode())
+                .scheduledDate(appointment.getScheduledDate())
+                .timestamp(LocalDateTime.now())
+                .performedBy(performedBy.getName())
+                .build();
     }
 }
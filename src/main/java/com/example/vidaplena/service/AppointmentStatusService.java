@@ -7,7 +7,9 @@ import com.example.vidaplena.exception.ResourceNotFoundException;
 import com.example.vidaplena.mapper.AppointmentStatusMapper;
 import com.example.vidaplena.mapper.EntityMapper;
 import com.example.vidaplena.repository.AppointmentStatusRepository;
+import com.example.vidaplena.service.audit.EntitySnapshot;
 import com.example.vidaplena.service.base.BaseService;
+import com.example.vidaplena.service.cache.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -36,6 +38,7 @@ public class AppointmentStatusService
 
     private final AppointmentStatusRepository statusRepository;
     private final AppointmentStatusMapper statusMapper;
+    private final ReferenceDataCache<AppointmentStatus, Long> statusCache;
 
     @Override
     protected JpaRepository<AppointmentStatus, Long> getRepository() {
@@ -52,6 +55,19 @@ public class AppointmentStatusService
         return "Status de atendimento";
     }
 
+    @Override
+    protected void afterWrite(AppointmentStatus entity) {
+        statusCache.invalidate();
+    }
+
+    @Override
+    protected EntitySnapshot auditSnapshot(AppointmentStatus entity) {
+        return EntitySnapshot.of("AppointmentStatus", entity.getId())
+                .with("code", entity.getCode())
+                .with("description", entity.getDescription())
+                .with("active", entity.getActive());
+    }
+
     /**
      * Inicializa os status padrão do sistema se não existirem.
      * 
@@ -88,6 +104,7 @@ public class AppointmentStatusService
                     .active(true)
                     .build();
             statusRepository.save(status);
+            statusCache.invalidate();
             log.info("Status criado: {} - {}", code, description);
         }
     }
@@ -95,13 +112,17 @@ public class AppointmentStatusService
     /**
      * Busca um status pelo código.
      * 
+     * <p>
+     * Atendido pelo cache de referência; a instância retornada é compartilhada
+     * e não deve ser alterada.
+     * </p>
+     * 
      * @param code Código do status
      * @return Status encontrado
      * @throws ResourceNotFoundException se o status não for encontrado
      */
-    @Transactional(readOnly = true)
     public AppointmentStatus findByCode(String code) {
-        return statusRepository.findByCode(code)
+        return statusCache.findByCode(code)
                 .orElseThrow(() -> new ResourceNotFoundException(
                         "Status de atendimento", "código", code));
     }
@@ -7,7 +7,9 @@ import com.example.vidaplena.exception.ResourceNotFoundException;
 import com.example.vidaplena.mapper.EntityMapper;
 import com.example.vidaplena.mapper.MedicalSpecialtyMapper;
 import com.example.vidaplena.repository.MedicalSpecialtyRepository;
+import com.example.vidaplena.service.audit.EntitySnapshot;
 import com.example.vidaplena.service.base.BaseService;
+import com.example.vidaplena.service.cache.ReferenceDataCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -36,6 +38,7 @@ public class MedicalSpecialtyService
 
     private final MedicalSpecialtyRepository specialtyRepository;
     private final MedicalSpecialtyMapper specialtyMapper;
+    private final ReferenceDataCache<MedicalSpecialty, Long> specialtyCache;
 
     @Override
     protected JpaRepository<MedicalSpecialty, Long> getRepository() {
@@ -52,6 +55,21 @@ public class MedicalSpecialtyService
         return "Especialidade médica";
     }
 
+    @Override
+    protected void afterWrite(MedicalSpecialty entity) {
+        specialtyCache.invalidate();
+    }
+
+    @Override
+    protected EntitySnapshot auditSnapshot(MedicalSpecialty entity) {
+        return EntitySnapshot.of("MedicalSpecialty", entity.getId())
+                .with("code", entity.getCode())
+                .with("name", entity.getName())
+                .with("description", entity.getDescription())
+                .with("slotDurationMinutes", entity.getSlotDurationMinutes())
+                .with("active", entity.getActive());
+    }
+
     /**
      * Inicializa as especialidades padrão do sistema se não existirem.
      * 
@@ -90,10 +108,29 @@ public class MedicalSpecialtyService
                     .active(true)
                     .build();
             specialtyRepository.save(specialty);
+            specialtyCache.invalidate();
             log.info("Especialidade criada: {} - {}", code, name);
         }
     }
 
+    /**
+     * Busca uma especialidade pelo ID no cache de referência.
+     * 
+     * <p>
+     * Destinado a quem apenas referencia a especialidade (ex: criação de
+     * atendimento). A instância retornada é compartilhada e não deve ser
+     * alterada; para edição use {@link #findById(Object)}.
+     * </p>
+     * 
+     * @param id ID da especialidade
+     * @return Especialidade encontrada
+     * @throws ResourceNotFoundException se a especialidade não for encontrada
+     */
+    public MedicalSpecialty findCachedById(Long id) {
+        return specialtyCache.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException(getEntityName(), "ID", id));
+    }
+
     /**
      * Busca uma especialidade pelo código.
      * 
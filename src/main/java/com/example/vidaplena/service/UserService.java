@@ -1,5 +1,9 @@
 package com.example.vidaplena.service;
 
+import com.example.vidaplena.config.CacheConfig;
+import com.example.vidaplena.domain.dto.event.EntityEvent.EventType;
+import com.example.vidaplena.domain.dto.event.UserChangedEvent;
+import com.example.vidaplena.domain.dto.projection.UserAccount;
 import com.example.vidaplena.domain.dto.request.CreateUserRequest;
 import com.example.vidaplena.domain.dto.response.UserResponse;
 import com.example.vidaplena.domain.entity.User;
@@ -8,9 +12,12 @@ import com.example.vidaplena.exception.ResourceNotFoundException;
 import com.example.vidaplena.mapper.EntityMapper;
 import com.example.vidaplena.mapper.UserMapper;
 import com.example.vidaplena.repository.UserRepository;
+import com.example.vidaplena.service.audit.EntitySnapshot;
 import com.example.vidaplena.service.base.BaseService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,6 +44,7 @@ public class UserService extends BaseService<User, UUID, CreateUserRequest, User
 
     private final UserRepository userRepository;
     private final UserMapper userMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     protected JpaRepository<User, UUID> getRepository() {
@@ -53,6 +61,23 @@ public class UserService extends BaseService<User, UUID, CreateUserRequest, User
         return "Usuário";
     }
 
+    @Override
+    protected void afterWrite(User entity) {
+        publishUserChanged(entity);
+    }
+
+    /**
+     * Senha e versão de token não entram na auditoria.
+     */
+    @Override
+    protected EntitySnapshot auditSnapshot(User entity) {
+        return EntitySnapshot.of("User", entity.getId())
+                .with("name", entity.getName())
+                .with("email", entity.getEmail())
+                .with("role", entity.getRole())
+                .with("active", entity.getActive());
+    }
+
     /**
      * Sobrescreve o método create para adicionar validação de email único.
      * 
@@ -77,7 +102,30 @@ public class UserService extends BaseService<User, UUID, CreateUserRequest, User
     }
 
     /**
-     * Busca um usuário pelo email.
+     * Sobrescreve o método update para revogar os tokens emitidos antes da
+     * alteração (perfil, nome e email fazem parte das claims).
+     * 
+     * @param id      ID do usuário
+     * @param request Novos dados do usuário
+     * @return Dados do usuário atualizado
+     */
+    @Override
+    @Transactional
+    public UserResponse update(UUID id, CreateUserRequest request) {
+        User user = findById(id);
+        revokeTokens(user);
+        publishUserChanged(user); // Email anterior, caso seja alterado
+        return super.update(id, request);
+    }
+
+    /**
+     * Busca um usuário pelo email, sempre no banco.
+     * 
+     * <p>
+     * Retorna a entidade, com o hash da senha; usado por quem precisa conferir
+     * a senha (login e troca de senha). Para as demais consultas use
+     * {@link #findAccountByEmail(String)}, que passa pelo cache.
+     * </p>
      * 
      * @param email Email do usuário
      * @return Usuário encontrado
@@ -89,6 +137,24 @@ public class UserService extends BaseService<User, UUID, CreateUserRequest, User
                 .orElseThrow(() -> new ResourceNotFoundException("Usuário", "email", email));
     }
 
+    /**
+     * Busca os dados de um usuário pelo email.
+     * 
+     * <p>
+     * Resultado mantido no cache {@link CacheConfig#USERS} como
+     * {@link UserAccount}, imutável e sem a senha.
+     * </p>
+     * 
+     * @param email Email do usuário
+     * @return Dados do usuário
+     * @throws ResourceNotFoundException se o usuário não for encontrado
+     */
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#email")
+    public UserAccount findAccountByEmail(String email) {
+        return UserAccount.from(findByEmail(email));
+    }
+
     /**
      * Retorna todos os usuários ativos.
      * 
@@ -109,9 +175,13 @@ public class UserService extends BaseService<User, UUID, CreateUserRequest, User
     @Transactional
     public void deactivateUser(UUID id) {
         User user = findById(id);
+        EntitySnapshot before = captureAudit(user);
         user.setActive(false);
         user.setDeleted(true); // Garante compatibilidade com soft delete
+        revokeTokens(user);
         userRepository.save(user);
+        publishUserChanged(user);
+        audit(EventType.UPDATED, before, user, null);
         log.info("Usuário desativado: ID={}", id);
     }
 
@@ -125,7 +195,26 @@ public class UserService extends BaseService<User, UUID, CreateUserRequest, User
     public void updatePassword(UUID id, String encodedPassword) {
         User user = findById(id);
         user.setPassword(encodedPassword);
+        revokeTokens(user);
         userRepository.save(user);
+        publishUserChanged(user);
         log.info("Senha atualizada para usuário: ID={}", id);
     }
+
+    /**
+     * Incrementa a versão de token, invalidando os JWTs já emitidos.
+     */
+    private void revokeTokens(User user) {
+        user.setTokenVersion(user.getTokenVersion() + 1);
+    }
+
+    /**
+     * Publica a alteração do usuário; os ouvintes reagem após o commit.
+     */
+    private void publishUserChanged(User user) {
+        eventPublisher.publishEvent(UserChangedEvent.builder()
+                .userId(user.getId())
+                .email(user.getEmail())
+                .build());
+    }
 }
@@ -0,0 +1,325 @@
+package com.example.vidaplena.service.audit;
+
+import com.example.vidaplena.domain.dto.event.EntityEvent;
+import com.example.vidaplena.domain.dto.event.EntityEvent.EventType;
+import com.example.vidaplena.kafka.PublishExecutor;
+import com.example.vidaplena.kafka.producer.GenericEventProducer;
+import com.example.vidaplena.security.AuthenticatedUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trilha de auditoria das operações CRUD de {@code BaseService}, publicada
+ * como {@link EntityEvent} pelo {@link GenericEventProducer}.
+ *
+ * <p>
+ * As alterações são acumuladas por transação e consolidadas por entidade:
+ * criar e depois atualizar resulta em um CREATED com o estado final; várias
+ * atualizações viram um UPDATED com o primeiro {@code before} e o último
+ * {@code after}; criar e remover na mesma transação não gera evento; uma
+ * atualização sem mudança nos campos auditados também não. O metadado
+ * {@code changes} traz as diferenças ({@link EntitySnapshot#diff}).
+ * </p>
+ *
+ * <p>
+ * A transação só guarda os snapshots; depois do commit, o lote entra em uma
+ * fila limitada e a requisição não espera pelo Kafka (um rollback descarta o
+ * lote). A thread {@code entity-audit-0} fica bloqueada na fila enquanto não
+ * há trabalho; ao receber um lote, espera {@code audit.entity-events.linger}
+ * (padrão 5 ms) e publica de uma vez todos os que chegaram nesse intervalo,
+ * de modo que os commits seguintes não a acordam. Consolidação, diferenças,
+ * montagem e serialização dos eventos acontecem nessa thread. Com a fila
+ * cheia, a requisição publica o próprio lote. Ativo apenas com
+ * {@code kafka.enabled=true} e {@code audit.entity-events.enabled=true}.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+@Slf4j
+@ConditionalOnExpression("${kafka.enabled:false} and ${audit.entity-events.enabled:false}")
+public class EntityAuditRecorder {
+
+    private static final String PUBLISHER_NAME = "entity-audit";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    private final GenericEventProducer producer;
+    private final BlockingQueue<Commit> commits;
+    private final long lingerNanos;
+    private final Counter saturated;
+    private final Thread publisher;
+    private volatile boolean stopping;
+
+    public EntityAuditRecorder(GenericEventProducer producer, MeterRegistry meterRegistry,
+            @Value("${audit.entity-events.queue-capacity:10000}") int queueCapacity,
+            @Value("${audit.entity-events.linger:PT0.005S}") Duration linger) {
+        this.producer = producer;
+        this.commits = new ArrayBlockingQueue<>(queueCapacity);
+        this.lingerNanos = linger.toNanos();
+        this.saturated = Counter.builder(PublishExecutor.SATURATED_COUNTER)
+                .description("Tarefas de publicação executadas por quem as submeteu por falta de espaço na fila")
+                .tag("name", PUBLISHER_NAME)
+                .register(meterRegistry);
+        Gauge.builder("executor.queued", commits, Collection::size)
+                .description("The approximate number of tasks that are queued for execution")
+                .baseUnit("tasks")
+                .tag("name", PUBLISHER_NAME)
+                .register(meterRegistry);
+        Gauge.builder("executor.queue.remaining", commits, BlockingQueue::remainingCapacity)
+                .description("The number of additional elements that this queue can ideally accept without blocking")
+                .baseUnit("tasks")
+                .tag("name", PUBLISHER_NAME)
+                .register(meterRegistry);
+        this.publisher = Thread.ofPlatform().name(PUBLISHER_NAME + "-0").daemon().start(this::publishLoop);
+    }
+
+    /**
+     * Registra uma alteração na transação atual.
+     *
+     * <p>
+     * Sem transação ativa, a alteração é publicada imediatamente (lote de um
+     * evento).
+     * </p>
+     *
+     * @param type       Operação
+     * @param before     Estado anterior (nulo na criação)
+     * @param after      Estado posterior (nulo na remoção)
+     * @param entityData DTO da entidade, enviado em {@code entityData}
+     */
+    public void record(EventType type, EntitySnapshot before, EntitySnapshot after, Object entityData) {
+        Change change = new Change(type, before, after, entityData);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(List.of(change), Actor.current());
+            return;
+        }
+
+        Batch batch = (Batch) TransactionSynchronizationManager.getResource(this);
+        if (batch == null) {
+            batch = new Batch(Actor.current());
+            TransactionSynchronizationManager.bindResource(this, batch);
+            TransactionSynchronizationManager.registerSynchronization(batch);
+        }
+        batch.add(change);
+    }
+
+    /**
+     * Aguarda a publicação dos lotes já enfileirados antes de encerrar.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        stopping = true;
+        // Lote vazio: acorda o publicador se ele estiver bloqueado na fila
+        commits.offer(new Commit(List.of(), null, null), SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        publisher.join(TimeUnit.SECONDS.toMillis(SHUTDOWN_TIMEOUT_SECONDS));
+        if (publisher.isAlive()) {
+            log.warn("Publicações descartadas no encerramento ({}): {}", PUBLISHER_NAME, commits.size());
+        }
+    }
+
+    /**
+     * Enfileira o lote de uma transação; com a fila cheia, publica na thread
+     * atual.
+     */
+    private void submit(List<Change> changes, Actor actor) {
+        Commit commit = new Commit(changes, actor, LocalDateTime.now());
+        if (!commits.offer(commit)) {
+            saturated.increment();
+            publish(commit);
+        }
+    }
+
+    /**
+     * Laço da thread de publicação: bloqueia até chegar um lote, espera o
+     * linger e publica tudo o que estiver na fila.
+     */
+    private void publishLoop() {
+        List<Commit> pending = new ArrayList<>();
+        while (!stopping || !commits.isEmpty()) {
+            try {
+                pending.add(commits.take());
+                if (!stopping) {
+                    TimeUnit.NANOSECONDS.sleep(lingerNanos);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                stopping = true;
+            }
+            commits.drainTo(pending);
+            for (Commit commit : pending) {
+                publish(commit);
+            }
+            pending.clear();
+        }
+    }
+
+    /**
+     * Consolida as alterações de um lote e publica os eventos resultantes.
+     */
+    private void publish(Commit commit) {
+        for (Change change : consolidate(commit.changes())) {
+            EntityEvent<Object> event = change.toEvent(commit.actor(), commit.timestamp());
+            if (event != null) {
+                try {
+                    producer.publishEvent(event);
+                } catch (RuntimeException e) {
+                    log.error("Falha ao publicar auditoria de {} {}: {}", event.getEntityType(),
+                            event.getEntityId(), e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Consolida as alterações de uma transação por entidade, na ordem da
+     * primeira alteração de cada uma.
+     */
+    private static Collection<Change> consolidate(List<Change> changes) {
+        if (changes.size() < 2) {
+            return changes;
+        }
+        Map<String, Change> merged = new LinkedHashMap<>();
+        for (Change change : changes) {
+            String key = change.subject().getEntityType() + ":" + change.subject().getEntityId();
+            Change previous = merged.get(key);
+            Change next = previous == null ? change : previous.then(change);
+            if (next == null) {
+                merged.remove(key);
+            } else {
+                merged.put(key, next);
+            }
+        }
+        return merged.values();
+    }
+
+    /**
+     * Lote de uma transação confirmada, aguardando publicação.
+     */
+    private record Commit(List<Change> changes, Actor actor, LocalDateTime timestamp) {
+    }
+
+    /**
+     * Alterações de uma transação, na ordem em que foram feitas.
+     */
+    private final class Batch implements TransactionSynchronization {
+
+        private final Actor actor;
+        private final List<Change> changes = new ArrayList<>(4);
+
+        Batch(Actor actor) {
+            this.actor = actor;
+        }
+
+        void add(Change change) {
+            changes.add(change);
+        }
+
+        @Override
+        public void suspend() {
+            TransactionSynchronizationManager.unbindResource(EntityAuditRecorder.this);
+        }
+
+        @Override
+        public void resume() {
+            TransactionSynchronizationManager.bindResource(EntityAuditRecorder.this, this);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(EntityAuditRecorder.this);
+            if (status == STATUS_COMMITTED && !changes.isEmpty()) {
+                submit(changes, actor);
+            }
+        }
+    }
+
+    /**
+     * Alteração pendente de uma entidade.
+     */
+    private record Change(EventType type, EntitySnapshot before, EntitySnapshot after, Object entityData) {
+
+        EntitySnapshot subject() {
+            return after != null ? after : before;
+        }
+
+        /**
+         * Consolida esta alteração com a seguinte, da mesma entidade.
+         *
+         * @return Alteração resultante, ou nulo se ambas se anulam
+         */
+        Change then(Change next) {
+            return switch (type) {
+                case CREATED -> next.type == EventType.DELETED ? null
+                        : new Change(EventType.CREATED, null, next.after, next.entityData);
+                case DELETED -> next.type == EventType.CREATED
+                        ? new Change(EventType.UPDATED, before, next.after, next.entityData)
+                        : next;
+                default -> new Change(next.type, before, next.after, next.entityData);
+            };
+        }
+
+        /**
+         * @return Evento a publicar, ou nulo para uma atualização sem
+         *         diferenças
+         */
+        EntityEvent<Object> toEvent(Actor actor, LocalDateTime timestamp) {
+            Map<String, Map<String, Object>> changes = EntitySnapshot.diff(before, after);
+            if (type == EventType.UPDATED && changes.isEmpty()) {
+                return null;
+            }
+            return EntityEvent.builder()
+                    .eventType(type)
+                    .entityType(subject().getEntityType())
+                    .entityId(subject().getEntityId())
+                    .entityData(entityData)
+                    .timestamp(timestamp)
+                    .userId(actor.userId())
+                    .userName(actor.userName())
+                    .build()
+                    .addMetadata("changes", changes);
+        }
+    }
+
+    /**
+     * Usuário autenticado que fez as alterações.
+     */
+    private record Actor(String userId, String userName) {
+
+        static Actor current() {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication == null) {
+                return new Actor(null, null);
+            }
+            Object principal = authentication.getPrincipal();
+            if (principal instanceof AuthenticatedUser user) {
+                return new Actor(user.getEmail(), user.getName());
+            }
+            if (principal instanceof UserDetails user) {
+                return new Actor(user.getUsername(), null);
+            }
+            return new Actor(authentication.getName(), null);
+        }
+    }
+}
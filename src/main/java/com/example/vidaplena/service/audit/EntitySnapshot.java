@@ -0,0 +1,114 @@
+package com.example.vidaplena.service.audit;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Valores auditados de uma entidade em um instante, montados explicitamente
+ * pelo service (sem reflexão).
+ *
+ * <p>
+ * Só entram os campos listados em {@link #with}; dados sensíveis (senha,
+ * versão de token) ficam de fora simplesmente por não serem listados. Os
+ * valores devem ser imutáveis (texto, números, enums, datas).
+ * </p>
+ *
+ * <pre>
+ * EntitySnapshot.of("MedicalSpecialty", specialty.getId())
+ *         .with("code", specialty.getCode())
+ *         .with("active", specialty.getActive());
+ * </pre>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public final class EntitySnapshot {
+
+    private final String entityType;
+    private final String entityId;
+    private final Map<String, Object> fields = new LinkedHashMap<>();
+
+    private EntitySnapshot(String entityType, String entityId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+    }
+
+    /**
+     * Inicia o snapshot de uma entidade.
+     *
+     * @param entityType Nome da entidade (compõe o tópico
+     *                   {@code entity-{entityType}-{eventType}})
+     * @param entityId   ID da entidade
+     * @return Snapshot sem campos
+     */
+    public static EntitySnapshot of(String entityType, Object entityId) {
+        return new EntitySnapshot(entityType, String.valueOf(entityId));
+    }
+
+    /**
+     * Adiciona um campo auditado.
+     *
+     * @param field Nome do campo
+     * @param value Valor atual (pode ser nulo)
+     * @return Este snapshot (para encadeamento)
+     */
+    public EntitySnapshot with(String field, Object value) {
+        fields.put(field, value);
+        return this;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public String getEntityId() {
+        return entityId;
+    }
+
+    public Map<String, Object> getFields() {
+        return Collections.unmodifiableMap(fields);
+    }
+
+    /**
+     * Campos que mudaram entre dois snapshots da mesma entidade, no formato
+     * {@code {campo: {before, after}}}.
+     *
+     * <p>
+     * Sem {@code before} (criação), todos os campos de {@code after} aparecem
+     * com {@code before} nulo; sem {@code after} (remoção), o inverso.
+     * </p>
+     *
+     * @param before Snapshot anterior (ou nulo)
+     * @param after  Snapshot posterior (ou nulo)
+     * @return Diferenças, na ordem dos campos
+     */
+    public static Map<String, Map<String, Object>> diff(EntitySnapshot before, EntitySnapshot after) {
+        Map<String, Object> old = before == null ? Map.of() : before.fields;
+        Map<String, Object> current = after == null ? Map.of() : after.fields;
+
+        Map<String, Map<String, Object>> changes = new LinkedHashMap<>();
+        for (Map.Entry<String, Object> entry : current.entrySet()) {
+            Object previous = old.get(entry.getKey());
+            if (!old.containsKey(entry.getKey()) || !Objects.equals(previous, entry.getValue())) {
+                changes.put(entry.getKey(), change(previous, entry.getValue()));
+            }
+        }
+        for (Map.Entry<String, Object> entry : old.entrySet()) {
+            if (!current.containsKey(entry.getKey())) {
+                changes.put(entry.getKey(), change(entry.getValue(), null));
+            }
+        }
+        return changes;
+    }
+
+    private static Map<String, Object> change(Object before, Object after) {
+        // HashMap: before/after podem ser nulos
+        Map<String, Object> change = new HashMap<>(4);
+        change.put("before", before);
+        change.put("after", after);
+        return change;
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.vidaplena.service.base;
 
+import com.example.vidaplena.domain.dto.event.EntityEvent.EventType;
 import com.example.vidaplena.exception.ResourceNotFoundException;
 import com.example.vidaplena.mapper.EntityMapper;
+import com.example.vidaplena.service.audit.EntityAuditRecorder;
+import com.example.vidaplena.service.audit.EntitySnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +20,12 @@ import java.util.stream.Collectors;
  * CRUD reutilizáveis para todas as entidades do sistema.
  * </p>
  * 
+ * <p>
+ * Com a auditoria habilitada ({@code audit.entity-events.enabled}), as
+ * escritas de services que implementam {@link #auditSnapshot} são publicadas
+ * como eventos {@code entity-*} depois do commit ({@link EntityAuditRecorder}).
+ * </p>
+ * 
  * @param <T>   Tipo da entidade
  * @param <ID>  Tipo do identificador
  * @param <REQ> Tipo do DTO de request
@@ -26,6 +36,9 @@ import java.util.stream.Collectors;
  */
 public abstract class BaseService<T, ID, REQ, RES> {
 
+    @Autowired(required = false)
+    private EntityAuditRecorder auditRecorder;
+
     /**
      * Retorna o repositório JPA da entidade.
      * 
@@ -95,7 +108,10 @@ public abstract class BaseService<T, ID, REQ, RES> {
     public RES create(REQ request) {
         T entity = getMapper().toEntity(request);
         T savedEntity = getRepository().save(entity);
-        return getMapper().toResponse(savedEntity);
+        afterWrite(savedEntity);
+        RES response = getMapper().toResponse(savedEntity);
+        audit(EventType.CREATED, null, savedEntity, response);
+        return response;
     }
 
     /**
@@ -109,9 +125,13 @@ public abstract class BaseService<T, ID, REQ, RES> {
     @Transactional
     public RES update(ID id, REQ request) {
         T entity = findById(id);
+        EntitySnapshot before = captureAudit(entity);
         getMapper().updateEntity(entity, request);
         T updatedEntity = getRepository().save(entity);
-        return getMapper().toResponse(updatedEntity);
+        afterWrite(updatedEntity);
+        RES response = getMapper().toResponse(updatedEntity);
+        audit(EventType.UPDATED, before, updatedEntity, response);
+        return response;
     }
 
     /**
@@ -123,6 +143,69 @@ public abstract class BaseService<T, ID, REQ, RES> {
     @Transactional
     public void delete(ID id) {
         T entity = findById(id);
+        EntitySnapshot before = captureAudit(entity);
         getRepository().delete(entity);
+        afterWrite(entity);
+        audit(EventType.DELETED, before, entity, null);
+    }
+
+    /**
+     * Chamado dentro da transação após cada escrita feita por
+     * {@link #create}, {@link #update} e {@link #delete}.
+     * 
+     * <p>
+     * Implementação padrão vazia. Services que mantêm caches da entidade
+     * sobrescrevem para invalidá-los.
+     * </p>
+     * 
+     * @param entity Entidade criada, atualizada ou removida
+     */
+    protected void afterWrite(T entity) {
+    }
+
+    /**
+     * Valores auditados da entidade, montados campo a campo.
+     * 
+     * <p>
+     * Implementação padrão retorna {@code null}: a entidade não é auditada.
+     * Services que participam da trilha de auditoria sobrescrevem listando
+     * apenas os campos que podem ir para o Kafka.
+     * </p>
+     * 
+     * @param entity Entidade
+     * @return Snapshot da entidade, ou {@code null}
+     */
+    protected EntitySnapshot auditSnapshot(T entity) {
+        return null;
+    }
+
+    /**
+     * Captura o estado anterior de uma escrita, se a auditoria estiver
+     * habilitada.
+     * 
+     * @param entity Entidade antes da alteração
+     * @return Snapshot, ou {@code null} sem auditoria
+     */
+    protected EntitySnapshot captureAudit(T entity) {
+        return auditRecorder == null ? null : auditSnapshot(entity);
+    }
+
+    /**
+     * Registra uma escrita na trilha de auditoria da transação atual.
+     * 
+     * @param type     Operação
+     * @param before   Estado anterior ({@link #captureAudit}), ou {@code null}
+     * @param entity   Entidade após a escrita
+     * @param response DTO da entidade; montado aqui se {@code null}
+     */
+    protected void audit(EventType type, EntitySnapshot before, T entity, RES response) {
+        if (auditRecorder == null) {
+            return;
+        }
+        EntitySnapshot after = type == EventType.DELETED ? null : auditSnapshot(entity);
+        if (before == null && after == null) {
+            return;
+        }
+        auditRecorder.record(type, before, after, response != null ? response : getMapper().toResponse(entity));
     }
 }
@@ -0,0 +1,72 @@
+package com.example.vidaplena.service.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+
+/**
+ * Carregamento sob demanda de um {@link AsyncCache} na thread de quem chama.
+ *
+ * <p>
+ * {@code Cache.get(key, loader)} executa o loader dentro de
+ * {@code ConcurrentHashMap.compute}, que segura um monitor: em uma virtual
+ * thread, uma consulta JDBC feita ali prende (pin) a thread portadora. Aqui o
+ * mapa recebe apenas um future vazio e a carga acontece fora de qualquer lock;
+ * chamadas concorrentes para a mesma chave aguardam esse future, mantendo uma
+ * única carga por chave.
+ * </p>
+ *
+ * <p>
+ * A carga roda na thread (e na transação) de quem chama, como no
+ * {@code Cache.get} síncrono. Uma invalidação durante a carga descarta o future
+ * em andamento: o valor atende quem carregou, mas não permanece no cache.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public final class AsyncCacheLoader {
+
+    private AsyncCacheLoader() {
+    }
+
+    /**
+     * Retorna o valor em cache ou o carrega.
+     *
+     * @param cache  Cache assíncrono
+     * @param key    Chave
+     * @param loader Função de carga (não deve retornar null)
+     * @param <K>    Tipo da chave
+     * @param <V>    Tipo do valor
+     * @return Valor em cache ou recém-carregado
+     */
+    public static <K, V> V get(AsyncCache<K, V> cache, K key, Function<? super K, ? extends V> loader) {
+        CompletableFuture<V> cached = cache.getIfPresent(key);
+        if (cached == null) {
+            CompletableFuture<V> loading = new CompletableFuture<>();
+            cached = cache.asMap().putIfAbsent(key, loading);
+            if (cached == null) {
+                try {
+                    V value = loader.apply(key);
+                    loading.complete(value);
+                    return value;
+                } catch (RuntimeException | Error e) {
+                    // Caffeine remove automaticamente futures com falha
+                    loading.completeExceptionally(e);
+                    throw e;
+                }
+            }
+        }
+
+        try {
+            return cached.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
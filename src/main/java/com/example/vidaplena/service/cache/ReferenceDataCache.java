@@ -0,0 +1,221 @@
+package com.example.vidaplena.service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Near-cache em memória para tabelas de referência pequenas e quase estáticas
+ * (status de atendimento, especialidades médicas).
+ *
+ * <p>
+ * A tabela inteira é mantida em um snapshot imutável publicado por
+ * {@link AtomicReference}. Leituras não usam lock; uma recarga monta um novo
+ * snapshot e o troca atomicamente (copy-on-write). O snapshot é descartado:
+ * </p>
+ * <ul>
+ * <li>após o commit de qualquer escrita na tabela ({@link #invalidate()});</li>
+ * <li>ao expirar o TTL, o que limita a defasagem entre instâncias da
+ * aplicação.</li>
+ * </ul>
+ *
+ * <p>
+ * As entidades são carregadas em uma transação própria e somente-leitura,
+ * portanto ficam destacadas (detached) e não devem ser alteradas por quem
+ * consulta o cache.
+ * </p>
+ *
+ * @param <T>  Tipo da entidade
+ * @param <ID> Tipo do identificador
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Slf4j
+public class ReferenceDataCache<T, ID> {
+
+    private final String name;
+    private final Supplier<List<T>> loader;
+    private final Function<T, ID> idExtractor;
+    private final Function<T, String> codeExtractor;
+    private final Duration ttl;
+    private final TransactionTemplate loadTransaction;
+
+    private final AtomicReference<Snapshot<T, ID>> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    public ReferenceDataCache(String name, Supplier<List<T>> loader, Function<T, ID> idExtractor,
+            Function<T, String> codeExtractor, Duration ttl, PlatformTransactionManager transactionManager) {
+        this.name = name;
+        this.loader = loader;
+        this.idExtractor = idExtractor;
+        this.codeExtractor = codeExtractor;
+        this.ttl = ttl;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Busca um registro pelo ID.
+     *
+     * @param id ID do registro
+     * @return Optional com o registro, vazio se não existir
+     */
+    public Optional<T> findById(ID id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    /**
+     * Busca um registro pelo código.
+     *
+     * @param code Código do registro
+     * @return Optional com o registro, vazio se não existir
+     */
+    public Optional<T> findByCode(String code) {
+        return Optional.ofNullable(current().byCode().get(code));
+    }
+
+    /**
+     * Descarta o snapshot atual.
+     *
+     * <p>
+     * Dentro de uma transação, o descarte acontece somente após o commit; assim
+     * uma leitura concorrente não recarrega o estado anterior à escrita.
+     * </p>
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    clear();
+                }
+            });
+        } else {
+            clear();
+        }
+    }
+
+    /**
+     * Retorna os contadores do cache.
+     *
+     * @return Estatísticas acumuladas desde a inicialização
+     */
+    public Stats stats() {
+        Snapshot<T, ID> current = snapshot.get();
+        return new Stats(name,
+                current == null ? 0 : current.byId().size(),
+                hits.sum(),
+                misses.sum(),
+                loads.sum(),
+                invalidations.sum(),
+                current == null ? null : current.loadedAt());
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void clear() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+        invalidations.increment();
+        log.debug("Cache de referência '{}' invalidado", name);
+    }
+
+    private Snapshot<T, ID> current() {
+        Snapshot<T, ID> current = snapshot.get();
+        if (current != null && !isExpired(current)) {
+            hits.increment();
+            return current;
+        }
+        misses.increment();
+        return reload();
+    }
+
+    /**
+     * Recarrega a tabela. Serializado para que uma rajada de misses resulte em
+     * uma única consulta; quem chega depois reaproveita o snapshot publicado.
+     * Usa {@link ReentrantLock} em vez de {@code synchronized}: a consulta
+     * feita com o lock não prende a thread portadora de uma virtual thread.
+     */
+    private Snapshot<T, ID> reload() {
+        reloadLock.lock();
+        try {
+            return reloadLocked();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private Snapshot<T, ID> reloadLocked() {
+        Snapshot<T, ID> current = snapshot.get();
+        if (current != null && !isExpired(current)) {
+            return current;
+        }
+
+        long expectedGeneration = generation.get();
+        List<T> rows = loadTransaction.execute(status -> loader.get());
+
+        Map<ID, T> byId = new HashMap<>();
+        Map<String, T> byCode = new HashMap<>();
+        for (T row : rows) {
+            byId.put(idExtractor.apply(row), row);
+            byCode.put(codeExtractor.apply(row), row);
+        }
+        Snapshot<T, ID> loaded = new Snapshot<>(Map.copyOf(byId), Map.copyOf(byCode), Instant.now());
+        loads.increment();
+
+        // Uma invalidação durante a carga torna o resultado possivelmente
+        // antigo: ele atende esta chamada, mas não é publicado.
+        if (generation.get() == expectedGeneration) {
+            snapshot.set(loaded);
+        }
+        log.debug("Cache de referência '{}' carregado com {} registros", name, byId.size());
+        return loaded;
+    }
+
+    private boolean isExpired(Snapshot<T, ID> current) {
+        return current.loadedAt().plus(ttl).isBefore(Instant.now());
+    }
+
+    private record Snapshot<T, ID>(Map<ID, T> byId, Map<String, T> byCode, Instant loadedAt) {
+    }
+
+    /**
+     * Estatísticas de um cache de referência.
+     *
+     * @param name          Nome do cache
+     * @param size          Registros no snapshot atual
+     * @param hits          Consultas atendidas pelo snapshot
+     * @param misses        Consultas que exigiram recarga
+     * @param loads         Recargas executadas no banco
+     * @param invalidations Invalidações por escrita
+     * @param loadedAt      Instante da última carga (null se vazio)
+     */
+    public record Stats(String name, int size, long hits, long misses, long loads, long invalidations,
+            Instant loadedAt) {
+    }
+}
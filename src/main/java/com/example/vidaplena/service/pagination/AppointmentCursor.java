@@ -0,0 +1,70 @@
+package com.example.vidaplena.service.pagination;
+
+import com.example.vidaplena.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor de paginação keyset para atendimentos.
+ *
+ * <p>
+ * Representa a posição do último item retornado na ordenação
+ * {@code (scheduled_date, id)}. A próxima página é obtida com
+ * {@code (scheduled_date, id) > (cursor.scheduledDate, cursor.id)}, o que
+ * permite ao PostgreSQL iniciar a varredura diretamente no índice composto,
+ * sem OFFSET: a latência permanece constante independente da profundidade.
+ * </p>
+ *
+ * <p>
+ * O token exposto ao cliente é Base64 URL-safe e deve ser tratado como opaco.
+ * </p>
+ *
+ * @param scheduledDate Data agendada do último item da página
+ * @param id            ID do último item da página
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public record AppointmentCursor(LocalDateTime scheduledDate, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Codifica o cursor em um token opaco.
+     *
+     * @return Token Base64 URL-safe
+     */
+    public String encode() {
+        String raw = scheduledDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um token recebido do cliente.
+     *
+     * @param token Token opaco (pode ser null ou vazio para a primeira página)
+     * @return Cursor decodificado ou null para a primeira página
+     * @throws BusinessException se o token for inválido
+     */
+    public static AppointmentCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+            return new AppointmentCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BusinessException("Cursor de paginação inválido", e);
+        }
+    }
+}
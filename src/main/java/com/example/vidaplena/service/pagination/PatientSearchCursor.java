@@ -0,0 +1,66 @@
+package com.example.vidaplena.service.pagination;
+
+import com.example.vidaplena.exception.BusinessException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Cursor de paginação keyset para a busca por paciente.
+ *
+ * <p>
+ * Representa a posição do último item retornado na ordenação
+ * {@code (similaridade DESC, id ASC)}. A próxima página é obtida com
+ * similaridade menor, ou igual com id maior, sem OFFSET.
+ * </p>
+ *
+ * <p>
+ * O token exposto ao cliente é Base64 URL-safe e deve ser tratado como opaco.
+ * </p>
+ *
+ * @param score Similaridade do último item da página
+ * @param id    ID do último item da página
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public record PatientSearchCursor(double score, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Codifica o cursor em um token opaco.
+     *
+     * @return Token Base64 URL-safe
+     */
+    public String encode() {
+        String raw = score + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodifica um token recebido do cliente.
+     *
+     * @param token Token opaco (pode ser null ou vazio para a primeira página)
+     * @return Cursor decodificado ou null para a primeira página
+     * @throws BusinessException se o token for inválido
+     */
+    public static PatientSearchCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+            return new PatientSearchCursor(
+                    Double.parseDouble(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException("Cursor de paginação inválido", e);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.vidaplena.service.scheduling;
+
+import com.example.vidaplena.domain.dto.projection.BookedInterval;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Agenda ocupada de um médico em um dia: índice imutável de intervalos.
+ *
+ * <p>
+ * Os intervalos ficam em um array ordenado pelo início. Uma consulta de
+ * conflito faz uma busca binária pelo primeiro intervalo que ainda pode
+ * alcançar o início pedido (início maior que {@code início - maior duração})
+ * e percorre apenas os intervalos que começam antes do fim pedido. Para uma
+ * agenda sem sobreposições isso é O(log n) e visita no máximo dois intervalos.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public final class DaySchedule {
+
+    private final BookedInterval[] intervals;
+    private final Duration longest;
+
+    private DaySchedule(BookedInterval[] intervals, Duration longest) {
+        this.intervals = intervals;
+        this.longest = longest;
+    }
+
+    /**
+     * Monta o índice a partir dos intervalos ocupados do dia.
+     *
+     * @param booked Intervalos em qualquer ordem
+     * @return Índice imutável
+     */
+    public static DaySchedule of(List<BookedInterval> booked) {
+        BookedInterval[] sorted = booked.toArray(BookedInterval[]::new);
+        Arrays.sort(sorted, Comparator.comparing(BookedInterval::start));
+        Duration longest = Duration.ZERO;
+        for (BookedInterval interval : sorted) {
+            Duration length = Duration.between(interval.start(), interval.end());
+            if (length.compareTo(longest) > 0) {
+                longest = length;
+            }
+        }
+        return new DaySchedule(sorted, longest);
+    }
+
+    /**
+     * Verifica se o intervalo {@code [start, end)} se sobrepõe a algum
+     * atendimento.
+     *
+     * @param start     Início pretendido
+     * @param end       Término pretendido (exclusivo)
+     * @param excludeId Atendimento ignorado na verificação (o próprio, em uma
+     *                  remarcação); pode ser null
+     * @return true se houver conflito
+     */
+    public boolean hasConflict(LocalDateTime start, LocalDateTime end, UUID excludeId) {
+        for (int i = firstStartingAfter(start.minus(longest)); i < intervals.length; i++) {
+            BookedInterval interval = intervals[i];
+            if (!interval.start().isBefore(end)) {
+                return false;
+            }
+            if (interval.end().isAfter(start) && !interval.id().equals(excludeId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Quantidade de atendimentos no dia.
+     */
+    public int size() {
+        return intervals.length;
+    }
+
+    /**
+     * Índice do primeiro intervalo que começa estritamente depois do instante.
+     */
+    private int firstStartingAfter(LocalDateTime instant) {
+        int low = 0;
+        int high = intervals.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (intervals[mid].start().isAfter(instant)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
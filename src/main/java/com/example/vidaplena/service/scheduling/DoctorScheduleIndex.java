@@ -0,0 +1,219 @@
+package com.example.vidaplena.service.scheduling;
+
+import com.example.vidaplena.domain.entity.DoctorWorkingHours;
+import com.example.vidaplena.domain.enums.UserRole;
+import com.example.vidaplena.repository.AppointmentRepository;
+import com.example.vidaplena.repository.DoctorWorkingHoursRepository;
+import com.example.vidaplena.repository.UserRepository;
+import com.example.vidaplena.service.cache.AsyncCacheLoader;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Índice em memória da agenda dos médicos.
+ *
+ * <p>
+ * Mantém dois caches limitados:
+ * </p>
+ * <ul>
+ * <li><b>Dias:</b> um {@link DaySchedule} por médico e dia, carregado sob
+ * demanda com uma única consulta de intervalos;</li>
+ * <li><b>Expediente:</b> o {@link WorkingHours} de cada médico (ou vazio se o
+ * ID não for de um médico).</li>
+ * </ul>
+ *
+ * <p>
+ * Escritas descartam as entradas afetadas após o commit. Outras instâncias
+ * podem ficar defasadas até o TTL ({@code scheduling.index.ttl}); por isso o
+ * índice serve consultas e a verificação rápida de conflito, mas a decisão
+ * final de um agendamento é tomada sobre o banco, sob lock
+ * ({@link SchedulingService#reserve}).
+ * </p>
+ *
+ * <p>
+ * As cargas usam {@link AsyncCacheLoader}, que não segura locks durante a
+ * consulta ao banco (seguro para virtual threads).
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Component
+@Slf4j
+public class DoctorScheduleIndex {
+
+    private final AppointmentRepository appointmentRepository;
+    private final UserRepository userRepository;
+    private final DoctorWorkingHoursRepository workingHoursRepository;
+    private final WorkingHours defaultHours;
+    private final AsyncCache<DayKey, DaySchedule> days;
+    private final AsyncCache<UUID, Optional<WorkingHours>> hours;
+
+    public DoctorScheduleIndex(AppointmentRepository appointmentRepository,
+            UserRepository userRepository,
+            DoctorWorkingHoursRepository workingHoursRepository,
+            @Value("${scheduling.index.ttl:PT1M}") Duration ttl,
+            @Value("${scheduling.index.max-days:50000}") long maxDays,
+            @Value("${scheduling.default-hours.days:MONDAY,TUESDAY,WEDNESDAY,THURSDAY,FRIDAY}") List<DayOfWeek> defaultDays,
+            @Value("${scheduling.default-hours.periods:08:00-12:00,13:00-18:00}") List<String> defaultPeriods) {
+        this.appointmentRepository = appointmentRepository;
+        this.userRepository = userRepository;
+        this.workingHoursRepository = workingHoursRepository;
+        this.defaultHours = parseDefaultHours(defaultDays, defaultPeriods);
+        this.days = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxDays)
+                .recordStats()
+                .buildAsync();
+        this.hours = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(10_000)
+                .buildAsync();
+    }
+
+    /**
+     * Agenda ocupada de um médico em um dia.
+     *
+     * @param doctorId ID do médico
+     * @param date     Dia
+     * @return Índice do dia, carregado do banco se ausente
+     */
+    public DaySchedule day(UUID doctorId, LocalDate date) {
+        return AsyncCacheLoader.get(days, new DayKey(doctorId, date), this::loadDay);
+    }
+
+    /**
+     * Recarrega do banco a agenda de um médico em um dia, substituindo a
+     * entrada em cache.
+     *
+     * @param doctorId ID do médico
+     * @param date     Dia
+     * @return Índice atualizado
+     */
+    public DaySchedule reloadDay(UUID doctorId, LocalDate date) {
+        DayKey key = new DayKey(doctorId, date);
+        DaySchedule schedule = loadDay(key);
+        days.synchronous().put(key, schedule);
+        return schedule;
+    }
+
+    /**
+     * Expediente de um médico.
+     *
+     * @param doctorId ID do usuário
+     * @return Expediente próprio ou padrão; vazio se o usuário não existir ou
+     *         não for um médico
+     */
+    public Optional<WorkingHours> workingHours(UUID doctorId) {
+        return AsyncCacheLoader.get(hours, doctorId, this::loadWorkingHours);
+    }
+
+    /**
+     * Descarta a agenda de um médico em um dia após o commit.
+     *
+     * @param doctorId ID do médico
+     * @param date     Dia
+     */
+    public void invalidateDay(UUID doctorId, LocalDate date) {
+        DayKey key = new DayKey(doctorId, date);
+        afterCommit(() -> days.synchronous().invalidate(key));
+    }
+
+    /**
+     * Descarta o expediente de um médico após o commit.
+     *
+     * @param doctorId ID do médico
+     */
+    public void invalidateWorkingHours(UUID doctorId) {
+        afterCommit(() -> hours.synchronous().invalidate(doctorId));
+    }
+
+    /**
+     * Estatísticas do cache de dias.
+     *
+     * @return Acertos, faltas e carregamentos acumulados
+     */
+    public CacheStats dayStats() {
+        return days.synchronous().stats();
+    }
+
+    /**
+     * Quantidade de dias em cache.
+     *
+     * @return Tamanho estimado do cache de dias
+     */
+    public long cachedDays() {
+        return days.synchronous().estimatedSize();
+    }
+
+    private DaySchedule loadDay(DayKey key) {
+        return DaySchedule.of(appointmentRepository.findBookedIntervals(key.doctorId(),
+                key.date().atStartOfDay(), key.date().plusDays(1).atStartOfDay()));
+    }
+
+    private Optional<WorkingHours> loadWorkingHours(UUID doctorId) {
+        boolean isDoctor = userRepository.findById(doctorId)
+                .filter(user -> user.getRole() == UserRole.DOCTOR)
+                .isPresent();
+        if (!isDoctor) {
+            return Optional.empty();
+        }
+
+        List<DoctorWorkingHours> periods = workingHoursRepository.findByDoctorId(doctorId);
+        if (periods.isEmpty()) {
+            return Optional.of(defaultHours);
+        }
+
+        Map<DayOfWeek, List<WorkingHours.TimeRange>> byDay = new EnumMap<>(DayOfWeek.class);
+        for (DoctorWorkingHours period : periods) {
+            byDay.computeIfAbsent(period.getDayOfWeek(), day -> new ArrayList<>())
+                    .add(new WorkingHours.TimeRange(period.getStartTime(), period.getEndTime()));
+        }
+        return Optional.of(WorkingHours.of(false, byDay));
+    }
+
+    private static WorkingHours parseDefaultHours(List<DayOfWeek> days, List<String> periods) {
+        List<WorkingHours.TimeRange> ranges = periods.stream()
+                .map(period -> {
+                    String[] bounds = period.trim().split("-");
+                    return new WorkingHours.TimeRange(LocalTime.parse(bounds[0]), LocalTime.parse(bounds[1]));
+                })
+                .toList();
+        Map<DayOfWeek, List<WorkingHours.TimeRange>> byDay = new EnumMap<>(DayOfWeek.class);
+        days.forEach(day -> byDay.put(day, ranges));
+        return WorkingHours.of(true, byDay);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private record DayKey(UUID doctorId, LocalDate date) {
+    }
+}
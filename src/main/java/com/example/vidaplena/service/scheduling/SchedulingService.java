@@ -0,0 +1,366 @@
+package com.example.vidaplena.service.scheduling;
+
+import com.example.vidaplena.domain.dto.projection.BookedInterval;
+import com.example.vidaplena.domain.dto.request.WorkingHoursRequest;
+import com.example.vidaplena.domain.dto.response.AvailableSlotResponse;
+import com.example.vidaplena.domain.dto.response.WorkingHoursResponse;
+import com.example.vidaplena.domain.entity.DoctorWorkingHours;
+import com.example.vidaplena.domain.entity.MedicalSpecialty;
+import com.example.vidaplena.exception.BusinessException;
+import com.example.vidaplena.exception.ResourceNotFoundException;
+import com.example.vidaplena.repository.DoctorWorkingHoursRepository;
+import com.example.vidaplena.repository.UserRepository;
+import com.example.vidaplena.service.MedicalSpecialtyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Motor de agenda: expediente dos médicos, detecção de conflitos e busca de
+ * horários livres.
+ *
+ * <p>
+ * <b>Regras:</b>
+ * </p>
+ * <ul>
+ * <li>Um atendimento ocupa {@code [início, início + duração da
+ * especialidade)}</li>
+ * <li>Deve começar e terminar no mesmo dia: conflitos são verificados e
+ * bloqueados por dia (o do início), então um atendimento que atravessa a
+ * meia-noite é rejeitado em vez de ter o dia seguinte ignorado</li>
+ * <li>Deve caber inteiro em um período de expediente do médico</li>
+ * <li>Não pode se sobrepor a outro atendimento não cancelado do mesmo
+ * médico</li>
+ * </ul>
+ *
+ * <p>
+ * <b>Consistência:</b> a verificação de conflito é feita primeiro no índice em
+ * memória ({@link DoctorScheduleIndex}), sem lock; um conflito ali é confirmado
+ * relendo o dia, já que a entrada pode estar defasada. Se passar, a linha do médico é bloqueada
+ * ({@code SELECT ... FOR UPDATE}) e o dia é relido do banco antes da decisão
+ * final. O lock serializa agendamentos concorrentes do mesmo médico, inclusive
+ * entre instâncias, até o commit da transação que o obteve.
+ * </p>
+ *
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SchedulingService {
+
+    /**
+     * Quantidade padrão de horários retornados.
+     */
+    public static final int DEFAULT_SLOT_COUNT = 10;
+
+    /**
+     * Quantidade máxima de horários retornados.
+     */
+    public static final int MAX_SLOT_COUNT = 50;
+
+    private static final String CROSSES_MIDNIGHT = "Atendimento não pode atravessar a meia-noite";
+
+    private final DoctorScheduleIndex scheduleIndex;
+    private final DoctorWorkingHoursRepository workingHoursRepository;
+    private final UserRepository userRepository;
+    private final MedicalSpecialtyService specialtyService;
+
+    @Value("${scheduling.search-horizon-days:60}")
+    private int searchHorizonDays;
+
+    /**
+     * Reserva o intervalo na agenda do médico, dentro da transação de quem
+     * chama.
+     *
+     * @param doctorId      ID do médico
+     * @param start         Início do atendimento
+     * @param end           Término do atendimento (exclusivo)
+     * @param appointmentId Atendimento sendo remarcado (null em uma criação)
+     * @throws BusinessException se o horário atravessar a meia-noite, estiver
+     *                           fora do expediente ou em conflito
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(UUID doctorId, LocalDateTime start, LocalDateTime end, UUID appointmentId) {
+        WorkingHours workingHours = requireWorkingHours(doctorId);
+        if (crossesMidnight(start, end)) {
+            throw new BusinessException(CROSSES_MIDNIGHT);
+        }
+        if (!workingHours.contains(start, end)) {
+            throw new BusinessException("Horário fora do expediente do médico");
+        }
+
+        // Um conflito no índice pode vir de uma entrada defasada: confirma
+        // relendo o dia antes de rejeitar
+        LocalDate date = start.toLocalDate();
+        if (scheduleIndex.day(doctorId, date).hasConflict(start, end, appointmentId)
+                && scheduleIndex.reloadDay(doctorId, date).hasConflict(start, end, appointmentId)) {
+            throw new BusinessException("Médico já possui atendimento neste horário");
+        }
+
+        userRepository.lockById(doctorId);
+        if (scheduleIndex.reloadDay(doctorId, date).hasConflict(start, end, appointmentId)) {
+            throw new BusinessException("Médico já possui atendimento neste horário");
+        }
+
+        scheduleIndex.invalidateDay(doctorId, date);
+        log.debug("Horário reservado: médico={}, início={}, término={}", doctorId, start, end);
+    }
+
+    /**
+     * Reserva vários intervalos de uma vez, dentro da transação de quem chama.
+     *
+     * <p>
+     * Equivalente a chamar {@link #reserve} para cada item, mas cada médico é
+     * bloqueado uma única vez (em ordem de ID, evitando deadlock entre
+     * importações concorrentes) e cada dia é lido uma única vez. Itens do
+     * próprio lote também conflitam entre si.
+     * </p>
+     *
+     * @param reservations Intervalos pretendidos
+     * @return Para cada item, na mesma ordem, null se reservado ou a mensagem
+     *         de rejeição
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<String> reserveAll(List<Reservation> reservations) {
+        String[] errors = new String[reservations.size()];
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < reservations.size(); i++) {
+            Reservation reservation = reservations.get(i);
+            WorkingHours workingHours = scheduleIndex.workingHours(reservation.doctorId()).orElse(null);
+            if (workingHours == null) {
+                errors[i] = "Médico não encontrado: " + reservation.doctorId();
+            } else if (crossesMidnight(reservation.start(), reservation.end())) {
+                errors[i] = CROSSES_MIDNIGHT;
+            } else if (!workingHours.contains(reservation.start(), reservation.end())) {
+                errors[i] = "Horário fora do expediente do médico";
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        candidates.stream()
+                .map(i -> reservations.get(i).doctorId())
+                .distinct()
+                .sorted()
+                .forEach(userRepository::lockById);
+
+        Map<DayKey, DaySchedule> schedules = new HashMap<>();
+        Map<DayKey, List<BookedInterval>> accepted = new HashMap<>();
+        for (int i : candidates) {
+            Reservation reservation = reservations.get(i);
+            DayKey key = new DayKey(reservation.doctorId(), reservation.start().toLocalDate());
+            DaySchedule schedule = schedules.computeIfAbsent(key,
+                    k -> scheduleIndex.reloadDay(k.doctorId(), k.date()));
+            List<BookedInterval> batch = accepted.computeIfAbsent(key, k -> new ArrayList<>());
+
+            boolean conflict = schedule.hasConflict(reservation.start(), reservation.end(), null)
+                    || batch.stream().anyMatch(other -> other.start().isBefore(reservation.end())
+                            && other.end().isAfter(reservation.start()));
+            if (conflict) {
+                errors[i] = "Médico já possui atendimento neste horário";
+            } else {
+                batch.add(new BookedInterval(null, reservation.start(), reservation.end()));
+            }
+        }
+
+        accepted.keySet().forEach(key -> scheduleIndex.invalidateDay(key.doctorId(), key.date()));
+        return Arrays.asList(errors);
+    }
+
+    /**
+     * Libera o dia de um atendimento cancelado, removido ou remarcado; a
+     * agenda é recarregada após o commit.
+     *
+     * @param doctorId ID do médico
+     * @param start    Início do atendimento
+     */
+    public void release(UUID doctorId, LocalDateTime start) {
+        scheduleIndex.invalidateDay(doctorId, start.toLocalDate());
+    }
+
+    /**
+     * Busca os próximos horários livres de um médico para uma especialidade.
+     *
+     * <p>
+     * Os horários seguem a grade do expediente: a partir do início de cada
+     * período, em passos da duração da especialidade. A busca percorre no
+     * máximo {@code scheduling.search-horizon-days} dias.
+     * </p>
+     *
+     * @param doctorId    ID do médico
+     * @param specialtyId ID da especialidade (define a duração)
+     * @param from        Instante inicial (null ou passado = agora)
+     * @param count       Quantidade de horários (limitada a
+     *                    {@value #MAX_SLOT_COUNT})
+     * @return Horários livres em ordem cronológica
+     */
+    public List<AvailableSlotResponse> findNextFreeSlots(UUID doctorId, Long specialtyId, LocalDateTime from,
+            Integer count) {
+        WorkingHours workingHours = requireWorkingHours(doctorId);
+        MedicalSpecialty specialty = specialtyService.findCachedById(specialtyId);
+        long duration = specialty.getSlotDurationMinutes();
+        int limit = count == null ? DEFAULT_SLOT_COUNT : Math.max(1, Math.min(count, MAX_SLOT_COUNT));
+
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        LocalDateTime earliest = from == null || from.isBefore(now) ? now : from;
+
+        List<AvailableSlotResponse> slots = new ArrayList<>(limit);
+        LocalDate lastDay = earliest.toLocalDate().plusDays(searchHorizonDays);
+        for (LocalDate date = earliest.toLocalDate(); !date.isAfter(lastDay); date = date.plusDays(1)) {
+            List<WorkingHours.TimeRange> periods = workingHours.periods(date.getDayOfWeek());
+            if (periods.isEmpty()) {
+                continue;
+            }
+
+            DaySchedule schedule = scheduleIndex.day(doctorId, date);
+            for (WorkingHours.TimeRange period : periods) {
+                LocalDateTime periodEnd = date.atTime(period.end());
+                LocalDateTime slotStart = date.atTime(period.start());
+                while (!slotStart.plusMinutes(duration).isAfter(periodEnd)) {
+                    LocalDateTime slotEnd = slotStart.plusMinutes(duration);
+                    if (!slotStart.isBefore(earliest) && !schedule.hasConflict(slotStart, slotEnd, null)) {
+                        slots.add(AvailableSlotResponse.builder().start(slotStart).end(slotEnd).build());
+                        if (slots.size() == limit) {
+                            return slots;
+                        }
+                    }
+                    slotStart = slotEnd;
+                }
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Retorna o expediente de um médico.
+     *
+     * @param doctorId ID do médico
+     * @return Expediente próprio ou padrão
+     * @throws ResourceNotFoundException se o médico não existir
+     */
+    public WorkingHoursResponse getWorkingHours(UUID doctorId) {
+        return toResponse(doctorId, requireWorkingHours(doctorId));
+    }
+
+    /**
+     * Substitui o expediente de um médico.
+     *
+     * @param doctorId ID do médico
+     * @param request  Novos períodos (lista vazia = expediente padrão)
+     * @return Expediente atualizado
+     * @throws BusinessException se algum período for inválido ou houver
+     *                           sobreposição no mesmo dia
+     */
+    @Transactional
+    public WorkingHoursResponse replaceWorkingHours(UUID doctorId, WorkingHoursRequest request) {
+        requireWorkingHours(doctorId);
+        validatePeriods(request.getPeriods());
+
+        workingHoursRepository.deleteByDoctorId(doctorId);
+        List<DoctorWorkingHours> periods = request.getPeriods().stream()
+                .map(period -> DoctorWorkingHours.builder()
+                        .doctorId(doctorId)
+                        .dayOfWeek(period.getDayOfWeek())
+                        .startTime(period.getStartTime())
+                        .endTime(period.getEndTime())
+                        .build())
+                .toList();
+        workingHoursRepository.saveAll(periods);
+        scheduleIndex.invalidateWorkingHours(doctorId);
+        log.info("Expediente atualizado: médico={}, períodos={}", doctorId, periods.size());
+
+        return WorkingHoursResponse.builder()
+                .doctorId(doctorId)
+                .defaultHours(periods.isEmpty())
+                .periods(request.getPeriods().stream()
+                        .sorted(Comparator.comparing(WorkingHoursRequest.Period::getDayOfWeek)
+                                .thenComparing(WorkingHoursRequest.Period::getStartTime))
+                        .map(period -> WorkingHoursResponse.PeriodResponse.builder()
+                                .dayOfWeek(period.getDayOfWeek())
+                                .startTime(period.getStartTime())
+                                .endTime(period.getEndTime())
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Intervalo pretendido na agenda de um médico.
+     *
+     * @param doctorId ID do médico
+     * @param start    Início do atendimento
+     * @param end      Término do atendimento (exclusivo)
+     */
+    public record Reservation(UUID doctorId, LocalDateTime start, LocalDateTime end) {
+    }
+
+    private record DayKey(UUID doctorId, LocalDate date) {
+    }
+
+    /**
+     * Indica se o intervalo ocupa o dia seguinte ao do início (término
+     * exatamente à meia-noite não ocupa).
+     */
+    private static boolean crossesMidnight(LocalDateTime start, LocalDateTime end) {
+        return end.isAfter(start.toLocalDate().plusDays(1).atStartOfDay());
+    }
+
+    private WorkingHours requireWorkingHours(UUID doctorId) {
+        return scheduleIndex.workingHours(doctorId)
+                .orElseThrow(() -> new ResourceNotFoundException("Médico", "ID", doctorId));
+    }
+
+    private void validatePeriods(List<WorkingHoursRequest.Period> periods) {
+        List<WorkingHoursRequest.Period> sorted = periods.stream()
+                .sorted(Comparator.comparing(WorkingHoursRequest.Period::getDayOfWeek)
+                        .thenComparing(WorkingHoursRequest.Period::getStartTime))
+                .toList();
+        WorkingHoursRequest.Period previous = null;
+        for (WorkingHoursRequest.Period period : sorted) {
+            if (!period.getStartTime().isBefore(period.getEndTime())) {
+                throw new BusinessException("Início do expediente deve ser anterior ao término: "
+                        + period.getDayOfWeek());
+            }
+            if (previous != null && previous.getDayOfWeek() == period.getDayOfWeek()
+                    && period.getStartTime().isBefore(previous.getEndTime())) {
+                throw new BusinessException("Períodos de expediente sobrepostos: " + period.getDayOfWeek());
+            }
+            previous = period;
+        }
+    }
+
+    private WorkingHoursResponse toResponse(UUID doctorId, WorkingHours workingHours) {
+        List<WorkingHoursResponse.PeriodResponse> periods = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            for (WorkingHours.TimeRange range : workingHours.periods(day)) {
+                periods.add(WorkingHoursResponse.PeriodResponse.builder()
+                        .dayOfWeek(day)
+                        .startTime(range.start())
+                        .endTime(range.end())
+                        .build());
+            }
+        }
+        return WorkingHoursResponse.builder()
+                .doctorId(doctorId)
+                .defaultHours(workingHours.defaultHours())
+                .periods(periods)
+                .build();
+    }
+}
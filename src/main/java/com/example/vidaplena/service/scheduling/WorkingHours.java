@@ -0,0 +1,75 @@
+package com.example.vidaplena.service.scheduling;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Expediente semanal de um médico, imutável.
+ *
+ * @param defaultHours Indica se é o expediente padrão da aplicação
+ * @param byDay        Períodos por dia da semana, ordenados pelo início
+ * @author VIDA PLENA Team
+ * @since 2.1
+ */
+public record WorkingHours(boolean defaultHours, Map<DayOfWeek, List<TimeRange>> byDay) {
+
+    /**
+     * Período de expediente dentro de um dia.
+     *
+     * @param start Início
+     * @param end   Fim (exclusivo)
+     */
+    public record TimeRange(LocalTime start, LocalTime end) {
+    }
+
+    /**
+     * Agrupa períodos por dia, ordenando-os pelo início.
+     *
+     * @param defaultHours Indica se é o expediente padrão
+     * @param periods      Períodos com o dia da semana
+     * @return Expediente imutável
+     */
+    public static WorkingHours of(boolean defaultHours, Map<DayOfWeek, List<TimeRange>> periods) {
+        Map<DayOfWeek, List<TimeRange>> byDay = new EnumMap<>(DayOfWeek.class);
+        periods.forEach((day, ranges) -> byDay.put(day, ranges.stream()
+                .sorted(Comparator.comparing(TimeRange::start))
+                .toList()));
+        return new WorkingHours(defaultHours, Map.copyOf(byDay));
+    }
+
+    /**
+     * Períodos de um dia da semana.
+     *
+     * @param day Dia da semana
+     * @return Períodos ordenados (vazio se não houver expediente)
+     */
+    public List<TimeRange> periods(DayOfWeek day) {
+        return byDay.getOrDefault(day, List.of());
+    }
+
+    /**
+     * Verifica se o intervalo cabe inteiro em um período de expediente.
+     *
+     * @param start Início
+     * @param end   Término (exclusivo)
+     * @return true se estiver dentro do expediente
+     */
+    public boolean contains(LocalDateTime start, LocalDateTime end) {
+        if (!start.toLocalDate().equals(end.toLocalDate())) {
+            return false;
+        }
+        for (TimeRange range : periods(start.getDayOfWeek())) {
+            LocalDateTime periodStart = start.toLocalDate().atTime(range.start());
+            LocalDateTime periodEnd = start.toLocalDate().atTime(range.end());
+            if (!start.isBefore(periodStart) && !end.isAfter(periodEnd)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,43 @@
+-- Migration de chaves UUID versão 7
+-- Versão: 10
+-- Descrição: Função uuid_generate_v7() e default ordenado por tempo para as
+--            chaves de users e appointments
+
+-- ============================================================================
+-- FUNÇÃO uuid_generate_v7
+-- ============================================================================
+CREATE OR REPLACE FUNCTION uuid_generate_v7() RETURNS UUID AS $$
+DECLARE
+    uuid_bytes BYTEA := uuid_send(gen_random_uuid());
+    unix_ts_ms BYTEA := substring(int8send((extract(epoch FROM clock_timestamp()) * 1000)::BIGINT) FROM 3);
+BEGIN
+    -- 48 bits iniciais: instante em milissegundos
+    uuid_bytes := overlay(uuid_bytes PLACING unix_ts_ms FROM 1 FOR 6);
+    -- Versão 7 (a variante 10 já vem de gen_random_uuid)
+    uuid_bytes := set_byte(uuid_bytes, 6, (get_byte(uuid_bytes, 6) & 15) | 112);
+    RETURN encode(uuid_bytes, 'hex')::UUID;
+END
+$$ LANGUAGE plpgsql VOLATILE;
+
+COMMENT ON FUNCTION uuid_generate_v7() IS 'UUID versão 7 (RFC 9562): instante em ms seguido de bits aleatórios';
+
+-- ============================================================================
+-- USERS E APPOINTMENTS
+-- ============================================================================
+ALTER TABLE users ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+ALTER TABLE appointments ALTER COLUMN id SET DEFAULT uuid_generate_v7();
+
+-- ============================================================================
+-- COMENTÁRIOS E OBSERVAÇÕES
+-- ============================================================================
+
+-- Geração:
+-- - A aplicação gera as chaves em Java (@UuidV7), sem ida ao banco; o
+--   default cobre apenas inserções feitas diretamente em SQL
+-- - IDs versão 4 existentes não mudam e continuam válidos; nenhuma regra
+--   depende da versão ou da ordem das chaves
+
+-- Desempenho:
+-- - Chaves crescentes concentram as inserções nas últimas páginas do índice
+--   da chave primária: menos divisões de página, índice mais compacto e
+--   páginas quentes em cache
@@ -0,0 +1,27 @@
+-- Migration do registro de eventos consumidos
+-- Versão: 11
+-- Descrição: IDs dos eventos Kafka já processados, para descartar entregas
+--            repetidas (rebalanceamentos, reenvios do outbox)
+
+-- ============================================================================
+-- PROCESSED_EVENTS
+-- ============================================================================
+CREATE TABLE IF NOT EXISTS processed_events (
+    event_id UUID PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    partition_no INTEGER NOT NULL,
+    processed_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_processed_events_partition ON processed_events(topic, partition_no, processed_at);
+CREATE INDEX IF NOT EXISTS idx_processed_events_processed_at ON processed_events(processed_at);
+
+-- ============================================================================
+-- COMENTÁRIOS E OBSERVAÇÕES
+-- ============================================================================
+
+-- Eventos processados:
+-- - Consultada só quando o filtro de Bloom em memória indica possível repetição
+--   e ao receber partições em um rebalanceamento (carga do filtro)
+-- - event_id é UUID versão 7: inserções sempre no fim do índice da chave
+-- - Linhas mais antigas que a janela de deduplicação são removidas periodicamente
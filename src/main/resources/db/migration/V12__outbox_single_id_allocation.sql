@@ -0,0 +1,14 @@
+-- Migration da alocação de IDs do outbox
+-- Versão: 12
+-- Descrição: IDs do outbox alocados um a um, na ordem de gravação
+
+ALTER SEQUENCE outbox_events_seq INCREMENT BY 1;
+
+-- ============================================================================
+-- COMENTÁRIOS E OBSERVAÇÕES
+-- ============================================================================
+
+-- Outbox:
+-- - Acompanha o allocationSize = 1 da entidade: com blocos de 50, instâncias
+--   diferentes gravando eventos da mesma chave podiam gerar um ID menor para
+--   o commit mais recente, e o relay entregaria os eventos fora de ordem
@@ -0,0 +1,19 @@
+-- Migration da coluna de auditoria updated_by em appointments
+-- Versão: 13
+-- Descrição: Coluna mapeada por BaseAuditableEntity que a V3 criou com outro
+--            nome (updated_by_user); sem ela, a validação do schema impede a
+--            aplicação de subir no PostgreSQL
+
+ALTER TABLE appointments ADD COLUMN IF NOT EXISTS updated_by VARCHAR(100);
+
+UPDATE appointments SET updated_by = updated_by_user
+WHERE updated_by IS NULL AND updated_by_user IS NOT NULL;
+
+-- ============================================================================
+-- COMENTÁRIOS E OBSERVAÇÕES
+-- ============================================================================
+
+-- Auditoria:
+-- - created_by já existe desde a V1; updated_by_user e created_by_user (V3)
+--   não são usadas pela aplicação e ficam para remoção manual
+-- - A V3 já aplicada não é editada para não mudar o checksum do Flyway
@@ -0,0 +1,32 @@
+-- Migration para suportar paginação keyset (cursor) em atendimentos
+-- Versão: 4
+-- Descrição: Índices compostos sobre (scheduled_date, id) para as listagens paginadas
+
+-- ============================================================================
+-- APPOINTMENTS
+-- ============================================================================
+
+-- GET /api/appointments
+CREATE INDEX IF NOT EXISTS idx_appointments_scheduled_id
+    ON appointments (scheduled_date, id) WHERE deleted = false;
+
+-- GET /api/appointments/doctor/{doctorId}
+CREATE INDEX IF NOT EXISTS idx_appointments_doctor_scheduled_id
+    ON appointments (doctor_id, scheduled_date, id) WHERE deleted = false;
+
+-- GET /api/appointments/status/{statusCode}
+CREATE INDEX IF NOT EXISTS idx_appointments_status_scheduled_id
+    ON appointments (status_id, scheduled_date, id) WHERE deleted = false;
+
+-- ============================================================================
+-- COMENTÁRIOS E OBSERVAÇÕES
+-- ============================================================================
+
+-- Paginação Keyset:
+-- - As consultas usam (scheduled_date, id) > (:cursorDate, :cursorId) com LIMIT
+-- - O PostgreSQL inicia a varredura diretamente na posição do cursor no índice
+-- - Ao contrário de OFFSET, o custo não cresce com a profundidade da página
+-- - O id desempata atendimentos agendados no mesmo horário
+
+-- Índices Parciais:
+-- - Apenas registros não deletados (deleted = false), como as consultas da API
@@ -0,0 +1,17 @@
+-- Migration para revogação de tokens JWT
+-- Versão: 5
+-- Descrição: Versão de token por usuário, embutida nas claims do JWT
+
+-- ============================================================================
+-- USERS
+-- ============================================================================
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version BIGINT DEFAULT 0 NOT NULL;
+
+-- ============================================================================
+-- COMENTÁRIOS E OBSERVAÇÕES
+-- ============================================================================
+
+-- Versão do Token:
+-- - Incrementada quando o usuário é alterado, desativado ou troca a senha
+-- - Tokens emitidos com versão anterior passam a ser rejeitados
+-- - Consultada pela chave primária, sem necessidade de índice adicional
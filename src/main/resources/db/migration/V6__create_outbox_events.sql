@@ -0,0 +1,33 @@
+-- Migration do outbox transacional
+-- Versão: 6
+-- Descrição: Fila de eventos Kafka gravada na mesma transação do negócio
+
+-- ============================================================================
+-- OUTBOX_EVENTS
+-- ============================================================================
+CREATE SEQUENCE IF NOT EXISTS outbox_events_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGINT PRIMARY KEY,
+    topic VARCHAR(100) NOT NULL,
+    message_key VARCHAR(100) NOT NULL,
+    payload_type VARCHAR(255) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    attempts INTEGER DEFAULT 0 NOT NULL,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(1000)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_events_next_attempt ON outbox_events(next_attempt_at, id);
+CREATE INDEX IF NOT EXISTS idx_outbox_events_key ON outbox_events(message_key, id);
+
+-- ============================================================================
+-- COMENTÁRIOS E OBSERVAÇÕES
+-- ============================================================================
+
+-- Outbox:
+-- - Linhas são removidas após a confirmação do broker; a tabela fica pequena
+-- - INCREMENT BY 50 acompanha o allocationSize da entidade (ids em bloco)
+-- - idx_outbox_events_next_attempt atende a busca do próximo lote
+-- - idx_outbox_events_key atende a verificação de ordem por chave
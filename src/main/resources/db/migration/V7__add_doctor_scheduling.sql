@@ -0,0 +1,55 @@
+-- Migration da agenda de médicos
+-- Versão: 7
+-- Descrição: Duração de consulta por especialidade, término do atendimento e
+--            expediente dos médicos
+
+-- ============================================================================
+-- MEDICAL_SPECIALTIES
+-- ============================================================================
+ALTER TABLE medical_specialties ADD COLUMN IF NOT EXISTS slot_duration_minutes INTEGER DEFAULT 30 NOT NULL;
+
+-- ============================================================================
+-- APPOINTMENTS
+-- ============================================================================
+ALTER TABLE appointments ADD COLUMN IF NOT EXISTS end_date TIMESTAMP;
+
+UPDATE appointments a
+SET end_date = a.scheduled_date + make_interval(mins => s.slot_duration_minutes)
+FROM medical_specialties s
+WHERE s.id = a.specialty_id AND a.end_date IS NULL;
+
+ALTER TABLE appointments ALTER COLUMN end_date SET NOT NULL;
+
+-- ============================================================================
+-- DOCTOR_WORKING_HOURS
+-- ============================================================================
+CREATE TABLE IF NOT EXISTS doctor_working_hours (
+    id BIGSERIAL PRIMARY KEY,
+    doctor_id UUID NOT NULL,
+    day_of_week VARCHAR(10) NOT NULL,
+    start_time TIME NOT NULL,
+    end_time TIME NOT NULL,
+    CONSTRAINT fk_working_hours_doctor FOREIGN KEY (doctor_id) REFERENCES users(id),
+    CONSTRAINT ck_working_hours_range CHECK (start_time < end_time)
+);
+
+CREATE INDEX IF NOT EXISTS idx_working_hours_doctor ON doctor_working_hours(doctor_id);
+
+-- ============================================================================
+-- COMENTÁRIOS E OBSERVAÇÕES
+-- ============================================================================
+
+-- Duração e Término:
+-- - A duração da especialidade é copiada para end_date no agendamento;
+--   alterar a especialidade depois não muda atendimentos já marcados
+-- - Conflitos usam sobreposição de intervalos (início < fim e fim > início),
+--   atendida por idx_appointments_doctor_scheduled_id
+
+-- Expediente:
+-- - Vários períodos por dia são permitidos (ex: manhã e tarde)
+-- - Médicos sem períodos cadastrados usam o expediente padrão da aplicação
+--   (scheduling.default-working-hours)
+
+-- Concorrência:
+-- - Agendamentos do mesmo médico são serializados por lock na linha do
+--   médico (SELECT ... FOR UPDATE em users), válido entre instâncias
@@ -0,0 +1,44 @@
+-- Migration da busca por paciente
+-- Versão: 8
+-- Descrição: Coluna normalizada (minúsculas, sem acentos) e índice de
+--            trigramas para busca parcial por nome de paciente
+
+-- ============================================================================
+-- EXTENSÕES
+-- ============================================================================
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+-- ============================================================================
+-- APPOINTMENTS
+-- ============================================================================
+ALTER TABLE appointments ADD COLUMN IF NOT EXISTS patient_search VARCHAR(100);
+
+UPDATE appointments
+SET patient_search = lower(unaccent(patient))
+WHERE patient_search IS NULL;
+
+ALTER TABLE appointments ALTER COLUMN patient_search SET NOT NULL;
+
+CREATE INDEX IF NOT EXISTS idx_appointments_patient_trgm
+    ON appointments USING GIN (patient_search gin_trgm_ops);
+
+-- B-tree em patient não atende LIKE '%termo%' e só encarecia as escritas
+DROP INDEX IF EXISTS idx_appointment_patient;
+
+COMMENT ON COLUMN appointments.patient_search IS 'Nome do paciente normalizado para busca (minúsculas, sem acentos)';
+
+-- ============================================================================
+-- COMENTÁRIOS E OBSERVAÇÕES
+-- ============================================================================
+
+-- Normalização:
+-- - A aplicação preenche patient_search ao gravar o atendimento
+--   (Appointment.normalizeSearchText); unaccent é usado apenas no backfill
+-- - Não é coluna gerada porque unaccent() não é IMMUTABLE
+
+-- Índice de Trigramas:
+-- - GIN com gin_trgm_ops atende LIKE '%termo%' com termos de 3 ou mais
+--   caracteres; o custo cresce com o número de ocorrências, não com o
+--   tamanho da tabela
+-- - A ordenação por similarity() é feita apenas sobre as linhas encontradas
@@ -0,0 +1,38 @@
+-- Migration da visão de agenda
+-- Versão: 9
+-- Descrição: Índices de (scheduled_date, id) e (doctor_id, scheduled_date, id)
+--            passam a cobrir as colunas da agenda (INCLUDE)
+
+-- ============================================================================
+-- APPOINTMENTS
+-- ============================================================================
+
+-- GET /api/appointments e GET /api/appointments/agenda
+DROP INDEX IF EXISTS idx_appointments_scheduled_id;
+CREATE INDEX idx_appointments_scheduled_id
+    ON appointments (scheduled_date, id)
+    INCLUDE (end_date, doctor_id, status_id, specialty_id, patient)
+    WHERE deleted = false;
+
+-- GET /api/appointments/doctor/{doctorId}, GET /api/appointments/agenda?doctorId=
+-- e detecção de conflitos da agenda do médico
+DROP INDEX IF EXISTS idx_appointments_doctor_scheduled_id;
+CREATE INDEX idx_appointments_doctor_scheduled_id
+    ON appointments (doctor_id, scheduled_date, id)
+    INCLUDE (end_date, status_id, specialty_id, patient)
+    WHERE deleted = false;
+
+-- ============================================================================
+-- COMENTÁRIOS E OBSERVAÇÕES
+-- ============================================================================
+
+-- Índices de Cobertura:
+-- - As chaves continuam as da paginação keyset (V4); as colunas em INCLUDE
+--   só são lidas, não ordenadas
+-- - A consulta da agenda (AgendaRow) lê apenas colunas do índice em
+--   appointments: uma varredura por faixa, sem acesso ao heap quando o
+--   visibility map está atualizado (autovacuum)
+-- - Médico, status e especialidade vêm de junções pela chave primária
+
+-- Índices Parciais:
+-- - Mantida a condição deleted = false da V4, igual às consultas da API
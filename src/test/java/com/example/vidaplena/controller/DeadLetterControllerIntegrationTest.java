@@ -0,0 +1,191 @@
+package com.example.vidaplena.controller;
+
+import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import com.example.vidaplena.kafka.AppointmentEventProducer;
+import com.example.vidaplena.kafka.dedup.EventDeduplicator;
+import com.example.vidaplena.kafka.retry.RetryTopology;
+import com.example.vidaplena.security.JwtTokenProvider;
+import com.example.vidaplena.security.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração para DeadLetterController contra um broker embarcado.
+ *
+ * <p>
+ * Um evento que sempre falha percorre os tópicos de retentativa até o DLT,
+ * é inspecionado e reenviado individualmente e em massa. A falha é simulada
+ * pela deduplicação, consultada pelo consumidor antes do handler.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "kafka.enabled=true",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "kafka.topics.partitions=1",
+        "kafka.retry.attempts=2",
+        "kafka.retry.initial-delay=PT0.2S",
+        "kafka.retry.multiplier=1",
+        "kafka.outbox.enabled=false"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@EmbeddedKafka(kraft = true, partitions = 1)
+@DisplayName("DeadLetterController Integration Tests")
+class DeadLetterControllerIntegrationTest {
+
+    private static final String DLT = RetryTopology.deadLetterTopic(AppointmentEventProducer.TOPIC_CREATED);
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EmbeddedKafkaBroker broker;
+
+    @MockitoBean
+    private EventDeduplicator deduplicator;
+
+    @Test
+    @DisplayName("Deve levar o evento que falha ao DLT e reenviá-lo individualmente e em massa")
+    void shouldRouteFailingEventToDeadLetterTopicAndReplayIt() throws Exception {
+        UUID poisonId = UUID.randomUUID();
+        when(deduplicator.isDuplicate(poisonId)).thenThrow(new IllegalStateException("falha simulada"));
+        String admin = token("admin@vidaplena.com");
+
+        mockMvc.perform(get("/api/admin/kafka/dlt").header("Authorization", "Bearer " + admin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasItem(DLT)));
+        mockMvc.perform(get("/api/admin/kafka/dlt/" + DLT).header("Authorization", "Bearer " + token(
+                "joao.silva@vidaplena.com")))
+                .andExpect(status().isForbidden());
+
+        kafkaTemplate.send(AppointmentEventProducer.TOPIC_CREATED, "chave", event(poisonId)).get();
+
+        // Principal -> retry-1 -> retry-2 -> DLT
+        await().atMost(TIMEOUT).untilAsserted(() -> list(admin)
+                .andExpect(jsonPath("$", hasSize(1))));
+        list(admin)
+                .andExpect(jsonPath("$[0].partition").value(0))
+                .andExpect(jsonPath("$[0].offset").value(0))
+                .andExpect(jsonPath("$[0].originalTopic").value(AppointmentEventProducer.TOPIC_CREATED))
+                .andExpect(jsonPath("$[0].exceptionClass").isNotEmpty())
+                .andExpect(jsonPath("$[0].event.eventId").value(poisonId.toString()));
+        assertThat(forwarded("retry")).isEqualTo(2);
+        assertThat(forwarded("dlt")).isEqualTo(1);
+        verify(deduplicator, times(3)).isDuplicate(poisonId);
+
+        // Reenvio individual: o evento volta a falhar e chega de novo ao DLT
+        mockMvc.perform(post("/api/admin/kafka/dlt/" + DLT + "/replay")
+                .param("partition", "0")
+                .param("offset", "0")
+                .header("Authorization", "Bearer " + admin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.event.eventId").value(poisonId.toString()));
+        await().atMost(TIMEOUT).untilAsserted(() -> list(admin)
+                .andExpect(jsonPath("$", hasSize(2))));
+        assertThat(committedReplayOffset()).isNull();
+
+        // Reenvio em massa: desta vez o evento é processado
+        reset(deduplicator);
+        mockMvc.perform(post("/api/admin/kafka/dlt/" + DLT + "/replay-all")
+                .header("Authorization", "Bearer " + admin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.targetTopic").value(AppointmentEventProducer.TOPIC_CREATED))
+                .andExpect(jsonPath("$.replayed").value(2));
+        assertThat(committedReplayOffset().offset()).isEqualTo(2);
+        await().atMost(TIMEOUT).untilAsserted(() -> verify(deduplicator, times(2)).isDuplicate(poisonId));
+
+        mockMvc.perform(post("/api/admin/kafka/dlt/" + DLT + "/replay-all")
+                .header("Authorization", "Bearer " + admin))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.replayed").value(0));
+        assertThat(forwarded("dlt")).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar tópico que não é DLT, offset inexistente e limite inválido")
+    void shouldRejectInvalidRequests() throws Exception {
+        String admin = token("admin@vidaplena.com");
+
+        mockMvc.perform(get("/api/admin/kafka/dlt/" + AppointmentEventProducer.TOPIC_CREATED)
+                .header("Authorization", "Bearer " + admin))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/admin/kafka/dlt/" + DLT + "/replay")
+                .param("partition", "0")
+                .param("offset", "1000")
+                .header("Authorization", "Bearer " + admin))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/admin/kafka/dlt/" + DLT)
+                .param("limit", "0")
+                .header("Authorization", "Bearer " + admin))
+                .andExpect(status().isBadRequest());
+    }
+
+    private ResultActions list(String token) throws Exception {
+        return mockMvc.perform(get("/api/admin/kafka/dlt/" + DLT).header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    private double forwarded(String destination) {
+        return meterRegistry.counter(RetryTopology.FORWARDED_COUNTER,
+                "topic", AppointmentEventProducer.TOPIC_CREATED, "destination", destination).count();
+    }
+
+    private OffsetAndMetadata committedReplayOffset() throws Exception {
+        return KafkaTestUtils.getCurrentOffset(broker.getBrokersAsString(), "vidaplena-dlt-replay", DLT, 0);
+    }
+
+    private String token(String email) {
+        return jwtTokenProvider.generateToken(userDetailsService.loadUserByUsername(email));
+    }
+
+    private static AppointmentEvent event(UUID eventId) {
+        return AppointmentEvent.builder()
+                .eventId(eventId)
+                .eventType(AppointmentEvent.EventType.CREATED)
+                .appointmentId(UUID.randomUUID())
+                .patient("Maria de Souza")
+                .status("SCHEDULED")
+                .scheduledDate(LocalDateTime.now().plusDays(1))
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+}
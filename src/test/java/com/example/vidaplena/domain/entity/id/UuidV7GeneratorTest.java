@@ -0,0 +1,44 @@
+package com.example.vidaplena.domain.entity.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Testes unitários para UuidV7Generator.
+ */
+@DisplayName("UuidV7Generator Unit Tests")
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("Deve gerar UUID versão 7 com variante RFC e instante atual")
+    void shouldGenerateVersion7WithCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        assertThat(id.getMostSignificantBits() >>> 16).isBetween(before, after + 100);
+    }
+
+    @Test
+    @DisplayName("Deve gerar IDs estritamente crescentes dentro do mesmo milissegundo")
+    void shouldBeStrictlyIncreasing() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(UuidV7Generator.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            // UUID.compareTo compara com sinal; a ordem do PostgreSQL é por bytes
+            assertThat(Long.compareUnsigned(ids.get(i).getMostSignificantBits(),
+                    ids.get(i - 1).getMostSignificantBits())).isPositive();
+        }
+    }
+}
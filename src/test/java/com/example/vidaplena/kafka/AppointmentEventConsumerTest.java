@@ -0,0 +1,131 @@
+package com.example.vidaplena.kafka;
+
+import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import com.example.vidaplena.domain.entity.ProcessedEvent;
+import com.example.vidaplena.kafka.dedup.EventDeduplicator;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para AppointmentEventConsumer.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AppointmentEventConsumer Tests")
+class AppointmentEventConsumerTest {
+
+    private static final String RETRY_TOPIC = "appointment-created-retry-1";
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private final AppointmentEventConsumer consumer = new AppointmentEventConsumer();
+
+    @Test
+    @DisplayName("Deve informar o índice do evento ilegível para encaminhá-lo sem reprocessar o lote")
+    void shouldReportIndexOfUnreadableEvent() {
+        List<ConsumerRecord<String, AppointmentEvent>> records = List.of(
+                record(AppointmentEventProducer.TOPIC_CREATED, 0, event()),
+                record(AppointmentEventProducer.TOPIC_CREATED, 0, null),
+                record(AppointmentEventProducer.TOPIC_CREATED, 0, event()));
+
+        assertThatThrownBy(() -> consumer.consumeCreatedEvents(records, acknowledgment))
+                .isInstanceOf(BatchListenerFailedException.class)
+                .extracting(e -> ((BatchListenerFailedException) e).getIndex())
+                .isEqualTo(1);
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve confirmar as retentativas vencidas e aguardar a primeira que ainda não venceu")
+    void shouldNackFirstRetryNotYetDue() {
+        long now = System.currentTimeMillis();
+        List<ConsumerRecord<String, AppointmentEvent>> records = List.of(
+                record(RETRY_TOPIC, now - 10_000, event()),
+                record(RETRY_TOPIC, now, event()));
+
+        consumer.consumeRetries(records, acknowledgment, Duration.ofSeconds(5));
+
+        ArgumentCaptor<Duration> sleep = ArgumentCaptor.forClass(Duration.class);
+        verify(acknowledgment).nack(eq(1), sleep.capture());
+        assertThat(sleep.getValue()).isPositive().isLessThanOrEqualTo(Duration.ofSeconds(5));
+        verify(acknowledgment, never()).acknowledge();
+    }
+
+    @Test
+    @DisplayName("Deve confirmar o lote quando todas as retentativas venceram")
+    void shouldAcknowledgeDueRetries() {
+        List<ConsumerRecord<String, AppointmentEvent>> records = List.of(
+                record(RETRY_TOPIC, System.currentTimeMillis() - 10_000, event()));
+
+        consumer.consumeRetries(records, acknowledgment, Duration.ofSeconds(5));
+
+        verify(acknowledgment).acknowledge();
+        verify(acknowledgment, never()).nack(anyInt(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Deve ignorar evento já processado sem repetir o handler e confirmar o lote")
+    void shouldSkipDuplicateEventAndAcknowledge() {
+        EventDeduplicator deduplicator = mock(EventDeduplicator.class);
+        List<AppointmentEvent> handled = new ArrayList<>();
+        ReflectionTestUtils.setField(consumer, "deduplicator", deduplicator);
+        ReflectionTestUtils.setField(consumer, "handlers",
+                Map.<String, Consumer<AppointmentEvent>>of(AppointmentEventProducer.TOPIC_CREATED, handled::add));
+
+        AppointmentEvent first = event();
+        AppointmentEvent other = event();
+        when(deduplicator.isDuplicate(first.getEventId())).thenReturn(false, true);
+        when(deduplicator.processed(eq(AppointmentEventProducer.TOPIC_CREATED), eq(0), any()))
+                .thenAnswer(invocation -> ProcessedEvent.builder().eventId(invocation.getArgument(2)).build());
+
+        consumer.consumeCreatedEvents(List.of(
+                record(AppointmentEventProducer.TOPIC_CREATED, 0, first),
+                record(AppointmentEventProducer.TOPIC_CREATED, 0, first), // Reentrega
+                record(AppointmentEventProducer.TOPIC_CREATED, 0, other)), acknowledgment);
+
+        assertThat(handled).containsExactly(first, other);
+        verify(deduplicator, times(2)).processed(any(), anyInt(), any());
+        ArgumentCaptor<List<ProcessedEvent>> persisted = ArgumentCaptor.captor();
+        verify(deduplicator).persist(persisted.capture());
+        assertThat(persisted.getValue()).extracting(ProcessedEvent::getEventId)
+                .containsExactly(first.getEventId(), other.getEventId());
+        verify(acknowledgment).acknowledge();
+    }
+
+    private static ConsumerRecord<String, AppointmentEvent> record(String topic, long timestamp,
+            AppointmentEvent event) {
+        return new ConsumerRecord<>(topic, 0, 0L, timestamp, TimestampType.CREATE_TIME, 0, 0, "chave", event,
+                new RecordHeaders(), Optional.empty());
+    }
+
+    private static AppointmentEvent event() {
+        return AppointmentEvent.builder()
+                .eventType(AppointmentEvent.EventType.CREATED)
+                .appointmentId(UUID.randomUUID())
+                .patient("Maria de Souza")
+                .status("SCHEDULED")
+                .build();
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.vidaplena.kafka;
+
+import com.example.vidaplena.config.KafkaConfig;
+import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import com.example.vidaplena.kafka.serialization.LocalSchemaRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.BatchAcknowledgingMessageListener;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Vazão dos listeners em lote de atendimento contra um broker embarcado.
+ *
+ * <p>
+ * Para cada nível de concorrência, aguarda a atribuição das
+ * {@value #PARTITIONS} partições, publica {@value #EVENTS} eventos e mede o
+ * tempo até todos serem consumidos, usando as factories de
+ * {@link KafkaConfig} e o {@link AppointmentEventConsumer}. Cada lote simula
+ * {@value #BATCH_COST_MS} ms de trabalho externo (ex: envio de notificações),
+ * que é o que a concorrência paraleliza. A vazão vai para o log (INFO); o
+ * teste verifica a entrega completa e a confirmação manual dos offsets.
+ * </p>
+ */
+@EmbeddedKafka(kraft = true, partitions = AppointmentEventConsumerThroughputTest.PARTITIONS,
+        topics = { "throughput-1", "throughput-3", "throughput-6" })
+@DisplayName("AppointmentEventConsumer Throughput Tests")
+@Slf4j
+class AppointmentEventConsumerThroughputTest {
+
+    static final int PARTITIONS = 6;
+    private static final int EVENTS = 20_000;
+    private static final long BATCH_COST_MS = 5;
+
+    private static KafkaConfig kafkaConfig;
+    private static KafkaProperties kafkaProperties;
+    private static LocalSchemaRegistry schemaRegistry;
+    private static String brokers;
+
+    @BeforeAll
+    static void setUp(EmbeddedKafkaBroker broker) {
+        brokers = broker.getBrokersAsString();
+        kafkaConfig = new KafkaConfig();
+        schemaRegistry = kafkaConfig.localSchemaRegistry("classpath:avro/*.avsc");
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", brokers);
+
+        kafkaProperties = new KafkaProperties();
+        kafkaProperties.getConsumer().setAutoOffsetReset("earliest");
+        kafkaProperties.getConsumer().setEnableAutoCommit(false);
+        kafkaProperties.getConsumer().setMaxPollRecords(100);
+    }
+
+    @ParameterizedTest(name = "concorrência {0}")
+    @ValueSource(ints = { 1, 3, 6 })
+    @DisplayName("Deve consumir e confirmar todos os eventos em lote")
+    void shouldConsumeAndAcknowledgeAllEvents(int concurrency) throws Exception {
+        String topic = "throughput-" + concurrency;
+        AppointmentEventConsumer consumer = new AppointmentEventConsumer();
+        CountDownLatch received = new CountDownLatch(EVENTS);
+
+        ConcurrentKafkaListenerContainerFactory<String, AppointmentEvent> factory = kafkaConfig
+                .appointmentBatchListenerContainerFactory(kafkaConfig.consumerFactory(kafkaProperties, schemaRegistry),
+                        new DefaultErrorHandler(), concurrency);
+        ConcurrentMessageListenerContainer<String, AppointmentEvent> container = factory.createContainer(topic);
+        container.getContainerProperties().setGroupId(topic);
+        container.setupMessageListener((BatchAcknowledgingMessageListener<String, AppointmentEvent>) (records, ack) -> {
+            consumer.consumeCreatedEvents(records, ack);
+            sleep(BATCH_COST_MS);
+            records.forEach(record -> received.countDown());
+        });
+
+        container.start();
+        try {
+            ContainerTestUtils.waitForAssignment(container, PARTITIONS);
+
+            long start = System.nanoTime();
+            publish(topic);
+            assertThat(received.await(60, TimeUnit.SECONDS)).isTrue();
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            log.info("Concorrência {}: {} eventos/s", concurrency, Math.round(EVENTS / seconds));
+
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(
+                    () -> assertThat(committedOffsets(topic)).isEqualTo(EVENTS));
+        } finally {
+            container.stop();
+        }
+    }
+
+    private static void publish(String topic) {
+        KafkaTemplate<String, Object> template = kafkaConfig
+                .kafkaTemplate(kafkaConfig.producerFactory(kafkaProperties, schemaRegistry));
+        CompletableFuture<?>[] acks = new CompletableFuture<?>[EVENTS];
+        for (int i = 0; i < EVENTS; i++) {
+            UUID appointmentId = UUID.randomUUID();
+            acks[i] = template.send(topic, appointmentId.toString(), AppointmentEvent.builder()
+                    .eventType(AppointmentEvent.EventType.CREATED)
+                    .appointmentId(appointmentId)
+                    .patient("Paciente " + i)
+                    .status("SCHEDULED")
+                    .scheduledDate(LocalDateTime.now().plusDays(1))
+                    .timestamp(LocalDateTime.now())
+                    .build());
+        }
+        CompletableFuture.allOf(acks).join();
+        template.destroy();
+    }
+
+    private static long committedOffsets(String topic) throws Exception {
+        long total = 0;
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            OffsetAndMetadata offset = KafkaTestUtils.getCurrentOffset(brokers, topic, topic, partition);
+            total += offset == null ? 0 : offset.offset();
+        }
+        return total;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
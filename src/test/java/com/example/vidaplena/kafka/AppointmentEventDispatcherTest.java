@@ -0,0 +1,114 @@
+package com.example.vidaplena.kafka;
+
+import com.example.vidaplena.domain.dto.event.AppointmentChangedEvent;
+import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para AppointmentEventDispatcher.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AppointmentEventDispatcher Tests")
+class AppointmentEventDispatcherTest {
+
+    @Mock
+    private AppointmentEventProducer producer;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private AppointmentEventDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("Com outbox, deve gravar antes do commit e não publicar depois")
+    void shouldWriteToOutboxBeforeCommit() {
+        dispatcher = new AppointmentEventDispatcher(producer, meterRegistry, true, 2, 10);
+        AppointmentChangedEvent event = event();
+
+        dispatcher.writeToOutbox(event);
+        dispatcher.publishAfterCommit(event);
+
+        verify(producer).enqueue(event.getEvents());
+        verify(producer, never()).send(any());
+    }
+
+    @Test
+    @DisplayName("Sem outbox, deve publicar depois do commit fora da thread da requisição")
+    void shouldPublishAfterCommitOnPublisherThread() throws InterruptedException {
+        dispatcher = new AppointmentEventDispatcher(producer, meterRegistry, false, 2, 10);
+        AppointmentChangedEvent event = event();
+        CountDownLatch sent = new CountDownLatch(1);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            threads.add(Thread.currentThread().getName());
+            sent.countDown();
+            return null;
+        }).when(producer).send(event.getEvents());
+
+        dispatcher.writeToOutbox(event);
+        dispatcher.publishAfterCommit(event);
+
+        assertThat(sent.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(threads).singleElement().asString().startsWith("appointment-events-");
+        verify(producer, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("Com a fila cheia, a requisição deve publicar ela mesma e contar a saturação")
+    void shouldRunOnCallerWhenQueueIsFull() throws InterruptedException {
+        dispatcher = new AppointmentEventDispatcher(producer, meterRegistry, false, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch blocked = new CountDownLatch(1);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        doAnswer(invocation -> {
+            String thread = Thread.currentThread().getName();
+            threads.add(thread);
+            if (thread.startsWith("appointment-events-")) {
+                blocked.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            return null;
+        }).when(producer).send(any());
+
+        dispatcher.publishAfterCommit(event());
+        assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+        dispatcher.publishAfterCommit(event()); // ocupa a fila
+        dispatcher.publishAfterCommit(event()); // fila cheia: roda na thread atual
+
+        assertThat(threads).contains(Thread.currentThread().getName());
+        assertThat(meterRegistry.get(PublishExecutor.SATURATED_COUNTER).tag("name", "appointment-events")
+                .counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.queued").tag("name", "appointment-events").gauge().value())
+                .isEqualTo(1);
+
+        release.countDown();
+    }
+
+    private static AppointmentChangedEvent event() {
+        return AppointmentChangedEvent.of(AppointmentEvent.builder()
+                .eventType(AppointmentEvent.EventType.CREATED)
+                .appointmentId(UUID.randomUUID())
+                .patient("Maria de Souza")
+                .build());
+    }
+}
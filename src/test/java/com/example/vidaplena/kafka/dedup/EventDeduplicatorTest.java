@@ -0,0 +1,102 @@
+package com.example.vidaplena.kafka.dedup;
+
+import com.example.vidaplena.domain.entity.ProcessedEvent;
+import com.example.vidaplena.domain.entity.id.UuidV7Generator;
+import com.example.vidaplena.repository.ProcessedEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para EventDeduplicator.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventDeduplicator Tests")
+class EventDeduplicatorTest {
+
+    private static final String TOPIC = "appointment-created";
+
+    @Mock
+    private ProcessedEventRepository processedEventRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private EventDeduplicator deduplicator;
+
+    @BeforeEach
+    void setUp() {
+        deduplicator = new EventDeduplicator(processedEventRepository, meterRegistry, 4, Duration.ofMinutes(20),
+                10_000, 0.001);
+    }
+
+    @Test
+    @DisplayName("Evento novo não deve consultar o banco")
+    void shouldDetectNewEventWithoutDatabase() {
+        assertThat(deduplicator.isDuplicate(UuidV7Generator.next())).isFalse();
+
+        verifyNoInteractions(processedEventRepository);
+        assertThat(meterRegistry.get(EventDeduplicator.CHECKS_COUNTER).tag("result", "new").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve descartar o evento repetido no mesmo lote e depois de gravado")
+    void shouldDetectDuplicateBeforeAndAfterPersist() {
+        UUID eventId = UuidV7Generator.next();
+        ProcessedEvent processed = deduplicator.processed(TOPIC + "-retry-1", 2, eventId);
+
+        assertThat(processed.getTopic()).isEqualTo(TOPIC);
+        assertThat(deduplicator.isDuplicate(eventId)).isTrue();
+        verify(processedEventRepository, never()).existsById(any());
+
+        deduplicator.persist(List.of(processed));
+        when(processedEventRepository.existsById(eventId)).thenReturn(true);
+
+        assertThat(deduplicator.isDuplicate(eventId)).isTrue();
+        verify(processedEventRepository).saveAll(List.of(processed));
+    }
+
+    @Test
+    @DisplayName("Deve gravar só os IDs ausentes quando parte do lote já foi registrada")
+    void shouldSaveOnlyMissingIdsOnConflict() {
+        ProcessedEvent first = deduplicator.processed(TOPIC, 0, UuidV7Generator.next());
+        ProcessedEvent second = deduplicator.processed(TOPIC, 0, UuidV7Generator.next());
+        when(processedEventRepository.saveAll(any()))
+                .thenThrow(new DataIntegrityViolationException("duplicada"))
+                .thenReturn(List.of(second));
+        when(processedEventRepository.findExistingIds(List.of(first.getEventId(), second.getEventId())))
+                .thenReturn(List.of(first.getEventId()));
+
+        deduplicator.persist(List.of(first, second));
+
+        verify(processedEventRepository).saveAll(List.of(second));
+    }
+
+    @Test
+    @DisplayName("Deve carregar no filtro os eventos processados nas partições recebidas")
+    void shouldWarmUpFromAssignedPartitions() {
+        UUID processedElsewhere = UuidV7Generator.next();
+        when(processedEventRepository.findRecentIds(eq(TOPIC), eq(Set.of(1, 3)), any()))
+                .thenReturn(List.of(processedElsewhere));
+        when(processedEventRepository.existsById(processedElsewhere)).thenReturn(true);
+
+        deduplicator.warmUp(List.of(new TopicPartition(TOPIC, 1), new TopicPartition(TOPIC + "-retry-1", 3)));
+
+        assertThat(deduplicator.isDuplicate(processedElsewhere)).isTrue();
+    }
+}
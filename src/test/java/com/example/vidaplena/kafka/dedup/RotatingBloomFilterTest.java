@@ -0,0 +1,71 @@
+package com.example.vidaplena.kafka.dedup;
+
+import com.example.vidaplena.domain.entity.id.UuidV7Generator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para RotatingBloomFilter.
+ */
+@DisplayName("RotatingBloomFilter Tests")
+class RotatingBloomFilterTest {
+
+    private static final int EXPECTED = 10_000;
+
+    @Test
+    @DisplayName("Não deve ter falsos negativos e deve manter os falsos positivos perto da taxa configurada")
+    void shouldHaveNoFalseNegativesAndBoundedFalsePositives() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(2, EXPECTED, 0.01);
+        List<UUID> inserted = new ArrayList<>(EXPECTED);
+        for (int i = 0; i < EXPECTED; i++) {
+            UUID id = UuidV7Generator.next();
+            filter.put(id);
+            inserted.add(id);
+        }
+
+        assertThat(inserted).allMatch(filter::mightContain);
+        long falsePositives = 0;
+        for (int i = 0; i < EXPECTED; i++) {
+            if (filter.mightContain(UuidV7Generator.next())) {
+                falsePositives++;
+            }
+        }
+        assertThat(falsePositives).isLessThan(EXPECTED * 2 / 100);
+    }
+
+    @Test
+    @DisplayName("Deve lembrar o ID até a geração dele ser descartada")
+    void shouldForgetIdAfterItsGenerationIsDropped() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(3, EXPECTED, 0.001);
+        UUID id = UuidV7Generator.next();
+        filter.put(id);
+
+        filter.rotate();
+        filter.rotate();
+        assertThat(filter.mightContain(id)).isTrue();
+
+        filter.rotate();
+        assertThat(filter.mightContain(id)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve ocupar memória fixa, proporcional às gerações")
+    void shouldUseFixedMemory() {
+        RotatingBloomFilter filter = new RotatingBloomFilter(4, 1_000_000, 0.001);
+        long size = filter.sizeInBytes();
+
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(UUID.randomUUID());
+        }
+        filter.rotate();
+
+        assertThat(filter.sizeInBytes()).isEqualTo(size);
+        assertThat(size).isBetween(7_000_000L, 7_500_000L);
+    }
+}
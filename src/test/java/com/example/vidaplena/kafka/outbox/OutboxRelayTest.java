@@ -0,0 +1,141 @@
+package com.example.vidaplena.kafka.outbox;
+
+import com.example.vidaplena.domain.entity.OutboxEvent;
+import com.example.vidaplena.kafka.KafkaPublishMetrics;
+import com.example.vidaplena.repository.OutboxEventRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para OutboxRelay.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OutboxRelay Tests")
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(outboxEventRepository, kafkaTemplate, new KafkaPublishMetrics(meterRegistry),
+                new ObjectMapper(), transactionManager,
+                100, Duration.ofSeconds(5), Duration.ofSeconds(1), Duration.ofMinutes(5));
+    }
+
+    @Test
+    @DisplayName("Deve interromper a chave na primeira falha e entregar as demais chaves")
+    void shouldStopKeyOnFailureAndDeliverOtherKeys() {
+        OutboxEvent firstOfA = event(1L, "A");
+        OutboxEvent secondOfA = event(2L, "A");
+        OutboxEvent onlyOfB = event(3L, "B");
+        when(outboxEventRepository.lockNextHeads(any(), any())).thenReturn(List.of(firstOfA, onlyOfB));
+        when(outboxEventRepository.findFollowers(Set.of("A", "B"), List.of(1L, 3L), Limit.of(98)))
+                .thenReturn(List.of(secondOfA));
+        when(kafkaTemplate.send(eq("appointment-created"), eq("A"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")));
+        when(kafkaTemplate.send(eq("appointment-created"), eq("B"), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+
+        int relayed = relay.relayBatch();
+
+        assertThat(relayed).isEqualTo(3);
+        verify(kafkaTemplate, times(1)).send(eq("appointment-created"), eq("A"), any());
+        verify(outboxEventRepository).lease(eq(List.of(1L, 3L)), any());
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+        verify(outboxEventRepository).saveAll(List.of(firstOfA));
+
+        assertThat(firstOfA.getAttempts()).isEqualTo(1);
+        assertThat(firstOfA.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(firstOfA.getLastError()).contains("broker indisponível");
+        assertThat(secondOfA.getAttempts()).isZero();
+
+        assertThat(meterRegistry.get(KafkaPublishMetrics.PUBLISH_TIMER)
+                .tags("producer", "outbox", "outcome", "success").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(KafkaPublishMetrics.FAILURE_COUNTER)
+                .tags("exception", "IllegalStateException").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve reagendar a mensagem seguinte quando a primeira da chave foi entregue")
+    void shouldRescheduleFollowerAfterDeliveredHead() {
+        OutboxEvent firstOfA = event(1L, "A");
+        OutboxEvent secondOfA = event(2L, "A");
+        when(outboxEventRepository.lockNextHeads(any(), any())).thenReturn(List.of(firstOfA));
+        when(outboxEventRepository.findFollowers(any(), any(), any())).thenReturn(List.of(secondOfA));
+        when(kafkaTemplate.send(eq("appointment-created"), eq("A"), any()))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker indisponível")));
+
+        relay.relayBatch();
+
+        verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(outboxEventRepository).saveAll(List.of(secondOfA));
+        assertThat(secondOfA.getAttempts()).isEqualTo(1);
+        assertThat(secondOfA.getNextAttemptAt()).isAfter(LocalDateTime.now());
+    }
+
+    @Test
+    @DisplayName("Deve encerrar o ciclo sem envio quando não há mensagens elegíveis")
+    void shouldSkipSendWhenNothingIsEligible() {
+        when(outboxEventRepository.lockNextHeads(any(), any())).thenReturn(List.of());
+
+        assertThat(relay.relayBatch()).isZero();
+
+        verify(outboxEventRepository, never()).lease(any(), any());
+        verifyNoInteractions(kafkaTemplate);
+    }
+
+    @Test
+    @DisplayName("Deve dobrar o backoff a cada falha até o limite")
+    void shouldBackOffExponentially() {
+        assertThat(relay.backoff(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(relay.backoff(4)).isEqualTo(Duration.ofSeconds(8));
+        assertThat(relay.backoff(20)).isEqualTo(Duration.ofMinutes(5));
+    }
+
+    private OutboxEvent event(Long id, String key) {
+        LocalDateTime now = LocalDateTime.now();
+        return OutboxEvent.builder()
+                .id(id)
+                .topic("appointment-created")
+                .messageKey(key)
+                .payloadType(java.util.LinkedHashMap.class.getName())
+                .payload("{\"id\":" + id + "}")
+                .createdAt(now)
+                .nextAttemptAt(now)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.vidaplena.kafka.retry;
+
+import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import com.example.vidaplena.kafka.AppointmentEventConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para RetryListenerContainers.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RetryListenerContainers Tests")
+class RetryListenerContainersTest {
+
+    @Mock
+    private ConsumerFactory<String, AppointmentEvent> consumerFactory;
+
+    @Mock
+    private AppointmentEventConsumer consumer;
+
+    @Mock
+    private Acknowledgment acknowledgment;
+
+    private final RetryTopology topology = new RetryTopology(List.of("appointment-created"), 2,
+            Duration.ofSeconds(1), 5, Duration.ofSeconds(10));
+
+    @Test
+    @DisplayName("Deve criar um container por nível que repassa lotes e atribuição de partições ao consumidor")
+    void shouldDelegateBatchesAndAssignmentsToConsumer() {
+        ConcurrentKafkaListenerContainerFactory<String, AppointmentEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+
+        List<ConcurrentMessageListenerContainer<String, AppointmentEvent>> containers =
+                new RetryListenerContainers(factory, topology, consumer, 1).containers();
+
+        assertThat(containers).hasSize(2);
+        assertThat(containers.get(1).getContainerProperties().getTopics())
+                .containsExactly("appointment-created-retry-2");
+        Object listener = containers.get(1).getContainerProperties().getMessageListener();
+        assertThat(listener).isInstanceOf(ConsumerSeekAware.class);
+
+        RetryListenerContainers.RetryListener retryListener = (RetryListenerContainers.RetryListener) listener;
+        retryListener.onMessage(List.of(), acknowledgment);
+        verify(consumer).consumeRetries(List.of(), acknowledgment, Duration.ofSeconds(5));
+
+        Map<TopicPartition, Long> assignments = Map.of(new TopicPartition("appointment-created-retry-2", 0), 0L);
+        ConsumerSeekAware.ConsumerSeekCallback callback = mock(ConsumerSeekAware.ConsumerSeekCallback.class);
+        retryListener.onPartitionsAssigned(assignments, callback);
+        verify(consumer).onPartitionsAssigned(assignments, callback);
+    }
+}
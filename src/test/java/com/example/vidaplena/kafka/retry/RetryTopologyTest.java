@@ -0,0 +1,61 @@
+package com.example.vidaplena.kafka.retry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para RetryTopology.
+ */
+@DisplayName("RetryTopology Tests")
+class RetryTopologyTest {
+
+    private final RetryTopology topology = new RetryTopology(List.of("appointment-created"), 3,
+            Duration.ofSeconds(1), 5, Duration.ofSeconds(10));
+
+    @Test
+    @DisplayName("Deve aumentar o atraso exponencialmente até o máximo")
+    void shouldGrowDelayExponentiallyUpToMax() {
+        assertThat(topology.delay(1)).isEqualTo(Duration.ofSeconds(1));
+        assertThat(topology.delay(2)).isEqualTo(Duration.ofSeconds(5));
+        assertThat(topology.delay(3)).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    @DisplayName("Deve encaminhar para o próximo nível e, esgotadas as tentativas, para o DLT")
+    void shouldForwardToNextLevelThenDeadLetter() {
+        assertThat(topology.nextTopic(record("appointment-created", "evento")))
+                .isEqualTo("appointment-created-retry-1");
+        assertThat(topology.nextTopic(record("appointment-created-retry-2", "evento")))
+                .isEqualTo("appointment-created-retry-3");
+        assertThat(topology.nextTopic(record("appointment-created-retry-3", "evento")))
+                .isEqualTo("appointment-created-dlt");
+    }
+
+    @Test
+    @DisplayName("Eventos ilegíveis devem ir direto para o DLT")
+    void shouldSendUnreadableEventsToDeadLetter() {
+        assertThat(topology.nextTopic(record("appointment-created", null))).isEqualTo("appointment-created-dlt");
+    }
+
+    @Test
+    @DisplayName("Deve derivar os tópicos de retentativa e DLT e voltar ao tópico principal")
+    void shouldDeriveAndParseTopicNames() {
+        assertThat(topology.derivedTopics()).containsExactly("appointment-created-retry-1",
+                "appointment-created-retry-2", "appointment-created-retry-3", "appointment-created-dlt");
+        assertThat(RetryTopology.baseTopic("appointment-created-retry-2")).isEqualTo("appointment-created");
+        assertThat(RetryTopology.baseTopic("appointment-created-dlt")).isEqualTo("appointment-created");
+        assertThat(RetryTopology.baseTopic("appointment-created")).isEqualTo("appointment-created");
+        assertThat(RetryTopology.attempt("appointment-created-retry-2")).isEqualTo(2);
+        assertThat(RetryTopology.attempt("appointment-created")).isZero();
+    }
+
+    private static ConsumerRecord<String, Object> record(String topic, Object value) {
+        return new ConsumerRecord<>(topic, 0, 0L, "chave", value);
+    }
+}
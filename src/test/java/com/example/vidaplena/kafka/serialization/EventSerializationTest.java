@@ -0,0 +1,164 @@
+package com.example.vidaplena.kafka.serialization;
+
+import com.example.vidaplena.domain.dto.event.AppointmentEvent;
+import com.example.vidaplena.domain.dto.event.EntityEvent;
+import com.example.vidaplena.domain.dto.response.MedicalSpecialtyResponse;
+import org.apache.avro.Schema;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para EventSerializer e EventDeserializer.
+ */
+@DisplayName("Event Serialization Tests")
+class EventSerializationTest {
+
+    private static final String TOPIC = "appointment-created";
+    private static final Map<String, Object> CONSUMER_CONFIG = Map.of(
+            JsonDeserializer.TRUSTED_PACKAGES, "com.example.vidaplena.domain.dto.event");
+
+    private LocalSchemaRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = LocalSchemaRegistry.load("classpath:avro/*.avsc");
+    }
+
+    @Test
+    @DisplayName("Deve ler em Avro o atendimento gravado em Avro, com menos bytes que em JSON")
+    void shouldRoundTripAppointmentEventInAvro() {
+        AppointmentEvent event = appointmentEvent();
+
+        byte[] avro = serializer(SerializationFormat.AVRO).serialize(TOPIC, new RecordHeaders(), event);
+        byte[] json = serializer(SerializationFormat.JSON).serialize(TOPIC, new RecordHeaders(), event);
+
+        assertThat(avro[0]).isEqualTo(EventSerializer.MAGIC_BYTE);
+        assertThat(avro.length).isLessThan(json.length / 2);
+        assertThat(deserializer(AppointmentEvent.class).deserialize(TOPIC, new RecordHeaders(), avro))
+                .isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Deve continuar lendo atendimentos publicados em JSON")
+    void shouldReadJsonAppointmentEvent() {
+        AppointmentEvent event = appointmentEvent();
+        RecordHeaders headers = new RecordHeaders();
+
+        byte[] json = serializer(SerializationFormat.JSON).serialize(TOPIC, headers, event);
+
+        assertThat(deserializer(AppointmentEvent.class).deserialize(TOPIC, headers, json)).isEqualTo(event);
+    }
+
+    @Test
+    @DisplayName("Deve manter DTO, diferenças e metadados do evento de auditoria em Avro")
+    void shouldRoundTripEntityEventInAvro() {
+        MedicalSpecialtyResponse specialty = MedicalSpecialtyResponse.builder()
+                .id(7L)
+                .code("CARDIOLOGY")
+                .name("Cardiologia")
+                .slotDurationMinutes(40)
+                .active(true)
+                .build();
+        Map<String, Map<String, Object>> changes = new LinkedHashMap<>();
+        changes.put("name", change("Cardio", "Cardiologia"));
+        changes.put("slotDurationMinutes", change(30, 40));
+        changes.put("description", change("Coração", null));
+        EntityEvent<MedicalSpecialtyResponse> event = EntityEvent.<MedicalSpecialtyResponse>builder()
+                .eventType(EntityEvent.EventType.UPDATED)
+                .entityType("MedicalSpecialty")
+                .entityId("7")
+                .entityData(specialty)
+                .timestamp(LocalDateTime.of(2025, 3, 10, 14, 30, 15, 123_456_000))
+                .userId("admin@vidaplena.com")
+                .userName("Administrador")
+                .build()
+                .addMetadata("changes", changes)
+                .addMetadata("ip", "10.0.0.1")
+                .addMetadata("tags", List.of("admin", "web"));
+
+        byte[] avro = serializer(SerializationFormat.AVRO).serialize("entity-medicalspecialty-updated",
+                new RecordHeaders(), event);
+        @SuppressWarnings("rawtypes")
+        EntityEvent read = deserializer(EntityEvent.class).deserialize("entity-medicalspecialty-updated",
+                new RecordHeaders(), avro);
+
+        assertThat(read.getEventId()).isEqualTo(event.getEventId());
+        assertThat(read.getEventType()).isEqualTo(EntityEvent.EventType.UPDATED);
+        assertThat(read.getEntityData()).isEqualTo(specialty);
+        assertThat(read.getTimestamp()).isEqualTo(event.getTimestamp());
+        assertThat(read.getUserName()).isEqualTo("Administrador");
+        assertThat(read.getMetadata())
+                .containsEntry("changes", changes)
+                .containsEntry("ip", "10.0.0.1")
+                .containsEntry("tags", List.of("admin", "web"));
+    }
+
+    @Test
+    @DisplayName("Eventos sem schema devem continuar em JSON no modo Avro")
+    void shouldFallBackToJsonForTypesWithoutSchema() {
+        byte[] bytes = serializer(SerializationFormat.AVRO).serialize("user-changed", new RecordHeaders(),
+                Map.of("userId", UUID.randomUUID().toString()));
+
+        assertThat(bytes[0]).isEqualTo((byte) '{');
+    }
+
+    @Test
+    @DisplayName("Deve recusar uma nova versão de schema que não lê a anterior")
+    void shouldRejectIncompatibleSchemaVersion() {
+        LocalSchemaRegistry.RegisteredSchema current = registry.latest(AppointmentEventCodec.SUBJECT);
+        Schema incompatible = new Schema.Parser().parse("""
+                {"type": "record", "name": "AppointmentEvent", "namespace": "com.example.vidaplena.avro",
+                 "fields": [{"name": "tenant", "type": "string"}]}
+                """);
+
+        assertThatThrownBy(() -> new LocalSchemaRegistry(List.of(current,
+                new LocalSchemaRegistry.RegisteredSchema(current.id() + 100, current.subject(), incompatible))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("não lê a versão");
+    }
+
+    private EventSerializer serializer(SerializationFormat format) {
+        EventSerializer serializer = new EventSerializer(format, registry);
+        serializer.configure(Map.of(), false);
+        return serializer;
+    }
+
+    private <T> EventDeserializer<T> deserializer(Class<T> type) {
+        EventDeserializer<T> deserializer = new EventDeserializer<>(type, registry);
+        deserializer.configure(CONSUMER_CONFIG, false);
+        return deserializer;
+    }
+
+    private static AppointmentEvent appointmentEvent() {
+        return AppointmentEvent.builder()
+                .eventType(AppointmentEvent.EventType.CREATED)
+                .appointmentId(UUID.randomUUID())
+                .patient("Maria de Souza")
+                .doctorName("Dr. João Silva")
+                .specialtyName("Cardiologia")
+                .status("SCHEDULED")
+                .scheduledDate(LocalDateTime.of(2025, 3, 11, 9, 0))
+                .timestamp(LocalDateTime.of(2025, 3, 10, 14, 30, 15, 123_456_000))
+                .performedBy("ana.costa@vidaplena.com")
+                .build();
+    }
+
+    private static Map<String, Object> change(Object before, Object after) {
+        Map<String, Object> change = new HashMap<>();
+        change.put("before", before);
+        change.put("after", after);
+        return change;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.vidaplena.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração do acesso aos endpoints do Actuator.
+ */
+@SpringBootTest(properties = "management.endpoints.web.exposure.include=health,info,metrics,prometheus")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@DisplayName("Actuator Security Integration Tests")
+class ActuatorSecurityIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Test
+    @DisplayName("Deve manter health público")
+    void shouldPermitAnonymousHealth() throws Exception {
+        mockMvc.perform(get("/actuator/health"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar acesso anônimo às métricas")
+    void shouldRejectAnonymousMetrics() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Deve servir métricas apenas para ADMIN")
+    void shouldServeMetricsOnlyToAdmin() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus")
+                .header("Authorization", "Bearer " + token("joao.silva@vidaplena.com")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/prometheus")
+                .header("Authorization", "Bearer " + token("admin@vidaplena.com")))
+                .andExpect(status().isOk());
+    }
+
+    private String token(String email) {
+        return jwtTokenProvider.generateToken(userDetailsService.loadUserByUsername(email));
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.vidaplena.security;
+
+import com.example.vidaplena.config.CacheConfig;
+import com.example.vidaplena.domain.dto.projection.UserAccount;
+import com.example.vidaplena.domain.entity.User;
+import com.example.vidaplena.service.UserService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Testes de integração da autenticação JWT e dos caches de usuário.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("JWT Authentication Integration Tests")
+class JwtAuthenticationIntegrationTest {
+
+    private static final String EMAIL = "pedro.alves@vidaplena.com";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Autowired
+    private UserDetailsServiceImpl userDetailsService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Test
+    @DisplayName("Deve autenticar pelas claims sem consultar usuários e rejeitar token revogado")
+    void shouldAuthenticateFromClaimsAndRejectRevokedToken() throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String token = jwtTokenProvider.generateToken(userDetailsService.loadUserByUsername(EMAIL));
+
+        // Primeira requisição carrega a versão do token no cache
+        mockMvc.perform(get("/api/status/active").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+
+        statistics.clear();
+        mockMvc.perform(get("/api/status/active").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk());
+        assertThat(statistics.getEntityStatistics(User.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1); // Apenas a consulta do endpoint
+
+        User user = userService.findByEmail(EMAIL);
+        userService.updatePassword(user.getId(), user.getPassword());
+
+        mockMvc.perform(get("/api/status/active").header("Authorization", "Bearer " + token))
+                .andExpect(status().isForbidden());
+
+        String newToken = jwtTokenProvider.generateToken(userDetailsService.loadUserByUsername(EMAIL));
+        mockMvc.perform(get("/api/status/active").header("Authorization", "Bearer " + newToken))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve servir UserDetails e usuário por email do cache até a próxima alteração")
+    void shouldCacheUserLookupsUntilUserChanges() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        String email = "ana.costa@vidaplena.com";
+        AuthenticatedUser before = (AuthenticatedUser) userDetailsService.loadUserByUsername(email);
+        userService.findAccountByEmail(email);
+
+        statistics.clear();
+        userDetailsService.loadUserByUsername(email);
+        UserAccount account = userService.findAccountByEmail(email);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+
+        userService.updatePassword(account.id(), userService.findByEmail(email).getPassword());
+
+        AuthenticatedUser after = (AuthenticatedUser) userDetailsService.loadUserByUsername(email);
+        assertThat(after.getTokenVersion()).isEqualTo(before.getTokenVersion() + 1);
+        assertThat(userService.findAccountByEmail(email).tokenVersion()).isEqualTo(after.getTokenVersion());
+    }
+
+    @Test
+    @DisplayName("Deve manter nos caches apenas dados imutáveis e sem a senha")
+    void shouldCacheUsersWithoutPasswordHash() {
+        String email = "ana.costa@vidaplena.com";
+        userDetailsService.loadUserByUsername(email);
+        userService.findAccountByEmail(email);
+
+        Object details = cacheManager.getCache(CacheConfig.USER_DETAILS).get(email).get();
+        assertThat(details).isInstanceOf(AuthenticatedUser.class);
+        assertThat(((AuthenticatedUser) details).getPassword()).isNull();
+        assertThat(cacheManager.getCache(CacheConfig.USERS).get(email).get()).isInstanceOf(UserAccount.class);
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.vidaplena.security;
+
+import com.example.vidaplena.domain.enums.UserRole;
+import com.example.vidaplena.exception.InvalidTokenException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para JwtPrincipalResolver.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtPrincipalResolver Tests")
+class JwtPrincipalResolverTest {
+
+    private static final String EMAIL = "ana.costa@vidaplena.com";
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private TokenVersionCache tokenVersionCache;
+
+    private JwtPrincipalResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new JwtPrincipalResolver(userDetailsService, tokenVersionCache, PrincipalMode.CLAIMS);
+    }
+
+    @Test
+    @DisplayName("Deve montar o principal pelas claims sem consultar o banco")
+    void shouldResolveFromClaims() {
+        when(tokenVersionCache.isCurrent(USER_ID, 3L)).thenReturn(true);
+
+        UserDetails principal = resolver.resolve(claims(3L));
+
+        assertThat(principal).isInstanceOf(AuthenticatedUser.class);
+        assertThat(((AuthenticatedUser) principal).getId()).isEqualTo(USER_ID);
+        assertThat(((AuthenticatedUser) principal).getTokenVersion()).isEqualTo(3L);
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    @DisplayName("Deve carregar do banco token com uid e sem ver")
+    void shouldFallBackToDatabaseWhenVersionIsMissing() {
+        UserDetails stored = new AuthenticatedUser(USER_ID, EMAIL, "Ana Costa", UserRole.RECEPTIONIST, 0L, true);
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(stored);
+
+        UserDetails principal = resolver.resolve(claims(null));
+
+        assertThat(principal).isSameAs(stored);
+        verifyNoInteractions(tokenVersionCache);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token com versão revogada")
+    void shouldRejectRevokedVersion() {
+        when(tokenVersionCache.isCurrent(USER_ID, 2L)).thenReturn(false);
+
+        assertThatThrownBy(() -> resolver.resolve(claims(2L)))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    private static Claims claims(Long tokenVersion) {
+        return Jwts.claims()
+                .subject(EMAIL)
+                .add(JwtTokenProvider.CLAIM_USER_ID, USER_ID.toString())
+                .add(JwtTokenProvider.CLAIM_ROLE, UserRole.RECEPTIONIST.name())
+                .add(JwtTokenProvider.CLAIM_NAME, "Ana Costa")
+                .add(JwtTokenProvider.CLAIM_TOKEN_VERSION, tokenVersion)
+                .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.vidaplena.security;
+
+import com.example.vidaplena.exception.InvalidTokenException;
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes unitários para JwtTokenProvider.
+ */
+@DisplayName("JwtTokenProvider Tests")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "chave-de-teste-com-pelo-menos-256-bits-para-hs256-ok";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenProvider = newProvider(SECRET, 60_000L);
+        userDetails = User.withUsername("admin@vidaplena.com").password("x").authorities(List.of()).build();
+    }
+
+    @Test
+    @DisplayName("Deve validar o token e retornar as claims em um único parse")
+    void shouldValidateAndReturnClaims() {
+        String token = jwtTokenProvider.generateToken(userDetails);
+
+        Claims claims = jwtTokenProvider.validateAndGetClaims(token);
+
+        assertThat(claims.getSubject()).isEqualTo("admin@vidaplena.com");
+        assertThat(claims.getExpiration()).isInTheFuture();
+        assertThat(jwtTokenProvider.validateToken(token, userDetails)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token expirado")
+    void shouldRejectExpiredToken() {
+        String token = newProvider(SECRET, -1_000L).generateToken(userDetails);
+
+        assertThatThrownBy(() -> jwtTokenProvider.validateAndGetClaims(token))
+                .isInstanceOf(InvalidTokenException.class)
+                .hasMessageContaining("expirado");
+        assertThat(jwtTokenProvider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar token assinado com outra chave ou malformado")
+    void shouldRejectTokenWithInvalidSignature() {
+        String foreignToken = newProvider(SECRET + "-outra", 60_000L).generateToken(userDetails);
+
+        assertThatThrownBy(() -> jwtTokenProvider.validateAndGetClaims(foreignToken))
+                .isInstanceOf(InvalidTokenException.class);
+        assertThatThrownBy(() -> jwtTokenProvider.validateAndGetClaims("nao.e.jwt"))
+                .isInstanceOf(InvalidTokenException.class);
+    }
+
+    private static JwtTokenProvider newProvider(String secret, long expiration) {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secret", secret);
+        ReflectionTestUtils.setField(provider, "expiration", expiration);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.vidaplena.service;
+
+import com.example.vidaplena.domain.dto.request.CreateAppointmentRequest;
+import com.example.vidaplena.domain.dto.response.BulkImportResponse;
+import com.example.vidaplena.domain.dto.response.WorkingHoursResponse;
+import com.example.vidaplena.domain.entity.MedicalSpecialty;
+import com.example.vidaplena.domain.entity.User;
+import com.example.vidaplena.repository.AppointmentRepository;
+import com.example.vidaplena.repository.MedicalSpecialtyRepository;
+import com.example.vidaplena.repository.UserRepository;
+import com.example.vidaplena.service.scheduling.SchedulingService;
+import com.example.vidaplena.support.JdbcStatementCounter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração para AppointmentImportService.
+ *
+ * <p>
+ * Conta os lotes JDBC que chegam ao driver ({@link JdbcStatementCounter}) para
+ * garantir que as inserções usam {@code hibernate.jdbc.batch_size}.
+ * </p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(JdbcStatementCounter.class)
+@DisplayName("AppointmentImportService Integration Tests")
+@Slf4j
+class AppointmentImportServiceIntegrationTest {
+
+    private static final int ROWS = 1_200;
+    private static final String INSERT_APPOINTMENT = "insert into appointments";
+
+    @Autowired
+    private AppointmentImportService importService;
+
+    @Autowired
+    private SchedulingService schedulingService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MedicalSpecialtyRepository specialtyRepository;
+
+    @Autowired
+    private JdbcStatementCounter statementCounter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int batchSize;
+
+    @Value("${appointments.import.chunk-size}")
+    private int chunkSize;
+
+    @AfterEach
+    void tearDown() {
+        appointmentRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Deve gravar cada bloco em lotes JDBC de hibernate.jdbc.batch_size")
+    void shouldInsertRowsInJdbcBatches() throws Exception {
+        User doctor = userRepository.findByEmail("joao.silva@vidaplena.com").orElseThrow();
+        User admin = userRepository.findByEmail("admin@vidaplena.com").orElseThrow();
+        MedicalSpecialty specialty = specialtyRepository.findByCode("GENERAL_PRACTICE").orElseThrow();
+        byte[] ndjson = ndjson(rows(doctor, specialty, ROWS));
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        statementCounter.reset();
+        long start = System.nanoTime();
+        BulkImportResponse report = importService.importAppointments(new ByteArrayInputStream(ndjson), admin);
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        log.info("Importação de {} atendimentos: {} atendimentos/s", ROWS, Math.round(ROWS / seconds));
+
+        assertThat(report.getErrors()).isEmpty();
+        assertThat(report.getCreated()).isEqualTo(ROWS);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+        assertThat(statementCounter.batches(INSERT_APPOINTMENT)).isEqualTo(expectedBatches(ROWS));
+        assertThat(statementCounter.singleExecutions(INSERT_APPOINTMENT)).isZero();
+    }
+
+    /**
+     * Lotes esperados: cada bloco de {@code chunk-size} linhas é gravado em
+     * sua transação, em lotes de até {@code batch_size} inserções.
+     */
+    private int expectedBatches(int rows) {
+        int batches = 0;
+        for (int from = 0; from < rows; from += chunkSize) {
+            int chunkRows = Math.min(chunkSize, rows - from);
+            batches += (chunkRows + batchSize - 1) / batchSize;
+        }
+        return batches;
+    }
+
+    /**
+     * Horários consecutivos do expediente do médico, em dias úteis a partir
+     * de um ano à frente (fora das datas usadas pelos demais testes).
+     */
+    private List<CreateAppointmentRequest> rows(User doctor, MedicalSpecialty specialty, int count) {
+        WorkingHoursResponse workingHours = schedulingService.getWorkingHours(doctor.getId());
+        List<CreateAppointmentRequest> rows = new ArrayList<>(count);
+        for (LocalDate date = LocalDate.now().plusYears(1); rows.size() < count; date = date.plusDays(1)) {
+            DayOfWeek day = date.getDayOfWeek();
+            for (WorkingHoursResponse.PeriodResponse period : workingHours.getPeriods()) {
+                if (period.getDayOfWeek() != day) {
+                    continue;
+                }
+                long duration = specialty.getSlotDurationMinutes();
+                LocalDateTime slot = date.atTime(period.getStartTime());
+                LocalDateTime periodEnd = date.atTime(period.getEndTime());
+                while (rows.size() < count && !slot.plusMinutes(duration).isAfter(periodEnd)) {
+                    rows.add(CreateAppointmentRequest.builder()
+                            .patient("Paciente Importado " + rows.size())
+                            .doctorId(doctor.getId())
+                            .specialtyId(specialty.getId())
+                            .scheduledDate(slot)
+                            .build());
+                    slot = slot.plusMinutes(duration);
+                }
+            }
+        }
+        return rows;
+    }
+
+    private byte[] ndjson(List<CreateAppointmentRequest> rows) throws Exception {
+        StringBuilder ndjson = new StringBuilder();
+        for (CreateAppointmentRequest row : rows) {
+            ndjson.append(objectMapper.writeValueAsString(row)).append('\n');
+        }
+        return ndjson.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,527 @@
+package com.example.vidaplena.service;
+
+import com.example.vidaplena.domain.dto.request.AppointmentStatusRequest;
+import com.example.vidaplena.domain.dto.request.CreateAppointmentRequest;
+import com.example.vidaplena.domain.dto.response.AgendaEntryResponse;
+import com.example.vidaplena.domain.dto.response.AppointmentResponse;
+import com.example.vidaplena.domain.dto.response.AvailableSlotResponse;
+import com.example.vidaplena.domain.dto.response.BulkImportResponse;
+import com.example.vidaplena.domain.dto.response.CursorPageResponse;
+import com.example.vidaplena.domain.entity.Appointment;
+import com.example.vidaplena.domain.entity.AppointmentStatus;
+import com.example.vidaplena.domain.entity.MedicalSpecialty;
+import com.example.vidaplena.domain.entity.User;
+import com.example.vidaplena.exception.BusinessException;
+import com.example.vidaplena.repository.AppointmentRepository;
+import com.example.vidaplena.repository.AppointmentStatusRepository;
+import com.example.vidaplena.repository.MedicalSpecialtyRepository;
+import com.example.vidaplena.repository.UserRepository;
+import com.example.vidaplena.service.cache.ReferenceDataCache;
+import com.example.vidaplena.service.scheduling.SchedulingService;
+import com.example.vidaplena.support.PgTrgmFunctions;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Testes de integração para AppointmentService (H2).
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("AppointmentService Integration Tests")
+class AppointmentServiceIntegrationTest {
+
+    private static final int APPOINTMENTS_PER_DOCTOR = 15;
+
+    @Autowired
+    private AppointmentService appointmentService;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MedicalSpecialtyRepository specialtyRepository;
+
+    @Autowired
+    private AppointmentStatusRepository statusRepository;
+
+    @Autowired
+    private AppointmentStatusService statusService;
+
+    @Autowired
+    private SchedulingService schedulingService;
+
+    @Autowired
+    private ReferenceDataCache<AppointmentStatus, Long> statusCache;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AppointmentImportService importService;
+
+    @Autowired
+    private AppointmentExportService exportService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User doctor;
+    private User otherDoctor;
+
+    @BeforeEach
+    void setUp() {
+        doctor = userRepository.findByEmail("joao.silva@vidaplena.com").orElseThrow();
+        otherDoctor = userRepository.findByEmail("maria.santos@vidaplena.com").orElseThrow();
+        MedicalSpecialty specialty = specialtyRepository.findByCode("GENERAL_PRACTICE").orElseThrow();
+        AppointmentStatus scheduled = statusRepository.findByCode("SCHEDULED").orElseThrow();
+        AppointmentStatus canceled = statusRepository.findByCode("CANCELED").orElseThrow();
+
+        // Horários repetidos de propósito para exercitar o desempate pelo id
+        LocalDateTime base = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        List<Appointment> appointments = new ArrayList<>();
+        for (int i = 0; i < APPOINTMENTS_PER_DOCTOR; i++) {
+            LocalDateTime slot = base.plusHours(i / 2);
+            appointments.add(newAppointment("Paciente A" + i, doctor, specialty, scheduled, slot));
+            appointments.add(newAppointment("Paciente B" + i, otherDoctor, specialty, canceled, slot));
+        }
+        appointmentRepository.saveAll(appointments);
+    }
+
+    @AfterEach
+    void tearDown() {
+        appointmentRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Deve percorrer todas as páginas sem repetir nem perder atendimentos")
+    void shouldTraverseAllPagesWithoutDuplicates() {
+        Set<UUID> seen = new HashSet<>();
+        LocalDateTime previous = null;
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            CursorPageResponse<AppointmentResponse> page = appointmentService.findPage(cursor, 7);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(7);
+
+            for (AppointmentResponse item : page.getItems()) {
+                assertThat(seen.add(item.getId())).isTrue();
+                if (previous != null) {
+                    assertThat(item.getScheduledDate()).isAfterOrEqualTo(previous);
+                }
+                previous = item.getScheduledDate();
+            }
+
+            cursor = page.getNextCursor();
+            pages++;
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(APPOINTMENTS_PER_DOCTOR * 2);
+        assertThat(pages).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve paginar atendimentos por médico e por status")
+    void shouldPaginateByDoctorAndStatus() {
+        CursorPageResponse<AppointmentResponse> firstPage = appointmentService.findPageByDoctor(doctor.getId(), null,
+                10);
+        assertThat(firstPage.getItems()).hasSize(10);
+        assertThat(firstPage.getHasNext()).isTrue();
+        assertThat(firstPage.getItems()).allMatch(a -> a.getDoctor().getId().equals(doctor.getId()));
+
+        CursorPageResponse<AppointmentResponse> lastPage = appointmentService.findPageByDoctor(doctor.getId(),
+                firstPage.getNextCursor(), 10);
+        assertThat(lastPage.getItems()).hasSize(APPOINTMENTS_PER_DOCTOR - 10);
+        assertThat(lastPage.getHasNext()).isFalse();
+        assertThat(lastPage.getNextCursor()).isNull();
+
+        CursorPageResponse<AppointmentResponse> canceled = appointmentService.findPageByStatus("CANCELED", null,
+                100);
+        assertThat(canceled.getItems()).hasSize(APPOINTMENTS_PER_DOCTOR);
+        assertThat(canceled.getItems()).allMatch(a -> "CANCELED".equals(a.getStatus().getCode()));
+    }
+
+    @Test
+    @DisplayName("Deve limitar o tamanho da página ao máximo permitido")
+    void shouldClampPageSize() {
+        CursorPageResponse<AppointmentResponse> page = appointmentService.findPage(null, 10_000);
+
+        assertThat(page.getSize()).isEqualTo(AppointmentService.MAX_PAGE_SIZE);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar cursor inválido")
+    void shouldRejectInvalidCursor() {
+        assertThatThrownBy(() -> appointmentService.findPage("cursor-invalido", 10))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("Cursor de paginação inválido");
+    }
+
+    @Test
+    @DisplayName("Listagens devem executar um único SELECT, independente da quantidade de atendimentos")
+    void shouldListWithSingleStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        appointmentService.findPage(null, 100);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        appointmentService.findPageByDoctor(doctor.getId(), null, 100);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        appointmentService.findPageByStatus("SCHEDULED", null, 100);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Leituras da API devem usar projeções, sem carregar entidades")
+    void shouldReadThroughProjectionsWithoutLoadingEntities() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        UUID id = appointmentRepository.findByDoctorId(otherDoctor.getId()).get(0).getId();
+
+        statistics.clear();
+        CursorPageResponse<AppointmentResponse> page = appointmentService.findPage(null, 100);
+        AppointmentResponse single = appointmentService.findByIdAsResponse(id);
+
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(page.getItems()).hasSize(APPOINTMENTS_PER_DOCTOR * 2);
+        assertThat(single.getDoctor().getEmail()).isEqualTo(otherDoctor.getEmail());
+        assertThat(single.getStatus().getCode()).isEqualTo("CANCELED");
+        assertThat(single.getSpecialty().getCode()).isEqualTo("GENERAL_PRACTICE");
+    }
+
+    @Test
+    @DisplayName("Criação de atendimento deve usar o cache de referência, invalidado após escritas")
+    void shouldResolveReferenceDataFromCache() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        MedicalSpecialty specialty = specialtyRepository.findByCode("CARDIOLOGY").orElseThrow();
+        AppointmentStatus canceled = statusService.findByCode("CANCELED");
+        CreateAppointmentRequest request = CreateAppointmentRequest.builder()
+                .patient("Paciente Cache")
+                .doctorId(doctor.getId())
+                .specialtyId(specialty.getId())
+                .scheduledDate(weekdayAt(10, 10))
+                .build();
+        appointmentService.createAppointment(request, doctor);
+
+        statistics.clear();
+        request.setScheduledDate(weekdayAt(10, 11));
+        AppointmentResponse created = appointmentService.createAppointment(request, doctor);
+
+        assertThat(created.getSpecialty().getCode()).isEqualTo("CARDIOLOGY");
+        assertThat(created.getStatus().getCode()).isEqualTo("SCHEDULED");
+        assertThat(statistics.getEntityStatistics(AppointmentStatus.class.getName()).getLoadCount()).isZero();
+        assertThat(statistics.getEntityStatistics(MedicalSpecialty.class.getName()).getLoadCount()).isZero();
+
+        long loadsBefore = statusCache.stats().loads();
+        statusService.update(canceled.getId(), AppointmentStatusRequest.builder()
+                .description(canceled.getDescription())
+                .build());
+
+        assertThat(statusService.findByCode("CANCELED").getDescription()).isEqualTo(canceled.getDescription());
+        assertThat(statusCache.stats().loads()).isEqualTo(loadsBefore + 1);
+        assertThat(statusCache.stats().hits()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar horário ocupado, fora do expediente ou que atravessa a meia-noite")
+    void shouldRejectConflictingOrOffHoursAppointment() {
+        User freeDoctor = userRepository.findByEmail("carlos.oliveira@vidaplena.com").orElseThrow();
+        MedicalSpecialty specialty = specialtyRepository.findByCode("CARDIOLOGY").orElseThrow();
+        CreateAppointmentRequest request = CreateAppointmentRequest.builder()
+                .patient("Paciente Agenda")
+                .doctorId(freeDoctor.getId())
+                .specialtyId(specialty.getId())
+                .scheduledDate(weekdayAt(12, 9))
+                .build();
+        AppointmentResponse created = appointmentService.createAppointment(request, freeDoctor);
+        assertThat(created.getEndDate())
+                .isEqualTo(created.getScheduledDate().plusMinutes(specialty.getSlotDurationMinutes()));
+
+        request.setScheduledDate(weekdayAt(12, 9).plusMinutes(15));
+        assertThatThrownBy(() -> appointmentService.createAppointment(request, freeDoctor))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("já possui atendimento");
+
+        request.setScheduledDate(weekdayAt(12, 22));
+        assertThatThrownBy(() -> appointmentService.createAppointment(request, freeDoctor))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("fora do expediente");
+
+        request.setScheduledDate(weekdayAt(12, 23).plusMinutes(50));
+        assertThatThrownBy(() -> appointmentService.createAppointment(request, freeDoctor))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("meia-noite");
+    }
+
+    @Test
+    @DisplayName("Próximos horários livres devem pular os horários ocupados")
+    void shouldSkipBookedSlots() {
+        User freeDoctor = userRepository.findByEmail("carlos.oliveira@vidaplena.com").orElseThrow();
+        MedicalSpecialty specialty = specialtyRepository.findByCode("CARDIOLOGY").orElseThrow();
+        LocalDateTime opening = weekdayAt(14, 8);
+        appointmentService.createAppointment(CreateAppointmentRequest.builder()
+                .patient("Paciente Agenda")
+                .doctorId(freeDoctor.getId())
+                .specialtyId(specialty.getId())
+                .scheduledDate(opening)
+                .build(), freeDoctor);
+
+        List<AvailableSlotResponse> slots = schedulingService.findNextFreeSlots(freeDoctor.getId(),
+                specialty.getId(), opening, 3);
+
+        long duration = specialty.getSlotDurationMinutes();
+        assertThat(slots).extracting(AvailableSlotResponse::getStart).containsExactly(
+                opening.plusMinutes(duration),
+                opening.plusMinutes(2 * duration),
+                opening.plusMinutes(3 * duration));
+    }
+
+    @Test
+    @DisplayName("Importação em lote deve gravar as linhas válidas e relatar erros por linha")
+    void shouldImportValidRowsAndReportRowErrors() throws Exception {
+        User freeDoctor = userRepository.findByEmail("carlos.oliveira@vidaplena.com").orElseThrow();
+        MedicalSpecialty specialty = specialtyRepository.findByCode("CARDIOLOGY").orElseThrow();
+        LocalDateTime opening = weekdayAt(16, 8);
+        List<CreateAppointmentRequest> rows = List.of(
+                importRow("Paciente Lote 1", freeDoctor.getId(), specialty.getId(), opening),
+                importRow("Paciente Lote 2", freeDoctor.getId(), specialty.getId(), opening.plusMinutes(10)),
+                importRow("", freeDoctor.getId(), specialty.getId(), opening.plusHours(1)),
+                importRow("Paciente Lote 4", UUID.randomUUID(), specialty.getId(), opening.plusHours(2)),
+                importRow("Paciente Lote 5", freeDoctor.getId(), specialty.getId(), opening.plusHours(3)));
+        StringBuilder ndjson = new StringBuilder();
+        for (CreateAppointmentRequest row : rows) {
+            ndjson.append(objectMapper.writeValueAsString(row)).append('\n');
+        }
+        ndjson.append("{\"patient\": ");
+
+        BulkImportResponse report = importService.importAppointments(
+                new ByteArrayInputStream(ndjson.toString().getBytes(StandardCharsets.UTF_8)), freeDoctor);
+
+        assertThat(report.getReceived()).isEqualTo(6);
+        assertThat(report.getCreated()).isEqualTo(2);
+        assertThat(report.getFailed()).isEqualTo(4);
+        assertThat(report.getErrors()).extracting(BulkImportResponse.RowError::getRow).containsExactly(2, 3, 4, 6);
+        assertThat(report.getErrors().get(0).getMessage()).contains("já possui atendimento");
+        assertThat(report.getErrors().get(2).getMessage()).contains("Médico não encontrado");
+        assertThat(appointmentRepository.findByDoctorId(freeDoctor.getId()))
+                .extracting(Appointment::getPatient)
+                .containsExactlyInAnyOrder("Paciente Lote 1", "Paciente Lote 5");
+    }
+
+    @Test
+    @DisplayName("Exportação deve escrever os atendimentos filtrados em NDJSON e CSV")
+    void shouldExportFilteredAppointments() throws Exception {
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        long exported = exportService.export(AppointmentExportService.Format.NDJSON, null, null,
+                doctor.getId(), null, ndjson);
+
+        String[] lines = ndjson.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(exported).isEqualTo(APPOINTMENTS_PER_DOCTOR);
+        assertThat(lines).hasSize(APPOINTMENTS_PER_DOCTOR);
+        AppointmentResponse first = objectMapper.readValue(lines[0], AppointmentResponse.class);
+        assertThat(first.getDoctor().getId()).isEqualTo(doctor.getId());
+
+        LocalDateTime from = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        exported = exportService.export(AppointmentExportService.Format.CSV, from, from.plusHours(2), null,
+                "CANCELED", csv);
+
+        List<String> rows = csv.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(exported).isEqualTo(4);
+        assertThat(rows).hasSize(5);
+        assertThat(rows.get(0)).startsWith("id,patient,scheduled_date");
+        assertThat(rows.subList(1, rows.size())).allMatch(row -> row.contains(",CANCELED,"));
+        assertThatThrownBy(() -> exportService.export(AppointmentExportService.Format.CSV, from, from, null, null,
+                new ByteArrayOutputStream())).isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("Agenda deve filtrar por período, médico e especialidade em um único SELECT")
+    void shouldListAgendaWithSingleStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDateTime from = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime to = from.plusHours(3);
+
+        statistics.clear();
+        List<AgendaEntryResponse> doctorAgenda = appointmentService.findAgenda(from, to, doctor.getId(), null);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        assertThat(doctorAgenda).hasSize(6);
+        assertThat(doctorAgenda).allMatch(entry -> entry.getDoctorId().equals(doctor.getId()));
+        assertThat(doctorAgenda).isSortedAccordingTo(Comparator.comparing(AgendaEntryResponse::getScheduledDate));
+        assertThat(appointmentService.findAgenda(from, to, null, null)).hasSize(12);
+        assertThat(appointmentService.findAgenda(from, to, null, "GENERAL_PRACTICE")).hasSize(12);
+        assertThat(appointmentService.findAgenda(from, to, null, "CARDIOLOGY")).isEmpty();
+        assertThatThrownBy(() -> appointmentService.findAgenda(from, from.plusDays(40), null, null))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    @DisplayName("Busca por paciente deve ignorar acentos e ordenar por similaridade")
+    void shouldSearchPatientsIgnoringAccents() {
+        jdbcTemplate.execute(PgTrgmFunctions.CREATE_ALIAS);
+        MedicalSpecialty specialty = specialtyRepository.findByCode("GENERAL_PRACTICE").orElseThrow();
+        AppointmentStatus scheduled = statusRepository.findByCode("SCHEDULED").orElseThrow();
+        LocalDateTime date = LocalDateTime.now().plusDays(20);
+        appointmentRepository.saveAll(List.of(
+                newAppointment("Jose Antonio Neto", otherDoctor, specialty, scheduled, date),
+                newAppointment("José  Antônio", otherDoctor, specialty, scheduled, date),
+                newAppointment("Antônia Souza", otherDoctor, specialty, scheduled, date)));
+
+        CursorPageResponse<AppointmentResponse> result = appointmentService.searchByPatient("ANTONIO", null, 10);
+
+        assertThat(result.getItems()).extracting(AppointmentResponse::getPatient)
+                .containsExactly("José  Antônio", "Jose Antonio Neto");
+        assertThatThrownBy(() -> appointmentService.searchByPatient(" jo ", null, 10))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("ao menos 3 caracteres");
+    }
+
+    @Test
+    @DisplayName("Busca por paciente deve paginar por cursor sem repetir nem perder resultados")
+    void shouldPaginatePatientSearch() {
+        jdbcTemplate.execute(PgTrgmFunctions.CREATE_ALIAS);
+        Set<UUID> seen = new HashSet<>();
+        String cursor = null;
+
+        do {
+            CursorPageResponse<AppointmentResponse> page = appointmentService.searchByPatient("paciente", cursor, 7);
+            page.getItems().forEach(item -> assertThat(seen.add(item.getId())).isTrue());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(APPOINTMENTS_PER_DOCTOR * 2);
+    }
+
+    @Test
+    @DisplayName("Variantes com fetch do repositório não devem disparar carregamentos LAZY")
+    void shouldFetchAssociationsInRepositoryVariants() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        LocalDateTime now = LocalDateTime.now();
+
+        // Controle: sem o grafo, cada relacionamento acessado gera um SELECT
+        statistics.clear();
+        assertThat(loadAndTouchAssociations(() -> appointmentRepository.findByDoctorId(doctor.getId())))
+                .hasSize(APPOINTMENTS_PER_DOCTOR);
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(1);
+        assertThat(statistics.getEntityFetchCount()).isPositive();
+
+        statistics.clear();
+        assertThat(loadAndTouchAssociations(appointmentRepository::findAllWithDetails))
+                .hasSize(APPOINTMENTS_PER_DOCTOR * 2);
+        assertSingleStatement(statistics);
+
+        statistics.clear();
+        assertThat(loadAndTouchAssociations(() -> appointmentRepository.findWithDetailsByDoctorId(doctor.getId())))
+                .hasSize(APPOINTMENTS_PER_DOCTOR);
+        assertSingleStatement(statistics);
+
+        statistics.clear();
+        assertThat(loadAndTouchAssociations(() -> appointmentRepository.findWithDetailsByStatusCode("CANCELED")))
+                .hasSize(APPOINTMENTS_PER_DOCTOR);
+        assertSingleStatement(statistics);
+
+        statistics.clear();
+        assertThat(loadAndTouchAssociations(() -> appointmentRepository
+                .findWithDetailsByScheduledDateBetween(now, now.plusDays(2))))
+                .hasSize(APPOINTMENTS_PER_DOCTOR * 2);
+        assertSingleStatement(statistics);
+    }
+
+    /**
+     * Executa a consulta em uma transação e acessa todos os relacionamentos.
+     */
+    private List<Appointment> loadAndTouchAssociations(Supplier<List<Appointment>> query) {
+        return transactionTemplate.execute(status -> {
+            List<Appointment> result = query.get();
+            result.forEach(a -> {
+                a.getDoctor().getName();
+                a.getStatus().getCode();
+                a.getSpecialty().getName();
+            });
+            return result;
+        });
+    }
+
+    /**
+     * Verifica que, desde o último {@code clear}, só a consulta da lista foi
+     * preparada e nenhum relacionamento foi carregado à parte.
+     */
+    private static void assertSingleStatement(Statistics statistics) {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+    }
+
+    /**
+     * Primeiro dia útil a partir de {@code daysAhead} dias, na hora indicada.
+     */
+    private LocalDateTime weekdayAt(int daysAhead, int hour) {
+        LocalDate date = LocalDate.now().plusDays(daysAhead);
+        while (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+            date = date.plusDays(1);
+        }
+        return date.atTime(hour, 0);
+    }
+
+    private CreateAppointmentRequest importRow(String patient, UUID doctorId, Long specialtyId,
+            LocalDateTime scheduledDate) {
+        return CreateAppointmentRequest.builder()
+                .patient(patient)
+                .doctorId(doctorId)
+                .specialtyId(specialtyId)
+                .scheduledDate(scheduledDate)
+                .build();
+    }
+
+    private Appointment newAppointment(String patient, User doctor, MedicalSpecialty specialty,
+            AppointmentStatus status, LocalDateTime scheduledDate) {
+        return Appointment.builder()
+                .patient(patient)
+                .doctor(doctor)
+                .specialty(specialty)
+                .status(status)
+                .scheduledDate(scheduledDate)
+                .build();
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.vidaplena.service;
 
+import com.example.vidaplena.domain.dto.event.UserChangedEvent;
+import com.example.vidaplena.domain.dto.projection.UserAccount;
 import com.example.vidaplena.domain.dto.request.CreateUserRequest;
 import com.example.vidaplena.domain.dto.response.UserResponse;
 import com.example.vidaplena.domain.entity.User;
@@ -15,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Arrays;
@@ -43,6 +46,9 @@ class UserServiceTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -144,6 +150,23 @@ class UserServiceTest {
         verify(userRepository).findByEmailAndActiveTrue(testUser.getEmail());
     }
 
+    @Test
+    @DisplayName("Deve buscar dados do usuário por email sem a senha")
+    void shouldFindAccountByEmailWithoutPassword() {
+        // Arrange
+        when(userRepository.findByEmailAndActiveTrue(testUser.getEmail()))
+                .thenReturn(Optional.of(testUser));
+
+        // Act
+        UserAccount account = userService.findAccountByEmail(testUser.getEmail());
+
+        // Assert
+        assertThat(account.id()).isEqualTo(testUser.getId());
+        assertThat(account.role()).isEqualTo(UserRole.DOCTOR);
+        assertThat(account.active()).isTrue();
+        assertThat(account.toUser().getPassword()).isNull();
+    }
+
     @Test
     @DisplayName("Deve lançar exceção quando usuário não encontrado por email")
     void shouldThrowExceptionWhenUserNotFoundByEmail() {
@@ -240,5 +263,7 @@ class UserServiceTest {
         verify(userRepository).findById(userId);
         verify(userRepository).save(argThat(user -> !user.getActive() && user.isDeleted() // Verifica soft delete
         ));
+        assertThat(testUser.getTokenVersion()).isEqualTo(1L); // Tokens emitidos antes são revogados
+        verify(eventPublisher).publishEvent(any(UserChangedEvent.class));
     }
 }
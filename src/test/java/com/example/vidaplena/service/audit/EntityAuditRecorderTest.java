@@ -0,0 +1,158 @@
+package com.example.vidaplena.service.audit;
+
+import com.example.vidaplena.domain.dto.event.EntityEvent;
+import com.example.vidaplena.domain.dto.event.EntityEvent.EventType;
+import com.example.vidaplena.kafka.producer.GenericEventProducer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes unitários para EntityAuditRecorder.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EntityAuditRecorder Tests")
+class EntityAuditRecorderTest {
+
+    @Mock
+    private GenericEventProducer producer;
+
+    private EntityAuditRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new EntityAuditRecorder(producer, new SimpleMeterRegistry(), 10, Duration.ofMillis(5));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        recorder.shutdown();
+    }
+
+    @Test
+    @DisplayName("Deve consolidar as alterações da transação por entidade")
+    void shouldCoalesceChangesPerEntity() throws InterruptedException {
+        // Criada e atualizada: um CREATED com o estado final
+        recorder.record(EventType.CREATED, null, specialty(1, "Pediatria", true), "v1");
+        recorder.record(EventType.UPDATED, specialty(1, "Pediatria", true), specialty(1, "Pediatria Geral", true),
+                "v2");
+        // Duas atualizações: primeiro before, último after
+        recorder.record(EventType.UPDATED, specialty(2, "Cardiologia", true), specialty(2, "Cardio", true), "a");
+        recorder.record(EventType.UPDATED, specialty(2, "Cardio", true), specialty(2, "Cardio", false), "b");
+        // Criada e removida: nenhum evento
+        recorder.record(EventType.CREATED, null, specialty(3, "Ortopedia", true), "x");
+        recorder.record(EventType.DELETED, specialty(3, "Ortopedia", true), null, "x");
+
+        commit();
+
+        List<EntityEvent<?>> events = captureEvents(2);
+        EntityEvent<?> created = events.get(0);
+        assertThat(created.getEventType()).isEqualTo(EventType.CREATED);
+        assertThat(created.getEntityId()).isEqualTo("1");
+        assertThat(created.getEntityData()).isEqualTo("v2");
+        assertThat(changes(created)).containsEntry("name", change(null, "Pediatria Geral"));
+
+        EntityEvent<?> updated = events.get(1);
+        assertThat(updated.getEventType()).isEqualTo(EventType.UPDATED);
+        assertThat(updated.getEntityId()).isEqualTo("2");
+        assertThat(updated.getEntityData()).isEqualTo("b");
+        assertThat(changes(updated)).containsOnlyKeys("name", "active")
+                .containsEntry("name", change("Cardiologia", "Cardio"))
+                .containsEntry("active", change(true, false));
+    }
+
+    @Test
+    @DisplayName("Atualização sem mudança nos campos auditados não deve gerar evento")
+    void shouldSkipUpdateWithoutChanges() throws InterruptedException {
+        recorder.record(EventType.UPDATED, specialty(1, "Pediatria", true), specialty(1, "Pediatria", true), "v");
+        recorder.record(EventType.DELETED, specialty(2, "Cardiologia", true), null, "d");
+
+        commit();
+
+        List<EntityEvent<?>> events = captureEvents(1);
+        assertThat(events.get(0).getEventType()).isEqualTo(EventType.DELETED);
+        assertThat(changes(events.get(0))).containsEntry("name", change("Cardiologia", null));
+    }
+
+    @Test
+    @DisplayName("Deve publicar separadamente as transações publicadas no mesmo lote")
+    void shouldNotCoalesceAcrossTransactions() throws InterruptedException {
+        recorder.record(EventType.UPDATED, specialty(1, "Pediatria", true), specialty(1, "Pediatria 1", true), "a");
+        commit();
+        TransactionSynchronizationManager.initSynchronization();
+        recorder.record(EventType.UPDATED, specialty(1, "Pediatria 1", true), specialty(1, "Pediatria", true), "b");
+        commit();
+
+        List<EntityEvent<?>> events = captureEvents(2);
+        assertThat(changes(events.get(0))).containsEntry("name", change("Pediatria", "Pediatria 1"));
+        assertThat(changes(events.get(1))).containsEntry("name", change("Pediatria 1", "Pediatria"));
+    }
+
+    @Test
+    @DisplayName("Rollback deve descartar as alterações")
+    void shouldDiscardOnRollback() throws InterruptedException {
+        recorder.record(EventType.CREATED, null, specialty(1, "Pediatria", true), "v");
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+        recorder.shutdown();
+
+        verify(producer, never()).publishEvent(any());
+    }
+
+    private void commit() {
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private List<EntityEvent<?>> captureEvents(int count) throws InterruptedException {
+        recorder.shutdown();
+        ArgumentCaptor<EntityEvent> captor = ArgumentCaptor.forClass(EntityEvent.class);
+        verify(producer, times(count)).publishEvent(captor.capture());
+        return (List) captor.getAllValues();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Map<String, Object>> changes(EntityEvent<?> event) {
+        return (Map<String, Map<String, Object>>) event.getMetadata().get("changes");
+    }
+
+    private static Map<String, Object> change(Object before, Object after) {
+        Map<String, Object> change = new HashMap<>();
+        change.put("before", before);
+        change.put("after", after);
+        return change;
+    }
+
+    private static EntitySnapshot specialty(long id, String name, boolean active) {
+        return EntitySnapshot.of("MedicalSpecialty", id)
+                .with("name", name)
+                .with("active", active);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.vidaplena.service.cache;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Verifica que as cargas dos caches em memória não prendem a thread portadora
+ * de virtual threads (evento JFR {@code jdk.VirtualThreadPinned}).
+ *
+ * <p>
+ * As cargas simulam uma consulta lenta; com {@code synchronized} ou
+ * {@code Cache.get(key, loader)}, cada chamada concorrente geraria um evento.
+ * </p>
+ */
+@DisplayName("Virtual threads - caches sem pinning")
+class VirtualThreadPinningTest {
+
+    private static final int CALLERS = 50;
+    private static final String THREAD_PREFIX = "pinning-test-";
+
+    @Test
+    @DisplayName("Recarga do ReferenceDataCache não deve prender a thread portadora")
+    void referenceDataCacheReloadShouldNotPin() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        ReferenceDataCache<String, Long> cache = new ReferenceDataCache<>("pinning", () -> {
+            loads.incrementAndGet();
+            slowQuery();
+            return List.of("SCHEDULED");
+        }, code -> 1L, code -> code, Duration.ofMinutes(5), mock(PlatformTransactionManager.class));
+
+        List<RecordedEvent> pinned = recordPinning(() -> cache.findByCode("SCHEDULED").orElseThrow());
+
+        assertThat(pinned).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Carga pelo AsyncCacheLoader não deve prender a thread portadora")
+    void asyncCacheLoaderShouldNotPin() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        AsyncCache<String, Long> cache = Caffeine.newBuilder().buildAsync();
+
+        List<RecordedEvent> pinned = recordPinning(() -> AsyncCacheLoader.get(cache, "user", key -> {
+            loads.incrementAndGet();
+            slowQuery();
+            return 1L;
+        }));
+
+        assertThat(pinned).isEmpty();
+        assertThat(loads).hasValue(1);
+    }
+
+    /**
+     * Executa a chamada em {@value #CALLERS} virtual threads concorrentes e
+     * retorna os eventos de pinning gerados por elas.
+     */
+    private List<RecordedEvent> recordPinning(Runnable call) throws Exception {
+        Path file = Files.createTempFile("virtual-thread-pinning", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jdk.VirtualThreadPinned").withThreshold(Duration.ZERO);
+            recording.start();
+
+            try (ExecutorService executor = Executors
+                    .newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_PREFIX, 0).factory())) {
+                List<Future<?>> calls = new ArrayList<>();
+                for (int i = 0; i < CALLERS; i++) {
+                    calls.add(executor.submit(call));
+                }
+                for (Future<?> future : calls) {
+                    future.get();
+                }
+            }
+
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getThread() != null && event.getThread().getJavaName() != null
+                            && event.getThread().getJavaName().startsWith(THREAD_PREFIX))
+                    .toList();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static void slowQuery() {
+        try {
+            Thread.sleep(50);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.vidaplena.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Conta, por comando SQL, as execuções que chegam ao driver JDBC.
+ *
+ * <p>
+ * Registrado com {@code @Import} em testes {@code @SpringBootTest}: envolve o
+ * {@link DataSource} da aplicação e registra cada {@code executeBatch} (um lote
+ * enviado ao banco) e cada execução avulsa de {@link PreparedStatement}. As
+ * estatísticas do Hibernate não distinguem um lote de um comando avulso.
+ * </p>
+ */
+public class JdbcStatementCounter implements BeanPostProcessor {
+
+    private static final Set<String> SINGLE_EXECUTIONS = Set.of("execute", "executeUpdate", "executeQuery",
+            "executeLargeUpdate");
+
+    private final Map<String, Integer> batches = new ConcurrentHashMap<>();
+    private final Map<String, Integer> singleExecutions = new ConcurrentHashMap<>();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (method, args, connection) -> connection instanceof Connection
+                    ? proxy(Connection.class, (Connection) connection, this::countStatement)
+                    : connection);
+        }
+        return bean;
+    }
+
+    /**
+     * Zera as contagens.
+     */
+    public void reset() {
+        batches.clear();
+        singleExecutions.clear();
+    }
+
+    /**
+     * @param sqlPrefix Início do comando, em minúsculas (ex:
+     *                  {@code insert into appointments})
+     * @return Lotes enviados com {@code executeBatch}
+     */
+    public int batches(String sqlPrefix) {
+        return sum(batches, sqlPrefix);
+    }
+
+    /**
+     * @param sqlPrefix Início do comando, em minúsculas
+     * @return Execuções avulsas ({@code execute}, {@code executeUpdate},
+     *         {@code executeQuery})
+     */
+    public int singleExecutions(String sqlPrefix) {
+        return sum(singleExecutions, sqlPrefix);
+    }
+
+    private Object countStatement(Method method, Object[] args, Object result) {
+        if (!method.getName().equals("prepareStatement") || !(result instanceof PreparedStatement statement)) {
+            return result;
+        }
+        String sql = (String) args[0];
+        return proxy(PreparedStatement.class, statement, (call, callArgs, value) -> {
+            if (call.getName().equals("executeBatch")) {
+                batches.merge(sql, 1, Integer::sum);
+            } else if (SINGLE_EXECUTIONS.contains(call.getName()) && (callArgs == null || callArgs.length == 0)) {
+                singleExecutions.merge(sql, 1, Integer::sum);
+            }
+            return value;
+        });
+    }
+
+    private static int sum(Map<String, Integer> counts, String sqlPrefix) {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getKey().toLowerCase(Locale.ROOT).startsWith(sqlPrefix))
+                .mapToInt(Map.Entry::getValue)
+                .sum();
+    }
+
+    private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    try {
+                        return afterCall.apply(method, args, method.invoke(target, args));
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                }));
+    }
+
+    /**
+     * Recebe o resultado de cada chamada ao objeto JDBC e decide o que
+     * devolver.
+     */
+    @FunctionalInterface
+    private interface AfterCall {
+
+        Object apply(Method method, Object[] args, Object result);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.vidaplena.support;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Reimplementação de {@code similarity()} do pg_trgm para o H2 dos testes.
+ *
+ * <p>
+ * Segue o algoritmo da extensão: cada palavra alfanumérica recebe dois
+ * espaços à esquerda e um à direita, é quebrada em trigramas e a similaridade
+ * é a razão entre trigramas comuns e o total de trigramas distintos.
+ * </p>
+ */
+public final class PgTrgmFunctions {
+
+    /**
+     * Comando que registra a função no H2.
+     */
+    public static final String CREATE_ALIAS = "CREATE ALIAS IF NOT EXISTS SIMILARITY FOR '"
+            + PgTrgmFunctions.class.getName() + ".similarity'";
+
+    private PgTrgmFunctions() {
+    }
+
+    public static double similarity(String left, String right) {
+        Set<String> a = trigrams(left);
+        Set<String> b = trigrams(right);
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0;
+        }
+        Set<String> common = new HashSet<>(a);
+        common.retainAll(b);
+        return (float) common.size() / (a.size() + b.size() - common.size());
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        if (text == null) {
+            return trigrams;
+        }
+        for (String word : text.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}